@@ -0,0 +1,192 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the sentence-wise transformation of documents, which shares all unchanged structure of the input document.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DocumentTransformerTest {
+
+    private static Sentence sentence(final String... words) {
+        final List<Term> terms = new ArrayList<>();
+        for (final String word : words) {
+            terms.add(new Term(Collections.singletonList(new Word(word, " ")), Collections.<Tag> emptyList(), false));
+        }
+        return new Sentence(terms);
+    }
+
+    private static Paragraph paragraph(final Sentence... sentences) {
+        return new Paragraph(Arrays.asList(sentences));
+    }
+
+    /**
+     * Creates a document of a title section with one paragraph, a chapter section with two paragraphs and an abstract
+     * section with one paragraph.
+     */
+    private static Document createDocument() {
+        final LinkedHashSet<Author> authors = new LinkedHashSet<>();
+        authors.add(new Author("Ada", "Lovelace"));
+        final LinkedHashSet<DocumentSource> sources = new LinkedHashSet<>();
+        sources.add(new DocumentSource("Source"));
+        final LinkedHashSet<DocumentCategory> categories = new LinkedHashSet<>();
+        categories.add(new DocumentCategory("Category"));
+        final List<Section> sections = Arrays.asList(
+            new Section(Collections.singletonList(paragraph(sentence("Title"))), SectionAnnotation.TITLE),
+            new Section(Arrays.asList(paragraph(sentence("KNIME", "mines"), sentence("text", "mining")),
+                paragraph(sentence("Text", "mines"))), SectionAnnotation.CHAPTER),
+            new Section(Collections.singletonList(paragraph(sentence("Abstract"))), SectionAnnotation.ABSTRACT));
+        return DocumentBuilder.createDocument(sections, DocumentType.BOOK, authors, sources, categories,
+            new PublicationDate(), new File("doc.txt").getAbsoluteFile(), new DocumentMetaInfo());
+    }
+
+    private static Sentence sentence(final Document doc, final int section, final int paragraph, final int sentence) {
+        return doc.getSections().get(section).getParagraphs().get(paragraph).getSentences().get(sentence);
+    }
+
+    private static void assertMetaInformationEquals(final Document expected, final Document actual) {
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getAuthors(), actual.getAuthors());
+        assertEquals(expected.getSources(), actual.getSources());
+        assertEquals(expected.getCategories(), actual.getCategories());
+        assertEquals(expected.getPubDate(), actual.getPubDate());
+        assertEquals(expected.getDocFile(), actual.getDocFile());
+        assertEquals(expected.getMetaInformation(), actual.getMetaInformation());
+    }
+
+    /**
+     * Tests that the input document instance is returned if no sentence has been changed.
+     */
+    @Test
+    public void testUnchangedDocument() {
+        final Document doc = createDocument();
+        assertSame(doc, DocumentTransformer.transformSentences(doc, s -> s));
+
+        final Document empty = DocumentBuilder.createDocument(new ArrayList<Section>(), DocumentType.UNKNOWN,
+            new LinkedHashSet<Author>(), new LinkedHashSet<DocumentSource>(), new LinkedHashSet<DocumentCategory>(),
+            new PublicationDate(), new File("").getAbsoluteFile(), new DocumentMetaInfo());
+        assertSame(empty, DocumentTransformer.transformSentences(empty, s -> s));
+    }
+
+    /**
+     * Tests that the unchanged sentences, paragraphs and sections are reused if a sentence has been changed, and that
+     * only the paragraph and section containing the changed sentence are rebuilt.
+     */
+    @Test
+    public void testUnchangedStructureIsReused() {
+        final Document doc = createDocument();
+        final Sentence changed = sentence(doc, 1, 0, 1);
+        final Sentence replacement = sentence("TEXT", "MINING");
+        final Document result =
+            DocumentTransformer.transformSentences(doc, s -> s == changed ? replacement : s);
+
+        assertNotSame(doc, result);
+        assertMetaInformationEquals(doc, result);
+        assertEquals(3, result.getSections().size());
+        assertSame(doc.getSections().get(0), result.getSections().get(0));
+        assertSame(doc.getSections().get(2), result.getSections().get(2));
+
+        final Section section = result.getSections().get(1);
+        assertNotSame(doc.getSections().get(1), section);
+        assertEquals(SectionAnnotation.CHAPTER, section.getAnnotation());
+        assertEquals(2, section.getParagraphs().size());
+        assertSame(doc.getSections().get(1).getParagraphs().get(1), section.getParagraphs().get(1));
+
+        final Paragraph paragraph = section.getParagraphs().get(0);
+        assertNotSame(doc.getSections().get(1).getParagraphs().get(0), paragraph);
+        assertEquals(Arrays.asList(sentence(doc, 1, 0, 0), replacement), paragraph.getSentences());
+        assertSame(sentence(doc, 1, 0, 0), paragraph.getSentences().get(0));
+        assertSame(replacement, paragraph.getSentences().get(1));
+    }
+
+    /**
+     * Tests that removed sentences are dropped, and that paragraphs and sections that became empty are removed.
+     */
+    @Test
+    public void testEmptiedParagraphsAndSectionsAreRemoved() {
+        final Document doc = createDocument();
+
+        // remove the only sentence of the second paragraph of the chapter
+        final Sentence inParagraph = sentence(doc, 1, 1, 0);
+        Document result = DocumentTransformer.transformSentences(doc, s -> s == inParagraph ? null : s);
+        assertEquals(3, result.getSections().size());
+        assertEquals(SectionAnnotation.CHAPTER, result.getSections().get(1).getAnnotation());
+        assertEquals(Collections.singletonList(doc.getSections().get(1).getParagraphs().get(0)),
+            result.getSections().get(1).getParagraphs());
+        assertSame(doc.getSections().get(1).getParagraphs().get(0),
+            result.getSections().get(1).getParagraphs().get(0));
+
+        // remove the only sentence of the title section
+        final Sentence inSection = sentence(doc, 0, 0, 0);
+        result = DocumentTransformer.transformSentences(doc, s -> s == inSection ? null : s);
+        assertEquals(2, result.getSections().size());
+        assertSame(doc.getSections().get(1), result.getSections().get(0));
+        assertSame(doc.getSections().get(2), result.getSections().get(1));
+        assertMetaInformationEquals(doc, result);
+
+        // remove all sentences
+        result = DocumentTransformer.transformSentences(doc, s -> null);
+        assertTrue(result.getSections().isEmpty());
+        assertMetaInformationEquals(doc, result);
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.data.filestore;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.core.data.filestore.FileStore;
+import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.ext.textprocessing.data.Author;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentBuilder;
+import org.knime.ext.textprocessing.data.DocumentCategory;
+import org.knime.ext.textprocessing.data.DocumentMetaInfo;
+import org.knime.ext.textprocessing.data.DocumentSource;
+import org.knime.ext.textprocessing.data.DocumentType;
+import org.knime.ext.textprocessing.data.Paragraph;
+import org.knime.ext.textprocessing.data.PublicationDate;
+import org.knime.ext.textprocessing.data.Section;
+import org.knime.ext.textprocessing.data.SectionAnnotation;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.Word;
+
+/**
+ * Tests the compression codecs of buffered file store files and the round-trip of documents written by
+ * {@link BufferedFileStoreWriter} and read by {@link FileStoreDocumentReader}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class FileStoreCompressionTest {
+
+    /**
+     * Returns document like data, which is compressible, of the given length.
+     */
+    private static byte[] createData(final Random random, final int length) {
+        final String[] words = {"term ", "document ", "section ", "paragraph ", "sentence ", "POS ", "NN ", "VB "};
+        final byte[] data = new byte[length];
+        int i = 0;
+        while (i < length) {
+            if (random.nextInt(8) == 0) {
+                data[i++] = (byte)random.nextInt();
+            } else {
+                final byte[] word = words[random.nextInt(words.length)].getBytes();
+                final int count = Math.min(word.length, length - i);
+                System.arraycopy(word, 0, data, i, count);
+                i += count;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Tests that compressed data is decompressed to the original data, also if only a prefix of the given buffer is
+     * compressed.
+     *
+     * @throws IOException If data could not be decompressed.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        final Random random = new Random(4711);
+        for (final FileStoreCompression compression : FileStoreCompression.values()) {
+            for (final int length : new int[]{0, 1, 2, 100, 8191, 8192, 8193, FileStoreCompression.BLOCK_SIZE,
+                3 * FileStoreCompression.BLOCK_SIZE + 17}) {
+                final byte[] data = createData(random, length);
+                final byte[] buffer = Arrays.copyOf(data, length + random.nextInt(100));
+                final byte[] compressed = compression.compress(buffer, length);
+                assertArrayEquals(compression + ", length " + length, data,
+                    compression.decompress(compressed, length));
+            }
+        }
+    }
+
+    /**
+     * Tests that the deflate codec compresses redundant data.
+     */
+    @Test
+    public void testDeflateCompresses() {
+        final byte[] data = createData(new Random(42), FileStoreCompression.BLOCK_SIZE);
+        assertEquals(data.length, FileStoreCompression.NONE.compress(data, data.length).length);
+        final int compressedLength = FileStoreCompression.DEFLATE.compress(data, data.length).length;
+        assertTrue("Compressed length " + compressedLength, compressedLength < data.length / 2);
+    }
+
+    /**
+     * Tests that truncated blocks are not decompressed.
+     *
+     * @throws IOException If data could not be decompressed, which is expected.
+     */
+    @Test(expected = IOException.class)
+    public void testDeflateTruncated() throws IOException {
+        final byte[] data = createData(new Random(42), 10000);
+        final byte[] compressed = FileStoreCompression.DEFLATE.compress(data, data.length);
+        FileStoreCompression.DEFLATE.decompress(Arrays.copyOf(compressed, compressed.length / 2), data.length);
+    }
+
+    /**
+     * Tests that truncated uncompressed blocks are not accepted.
+     *
+     * @throws IOException If data could not be decompressed, which is expected.
+     */
+    @Test(expected = IOException.class)
+    public void testNoneTruncated() throws IOException {
+        FileStoreCompression.NONE.decompress(new byte[10], 11);
+    }
+
+    /**
+     * Tests that codecs are resolved by their ids.
+     *
+     * @throws IOException If a codec could not be resolved.
+     */
+    @Test
+    public void testFromId() throws IOException {
+        assertEquals(0, FileStoreCompression.NONE.getId());
+        assertEquals(1, FileStoreCompression.DEFLATE.getId());
+        for (final FileStoreCompression compression : FileStoreCompression.values()) {
+            assertSame(compression, FileStoreCompression.fromId(compression.getId()));
+        }
+    }
+
+    /**
+     * Tests that unknown codec ids are rejected.
+     *
+     * @throws IOException If the codec could not be resolved, which is expected.
+     */
+    @Test(expected = IOException.class)
+    public void testFromUnknownId() throws IOException {
+        FileStoreCompression.fromId(42);
+    }
+
+    /**
+     * Returns a document with the given number of terms, consisting of random words.
+     */
+    private static Document createDocument(final Random random, final int termCount) {
+        final String[] words = {"term", "document", "section", "paragraph", "sentence", "KNIME", "Z\u00fcrich",
+            "\u65e5\u672c\u8a9e"};
+        final Tag noun = new Tag("NN", "POS");
+        final List<Sentence> sentences = new ArrayList<Sentence>();
+        List<Term> terms = new ArrayList<Term>();
+        for (int i = 0; i < termCount; i++) {
+            final String word = words[random.nextInt(words.length)] + random.nextInt(1000);
+            terms.add(new Term(Collections.singletonList(new Word(word, " ")), Collections.singletonList(noun), false));
+            if (terms.size() == 20 || i == termCount - 1) {
+                sentences.add(new Sentence(terms));
+                terms = new ArrayList<Term>();
+            }
+        }
+        final List<Section> sections = Collections.singletonList(
+            new Section(Collections.singletonList(new Paragraph(sentences)), SectionAnnotation.CHAPTER));
+        return DocumentBuilder.createDocument(sections, DocumentType.UNKNOWN, new LinkedHashSet<Author>(),
+            new LinkedHashSet<DocumentSource>(), new LinkedHashSet<DocumentCategory>(), new PublicationDate(),
+            new File("").getAbsoluteFile(), new DocumentMetaInfo());
+    }
+
+    /**
+     * Tests that documents written by {@link BufferedFileStoreWriter} are read from uncompressed and compressed files,
+     * in random order and across multiple blocks. Documents are flushed in the middle of blocks, followed by more
+     * documents, like cells are flushed while their table is still written. Flushed data must be readable from the
+     * file, each flush must only append the documents not written yet and the closed file must only consist of
+     * compressed blocks.
+     *
+     * @throws IOException If the file could not be written or read.
+     */
+    @Test
+    public void testWriteAndReadDocuments() throws IOException {
+        final FileStoreFactory fileStoreFactory = FileStoreFactory.createNotInWorkflowFileStoreFactory();
+        try {
+            for (final FileStoreCompression compression : FileStoreCompression.values()) {
+                final FileStore fileStore = fileStoreFactory.createFileStore("documents-" + compression);
+                final File file = fileStore.getFile();
+                try {
+                    writeAndReadDocuments(fileStore, compression);
+                } finally {
+                    FileStoreDocumentReader.closeIdleReaders();
+                    file.delete();
+                    FileStoreDocumentReader.closeIdleReaders();
+                }
+            }
+        } finally {
+            fileStoreFactory.close();
+        }
+    }
+
+    private static void writeAndReadDocuments(final FileStore fileStore, final FileStoreCompression compression)
+        throws IOException {
+        final File file = fileStore.getFile();
+        final Random random = new Random(4711);
+        final BufferedFileStoreWriter writer = new BufferedFileStoreWriter(fileStore, 10, compression);
+        final List<byte[]> documents = new ArrayList<byte[]>();
+        final List<DocumentAddress> addresses = new ArrayList<DocumentAddress>();
+        long flushedOffset = 0;
+        long flushedLength = 0;
+        int unflushedCount = 0;
+        int storedFlushes = 0;
+        for (int i = 0; i < 300; i++) {
+            // mostly small documents and a few larger than a block
+            final Document document = createDocument(random, random.nextInt(20) == 0 ? 10000 + random.nextInt(20000)
+                : 1 + random.nextInt(500));
+            documents.add(AbstractDocumentFileStoreCell.serializeDocument(document));
+            final DocumentAddress address = writer.write(document);
+            assertEquals("Document length", documents.get(i).length, address.getLength());
+            addresses.add(address);
+            unflushedCount++;
+
+            if (random.nextInt(5) == 0) {
+                // flush like a cell does, mostly in the middle of the current block
+                final long endOffset = address.getOffset() + address.getLength();
+                writer.flush(fileStore, endOffset);
+                final List<int[]> blocks = readBlockHeaders(file, compression);
+                assertEquals(compression + ", flushed offset", endOffset, uncompressedLength(file, blocks));
+                assertTrue(compression + ", file grew by more than the flushed documents",
+                    file.length() - flushedLength <= endOffset - flushedOffset
+                        + (long)FileStoreCompression.BLOCK_HEADER_SIZE * unflushedCount);
+                flushedOffset = endOffset;
+                flushedLength = file.length();
+                unflushedCount = 0;
+                if (!blocks.isEmpty() && blocks.get(blocks.size() - 1)[0] == FileStoreCompression.NONE.getId()) {
+                    storedFlushes++;
+                }
+
+                // flushed documents are readable from a copy of the file, as the file is persisted while writing
+                final File copy = File.createTempFile("filestore-compression", ".bin");
+                try {
+                    Files.copy(file.toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                    assertArrayEquals(compression + ", flushed document " + i, documents.get(i),
+                        FileStoreDocumentReader.read(copy, address, compression));
+                } finally {
+                    FileStoreDocumentReader.closeIdleReaders();
+                    copy.delete();
+                    FileStoreDocumentReader.closeIdleReaders();
+                }
+            }
+
+            if (random.nextInt(10) == 0) {
+                // read a previously written document like a cell does, while documents are still written
+                final int j = random.nextInt(addresses.size());
+                assertArrayEquals(compression + ", document " + j + " while writing", documents.get(j),
+                    read(writer, fileStore, addresses.get(j), compression));
+            }
+        }
+
+        if (compression != FileStoreCompression.NONE) {
+            assertTrue(compression + ", flushed partial blocks are stored", storedFlushes > 0);
+        }
+
+        writer.close();
+        final List<int[]> blocks = readBlockHeaders(file, compression);
+        final DocumentAddress last = addresses.get(addresses.size() - 1);
+        assertEquals(compression + ", closed file", last.getOffset() + last.getLength(),
+            uncompressedLength(file, blocks));
+        for (final int[] block : blocks) {
+            assertEquals(compression + ", block codec of closed file", compression.getId(), block[0]);
+        }
+
+        final List<Integer> order = new ArrayList<Integer>();
+        for (int i = 0; i < documents.size(); i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, random);
+        for (final int i : order) {
+            assertArrayEquals(compression + ", document " + i, documents.get(i),
+                FileStoreDocumentReader.read(file, addresses.get(i), compression));
+        }
+    }
+
+    /**
+     * Reads a document like {@link DocumentBufferedFileStoreCell} does while its writer is open: documents of the
+     * current block are read from memory, other documents from the file.
+     */
+    private static byte[] read(final BufferedFileStoreWriter writer, final FileStore fileStore,
+        final DocumentAddress address, final FileStoreCompression compression) throws IOException {
+        final byte[] buffered = writer.readBuffered(address);
+        if (buffered != null) {
+            return buffered;
+        }
+        writer.flush(fileStore, address.getOffset() + address.getLength());
+        return FileStoreDocumentReader.read(fileStore.getFile(), address, compression);
+    }
+
+    /**
+     * Returns the codec id, the uncompressed and the compressed length of each block of the given compressed file.
+     * Stored blocks, written by flushes of blocks which are not full, must only follow the compressed blocks.
+     */
+    private static List<int[]> readBlockHeaders(final File file, final FileStoreCompression compression)
+        throws IOException {
+        final List<int[]> blocks = new ArrayList<int[]>();
+        if (compression == FileStoreCompression.NONE) {
+            return blocks;
+        }
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            long position = 0;
+            boolean stored = false;
+            while (position < file.length()) {
+                final int[] block = new int[]{in.readByte(), in.readInt(), in.readInt()};
+                if (block[0] == FileStoreCompression.NONE.getId()) {
+                    stored = true;
+                    assertEquals("Stored block length", block[1], block[2]);
+                } else {
+                    assertEquals("Block codec", compression.getId(), block[0]);
+                    assertFalse("Compressed block after stored blocks", stored);
+                }
+                in.skipBytes(block[2]);
+                position += FileStoreCompression.BLOCK_HEADER_SIZE + block[2];
+                blocks.add(block);
+            }
+            assertEquals("File ends with a complete block", file.length(), position);
+        }
+        return blocks;
+    }
+
+    /**
+     * Returns the length of the uncompressed data of the given file.
+     */
+    private static long uncompressedLength(final File file, final List<int[]> blocks) {
+        if (blocks.isEmpty()) {
+            return file.length();
+        }
+        long length = 0;
+        for (final int[] block : blocks) {
+            length += block[1];
+        }
+        return length;
+    }
+}
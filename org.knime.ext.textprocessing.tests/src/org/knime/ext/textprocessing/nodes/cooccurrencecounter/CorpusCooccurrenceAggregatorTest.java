@@ -0,0 +1,308 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.cooccurrencecounter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.Word;
+
+/**
+ * Tests the aggregation of co-occurrences over a corpus, the pruning of rare pairs and the computation of the PMI and
+ * NPMI scores of the pairs.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CorpusCooccurrenceAggregatorTest {
+
+    private static final double EPSILON = 1e-12;
+
+    private static final int NO_LEVELS = CooccurrenceLevel.values().length;
+
+    private static Term term(final String word, final Tag... tags) {
+        return new Term(Collections.singletonList(new Word(word, "")), Arrays.asList(tags), false);
+    }
+
+    /**
+     * Creates the co-occurrences of a document, in which all given terms co-occur pairwise. The pairs are given in
+     * reverse order of the terms, the count of each pair on a level is the ordinal of the level + 1.
+     */
+    private static DocumentCooccurrences document(final Term... terms) {
+        final int noPairs = terms.length * (terms.length - 1) / 2;
+        final int[] term1 = new int[noPairs];
+        final int[] term2 = new int[noPairs];
+        final int[][] counts = new int[NO_LEVELS][noPairs];
+        int p = 0;
+        for (int i = 0; i < terms.length; i++) {
+            for (int j = i + 1; j < terms.length; j++) {
+                term1[p] = j;
+                term2[p] = i;
+                for (int l = 0; l < NO_LEVELS; l++) {
+                    counts[l][p] = l + 1;
+                }
+                p++;
+            }
+        }
+        return new DocumentCooccurrences(Arrays.asList(terms), term1, term2, counts);
+    }
+
+    /**
+     * The result of a pair.
+     */
+    private static final class Pair {
+
+        private final int[] m_counts;
+
+        private final int m_docCount;
+
+        private final double m_score;
+
+        Pair(final int[] counts, final int docCount, final double score) {
+            m_counts = counts.clone();
+            m_docCount = docCount;
+            m_score = score;
+        }
+    }
+
+    /**
+     * Aggregates the co-occurrences of a corpus of four documents over the terms a, b, c and d. The document
+     * frequencies are a: 3, b: 3, c: 2, d: 2, the pair a-b occurs in three documents, all other pairs in one.
+     */
+    private static Map<String, Pair> aggregate(final int minDocCount, final CooccurrenceScore score)
+        throws Exception {
+        final Term a = term("a");
+        final Term b = term("b");
+        final Term c = term("c");
+        final Term d = term("d");
+        final Map<String, Pair> pairs = new LinkedHashMap<>();
+        try (final CorpusCooccurrenceAggregator aggregator = new CorpusCooccurrenceAggregator(true)) {
+            aggregator.add(document(c, b, a));
+            aggregator.add(document(b, a));
+            aggregator.add(document(d, b, a));
+            aggregator.add(document(d, c));
+            aggregator.write((term1, term2, counts, docCount, value) -> {
+                assertTrue(term1.getText().compareTo(term2.getText()) <= 0);
+                pairs.put(term1.getText() + term2.getText(), new Pair(counts, docCount, value));
+            }, minDocCount, score, new ExecutionMonitor());
+        }
+        return pairs;
+    }
+
+    private static int[] counts(final int noOfDocs) {
+        final int[] counts = new int[NO_LEVELS];
+        for (int l = 0; l < NO_LEVELS; l++) {
+            counts[l] = noOfDocs * (l + 1);
+        }
+        return counts;
+    }
+
+    /**
+     * Tests that the co-occurrences and document counts are summed over all documents.
+     *
+     * @throws Exception If the co-occurrences could not be aggregated.
+     */
+    @Test
+    public void testCounts() throws Exception {
+        final Map<String, Pair> pairs = aggregate(0, CooccurrenceScore.NONE);
+        assertEquals(new TreeSet<>(Arrays.asList("ab", "ac", "ad", "bc", "bd", "cd")), new TreeSet<>(pairs.keySet()));
+        for (final Map.Entry<String, Pair> e : pairs.entrySet()) {
+            final int docCount = e.getKey().equals("ab") ? 3 : 1;
+            assertEquals(e.getKey(), docCount, e.getValue().m_docCount);
+            assertArrayEquals(e.getKey(), counts(docCount), Arrays.copyOf(e.getValue().m_counts, NO_LEVELS));
+            assertTrue(Double.isNaN(e.getValue().m_score));
+        }
+    }
+
+    /**
+     * Tests that pairs occurring in less than the minimum number of documents are pruned.
+     *
+     * @throws Exception If the co-occurrences could not be aggregated.
+     */
+    @Test
+    public void testPruning() throws Exception {
+        assertEquals(6, aggregate(1, CooccurrenceScore.NONE).size());
+        final Map<String, Pair> pairs = aggregate(2, CooccurrenceScore.NONE);
+        assertEquals(Collections.singletonList("ab"), new ArrayList<>(pairs.keySet()));
+        assertEquals(3, pairs.get("ab").m_docCount);
+        assertEquals(3, aggregate(3, CooccurrenceScore.NONE).get("ab").m_docCount);
+        assertTrue(aggregate(4, CooccurrenceScore.NONE).isEmpty());
+    }
+
+    /**
+     * Tests the point-wise mutual information of the pairs, estimated from the document frequencies.
+     *
+     * @throws Exception If the co-occurrences could not be aggregated.
+     */
+    @Test
+    public void testPMI() throws Exception {
+        final Map<String, Pair> pairs = aggregate(0, CooccurrenceScore.PMI);
+        // P(a, b) = 3/4, P(a) = P(b) = 3/4
+        assertEquals(Math.log(4.0 / 3.0), pairs.get("ab").m_score, EPSILON);
+        // P(a, c) = 1/4, P(a) = 3/4, P(c) = 2/4
+        assertEquals(Math.log(2.0 / 3.0), pairs.get("ac").m_score, EPSILON);
+        assertEquals(Math.log(2.0 / 3.0), pairs.get("bd").m_score, EPSILON);
+        // P(c, d) = 1/4, P(c) = P(d) = 2/4, independent
+        assertEquals(0.0, pairs.get("cd").m_score, EPSILON);
+    }
+
+    /**
+     * Tests the normalized point-wise mutual information of the pairs, estimated from the document frequencies.
+     *
+     * @throws Exception If the co-occurrences could not be aggregated.
+     */
+    @Test
+    public void testNPMI() throws Exception {
+        final Map<String, Pair> pairs = aggregate(0, CooccurrenceScore.NPMI);
+        // a and b always occur together
+        assertEquals(1.0, pairs.get("ab").m_score, EPSILON);
+        assertEquals(Math.log(2.0 / 3.0) / Math.log(4.0), pairs.get("ac").m_score, EPSILON);
+        assertEquals(0.0, pairs.get("cd").m_score, EPSILON);
+        for (final Pair pair : pairs.values()) {
+            assertTrue(pair.m_score >= -1.0 && pair.m_score <= 1.0);
+        }
+    }
+
+    /**
+     * Tests that the NPMI of a pair occurring in all documents is 1.
+     *
+     * @throws Exception If the co-occurrences could not be aggregated.
+     */
+    @Test
+    public void testNPMIAllDocuments() throws Exception {
+        final List<Double> scores = new ArrayList<>();
+        try (final CorpusCooccurrenceAggregator aggregator = new CorpusCooccurrenceAggregator(true)) {
+            aggregator.add(document(term("a"), term("b")));
+            aggregator.add(document(term("b"), term("a")));
+            aggregator.write((term1, term2, counts, docCount, value) -> scores.add(value), 0,
+                CooccurrenceScore.NPMI, new ExecutionMonitor());
+        }
+        assertEquals(Collections.singletonList(1.0), scores);
+    }
+
+    /**
+     * Tests that terms with equal words but different tags are only distinguished if tags are checked.
+     *
+     * @throws Exception If the co-occurrences could not be aggregated.
+     */
+    @Test
+    public void testCheckTags() throws Exception {
+        for (final boolean checkTags : new boolean[]{true, false}) {
+            final List<Integer> docCounts = new ArrayList<>();
+            try (final CorpusCooccurrenceAggregator aggregator = new CorpusCooccurrenceAggregator(checkTags)) {
+                aggregator.add(document(term("a", new Tag("NN", "POS")), term("b")));
+                aggregator.add(document(term("a", new Tag("VB", "POS")), term("b")));
+                aggregator.write((term1, term2, counts, docCount, value) -> docCounts.add(docCount), 0,
+                    CooccurrenceScore.NONE, new ExecutionMonitor());
+            }
+            assertEquals(checkTags ? Arrays.asList(1, 1) : Collections.singletonList(2), docCounts);
+        }
+    }
+
+    /**
+     * Aggregates a random corpus with the given limits and returns the pairs by the words of their terms.
+     */
+    private static Map<String, Pair> aggregateRandom(final int maxPairsInMemory, final int maxMergeFanIn,
+        final int minDocCount) throws Exception {
+        final List<Term> vocabulary = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            vocabulary.add(term("t" + i));
+        }
+        final Random random = new Random(42);
+        final Map<String, Pair> pairs = new LinkedHashMap<>();
+        try (final CorpusCooccurrenceAggregator aggregator =
+            new CorpusCooccurrenceAggregator(true, maxPairsInMemory, maxMergeFanIn)) {
+            for (int i = 0; i < 50; i++) {
+                Collections.shuffle(vocabulary, random);
+                aggregator.add(document(vocabulary.subList(0, 2 + random.nextInt(4)).toArray(new Term[0])));
+            }
+            aggregator.write((term1, term2, counts, docCount, value) -> {
+                final String key = term1.getText() + "-" + term2.getText();
+                assertTrue(key, !pairs.containsKey(key));
+                pairs.put(key, new Pair(counts, docCount, value));
+            }, minDocCount, CooccurrenceScore.NPMI, new ExecutionMonitor());
+        }
+        return pairs;
+    }
+
+    /**
+     * Tests that spilling the pairs to runs and merging the runs in several passes results in the same pairs, counts
+     * and scores as the aggregation in memory.
+     *
+     * @throws Exception If the co-occurrences could not be aggregated.
+     */
+    @Test
+    public void testSpilledRunsEqualInMemory() throws Exception {
+        for (final int minDocCount : new int[]{0, 2, 5}) {
+            final Map<String, Pair> expected = aggregateRandom(CorpusCooccurrenceAggregator.MAX_PAIRS_IN_MEMORY,
+                CorpusCooccurrenceAggregator.MAX_MERGE_FAN_IN, minDocCount);
+            final Map<String, Pair> actual = aggregateRandom(4, 2, minDocCount);
+            assertTrue(!expected.isEmpty());
+            assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+            for (final Map.Entry<String, Pair> e : expected.entrySet()) {
+                final Pair pair = actual.get(e.getKey());
+                assertEquals(e.getKey(), e.getValue().m_docCount, pair.m_docCount);
+                assertArrayEquals(e.getKey(), e.getValue().m_counts, pair.m_counts);
+                assertEquals(e.getKey(), e.getValue().m_score, pair.m_score, EPSILON);
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.topic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+import org.knime.ext.textprocessing.data.Author;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentBuilder;
+import org.knime.ext.textprocessing.data.DocumentCategory;
+import org.knime.ext.textprocessing.data.DocumentMetaInfo;
+import org.knime.ext.textprocessing.data.DocumentSource;
+import org.knime.ext.textprocessing.data.DocumentType;
+import org.knime.ext.textprocessing.data.Paragraph;
+import org.knime.ext.textprocessing.data.PublicationDate;
+import org.knime.ext.textprocessing.data.Section;
+import org.knime.ext.textprocessing.data.SectionAnnotation;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.TopicModelPortObject;
+import org.knime.ext.textprocessing.data.Word;
+
+/**
+ * Tests the Gibbs sampling inference of {@link GibbsTopicInferencer} on a model of two separated topics with fixed
+ * seeds.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class GibbsTopicInferencerTest {
+
+    private static final String[] VOCABULARY =
+        {"apple", "banana", "cherry", "grape", "melon", "engine", "wheel", "brake", "motor", "gear", "shared"};
+
+    private static final int SHARED = 10;
+
+    private static final double[] ALPHA = {0.1, 0.3};
+
+    private static final double BETA = 0.01;
+
+    /**
+     * Creates a model whose first topic consists of the first five words and whose second topic consists of the
+     * next five words. The last word is shared by both topics.
+     */
+    private static TopicModelPortObject createModel() {
+        final double[] weights = new double[VOCABULARY.length * 2];
+        for (int w = 0; w < 10; w++) {
+            weights[w * 2 + w / 5] = 100;
+        }
+        weights[SHARED * 2] = 50;
+        weights[SHARED * 2 + 1] = 150;
+        return new TopicModelPortObject(VOCABULARY, ALPHA.clone(), BETA, weights);
+    }
+
+    private static int[] repeat(final int word, final int times) {
+        final int[] words = new int[times];
+        Arrays.fill(words, word);
+        return words;
+    }
+
+    /**
+     * Tests that the inference is reproducible given the seed.
+     */
+    @Test
+    public void testReproducible() {
+        final GibbsTopicInferencer inferencer = new GibbsTopicInferencer(createModel());
+        assertEquals(2, inferencer.getNoOfTopics());
+        final int[] words = {0, 5, SHARED, 1, 6, SHARED, 2};
+        final double[] distribution = inferencer.infer(words, 100, 10, new SplittableRandom(42));
+        assertArrayEquals(distribution, inferencer.infer(words, 100, 10, new SplittableRandom(42)), 0);
+        assertArrayEquals(distribution,
+            new GibbsTopicInferencer(createModel()).infer(words, 100, 10, new SplittableRandom(42)), 0);
+        assertEquals(1, distribution[0] + distribution[1], 1e-9);
+    }
+
+    /**
+     * Tests that documents of a single topic are assigned to the topic and mixed documents to both topics.
+     */
+    @Test
+    public void testTopics() {
+        final GibbsTopicInferencer inferencer = new GibbsTopicInferencer(createModel());
+        final SplittableRandom random = new SplittableRandom(4711);
+        final int[] first = {0, 1, 2, 3, 4, 0, 1, 2, 3, 4};
+        final int[] second = {5, 6, 7, 8, 9, 5, 6, 7, 8, 9};
+        final int[] mixed = {0, 5, 1, 6, 2, 7, 3, 8, 4, 9};
+        // with 10 words all assigned to one topic, the probability is (10 + alpha) / (10 + alpha sum)
+        assertEquals(10.1 / 10.4, inferencer.infer(first, 100, 10, random)[0], 1e-3);
+        assertEquals(10.3 / 10.4, inferencer.infer(second, 100, 10, random)[1], 1e-3);
+        final double[] distribution = inferencer.infer(mixed, 100, 10, random);
+        assertEquals(5.1 / 10.4, distribution[0], 1e-3);
+        assertEquals(5.3 / 10.4, distribution[1], 1e-3);
+    }
+
+    /**
+     * Tests the distribution of a document consisting of a single word shared by both topics, whose topic samples
+     * are independent and follow the posterior of the topics given the word.
+     */
+    @Test
+    public void testSharedWord() {
+        final GibbsTopicInferencer inferencer = new GibbsTopicInferencer(createModel());
+        final double betaSum = BETA * VOCABULARY.length;
+        final double p0 = ALPHA[0] * (50 + BETA) / (550 + betaSum);
+        final double p1 = ALPHA[1] * (150 + BETA) / (650 + betaSum);
+        final double posterior = p0 / (p0 + p1);
+        final double[] distribution = inferencer.infer(new int[]{SHARED}, 20000, 0, new SplittableRandom(42));
+        assertEquals((posterior + ALPHA[0]) / (1 + ALPHA[0] + ALPHA[1]), distribution[0], 0.01);
+        assertEquals(1, distribution[0] + distribution[1], 1e-9);
+    }
+
+    /**
+     * Tests the distribution of empty documents and of inferences without samples after the burn-in.
+     */
+    @Test
+    public void testNoSamples() {
+        final GibbsTopicInferencer inferencer = new GibbsTopicInferencer(createModel());
+        assertArrayEquals(new double[]{0.25, 0.75}, inferencer.infer(new int[0], 100, 10, new SplittableRandom(42)),
+            1e-12);
+        // the final assignments are used if all iterations are burn-in
+        final double[] distribution = inferencer.infer(repeat(0, 10), 10, 10, new SplittableRandom(42));
+        assertEquals(10.1 / 10.4, distribution[0], 1e-3);
+        assertEquals(1, distribution[0] + distribution[1], 1e-9);
+    }
+
+    /**
+     * Tests that the words of a document are the texts of its terms and that words not contained in the vocabulary
+     * are ignored.
+     */
+    @Test
+    public void testWordIndices() {
+        final List<Term> terms = new ArrayList<>();
+        for (final String word : new String[]{"apple", "unknown", "gear", "apple", "shared"}) {
+            terms.add(new Term(Collections.singletonList(new Word(word, " ")), Collections.<Tag> emptyList(), false));
+        }
+        final List<Section> sections = Collections.singletonList(new Section(Collections.singletonList(
+            new Paragraph(Collections.singletonList(new Sentence(terms)))), SectionAnnotation.CHAPTER));
+        final Document doc = DocumentBuilder.createDocument(sections, DocumentType.UNKNOWN,
+            new LinkedHashSet<Author>(), new LinkedHashSet<DocumentSource>(), new LinkedHashSet<DocumentCategory>(),
+            new PublicationDate(), new File("").getAbsoluteFile(), new DocumentMetaInfo());
+        final GibbsTopicInferencer inferencer = new GibbsTopicInferencer(createModel());
+        assertArrayEquals(new int[]{0, 9, 0, SHARED}, inferencer.getWordIndices(doc));
+        assertTrue(inferencer.infer(inferencer.getWordIndices(doc), 100, 10, new SplittableRandom(42))[0] > 0.5);
+    }
+}
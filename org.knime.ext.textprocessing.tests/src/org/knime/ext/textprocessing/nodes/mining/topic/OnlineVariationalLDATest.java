@@ -0,0 +1,231 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.topic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.ext.textprocessing.data.TopicModelPortObject;
+
+/**
+ * Tests the online variational Bayes training of {@link OnlineVariationalLDA} on a corpus of two clearly separated
+ * topics with fixed seeds.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class OnlineVariationalLDATest {
+
+    private static final String[] VOCABULARY =
+        {"apple", "banana", "cherry", "grape", "melon", "engine", "wheel", "brake", "motor", "gear"};
+
+    /** The number of words of each topic, the first half of the vocabulary belongs to the first topic. */
+    private static final int TOPIC_SIZE = VOCABULARY.length / 2;
+
+    private static final int NO_OF_DOCS = 200;
+
+    private static final int BATCH_SIZE = 20;
+
+    private static final int NO_OF_EPOCHS = 5;
+
+    /**
+     * Creates a document of 20 words drawn from the words of the given topic.
+     */
+    private static int[] createDocument(final Random random, final int topic) {
+        final int[] words = new int[20];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = topic * TOPIC_SIZE + random.nextInt(TOPIC_SIZE);
+        }
+        return words;
+    }
+
+    /**
+     * Creates a corpus whose documents alternate between the two topics.
+     */
+    private static List<int[]> createCorpus() {
+        final Random random = new Random(4711);
+        final List<int[]> corpus = new ArrayList<>();
+        for (int d = 0; d < NO_OF_DOCS; d++) {
+            corpus.add(createDocument(random, d % 2));
+        }
+        return corpus;
+    }
+
+    private static OnlineVariationalLDA createModel() {
+        return new OnlineVariationalLDA(VOCABULARY, 2, 0.5, 0.01, 1, 0.7, 42);
+    }
+
+    /**
+     * Trains the given model for {@link #NO_OF_EPOCHS} epochs over the corpus.
+     *
+     * @return The log likelihoods per word of all mini-batches.
+     */
+    private static List<Double> train(final OnlineVariationalLDA lda, final List<int[]> corpus,
+        final int noOfThreads) throws Exception {
+        final List<Double> logLikelihoods = new ArrayList<>();
+        for (int epoch = 0; epoch < NO_OF_EPOCHS; epoch++) {
+            for (int start = 0; start < corpus.size(); start += BATCH_SIZE) {
+                logLikelihoods.add(lda.update(corpus.subList(start, start + BATCH_SIZE), corpus.size(), noOfThreads));
+            }
+        }
+        return logLikelihoods;
+    }
+
+    private static double[] getWeights(final TopicModelPortObject model) {
+        final double[] weights = new double[model.getVocabularySize() * model.getNoOfTopics()];
+        for (int w = 0; w < model.getVocabularySize(); w++) {
+            for (int k = 0; k < model.getNoOfTopics(); k++) {
+                weights[w * model.getNoOfTopics() + k] = model.getWeight(w, k);
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Returns the topic with the highest probability in the given distribution.
+     */
+    private static int argMax(final double[] distribution) {
+        int best = 0;
+        for (int k = 1; k < distribution.length; k++) {
+            if (distribution[k] > distribution[best]) {
+                best = k;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Tests that the training is reproducible given the seed, independently of the number of threads.
+     *
+     * @throws Exception If the training failed.
+     */
+    @Test
+    public void testReproducible() throws Exception {
+        final List<int[]> corpus = createCorpus();
+        final OnlineVariationalLDA lda1 = createModel();
+        final List<Double> logLikelihoods1 = train(lda1, corpus, 1);
+        final OnlineVariationalLDA lda2 = createModel();
+        final List<Double> logLikelihoods2 = train(lda2, corpus, 4);
+        assertEquals(logLikelihoods1, logLikelihoods2);
+        assertArrayEquals(getWeights(lda1.createTopicModel()), getWeights(lda2.createTopicModel()), 0);
+
+        // a different seed results in different initial parameters
+        final OnlineVariationalLDA lda3 = new OnlineVariationalLDA(VOCABULARY, 2, 0.5, 0.01, 1, 0.7, 43);
+        train(lda3, corpus, 1);
+        assertNotEquals(getWeights(lda1.createTopicModel())[0], getWeights(lda3.createTopicModel())[0], 0);
+    }
+
+    /**
+     * Tests that the two topics of the corpus are separated and that the likelihood of the mini-batches increases.
+     *
+     * @throws Exception If the training failed.
+     */
+    @Test
+    public void testTopics() throws Exception {
+        final List<int[]> corpus = createCorpus();
+        final OnlineVariationalLDA lda = createModel();
+        final List<Double> logLikelihoods = train(lda, corpus, 2);
+        assertEquals(NO_OF_EPOCHS * NO_OF_DOCS / BATCH_SIZE, lda.getNoOfUpdates());
+        assertTrue(logLikelihoods.toString(),
+            logLikelihoods.get(logLikelihoods.size() - 1) > logLikelihoods.get(0));
+        // the entropy of a topic's word distribution is log(5) if the topics are separated perfectly
+        assertTrue(logLikelihoods.toString(), logLikelihoods.get(logLikelihoods.size() - 1) > -Math.log(5) - 0.1);
+
+        final Random random = new Random(7);
+        final double[] first = lda.infer(createDocument(random, 0));
+        final double[] second = lda.infer(createDocument(random, 1));
+        assertEquals(1, first[0] + first[1], 1e-9);
+        assertEquals(1, second[0] + second[1], 1e-9);
+        final int firstTopic = argMax(first);
+        final int secondTopic = argMax(second);
+        assertNotEquals(firstTopic, secondTopic);
+        assertTrue(first[firstTopic] > 0.9);
+        assertTrue(second[secondTopic] > 0.9);
+
+        // the words of each half of the vocabulary have almost all their weight in the topic of their half
+        final TopicModelPortObject model = lda.createTopicModel();
+        for (int w = 0; w < VOCABULARY.length; w++) {
+            final int topic = w < TOPIC_SIZE ? firstTopic : secondTopic;
+            assertTrue(VOCABULARY[w], model.getWeight(w, topic) > 10 * model.getWeight(w, 1 - topic));
+        }
+    }
+
+    /**
+     * Tests that a model created from a trained model continues with the same parameters and update count.
+     *
+     * @throws Exception If the training failed.
+     */
+    @Test
+    public void testResume() throws Exception {
+        final List<int[]> corpus = createCorpus();
+        final OnlineVariationalLDA lda = createModel();
+        train(lda, corpus, 1);
+        final TopicModelPortObject model = lda.createTopicModel();
+        assertEquals(lda.getNoOfUpdates(), model.getNoOfUpdates());
+        assertEquals(0.01, model.getBeta(), 0);
+        assertEquals(0.5, model.getAlpha(0), 0);
+
+        final OnlineVariationalLDA resumed = new OnlineVariationalLDA(model, 1, 0.7);
+        assertEquals(2, resumed.getNoOfTopics());
+        assertEquals(lda.getNoOfUpdates(), resumed.getNoOfUpdates());
+        assertArrayEquals(getWeights(model), getWeights(resumed.createTopicModel()), 1e-9);
+        final int[] doc = createDocument(new Random(7), 0);
+        assertArrayEquals(lda.infer(doc), resumed.infer(doc), 1e-6);
+
+        // both models continue with the same learning rate
+        lda.update(corpus.subList(0, BATCH_SIZE), corpus.size(), 1);
+        resumed.update(corpus.subList(0, BATCH_SIZE), corpus.size(), 1);
+        assertArrayEquals(getWeights(lda.createTopicModel()), getWeights(resumed.createTopicModel()), 1e-6);
+    }
+}
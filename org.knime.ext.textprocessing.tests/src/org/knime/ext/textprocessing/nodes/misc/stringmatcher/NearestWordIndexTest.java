@@ -0,0 +1,246 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.misc.stringmatcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+
+import gnu.trove.TIntArrayList;
+import gnu.trove.TIntHashSet;
+
+/**
+ * Tests that the {@link BKTree}, the {@link SymSpellIndex} and the {@link NearestWordIndex} find the same nearest
+ * words as a brute-force search over the dictionary.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NearestWordIndexTest {
+
+    /** The weights of deletion, insertion, change and switch, all valid. */
+    private static final int[][] WEIGHTS =
+        {{1, 1, 1, 1}, {1, 2, 1, 2}, {2, 1, 1, 2}, {3, 1, 2, 2}, {2, 2, 3, 2}, {1, 1, 0, 1}, {0, 1, 1, 1},
+            {1, 0, 1, 1}, {1, 1, 1, 5}};
+
+    private static char[] randomWord(final Random random, final int maxLength) {
+        final char[] word = new char[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = (char)('a' + random.nextInt(4));
+        }
+        return word;
+    }
+
+    /**
+     * Returns a dictionary of short words over a small alphabet, which contains duplicates and many words of equal
+     * distance to a query.
+     */
+    private static char[][] createDictionary(final Random random, final int size) {
+        final char[][] words = new char[size][];
+        for (int i = 0; i < size; i++) {
+            words[i] = randomWord(random, 8);
+        }
+        return words;
+    }
+
+    /**
+     * Returns random queries, words of the dictionary and edited words of the dictionary.
+     */
+    private static List<char[]> createQueries(final Random random, final char[][] words) {
+        final List<char[]> queries = new ArrayList<>();
+        queries.add(new char[0]);
+        for (int i = 0; i < 100; i++) {
+            queries.add(randomWord(random, 12));
+            if (words.length > 0) {
+                final char[] word = words[random.nextInt(words.length)];
+                queries.add(word.clone());
+                final StringBuilder edited = new StringBuilder(new String(word));
+                for (int e = random.nextInt(4); e >= 0; e--) {
+                    final int pos = random.nextInt(edited.length() + 1);
+                    if (random.nextBoolean() || pos == edited.length()) {
+                        edited.insert(pos, (char)('a' + random.nextInt(5)));
+                    } else {
+                        edited.deleteCharAt(pos);
+                    }
+                }
+                queries.add(edited.toString().toCharArray());
+            }
+        }
+        return queries;
+    }
+
+    private static LevenDamerau createDistance(final int[] weights) {
+        final LevenDamerau distance = new LevenDamerau();
+        distance.setweight(weights[0], weights[1], weights[2], weights[3]);
+        assertTrue(distance.hasValidWeights());
+        return distance;
+    }
+
+    /**
+     * Finds the indices of the nearest words by comparing the query to all words.
+     */
+    private static int bruteForce(final char[][] words, final LevenDamerau distance, final char[] query,
+        final TIntArrayList nearest) {
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < words.length; i++) {
+            final int dist = distance.calculate(words[i], query);
+            if (dist < best) {
+                best = dist;
+                nearest.clear();
+            }
+            if (dist == best) {
+                nearest.add(i);
+            }
+        }
+        return best;
+    }
+
+    private static String message(final int[] weights, final char[] query) {
+        return "Weights " + Arrays.toString(weights) + ", query '" + new String(query) + "'";
+    }
+
+    /**
+     * Tests that the BK-tree finds exactly the nearest words for all weights.
+     *
+     * @throws Exception If the tree could not be built.
+     */
+    @Test
+    public void testBKTree() throws Exception {
+        final Random random = new Random(4711);
+        for (final int size : new int[]{0, 1, 2, 50, 2000}) {
+            final char[][] words = createDictionary(random, size);
+            final List<char[]> queries = createQueries(random, words);
+            for (final int[] weights : WEIGHTS) {
+                final LevenDamerau distance = createDistance(weights);
+                final BKTree tree = new BKTree(words, distance, new ExecutionMonitor());
+                for (final char[] query : queries) {
+                    final TIntArrayList expected = new TIntArrayList();
+                    final TIntArrayList actual = new TIntArrayList();
+                    assertEquals(message(weights, query), bruteForce(words, distance, query, expected),
+                        tree.findNearest(query, actual));
+                    actual.sort();
+                    assertEquals(message(weights, query), expected, actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the candidates of the deletion index contain all words within its maximum distance.
+     *
+     * @throws Exception If the index could not be built.
+     */
+    @Test
+    public void testSymSpellCandidates() throws Exception {
+        final Random random = new Random(42);
+        final char[][] words = createDictionary(random, 2000);
+        final List<char[]> queries = createQueries(random, words);
+        final LevenDamerau distance = new LevenDamerau();
+        for (int maxDistance = 1; maxDistance <= 2; maxDistance++) {
+            final SymSpellIndex index = new SymSpellIndex(words, maxDistance, new ExecutionMonitor());
+            assertEquals(maxDistance, index.getMaxDistance());
+            assertTrue(SymSpellIndex.estimateSize(words, maxDistance) >= words.length);
+            for (final char[] query : queries) {
+                final TIntHashSet candidates = new TIntHashSet();
+                index.collectCandidates(query, candidates);
+                for (int i = 0; i < words.length; i++) {
+                    if (distance.calculate(words[i], query) <= maxDistance) {
+                        assertTrue("Distance " + maxDistance + ", query '" + new String(query) + "', word '"
+                            + new String(words[i]) + "'", candidates.contains(i));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the index finds the nearest words of a brute-force search, ordered by the length buckets of the
+     * query and by dictionary order within a bucket.
+     *
+     * @throws Exception If the index could not be built.
+     */
+    @Test
+    public void testNearestWordIndex() throws Exception {
+        final Random random = new Random(7);
+        for (final int size : new int[]{0, 1, 50, 2000}) {
+            final char[][] words = createDictionary(random, size);
+            final List<char[]> queries = createQueries(random, words);
+            for (final int[] weights : WEIGHTS) {
+                final LevenDamerau distance = createDistance(weights);
+                final NearestWordIndex index = NearestWordIndex.build(words, distance, new ExecutionMonitor());
+                for (final char[] query : queries) {
+                    final TIntArrayList ids = new TIntArrayList();
+                    final int best = bruteForce(words, distance, query, ids);
+                    final List<String> expected = new ArrayList<>();
+                    // words of the query length first, then one longer, one shorter, two longer, ...
+                    for (int rank = 0; rank <= 2 * 13; rank++) {
+                        final int length = query.length + (rank % 2 == 1 ? (rank + 1) / 2 : -rank / 2);
+                        for (final int id : ids.toNativeArray()) {
+                            if (words[id].length == length) {
+                                expected.add(new String(words[id]));
+                            }
+                        }
+                    }
+                    final List<char[]> nearest = new ArrayList<>();
+                    assertEquals(message(weights, query), best, index.find(query, nearest));
+                    final List<String> actual = new ArrayList<>();
+                    for (final char[] word : nearest) {
+                        actual.add(new String(word));
+                    }
+                    assertEquals(message(weights, query), expected, actual);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.preprocessing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.Word;
+import org.knime.ext.textprocessing.nodes.preprocessing.caseconverter.CaseConverter;
+import org.knime.ext.textprocessing.nodes.preprocessing.ncharsfilter.NCharsFilter;
+import org.knime.ext.textprocessing.nodes.preprocessing.puncterasure.PunctuationErasure;
+import org.knime.ext.textprocessing.nodes.preprocessing.replacer.RegExReplacer;
+
+/**
+ * Tests that preprocessing terms with a {@link TermPreprocessingPipeline} is equivalent to applying its steps one
+ * after the other, as subsequent preprocessing nodes do.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TermPreprocessingPipelineTest {
+
+    /**
+     * Preprocessing step failing if it is applied to a filtered or emptied term.
+     */
+    private static final class NonEmptyTermPreprocessing implements TermPreprocessing {
+
+        private final TermPreprocessing m_step;
+
+        NonEmptyTermPreprocessing(final TermPreprocessing step) {
+            m_step = step;
+        }
+
+        @Override
+        public Term preprocessTerm(final Term term) {
+            assertNotNull(term);
+            assertTrue(term.getTextWithWsSuffix(), !term.getText().isEmpty());
+            return m_step.preprocessTerm(term);
+        }
+    }
+
+    private static Term term(final Word... words) {
+        return new Term(Arrays.asList(words), Collections.singletonList(new Tag("NN", "POS")), false);
+    }
+
+    private static List<Term> terms() {
+        return Arrays.asList(term(new Word("Hello", " ")), term(new Word("K.N.I.M.E.", "\t")),
+            term(new Word("New", " "), new Word("York", "\n")), term(new Word("!!", " ")), term(new Word("a.b", " ")),
+            term(new Word("Text-Mining", "")), term(new Word("", " ")), term(new Word("ab", "  ")));
+    }
+
+    private static List<TermPreprocessing> steps() {
+        return Arrays.asList(new NonEmptyTermPreprocessing(new PunctuationErasure()),
+            new NonEmptyTermPreprocessing(new CaseConverter(CaseConverter.UPPER_CASE)),
+            new NonEmptyTermPreprocessing(new NCharsFilter(3)),
+            new NonEmptyTermPreprocessing(new RegExReplacer("-", "")));
+    }
+
+    /**
+     * Applies the given steps one after the other to all terms, dropping filtered and emptied terms after each step
+     * as a preprocessing node does.
+     */
+    private static List<Term> applySubsequently(final List<Term> terms, final List<TermPreprocessing> steps) {
+        List<Term> preprocessed = new ArrayList<>();
+        for (final Term term : terms) {
+            if (!term.getText().isEmpty()) {
+                preprocessed.add(term);
+            }
+        }
+        for (final TermPreprocessing step : steps) {
+            final List<Term> next = new ArrayList<>();
+            for (final Term term : preprocessed) {
+                final Term t = step.preprocessTerm(term);
+                if (t != null && !t.getText().isEmpty()) {
+                    next.add(t);
+                }
+            }
+            preprocessed = next;
+        }
+        return preprocessed;
+    }
+
+    private static List<String> textsWithWsSuffix(final List<Term> terms) {
+        final List<String> texts = new ArrayList<>();
+        for (final Term term : terms) {
+            texts.add(term.getTextWithWsSuffix());
+        }
+        return texts;
+    }
+
+    /**
+     * Tests that the pipeline results in the same terms, including their white space suffixes and tags, as applying
+     * the steps one after the other.
+     */
+    @Test
+    public void testEqualsSubsequentSteps() {
+        final TermPreprocessingPipeline pipeline = new TermPreprocessingPipeline(steps());
+        assertEquals(4, pipeline.getNoOfSteps());
+
+        final List<Term> preprocessed = new ArrayList<>();
+        for (final Term term : terms()) {
+            final Term t = term.getText().isEmpty() ? term : pipeline.preprocessTerm(term);
+            if (t != null && !t.getText().isEmpty()) {
+                preprocessed.add(t);
+            }
+        }
+        final List<Term> expected = applySubsequently(terms(), steps());
+        assertEquals(expected, preprocessed);
+        assertEquals(textsWithWsSuffix(expected), textsWithWsSuffix(preprocessed));
+        assertEquals(Arrays.asList("HELLO ", "KNIME\t", "NEW YORK\n", "TEXTMINING"), textsWithWsSuffix(preprocessed));
+        for (final Term term : preprocessed) {
+            assertEquals(Collections.singletonList(new Tag("NN", "POS")), term.getTags());
+        }
+    }
+
+    /**
+     * Tests that the following steps are not applied to a term filtered out by a step.
+     */
+    @Test
+    public void testBreakOnFilteredTerm() {
+        final TermPreprocessingPipeline pipeline = new TermPreprocessingPipeline(steps());
+        assertNull(pipeline.preprocessTerm(term(new Word("a.b", " "))));
+        assertNull(pipeline.preprocessTerm(term(new Word("ab", " "))));
+    }
+
+    /**
+     * Tests that the following steps are not applied to a term emptied by a step, and that the white space suffix of
+     * the emptied term is kept.
+     */
+    @Test
+    public void testBreakOnEmptiedTerm() {
+        final TermPreprocessingPipeline pipeline = new TermPreprocessingPipeline(steps());
+        final Term emptied = pipeline.preprocessTerm(term(new Word("!!", " ")));
+        assertNotNull(emptied);
+        assertEquals("", emptied.getText());
+        assertEquals(" ", emptied.getTextWithWsSuffix());
+    }
+
+    /**
+     * Tests that a pipeline without steps returns the given term.
+     */
+    @Test
+    public void testNoSteps() {
+        final Term term = term(new Word("Hello", " "));
+        assertSame(term,
+            new TermPreprocessingPipeline(Collections.<TermPreprocessing> emptyList()).preprocessTerm(term));
+    }
+}
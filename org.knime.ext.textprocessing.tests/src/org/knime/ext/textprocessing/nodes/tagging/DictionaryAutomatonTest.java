@@ -0,0 +1,171 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.tagging;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests that the {@link DictionaryAutomaton} finds the same dictionary entries as matching each entry with
+ * {@link NamedEntityMatcher#matchWithSentence(String, String)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DictionaryAutomatonTest {
+
+    /**
+     * Finds the entries contained in the given text by matching each entry, in the order of the dictionary.
+     */
+    private static List<String> bruteForce(final List<String> entries, final boolean caseSensitive,
+        final String text) {
+        final NamedEntityMatcher matcher = new NamedEntityMatcher(caseSensitive, false);
+        final List<String> found = new ArrayList<String>();
+        for (final String entry : entries) {
+            if (matcher.matchWithSentence(entry, text)) {
+                found.add(entry);
+            }
+        }
+        return found;
+    }
+
+    private static void assertMatches(final List<String> entries, final String... texts) {
+        for (final boolean caseSensitive : new boolean[]{true, false}) {
+            final DictionaryAutomaton automaton = new DictionaryAutomaton(entries, caseSensitive);
+            assertEquals(entries.size(), automaton.size());
+            for (final String text : texts) {
+                assertEquals("Case sensitive " + caseSensitive + ", text \"" + text + "\"",
+                    bruteForce(entries, caseSensitive, text), automaton.findEntries(text));
+            }
+        }
+    }
+
+    /**
+     * Tests entries which overlap each other in the text.
+     */
+    @Test
+    public void testOverlappingEntries() {
+        assertMatches(Arrays.asList("abc", "bcd", "cde", "abcde", "ca", "aa"), "abcde", "abcdeabc", "xbcdx", "aaaa",
+            "cab", "abdc", "");
+    }
+
+    /**
+     * Tests entries which are prefixes or suffixes of other entries, which are found via the failure and match
+     * links of the automaton.
+     */
+    @Test
+    public void testPrefixAndSuffixEntries() {
+        assertMatches(Arrays.asList("new", "new york", "york", "new york city", "ork", "city", "w y", "n"),
+            "new york city", "new yorker", "in york", "newyork", "new york cit", "ork city", "knew");
+    }
+
+    /**
+     * Tests the case insensitive matching, including characters whose lower case differs from their upper case in
+     * other positions than ASCII.
+     */
+    @Test
+    public void testCaseInsensitiveEntries() {
+        assertMatches(Arrays.asList("KNIME", "knime", "Knime AG", "Z\u00fcrich", "Z\u00dcRICH", "\u00c4rger", "AG"),
+            "KNIME AG, Z\u00fcrich", "knime ag, z\u00dcrich", "Analytics by kNiMe", "\u00e4rger", "KnImE aG");
+    }
+
+    /**
+     * Tests entries consisting of multiple words, which are found across word boundaries and also as parts of
+     * words, as the entries of the Dictionary Tagger are.
+     */
+    @Test
+    public void testMultiWordEntries() {
+        assertMatches(Arrays.asList("text mining", "mining", "data text", "text", "big data text mining", "g d"),
+            "big data text mining is text mining", "textmining", "big data  text mining", "texts mining",
+            "data text");
+    }
+
+    /**
+     * Tests duplicate and empty entries and the empty dictionary.
+     */
+    @Test
+    public void testDuplicateAndEmptyEntries() {
+        assertMatches(Arrays.asList("term", "", "Term", "term", "TERM"), "term", "TERMS", "", "other");
+        assertMatches(Collections.<String> emptyList(), "term", "");
+    }
+
+    /**
+     * Tests random dictionaries and texts over a small alphabet, which contain many overlapping entries and entries
+     * being prefixes or suffixes of each other.
+     */
+    @Test
+    public void testRandomEntries() {
+        final Random random = new Random(4711);
+        final char[] alphabet = {'a', 'b', 'A', 'B', ' '};
+        for (int d = 0; d < 50; d++) {
+            final List<String> entries = new ArrayList<String>();
+            for (int i = random.nextInt(30); i >= 0; i--) {
+                entries.add(randomString(random, alphabet, 1 + random.nextInt(6)));
+            }
+            final String[] texts = new String[20];
+            for (int i = 0; i < texts.length; i++) {
+                texts[i] = randomString(random, alphabet, random.nextInt(40));
+            }
+            assertMatches(entries, texts);
+        }
+    }
+
+    private static String randomString(final Random random, final char[] alphabet, final int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Tests that the allocation free hashing of char sequences returns exactly the hashes of Guava's string hashing,
+ * which the hashes of existing vector hashing models are based on.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CharSequenceHashingTest {
+
+    private static final int[] SEEDS = {0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE};
+
+    /**
+     * Returns strings of BMP text, non-BMP text, unpaired surrogates and mixtures thereof, with lengths covering the
+     * tails of all block sizes of the hash functions.
+     */
+    private static List<String> createStrings() {
+        final List<String> strings = new ArrayList<>(Arrays.asList("", "a", "ab", "abc", "abcd", "abcdefg",
+            "abcdefgh", "abcdefghijklmnop", "abcdefghijklmnopq", "Z\u00fcrich", "\u00e4\u00f6\u00fc\u00df", "\u20ac100",
+            "\u65e5\u672c\u8a9e", "\ud83d\ude00", "a\ud83d\ude00b", "\ud834\udd1e\ud834\udd1e", "\ud83d", "\ude00",
+            "a\ud83d", "\ude00a", "\ude00\ud83d", "\ud83d\ud83d\ude00", "a\ud800b\udc00c", "\uffff\u0800\u07ff\u0080"));
+        final Random random = new Random(4711);
+        for (int i = 0; i < 5000; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) {
+                switch (random.nextInt(6)) {
+                    case 0:
+                        sb.append((char)random.nextInt(0x80));
+                        break;
+                    case 1:
+                        sb.append((char)(0x80 + random.nextInt(0x800 - 0x80)));
+                        break;
+                    case 2:
+                        // BMP chars including unpaired surrogates
+                        sb.append((char)(0x800 + random.nextInt(0x10000 - 0x800)));
+                        break;
+                    case 3:
+                        sb.appendCodePoint(0x10000 + random.nextInt(0x110000 - 0x10000));
+                        break;
+                    case 4:
+                        sb.append((char)(Character.MIN_HIGH_SURROGATE + random.nextInt(0x400)));
+                        break;
+                    default:
+                        sb.append((char)(Character.MIN_LOW_SURROGATE + random.nextInt(0x400)));
+                        break;
+                }
+            }
+            strings.add(sb.toString());
+        }
+        return strings;
+    }
+
+    /**
+     * Tests that the UTF-8 encoding equals the one of the JDK, which replaces unpaired surrogates.
+     */
+    @Test
+    public void testUtf8Encoding() {
+        for (final String s : createStrings()) {
+            final Utf8Buffer buffer = Utf8Buffer.encode(new StringBuilder(s));
+            assertArrayEquals("Wrong encoding of '" + s + "'", s.getBytes(StandardCharsets.UTF_8),
+                Arrays.copyOf(buffer.getBytes(), buffer.getLength()));
+        }
+    }
+
+    /**
+     * Tests murmur3 32 bit against {@link Hashing#murmur3_32(int)}.
+     */
+    @Test
+    public void testMurmur3_32bit() {
+        final HashingFunction function = new Murmur3_32bitHashingFunction();
+        for (final int seed : SEEDS) {
+            assertHashes(function, seed, Hashing.murmur3_32(seed));
+        }
+    }
+
+    /**
+     * Tests murmur3 128 bit against {@link Hashing#murmur3_128(int)}.
+     */
+    @Test
+    public void testMurmur3_128bit() {
+        final HashingFunction function = new Murmur3_128bitHashingFunction();
+        for (final int seed : SEEDS) {
+            assertHashes(function, seed, Hashing.murmur3_128(seed));
+        }
+    }
+
+    /**
+     * Tests siphash 2-4 against {@link Hashing#sipHash24()}, which does not depend on the seed.
+     */
+    @Test
+    public void testSiphash24() {
+        final HashingFunction function = new Siphash24HashingFunction();
+        for (final int seed : SEEDS) {
+            assertHashes(function, seed, Hashing.sipHash24());
+        }
+    }
+
+    /**
+     * Tests adler32 against {@link Hashing#adler32()}, which does not depend on the seed.
+     */
+    @Test
+    public void testAdler32() {
+        final HashingFunction function = new Adler32HashingFunction();
+        for (final int seed : SEEDS) {
+            assertHashes(function, seed, Hashing.adler32());
+        }
+    }
+
+    private static void assertHashes(final HashingFunction function, final int seed, final HashFunction expected) {
+        for (final String s : createStrings()) {
+            final int hash = expected.hashString(s, StandardCharsets.UTF_8).asInt();
+            assertEquals("Wrong " + function.getName() + " hash of '" + s + "' with seed " + seed, hash,
+                function.hash(new StringBuilder(s), seed));
+            assertEquals("Wrong " + function.getName() + " hash of '" + s + "' with seed " + seed, hash,
+                function.hash(s, seed));
+        }
+    }
+}
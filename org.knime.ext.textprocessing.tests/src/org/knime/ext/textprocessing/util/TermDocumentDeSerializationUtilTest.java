@@ -0,0 +1,287 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.ext.textprocessing.data.Author;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentBuilder;
+import org.knime.ext.textprocessing.data.DocumentCategory;
+import org.knime.ext.textprocessing.data.DocumentMetaInfo;
+import org.knime.ext.textprocessing.data.DocumentSource;
+import org.knime.ext.textprocessing.data.DocumentType;
+import org.knime.ext.textprocessing.data.Paragraph;
+import org.knime.ext.textprocessing.data.PublicationDate;
+import org.knime.ext.textprocessing.data.Section;
+import org.knime.ext.textprocessing.data.SectionAnnotation;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.Word;
+
+/**
+ * Tests the fast document serialization of version 3, which serializes the strings of a document in a string
+ * dictionary, and the deserialization of documents serialized with the versions 1 and 2.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TermDocumentDeSerializationUtilTest {
+
+    private static Term term(final String word, final String suffix, final Tag... tags) {
+        return new Term(Collections.singletonList(new Word(word, suffix)), Arrays.asList(tags), false);
+    }
+
+    private static Document createDocument() throws ParseException {
+        final Tag noun = new Tag("NN", "POS");
+        final Tag verb = new Tag("VB", "POS");
+        final Tag location = new Tag("LOCATION", "NE");
+
+        final List<Term> title = Arrays.asList(term("Text", " ", noun), term("mining", "", noun));
+        final List<Term> first = Arrays.asList(term("KNIME", " "),
+            new Term(Arrays.asList(new Word("Z\u00fcrich", " "), new Word("Switzerland", "")),
+                Arrays.asList(location, noun), true),
+            term("mines", " ", verb), term("text", "", noun), term(".", ""));
+        final List<Term> second = Arrays.asList(term("Text", " ", noun), term("mines", " ", verb),
+            term("\u65e5\u672c\u8a9e", "\t"), term("\ud83d\ude00", ""), term("", ""),
+            new Term(new ArrayList<Word>(), Collections.singletonList(noun), false));
+
+        final List<Section> sections = new ArrayList<Section>();
+        sections.add(new Section(Collections.singletonList(new Paragraph(
+            Collections.singletonList(new Sentence(title)))), SectionAnnotation.TITLE));
+        sections.add(new Section(Arrays.asList(new Paragraph(Arrays.asList(new Sentence(first),
+            new Sentence(second))), new Paragraph(Collections.singletonList(new Sentence(first)))),
+            SectionAnnotation.CHAPTER));
+
+        final LinkedHashSet<Author> authors = new LinkedHashSet<Author>();
+        authors.add(new Author("Ada", "Lovelace"));
+        authors.add(new Author("Alan", "Turing"));
+        final LinkedHashSet<DocumentSource> sources = new LinkedHashSet<DocumentSource>();
+        sources.add(new DocumentSource("Source"));
+        final LinkedHashSet<DocumentCategory> categories = new LinkedHashSet<DocumentCategory>();
+        categories.add(new DocumentCategory("Category"));
+        final HashMap<String, String> metaInfo = new HashMap<String, String>();
+        metaInfo.put("key", "value");
+
+        return DocumentBuilder.createDocument(sections, DocumentType.BOOK, authors, sources, categories,
+            new PublicationDate(2018, 5, 17), new File("doc.txt").getAbsoluteFile(), new DocumentMetaInfo(metaInfo));
+    }
+
+    private static Document createEmptyDocument() {
+        return DocumentBuilder.createDocument(new ArrayList<Section>(), DocumentType.UNKNOWN,
+            new LinkedHashSet<Author>(), new LinkedHashSet<DocumentSource>(), new LinkedHashSet<DocumentCategory>(),
+            new PublicationDate(), new File("").getAbsoluteFile(), new DocumentMetaInfo());
+    }
+
+    private static DataInputStream input(final ByteArrayOutputStream bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    private static void assertDocumentEquals(final Document expected, final Document actual) {
+        assertEquals(expected, actual);
+        assertEquals(expected.getUUID(), actual.getUUID());
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getLength(), actual.getLength());
+        assertEquals(expected.getTextWithWsSuffix(), actual.getTextWithWsSuffix());
+        assertEquals(new ArrayList<Author>(expected.getAuthors()), new ArrayList<Author>(actual.getAuthors()));
+        final List<Term> expectedTerms = terms(expected);
+        final List<Term> actualTerms = terms(actual);
+        assertEquals(expectedTerms, actualTerms);
+        for (int i = 0; i < expectedTerms.size(); i++) {
+            assertEquals(expectedTerms.get(i).hashCode(), actualTerms.get(i).hashCode());
+            assertEquals(expectedTerms.get(i).isUnmodifiable(), actualTerms.get(i).isUnmodifiable());
+        }
+    }
+
+    private static List<Term> terms(final Document doc) {
+        final List<Term> terms = new ArrayList<Term>();
+        for (Section s : doc.getSections()) {
+            for (Paragraph p : s.getParagraphs()) {
+                for (Sentence sen : p.getSentences()) {
+                    terms.addAll(sen.getTerms());
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Tests that documents serialized with version 3 are deserialized to equal documents.
+     *
+     * @throws Exception If the document could not be serialized or deserialized.
+     */
+    @Test
+    public void testRoundTrip() throws Exception {
+        for (final Document doc : Arrays.asList(createDocument(), createEmptyDocument())) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            TermDocumentDeSerializationUtil.fastSerializeDocument(doc, new DataOutputStream(bytes));
+            assertEquals(3, input(bytes).readShort());
+            assertDocumentEquals(doc, TermDocumentDeSerializationUtil.fastDeserializeDocument(input(bytes)));
+            assertDocumentEquals(doc, TermDocumentDeSerializationUtil.readDocument(input(bytes)));
+        }
+    }
+
+    /**
+     * Tests that equal tags of a document serialized with version 3 are deserialized into shared instances.
+     *
+     * @throws Exception If the document could not be serialized or deserialized.
+     */
+    @Test
+    public void testSharedTags() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TermDocumentDeSerializationUtil.fastSerializeDocument(createDocument(), new DataOutputStream(bytes));
+        final List<Term> terms = terms(TermDocumentDeSerializationUtil.fastDeserializeDocument(input(bytes)));
+        // "Text" of the title and "Text" of the second sentence of the chapter are both tagged as noun
+        final Term titleTerm = terms.get(0);
+        final Term sentenceTerm = terms.get(7);
+        assertEquals(titleTerm, sentenceTerm);
+        assertSame(titleTerm.getTags().get(0), sentenceTerm.getTags().get(0));
+    }
+
+    /**
+     * Tests that documents serialized with the versions 1 and 2, which serialize each term on its own, are still
+     * deserialized to equal documents.
+     *
+     * @throws Exception If the document could not be serialized or deserialized.
+     */
+    @Test
+    public void testReadVersion1And2() throws Exception {
+        for (final Document doc : Arrays.asList(createDocument(), createEmptyDocument())) {
+            for (short version = 1; version <= 2; version++) {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                writeDocument(doc, new DataOutputStream(bytes), version);
+                assertDocumentEquals(doc, TermDocumentDeSerializationUtil.fastDeserializeDocument(input(bytes)));
+                assertDocumentEquals(doc, TermDocumentDeSerializationUtil.readDocument(input(bytes)));
+            }
+        }
+    }
+
+    /**
+     * Tests that documents serialized by Java serialization are read as well.
+     *
+     * @throws Exception If the document could not be serialized or deserialized.
+     */
+    @Test
+    public void testReadJavaSerialized() throws Exception {
+        final Document doc = createDocument();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TermDocumentDeSerializationUtil.serializeDocument(doc, bytes);
+        assertDocumentEquals(doc, TermDocumentDeSerializationUtil.readDocument(input(bytes)));
+    }
+
+    /**
+     * Writes the given document in the format of the serialization versions 1 and 2, which have no string dictionary
+     * and serialize each term by {@link TermDocumentDeSerializationUtil#fastSerializeTerm(Term, DataOutput)}.
+     */
+    private static void writeDocument(final Document doc, final DataOutput out, final short version)
+        throws IOException {
+        out.writeShort(version);
+        out.writeUTF(doc.getUUID().toString());
+        out.writeInt(doc.getLength());
+        out.writeUTF(doc.getTitle());
+        out.writeUTF(doc.getType().toString());
+        out.writeUTF(doc.getDocFile().getAbsolutePath());
+
+        out.writeInt(doc.getSections().size());
+        for (Section s : doc.getSections()) {
+            out.writeUTF(s.getAnnotation().toString());
+            out.writeInt(s.getParagraphs().size());
+            for (Paragraph p : s.getParagraphs()) {
+                out.writeInt(p.getSentences().size());
+                for (Sentence sen : p.getSentences()) {
+                    out.writeInt(sen.getTerms().size());
+                    for (Term t : sen.getTerms()) {
+                        TermDocumentDeSerializationUtil.fastSerializeTerm(t, out);
+                    }
+                }
+            }
+        }
+
+        out.writeInt(doc.getAuthors().size());
+        for (Author a : doc.getAuthors()) {
+            out.writeUTF(a.getFirstName());
+            out.writeUTF(a.getLastName());
+        }
+        out.writeInt(doc.getSources().size());
+        for (DocumentSource src : doc.getSources()) {
+            out.writeUTF(src.getSourceName());
+        }
+        out.writeInt(doc.getCategories().size());
+        for (DocumentCategory cat : doc.getCategories()) {
+            out.writeUTF(cat.getCategoryName());
+        }
+
+        out.writeInt(doc.getPubDate().getYear());
+        out.writeInt(doc.getPubDate().getMonth());
+        out.writeInt(doc.getPubDate().getDay());
+
+        final DocumentMetaInfo metaInfo = doc.getMetaInformation();
+        out.writeInt(metaInfo.size());
+        for (String key : metaInfo.getMetaInfoKeys()) {
+            out.writeUTF(key);
+            out.writeUTF(metaInfo.getMetaInfoValue(key));
+        }
+    }
+}
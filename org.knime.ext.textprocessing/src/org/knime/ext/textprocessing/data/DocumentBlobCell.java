@@ -47,8 +47,8 @@
  */
 package org.knime.ext.textprocessing.data;
 
+import java.io.DataOutput;
 import java.io.IOException;
-import java.io.OutputStream;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataCellDataInput;
@@ -157,7 +157,9 @@ public Document getDocument() {
     }
 
     /**
-     * Factory for (de-)serializing a DocumentBlobCell.
+     * Factory for (de-)serializing a DocumentBlobCell. Documents are serialized in fast binary form (see
+     * {@link TermDocumentDeSerializationUtil#fastSerializeDocument(Document, DataOutput)}), documents serialized by
+     * Java serialization in previous versions can still be deserialized.
      *
      * @noreference This class is not intended to be referenced by clients.
      */
@@ -177,11 +179,11 @@ public DocumentBlobCell deserialize(final DataCellDataInput input)
         @Override
         public void serialize(final DocumentBlobCell cell,
                 final DataCellDataOutput output) throws IOException {
-            cell.serializeDocument((OutputStream)output);
+            cell.serializeDocument(output);
         }
     }
 
-    private void serializeDocument(final OutputStream out) throws IOException {
-        TermDocumentDeSerializationUtil.serializeDocument(m_document, out);
+    private void serializeDocument(final DataOutput out) throws IOException {
+        TermDocumentDeSerializationUtil.fastSerializeDocument(m_document, out);
     }
 }
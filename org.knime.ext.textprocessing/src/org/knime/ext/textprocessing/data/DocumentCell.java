@@ -47,8 +47,8 @@
  */
 package org.knime.ext.textprocessing.data;
 
+import java.io.DataOutput;
 import java.io.IOException;
-import java.io.OutputStream;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataCellDataInput;
@@ -156,7 +156,9 @@ public Document getDocument() {
     }
 
     /**
-     * Factory for (de-)serializing a DocumentCell.
+     * Factory for (de-)serializing a DocumentCell. Documents are serialized in fast binary form (see
+     * {@link TermDocumentDeSerializationUtil#fastSerializeDocument(Document, DataOutput)}), documents serialized by
+     * Java serialization in previous versions can still be deserialized.
      *
      * @noreference This class is not intended to be referenced by clients.
      */
@@ -167,8 +169,7 @@ public static final class DocumentSerializer implements DataCellSerializer<Docum
         @Override
         public DocumentCell deserialize(final DataCellDataInput input)
                 throws IOException {
-            return new DocumentCell(TermDocumentDeSerializationUtil
-                    .fastDeserializeDocument((input)));
+            return new DocumentCell(TermDocumentDeSerializationUtil.readDocument(input));
         }
 
         /**
@@ -177,11 +178,11 @@ public DocumentCell deserialize(final DataCellDataInput input)
         @Override
         public void serialize(final DocumentCell cell,
                 final DataCellDataOutput output) throws IOException {
-            cell.serializeDocument((OutputStream)output);
+            cell.serializeDocument(output);
         }
     }
 
-    private void serializeDocument(final OutputStream out) throws IOException {
-        TermDocumentDeSerializationUtil.serializeDocument(m_document, out);
+    private void serializeDocument(final DataOutput out) throws IOException {
+        TermDocumentDeSerializationUtil.fastSerializeDocument(m_document, out);
     }
 }
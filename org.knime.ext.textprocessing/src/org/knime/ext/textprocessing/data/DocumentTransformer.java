@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Applies a sentence-wise transformation to a {@link Document} while sharing all unchanged structure of the input
+ * document. Since sentences, paragraphs and sections are immutable, only the sentences returned as new instances by
+ * the transformation, and the paragraphs and sections containing them, are rebuilt. All other sentences, paragraphs
+ * and sections are reused as they are. If the transformation did not change any sentence the input document instance
+ * itself is returned, which allows callers to pass the corresponding data cell through without re-serializing it.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class DocumentTransformer {
+
+    private DocumentTransformer() {
+        // utility class
+    }
+
+    /**
+     * Applies the given transformation to all sentences of the given document. The transformation has to return the
+     * given sentence instance if it did not change it, a new sentence instance if it did change it, or {@code null}
+     * if the sentence is to be removed. Paragraphs and sections that become empty by removing sentences are removed
+     * as well, equivalent to building the document with a {@link DocumentBuilder}.
+     *
+     * @param doc The document to transform.
+     * @param transformation The sentence transformation to apply.
+     * @return The given document instance if no sentence has been changed or removed, otherwise a new document
+     *         containing the meta information of the given document and the transformed sections.
+     */
+    public static Document transformSentences(final Document doc, final UnaryOperator<Sentence> transformation) {
+        final List<Section> sections = doc.getSections();
+        List<Section> newSections = null;
+        for (int i = 0; i < sections.size(); i++) {
+            final Section section = sections.get(i);
+            final Section newSection = transformSection(section, transformation);
+            if (newSections == null && newSection != section) {
+                // first changed section, copy all unchanged predecessors
+                newSections = new ArrayList<>(sections.size());
+                newSections.addAll(sections.subList(0, i));
+            }
+            if (newSections != null && newSection != null) {
+                newSections.add(newSection);
+            }
+        }
+
+        if (newSections == null) {
+            return doc;
+        }
+        return DocumentBuilder.createDocument(newSections, doc.getType(), doc.getAuthors(), doc.getSources(),
+            doc.getCategories(), doc.getPubDate(), doc.getDocFile(), doc.getMetaInformation());
+    }
+
+    private static Section transformSection(final Section section, final UnaryOperator<Sentence> transformation) {
+        final List<Paragraph> paragraphs = section.getParagraphs();
+        List<Paragraph> newParagraphs = null;
+        for (int i = 0; i < paragraphs.size(); i++) {
+            final Paragraph paragraph = paragraphs.get(i);
+            final Paragraph newParagraph = transformParagraph(paragraph, transformation);
+            if (newParagraphs == null && newParagraph != paragraph) {
+                newParagraphs = new ArrayList<>(paragraphs.size());
+                newParagraphs.addAll(paragraphs.subList(0, i));
+            }
+            if (newParagraphs != null && newParagraph != null) {
+                newParagraphs.add(newParagraph);
+            }
+        }
+
+        if (newParagraphs == null) {
+            return section;
+        } else if (newParagraphs.isEmpty()) {
+            return null;
+        }
+        return new Section(newParagraphs, section.getAnnotation());
+    }
+
+    private static Paragraph transformParagraph(final Paragraph paragraph,
+        final UnaryOperator<Sentence> transformation) {
+        final List<Sentence> sentences = paragraph.getSentences();
+        List<Sentence> newSentences = null;
+        for (int i = 0; i < sentences.size(); i++) {
+            final Sentence sentence = sentences.get(i);
+            final Sentence newSentence = transformation.apply(sentence);
+            if (newSentences == null && newSentence != sentence) {
+                newSentences = new ArrayList<>(sentences.size());
+                newSentences.addAll(sentences.subList(0, i));
+            }
+            if (newSentences != null && newSentence != null) {
+                newSentences.add(newSentence);
+            }
+        }
+
+        if (newSentences == null) {
+            return paragraph;
+        } else if (newSentences.isEmpty()) {
+            return null;
+        }
+        return new Paragraph(newSentences);
+    }
+}
@@ -48,6 +48,7 @@
 package org.knime.ext.textprocessing.data;
 
 import java.util.Objects;
+import java.util.UUID;
 
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
@@ -67,6 +68,17 @@ public interface DocumentValue extends DataValue {
      */
     Document getDocument();
 
+    /**
+     * Returns the UUID of the document. Values that store the document serialized should override this method to
+     * return the UUID without deserializing the document.
+     *
+     * @return The UUID of the document.
+     * @since 3.8
+     */
+    default UUID getDocumentUUID() {
+        return getDocument().getUUID();
+    }
+
     /**
      * Meta information to this value type.
      *
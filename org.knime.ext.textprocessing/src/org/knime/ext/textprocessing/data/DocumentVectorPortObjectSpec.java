@@ -76,6 +76,8 @@ public class DocumentVectorPortObjectSpec extends AbstractSimplePortObjectSpec {
 
     private static String FEATURE_SPACE_COLUMNS = "featureSpaceColumns";
 
+    private static String SPARSE_VECTOR = "sparseVector";
+
     private boolean m_ignoreTags;
 
     private boolean m_bitVector;
@@ -86,6 +88,8 @@ public class DocumentVectorPortObjectSpec extends AbstractSimplePortObjectSpec {
 
     private String[] m_featureSpaceColumns;
 
+    private boolean m_sparseVector = false;
+
     /**
      * The (empty) serializer. Values will be saved and loaded via
      * {@link DocumentVectorPortObjectSpec#load(ModelContentRO)} and
@@ -121,6 +125,24 @@ public DocumentVectorPortObjectSpec(final boolean ignoreTags, final boolean bitV
         m_featureSpaceColumns = featureSpaceColumns;
     }
 
+    /**
+     * Creates a new instance of {@code DocumentVectorPortObjectSpec} that contains information about vector creation of
+     * Document Vector node, as well as feature space column names.
+     *
+     * @param ignoreTags The boolean value of the ignore tags setting.
+     * @param bitVector The boolean value of the bitvector setting.
+     * @param vectorValue The name of the column containing feature vector values.
+     * @param asCollectionCell The boolean value of the collection cell setting.
+     * @param sparseVector The boolean value of the sparse vector setting.
+     * @param featureSpaceColumns The names of the feature space columns.
+     * @since 3.8
+     */
+    public DocumentVectorPortObjectSpec(final boolean ignoreTags, final boolean bitVector, final String vectorValue,
+        final boolean asCollectionCell, final boolean sparseVector, final String[] featureSpaceColumns) {
+        this(ignoreTags, bitVector, vectorValue, asCollectionCell, featureSpaceColumns);
+        m_sparseVector = sparseVector;
+    }
+
     /**
      * @return Returns the value of the ignore tags setting.
      */
@@ -149,6 +171,14 @@ public boolean getCollectionCellSetting() {
         return m_asCollectionCell;
     }
 
+    /**
+     * @return Returns the value of the sparse vector setting.
+     * @since 3.8
+     */
+    public boolean getSparseVectorSetting() {
+        return m_sparseVector;
+    }
+
     /**
      * @return Returns the names of the feature space columns.
      */
@@ -183,7 +213,8 @@ public JComponent[] getViews() {
         htmlText.append("<tr class=\"odd\"><td>Vector Value</td><td>").append(m_vectorValue).append("</td></tr>\n");
         htmlText.append("<tr class=\"even\"><td>As Collection Cell</td><td>").append(m_asCollectionCell)
             .append("</td></tr>\n");
-        htmlText.append("<tr class=\"odd\"><td>Feature Space Columns</td><td>")
+        htmlText.append("<tr class=\"odd\"><td>Sparse Vector</td><td>").append(m_sparseVector).append("</td></tr>\n");
+        htmlText.append("<tr class=\"even\"><td>Feature Space Columns</td><td>")
             .append(String.join(" | ", m_featureSpaceColumns)).append("</td></tr>\n");
         htmlText.append("</table></body></html>");
         JEditorPane tablePane = new JEditorPane("text/html", "");
@@ -205,6 +236,7 @@ protected void save(final ModelContentWO model) {
         model.addString("vectorValue", getVectorValueColumnName());
         model.addBoolean("asCollectionCell", getCollectionCellSetting());
         model.addStringArray("featureSpaceColumns", getFeatureSpaceColumns());
+        model.addBoolean(SPARSE_VECTOR, getSparseVectorSetting());
     }
 
     /**
@@ -217,6 +249,8 @@ protected void load(final ModelContentRO model) throws InvalidSettingsException
         m_vectorValue = model.getString(VECTOR_VALUE);
         m_asCollectionCell = model.getBoolean(AS_COLLECTION_CELL);
         m_featureSpaceColumns = model.getStringArray(FEATURE_SPACE_COLUMNS);
+        // sparse vectors are not contained in models of older versions
+        m_sparseVector = model.getBoolean(SPARSE_VECTOR, false);
     }
 
 }
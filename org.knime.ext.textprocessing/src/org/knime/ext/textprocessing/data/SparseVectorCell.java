@@ -0,0 +1,219 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.data;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellDataInput;
+import org.knime.core.data.DataCellDataOutput;
+import org.knime.core.data.DataCellSerializer;
+import org.knime.core.data.DataType;
+import org.knime.ext.textprocessing.util.TermDocumentDeSerializationUtil;
+
+/**
+ * A data cell implementation holding a sparse numeric vector. Only the indices and values of the non zero entries are
+ * stored, in primitive arrays, thus the memory and the serialized size of the cell depend on the number of non zero
+ * entries, not on the length of the vector. Indices are serialized delta encoded as variable length integers.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class SparseVectorCell extends DataCell implements SparseVectorValue {
+
+    private static final long serialVersionUID = 3361512095364398815L;
+
+    /**
+     * Convenience access member for <code>DataType.getType(SparseVectorCell.class)</code>.
+     *
+     * @see DataType#getType(Class)
+     */
+    public static final DataType TYPE = DataType.getType(SparseVectorCell.class);
+
+    private final int m_length;
+
+    private final int[] m_indices;
+
+    private final double[] m_values;
+
+    /**
+     * Creates a new instance of {@code SparseVectorCell}. The given arrays are not copied and must not be modified
+     * afterwards.
+     *
+     * @param length The length of the vector.
+     * @param indices The strictly ascending indices of the non zero entries.
+     * @param values The values of the non zero entries.
+     * @param nonZeros The number of non zero entries, i.e. the number of valid elements of the given arrays.
+     */
+    public SparseVectorCell(final int length, final int[] indices, final double[] values, final int nonZeros) {
+        if (nonZeros > indices.length || nonZeros > values.length) {
+            throw new IllegalArgumentException("Number of non zero entries exceeds the number of indices or values.");
+        }
+        for (int k = 0; k < nonZeros; k++) {
+            if (indices[k] < 0 || indices[k] >= length || (k > 0 && indices[k] <= indices[k - 1])) {
+                throw new IllegalArgumentException("Indices must be strictly ascending and within vector length.");
+            }
+        }
+        m_length = length;
+        m_indices = nonZeros == indices.length ? indices : Arrays.copyOf(indices, nonZeros);
+        m_values = nonZeros == values.length ? values : Arrays.copyOf(values, nonZeros);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLength() {
+        return m_length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumberOfNonZeros() {
+        return m_indices.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getIndex(final int k) {
+        return m_indices[k];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValueAt(final int k) {
+        return m_values[k];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValue(final int index) {
+        final int k = Arrays.binarySearch(m_indices, index);
+        return k < 0 ? 0 : m_values[k];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean equalsDataCell(final DataCell dc) {
+        final SparseVectorCell v = (SparseVectorCell)dc;
+        return m_length == v.m_length && Arrays.equals(m_indices, v.m_indices) && Arrays.equals(m_values, v.m_values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * m_length + Arrays.hashCode(m_indices)) + Arrays.hashCode(m_values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(m_length).append(" {");
+        for (int k = 0; k < m_indices.length; k++) {
+            if (k > 0) {
+                sb.append(", ");
+            }
+            sb.append(m_indices[k]).append('=').append(m_values[k]);
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Serializer for {@link SparseVectorCell}s.
+     */
+    public static final class SparseVectorSerializer implements DataCellSerializer<SparseVectorCell> {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public SparseVectorCell deserialize(final DataCellDataInput input) throws IOException {
+            final int length = TermDocumentDeSerializationUtil.readVarInt(input);
+            final int nonZeros = TermDocumentDeSerializationUtil.readVarInt(input);
+            final int[] indices = new int[nonZeros];
+            final double[] values = new double[nonZeros];
+            int index = -1;
+            for (int k = 0; k < nonZeros; k++) {
+                index += TermDocumentDeSerializationUtil.readVarInt(input) + 1;
+                indices[k] = index;
+                values[k] = input.readDouble();
+            }
+            return new SparseVectorCell(length, indices, values, nonZeros);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void serialize(final SparseVectorCell cell, final DataCellDataOutput output) throws IOException {
+            TermDocumentDeSerializationUtil.writeVarInt(cell.m_length, output);
+            TermDocumentDeSerializationUtil.writeVarInt(cell.m_indices.length, output);
+            int prev = -1;
+            for (int k = 0; k < cell.m_indices.length; k++) {
+                TermDocumentDeSerializationUtil.writeVarInt(cell.m_indices[k] - prev - 1, output);
+                output.writeDouble(cell.m_values[k]);
+                prev = cell.m_indices[k];
+            }
+        }
+    }
+}
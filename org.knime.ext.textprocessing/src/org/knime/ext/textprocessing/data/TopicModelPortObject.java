@@ -0,0 +1,413 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.data;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+
+import javax.swing.JComponent;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortObjectZipInputStream;
+import org.knime.core.node.port.PortObjectZipOutputStream;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.port.PortTypeRegistry;
+import org.knime.core.node.util.CheckUtils;
+
+import gnu.trove.TObjectIntHashMap;
+
+/**
+ * The {@code TopicModelPortObject} holds a trained LDA topic model, i.e. the vocabulary, the hyperparameters and the
+ * topic-word weights, to infer the topics of new documents without retraining. The weights of a word and topic are the
+ * (expected) number of times the word has been assigned to the topic, not including the prior {@link #getBeta()}.
+ * <p>
+ * The model is immutable and may be used by several threads concurrently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class TopicModelPortObject implements PortObject {
+
+    /**
+     * Define port type of objects of this class when used as PortObjects.
+     */
+    public static final PortType TYPE = PortTypeRegistry.getInstance().getPortType(TopicModelPortObject.class);
+
+    /**
+     * Define optional port type of objects of this class when used as PortObjects.
+     */
+    public static final PortType TYPE_OPTIONAL =
+        PortTypeRegistry.getInstance().getPortType(TopicModelPortObject.class, true);
+
+    /** Serializer as required by extension point. */
+    public static final class Serializer extends PortObject.PortObjectSerializer<TopicModelPortObject> {
+
+        /** The name of the zip entry to write the model to. */
+        private static final String MODEL_ENTRY_NAME = "topicmodel.bin";
+
+        private static final int VERSION = 1;
+
+        /* Marks a word whose weights are written for all topics, since most of them are not zero. */
+        private static final int DENSE = -1;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void savePortObject(final TopicModelPortObject portObject, final PortObjectZipOutputStream out,
+            final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+            out.putNextEntry(new ZipEntry(MODEL_ENTRY_NAME));
+            final DataOutputStream dataOut = new DataOutputStream(out);
+            final int noOfTopics = portObject.m_alpha.length;
+            dataOut.writeInt(VERSION);
+            dataOut.writeInt(noOfTopics);
+            dataOut.writeInt(portObject.m_vocabulary.length);
+            dataOut.writeDouble(portObject.m_beta);
+            for (final double alpha : portObject.m_alpha) {
+                dataOut.writeDouble(alpha);
+            }
+            for (final String word : portObject.m_vocabulary) {
+                writeString(word, dataOut);
+            }
+            // sampled models assign most words to a few topics, thus only their non-zero weights are written (topic
+            // and weight), the weights of variational models are usually all non-zero and written completely
+            final double[] weights = portObject.m_weights;
+            for (int w = 0; w < portObject.m_vocabulary.length; w++) {
+                exec.checkCanceled();
+                final int offset = w * noOfTopics;
+                int nonZeros = 0;
+                for (int k = 0; k < noOfTopics; k++) {
+                    if (weights[offset + k] != 0) {
+                        nonZeros++;
+                    }
+                }
+                // a non-zero weight takes 12 bytes, a weight of a completely written word 8
+                if (3L * nonZeros >= 2L * noOfTopics) {
+                    dataOut.writeInt(DENSE);
+                    for (int k = 0; k < noOfTopics; k++) {
+                        dataOut.writeDouble(weights[offset + k]);
+                    }
+                    continue;
+                }
+                dataOut.writeInt(nonZeros);
+                for (int k = 0; k < noOfTopics; k++) {
+                    if (weights[offset + k] != 0) {
+                        dataOut.writeInt(k);
+                        dataOut.writeDouble(weights[offset + k]);
+                    }
+                }
+            }
+            dataOut.writeLong(portObject.m_noOfUpdates);
+            dataOut.flush();
+            out.closeEntry();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public TopicModelPortObject loadPortObject(final PortObjectZipInputStream in, final PortObjectSpec spec,
+            final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+            in.getNextEntry();
+            final DataInputStream dataIn = new DataInputStream(new BufferedInputStream(in));
+            final int version = dataIn.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported topic model version " + version);
+            }
+            final int noOfTopics = dataIn.readInt();
+            final String[] vocabulary = new String[dataIn.readInt()];
+            final double beta = dataIn.readDouble();
+            final double[] alpha = new double[noOfTopics];
+            for (int k = 0; k < noOfTopics; k++) {
+                alpha[k] = dataIn.readDouble();
+            }
+            for (int w = 0; w < vocabulary.length; w++) {
+                vocabulary[w] = readString(dataIn);
+            }
+            final double[] weights;
+            try {
+                weights = new double[getNoOfWeights(vocabulary.length, noOfTopics)];
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+            for (int w = 0; w < vocabulary.length; w++) {
+                exec.checkCanceled();
+                final int nonZeros = dataIn.readInt();
+                if (nonZeros == DENSE) {
+                    for (int k = 0; k < noOfTopics; k++) {
+                        weights[w * noOfTopics + k] = dataIn.readDouble();
+                    }
+                    continue;
+                }
+                for (int i = 0; i < nonZeros; i++) {
+                    final int k = dataIn.readInt();
+                    weights[w * noOfTopics + k] = dataIn.readDouble();
+                }
+            }
+            final long noOfUpdates = dataIn.readLong();
+            return new TopicModelPortObject(vocabulary, alpha, beta, weights, noOfUpdates);
+        }
+
+        /**
+         * Writes the length of the UTF-8 encoding of the given string followed by the encoding. Unlike
+         * {@link DataOutputStream#writeUTF(String)} the encoding is not limited to 65535 bytes.
+         */
+        private static void writeString(final String str, final DataOutputStream out) throws IOException {
+            final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private static String readString(final DataInputStream in) throws IOException {
+            final int length = in.readInt();
+            if (length < 0) {
+                throw new IOException("Invalid string length " + length);
+            }
+            final byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /* The maximal size of an array supported by the JVMs. */
+    private static final int MAX_NO_OF_WEIGHTS = Integer.MAX_VALUE - 8;
+
+    private final TopicModelPortObjectSpec m_spec;
+
+    private final String[] m_vocabulary;
+
+    /** Maps a word to its index + 1. */
+    private final TObjectIntHashMap<String> m_wordIndices;
+
+    private final double[] m_alpha;
+
+    private final double m_beta;
+
+    /** The topic-word weights, indexed by word * number of topics + topic. */
+    private final double[] m_weights;
+
+    private final double[] m_topicWeights;
+
+    private final long m_noOfUpdates;
+
+    /**
+     * Creates a new instance of {@code TopicModelPortObject}. The arrays are not copied and must not be modified
+     * afterwards.
+     *
+     * @param vocabulary The distinct words of the model.
+     * @param alpha The Dirichlet prior on the per-document topic distributions, one value per topic.
+     * @param beta The Dirichlet prior on the per-topic word distributions.
+     * @param weights The topic-word weights, indexed by word index * number of topics + topic index.
+     */
+    public TopicModelPortObject(final String[] vocabulary, final double[] alpha, final double beta,
+        final double[] weights) {
+        this(vocabulary, alpha, beta, weights, 0);
+    }
+
+    /**
+     * Creates a new instance of {@code TopicModelPortObject} of an incrementally trained model. The arrays are not
+     * copied and must not be modified afterwards.
+     *
+     * @param vocabulary The distinct words of the model.
+     * @param alpha The Dirichlet prior on the per-document topic distributions, one value per topic.
+     * @param beta The Dirichlet prior on the per-topic word distributions.
+     * @param weights The topic-word weights, indexed by word index * number of topics + topic index.
+     * @param noOfUpdates The number of mini-batch updates the model has been trained with, used to continue the
+     *            learning rate schedule when the training is resumed.
+     */
+    public TopicModelPortObject(final String[] vocabulary, final double[] alpha, final double beta,
+        final double[] weights, final long noOfUpdates) {
+        CheckUtils.checkArgument(alpha.length > 0, "The number of topics must be positive");
+        CheckUtils.checkArgument(weights.length == (long)vocabulary.length * alpha.length,
+            "Expected %s topic-word weights but got %s", (long)vocabulary.length * alpha.length, weights.length);
+        m_vocabulary = vocabulary;
+        m_alpha = alpha;
+        m_beta = beta;
+        m_weights = weights;
+        m_noOfUpdates = noOfUpdates;
+        m_wordIndices = new TObjectIntHashMap<>(vocabulary.length);
+        for (int w = 0; w < vocabulary.length; w++) {
+            m_wordIndices.put(vocabulary[w], w + 1);
+        }
+        m_topicWeights = new double[alpha.length];
+        double alphaSum = 0;
+        for (int k = 0; k < alpha.length; k++) {
+            alphaSum += alpha[k];
+        }
+        for (int i = 0; i < weights.length; i++) {
+            m_topicWeights[i % alpha.length] += weights[i];
+        }
+        m_spec = new TopicModelPortObjectSpec(alpha.length, vocabulary.length, alphaSum, beta);
+    }
+
+    /**
+     * Returns the number of topic-word weights of a model with the given vocabulary size and number of topics, which
+     * is the size of the array of the weights.
+     *
+     * @param vocabularySize The number of words of the vocabulary.
+     * @param noOfTopics The number of topics.
+     * @return The number of topic-word weights.
+     * @throws IllegalArgumentException If the number of weights exceeds the maximal size of an array.
+     */
+    public static int getNoOfWeights(final int vocabularySize, final int noOfTopics) {
+        final long noOfWeights = Math.multiplyExact((long)vocabularySize, (long)noOfTopics);
+        if (noOfWeights > MAX_NO_OF_WEIGHTS) {
+            throw new IllegalArgumentException(String.format(
+                "The topic model of %d words and %d topics exceeds the maximal number of %d topic-word weights, please"
+                    + " reduce the vocabulary size or the number of topics.",
+                vocabularySize, noOfTopics, MAX_NO_OF_WEIGHTS));
+        }
+        return (int)noOfWeights;
+    }
+
+    /**
+     * @return The number of topics.
+     */
+    public int getNoOfTopics() {
+        return m_alpha.length;
+    }
+
+    /**
+     * @return The number of words of the vocabulary.
+     */
+    public int getVocabularySize() {
+        return m_vocabulary.length;
+    }
+
+    /**
+     * @param wordIndex The index of a word.
+     * @return The word with the given index.
+     */
+    public String getWord(final int wordIndex) {
+        return m_vocabulary[wordIndex];
+    }
+
+    /**
+     * @param word The word.
+     * @return The index of the word or -1 if the word is not part of the vocabulary.
+     */
+    public int getWordIndex(final String word) {
+        return m_wordIndices.get(word) - 1;
+    }
+
+    /**
+     * @param topic The index of the topic.
+     * @return The Dirichlet prior of the topic.
+     */
+    public double getAlpha(final int topic) {
+        return m_alpha[topic];
+    }
+
+    /**
+     * @return The Dirichlet prior on the per-topic word distributions.
+     */
+    public double getBeta() {
+        return m_beta;
+    }
+
+    /**
+     * @param wordIndex The index of the word.
+     * @param topic The index of the topic.
+     * @return The weight of the word in the topic.
+     */
+    public double getWeight(final int wordIndex, final int topic) {
+        return m_weights[wordIndex * m_alpha.length + topic];
+    }
+
+    /**
+     * @param topic The index of the topic.
+     * @return The sum of the weights of all words in the topic.
+     */
+    public double getTopicWeight(final int topic) {
+        return m_topicWeights[topic];
+    }
+
+    /**
+     * @return The number of mini-batch updates the model has been trained with, 0 if it has not been trained
+     *         incrementally.
+     */
+    public long getNoOfUpdates() {
+        return m_noOfUpdates;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSummary() {
+        return String.format("Topic Model (%d topics, %d words)", getNoOfTopics(), getVocabularySize());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TopicModelPortObjectSpec getSpec() {
+        return m_spec;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JComponent[] getViews() {
+        return new JComponent[] {};
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+}
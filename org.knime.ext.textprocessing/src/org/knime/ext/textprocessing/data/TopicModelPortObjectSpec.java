@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.data;
+
+import javax.swing.JComponent;
+import javax.swing.JEditorPane;
+import javax.swing.JScrollPane;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.ModelContentRO;
+import org.knime.core.node.ModelContentWO;
+import org.knime.core.node.port.AbstractSimplePortObjectSpec;
+
+/**
+ * The {@code TopicModelPortObjectSpec} describes a {@link TopicModelPortObject}, i.e. the number of topics, the size
+ * of the vocabulary and the hyperparameters of the topic model.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class TopicModelPortObjectSpec extends AbstractSimplePortObjectSpec {
+
+    private int m_noOfTopics;
+
+    private int m_vocabularySize;
+
+    private double m_alphaSum;
+
+    private double m_beta;
+
+    /**
+     * The (empty) serializer. Values will be saved and loaded via {@link TopicModelPortObjectSpec#load(ModelContentRO)}
+     * and {@link TopicModelPortObjectSpec#save(ModelContentWO)}
+     */
+    public static final class Serializer extends AbstractSimplePortObjectSpecSerializer<TopicModelPortObjectSpec> {
+    }
+
+    /**
+     * Empty constructor. Needed for loading.
+     */
+    public TopicModelPortObjectSpec() {
+    }
+
+    /**
+     * Creates a new instance of {@code TopicModelPortObjectSpec}.
+     *
+     * @param noOfTopics The number of topics.
+     * @param vocabularySize The number of words of the vocabulary or -1 if not yet known.
+     * @param alphaSum The sum of the Dirichlet prior on the per-document topic distributions.
+     * @param beta The Dirichlet prior on the per-topic word distributions.
+     */
+    public TopicModelPortObjectSpec(final int noOfTopics, final int vocabularySize, final double alphaSum,
+        final double beta) {
+        m_noOfTopics = noOfTopics;
+        m_vocabularySize = vocabularySize;
+        m_alphaSum = alphaSum;
+        m_beta = beta;
+    }
+
+    /**
+     * @return The number of topics.
+     */
+    public int getNoOfTopics() {
+        return m_noOfTopics;
+    }
+
+    /**
+     * @return The number of words of the vocabulary or -1 if not yet known, i.e. before the model has been trained.
+     */
+    public int getVocabularySize() {
+        return m_vocabularySize;
+    }
+
+    /**
+     * @return The sum of the Dirichlet prior on the per-document topic distributions.
+     */
+    public double getAlphaSum() {
+        return m_alphaSum;
+    }
+
+    /**
+     * @return The Dirichlet prior on the per-topic word distributions.
+     */
+    public double getBeta() {
+        return m_beta;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JComponent[] getViews() {
+        StringBuilder htmlText = new StringBuilder();
+        htmlText.append("<html>\n");
+        htmlText.append("<head>\n");
+        htmlText.append("<style type=\"text/css\">\n");
+        htmlText.append("body {color:#333333;}");
+        htmlText.append("table {width: 100%;margin: 7px 0 7px 0;}");
+        htmlText.append("th {font-weight: bold;background-color: #aaccff;"
+                + "vertical-align: bottom;}");
+        htmlText.append("td {padding: 4px 10px 4px 10px;}");
+        htmlText.append("th {padding: 4px 10px 4px 10px;}");
+        htmlText.append(".left {text-align: left}");
+        htmlText.append(".odd {background-color:#ddeeff;}");
+        htmlText.append(".even {background-color:#ffffff;}");
+        htmlText.append("</style>\n");
+        htmlText.append("</head>\n");
+
+        htmlText.append("<body><table>\n");
+        htmlText.append("<tr><th class=\"left\">Parameter</th><th class=\"left\">Value</th></tr>\n");
+        htmlText.append("<tr class=\"odd\"><td>Topics</td><td>").append(m_noOfTopics).append("</td></tr>\n");
+        htmlText.append("<tr class=\"even\"><td>Vocabulary Size</td><td>")
+            .append(m_vocabularySize < 0 ? "?" : Integer.toString(m_vocabularySize)).append("</td></tr>\n");
+        htmlText.append("<tr class=\"odd\"><td>Alpha</td><td>").append(m_alphaSum / Math.max(1, m_noOfTopics))
+            .append("</td></tr>\n");
+        htmlText.append("<tr class=\"even\"><td>Beta</td><td>").append(m_beta).append("</td></tr>\n");
+        htmlText.append("</table></body></html>");
+        JEditorPane tablePane = new JEditorPane("text/html", "");
+        tablePane.setEditable(false);
+        tablePane.setText(htmlText.toString());
+
+        JComponent component = new JScrollPane(tablePane);
+        component.setName("Topic Model");
+        return new JComponent[] {component};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void save(final ModelContentWO model) {
+        model.addInt("noOfTopics", m_noOfTopics);
+        model.addInt("vocabularySize", m_vocabularySize);
+        model.addDouble("alphaSum", m_alphaSum);
+        model.addDouble("beta", m_beta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void load(final ModelContentRO model) throws InvalidSettingsException {
+        m_noOfTopics = model.getInt("noOfTopics");
+        m_vocabularySize = model.getInt("vocabularySize");
+        m_alphaSum = model.getDouble("alphaSum");
+        m_beta = model.getDouble("beta");
+    }
+}
@@ -74,6 +74,10 @@ public final class VectorHashingPortObjectSpec extends AbstractSimplePortObjectS
 
     private String m_vectVal;
 
+    private boolean m_signed = false;
+
+    private int m_numberOfHashes = 1;
+
     /**
      * The (empty) serializer. Values will be saved and loaded via
      * {@link VectorHashingPortObjectSpec#load(ModelContentRO)} and
@@ -100,10 +104,29 @@ public VectorHashingPortObjectSpec() {
      * @param vectVal The type of value that is stored in the vector (binary, tf-rel, tf-abs).
      */
     public VectorHashingPortObjectSpec(final int dim, final int seed, final String hashFunc, final String vectVal) {
+        this(dim, seed, hashFunc, vectVal, false, 1);
+    }
+
+    /**
+     * Creates a new instance of {@code VectorHashingPortObjectSpec} that contains information about vector creation of
+     * the Document vector hashing node.
+     *
+     * @param dim The dimension of the vector
+     * @param seed The seed.
+     * @param hashFunc The hashing function
+     * @param vectVal The type of value that is stored in the vector (binary, tf-rel, tf-abs).
+     * @param signed {@code true} if a hash bit decides whether a term occurrence adds +1 or -1.
+     * @param numberOfHashes The number of indices each term is hashed to.
+     * @since 3.8
+     */
+    public VectorHashingPortObjectSpec(final int dim, final int seed, final String hashFunc, final String vectVal,
+        final boolean signed, final int numberOfHashes) {
         m_dim = dim;
         m_seed = seed;
         m_hashFunc = hashFunc;
         m_vectVal = vectVal;
+        m_signed = signed;
+        m_numberOfHashes = numberOfHashes;
     }
 
     /**
@@ -134,6 +157,22 @@ public String getVectVal() {
         return m_vectVal;
     }
 
+    /**
+     * @return Returns {@code true} if a hash bit decides whether a term occurrence adds +1 or -1.
+     * @since 3.8
+     */
+    public boolean isSigned() {
+        return m_signed;
+    }
+
+    /**
+     * @return Returns the number of indices each term is hashed to.
+     * @since 3.8
+     */
+    public int getNumberOfHashes() {
+        return m_numberOfHashes;
+    }
+
     /** {@inheritDoc} */
     @Override
     public JComponent[] getViews() {
@@ -161,6 +200,9 @@ public JComponent[] getViews() {
         htmlText.append("<tr class=\"even\"><td>Seed</td><td>").append(m_seed).append("</td></tr>\n");
         htmlText.append("<tr class=\"odd\"><td>Hash Function</td><td>").append(m_hashFunc).append("</td></tr>\n");
         htmlText.append("<tr class=\"even\"><td>Vector Value</td><td>").append(m_vectVal).append("</td></tr>\n");
+        htmlText.append("<tr class=\"odd\"><td>Signed Hashing</td><td>").append(m_signed).append("</td></tr>\n");
+        htmlText.append("<tr class=\"even\"><td>Hashes per Term</td><td>").append(m_numberOfHashes)
+            .append("</td></tr>\n");
         htmlText.append("</table></body></html>");
         JEditorPane tablePane = new JEditorPane("text/html", "");
         tablePane.setEditable(false);
@@ -180,6 +222,8 @@ protected void save(final ModelContentWO model) {
         model.addInt("seed", getSeed());
         model.addString("hashFunc", getHashFunc());
         model.addString("vectorVal", getVectVal());
+        model.addBoolean("signed", isSigned());
+        model.addInt("numberOfHashes", getNumberOfHashes());
 
     }
 
@@ -192,6 +236,9 @@ protected void load(final ModelContentRO model) throws InvalidSettingsException
         m_seed = model.getInt("seed");
         m_hashFunc = model.getString("hashFunc");
         m_vectVal = model.getString("vectorVal");
+        // added in 3.8, older models use a single unsigned hash
+        m_signed = model.getBoolean("signed", false);
+        m_numberOfHashes = model.getInt("numberOfHashes", 1);
     }
 
 }
@@ -46,14 +46,11 @@
  */
 package org.knime.ext.textprocessing.data.filestore;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -65,7 +62,6 @@
 import org.knime.core.data.filestore.FileStore;
 import org.knime.core.data.filestore.FileStoreCell;
 import org.knime.core.node.NodeLogger;
-import org.knime.core.util.LRUCache;
 import org.knime.ext.textprocessing.data.Document;
 import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.util.TermDocumentDeSerializationUtil;
@@ -75,8 +71,8 @@
  * file, and the length and uuid of the document. The deserialization of a document from the file store file is already
  * implemented, as well as all basic cell methods, such as toString(), hashCode(), getSstringValue(), and
  * getDocumentValue(). Deserialized documents are cached in order to avoid multiple deserialization of the same
- * document. Furthermore it provides static methods for the serialization of a document into a byte array, and vice
- * versa.
+ * document (see {@link DocumentCache}). Furthermore it provides static methods for the serialization of a document
+ * into a byte array, and vice versa.
  *
  * Classes extending this class need to implement the serialization of the document (or its byte array) into the file
  * store file.
@@ -92,12 +88,6 @@ abstract class AbstractDocumentFileStoreCell extends FileStoreCell implements Do
     /* Logger */
     private static final NodeLogger LOGGER = NodeLogger.getLogger(AbstractDocumentFileStoreCell.class);
 
-    /** Default cache size. */
-    protected static final int DEF_CACHE_SIZE = 1000;
-
-    /* Document cache. */
-    private static final LRUCache<UUID, Document> DOCUMENT_CACHE = new LRUCache<UUID, Document>(DEF_CACHE_SIZE);
-
     /** Document to store. */
     protected Document m_document;
 
@@ -113,6 +103,9 @@ abstract class AbstractDocumentFileStoreCell extends FileStoreCell implements Do
     /** UUID as unique identifier of document. */
     protected UUID m_docUuid;
 
+    /** The compression codec of the file store file, the offset refers to the uncompressed data if compressed. */
+    FileStoreCompression m_compression = FileStoreCompression.NONE;
+
     /**
      * Constructor of AbstractDocumentFileStoreCell. Creates new instance with given document and file store to store
      * document at.
@@ -193,6 +186,14 @@ public Document getDocument() {
         return m_document;
     }
 
+    /**
+     * {@inheritDoc} The UUID is stored in the cell, the document is not deserialized.
+     */
+    @Override
+    public UUID getDocumentUUID() {
+        return m_docUuid;
+    }
+
     /**
      * Serializes the document data into the file store file and the address (offset) of the document as well as its
      * length and uuid into the given data output.
@@ -204,7 +205,10 @@ protected synchronized void serializeCell(final DataCellDataOutput output) throw
         // write document to file store (if it has not been written bevore)
         flushToFileStore();
 
-        // write meta data
+        // write meta data, the codec is marked by a negative leading value, since offsets are never negative
+        if (m_compression != FileStoreCompression.NONE) {
+            output.writeLong(-m_compression.getId());
+        }
         output.writeLong(m_offset);
         output.writeInt(m_length);
         output.writeUTF(m_docUuid.toString());
@@ -212,7 +216,8 @@ protected synchronized void serializeCell(final DataCellDataOutput output) throw
 
     /**
      * Deserializes document address information from given data input. The document itself is not deserialzed at this
-     * point, only its offset, length and uuid information.
+     * point, only its offset, length and uuid information, as well as the compression codec if the file store file is
+     * compressed. Cells of uncompressed files are serialized as in previous versions.
      *
      * @param input The input to read the document address information from.
      * @throws IOException If document address information cannot be deserialized from given data input.
@@ -221,6 +226,10 @@ protected synchronized void deserializeCell(final DataCellDataInput input) throw
         // read offset, length, and uuid, set serialized flag true (since cell has obviously been serialized before)
         m_serialized = new AtomicBoolean(true);
         m_offset = input.readLong();
+        if (m_offset < 0) {
+            m_compression = FileStoreCompression.fromId((int)-m_offset);
+            m_offset = input.readLong();
+        }
         m_length = input.readInt();
         m_docUuid = UUID.fromString(input.readUTF());
     }
@@ -230,51 +239,38 @@ protected synchronized void deserializeCell(final DataCellDataInput input) throw
      */
     protected abstract void prepareReadDocumentData();
 
+    /**
+     * Returns the serialized document data if it is buffered and not readable from the file store file. By default
+     * document data is always read from the file store file.
+     *
+     * @return The buffered serialized document data or {@code null} if it is read from the file store file.
+     * @throws IOException If buffered document data cannot be accessed.
+     */
+    protected byte[] readBufferedDocumentData() throws IOException {
+        return null;
+    }
+
     /**
      * If document has not been deserialized and is not already in cache it is deserialized from file store file and
-     * than put to cache.
+     * than put to cache. The document data is read via the shared {@link FileStoreDocumentReader} of the file store
+     * file, without opening a new stream for each document.
      */
     protected synchronized void readDocumentData() {
         if (m_document == null && m_docUuid != null) {
-            synchronized (DOCUMENT_CACHE) {
-                m_document = DOCUMENT_CACHE.get(m_docUuid);
-            }
+            m_document = DocumentCache.get(m_docUuid);
             // only deserialize of document is not in cache
             if (m_document == null) {
-                // first prepare to be ready to deserialize document from file store file
-                prepareReadDocumentData();
-
-                InputStream is = null;
                 try {
-                    is = new BufferedInputStream(new FileInputStream(getFileStore().getFile()), m_length);
-                    // jump to beginning of document data
-                    is.skip(m_offset);
-
-                    final byte[] serializedDoc = new byte[m_length];
-                    int redBytes = is.read(serializedDoc, 0, m_length);
-                    if (redBytes == m_length) {
-                        m_document = deserializedDocument(serializedDoc);
-                        synchronized (DOCUMENT_CACHE) {
-                            final Document d = DOCUMENT_CACHE.get(m_docUuid);
-                            if (d == null) {
-                                DOCUMENT_CACHE.put(m_docUuid, m_document);
-                            } else {
-                                m_document = d; // race condition, another thread "won"
-                            }
-                        }
-                    } else {
-                        LOGGER.error("Could not read all bytes of document.");
+                    byte[] serializedDoc = readBufferedDocumentData();
+                    if (serializedDoc == null) {
+                        // first prepare to be ready to deserialize document from file store file
+                        prepareReadDocumentData();
+                        serializedDoc = FileStoreDocumentReader.read(getFileStore().getFile(),
+                            new DocumentAddress(m_docUuid, m_offset, m_length), m_compression);
                     }
+                    m_document = DocumentCache.putIfAbsent(m_docUuid, deserializedDocument(serializedDoc), m_length);
                 } catch (final IOException e) {
                     LOGGER.error("Could not read document.", e);
-                } finally {
-                    if (is != null) {
-                        try {
-                            is.close();
-                        } catch (IOException e) {
-                            LOGGER.error("Could not close FileStore input file stream.", e);
-                        }
-                    }
                 }
             }
         }
@@ -47,106 +47,598 @@
 
 package org.knime.ext.textprocessing.data.filestore;
 
-import java.io.BufferedOutputStream;
-import java.io.FileOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.knime.core.data.filestore.FileStore;
+import org.knime.core.node.NodeLogger;
 import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.util.TermDocumentDeSerializationUtil;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
- * Serializes document data into file store files in a buffered manner.
+ * Serializes document data into file store files in a buffered and asynchronous manner. Documents are serialized on
+ * the calling threads in parallel, the offset of the document in the file store file is reserved atomically. The
+ * serialized documents are queued and written by a background writer into a single file channel, which is kept open
+ * until the writer is closed. Documents are written with gathering writes, in the order of their offsets.
+ * If a compression codec is specified, documents are collected into blocks which are compressed before they are
+ * written (see {@link FileStoreCompression}). The offsets of the documents are then offsets in the uncompressed data.
+ * Blocks are only cut at the block size. If documents of the current block need to be flushed, the documents of the
+ * block not written yet are appended uncompressed, as stored block, after the written part of the block. Once the
+ * block is full, or the writer is closed, the block is compressed and written in place of its stored parts, thus
+ * each block is compressed once only. Documents of the current block are read from memory (see
+ * {@link #readBuffered(DocumentAddress)}), thus the rewritten block is never read concurrently.
  *
  * @author Kilian Thiel, KNIME AG, Zurich, Switzerland
  * @since 2.9
  */
 final class BufferedFileStoreWriter {
 
+    /* Logger */
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BufferedFileStoreWriter.class);
+
+    /* The maximal number of background threads writing document data. */
+    private static final int MAX_WRITER_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    /* Background threads writing queued document data into file store files, at most one task per writer is queued. */
+    private static final ExecutorService WRITER_SERVICE = createWriterService();
+
+    /* The factor of the buffer size after which producing threads write the queued data themselves. */
+    private static final int BACK_PRESSURE_FACTOR = 4;
+
+    /* Serialization buffers larger than this are not reused, in order to not retain too much memory per thread. */
+    private static final int MAX_REUSED_BUFFER_SIZE = 4 * 1024 * 1024;
+
+    /* Per thread reusable serialization buffers. */
+    private static final ThreadLocal<ByteArrayOutputStream> SERIALIZATION_BUFFER =
+        new ThreadLocal<ByteArrayOutputStream>() {
+            @Override
+            protected ByteArrayOutputStream initialValue() {
+                return new ByteArrayOutputStream();
+            }
+        };
+
+    private static ExecutorService createWriterService() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_WRITER_THREADS, MAX_WRITER_THREADS, 60L,
+            TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("KNIME-TextprocessingFileStoreWriter-%d").build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final Comparator<QueuedDocument> OFFSET_COMPARATOR = new Comparator<QueuedDocument>() {
+        @Override
+        public int compare(final QueuedDocument o1, final QueuedDocument o2) {
+            return Long.compare(o1.m_offset, o2.m_offset);
+        }
+    };
+
     private FileStore m_fileStore;
 
     private final int m_bufferSize;
 
-    private long m_offset = 0;
+    private final FileStoreCompression m_compression;
+
+    /* Offset of the next document to write, reserved atomically by producers. */
+    private final AtomicLong m_offset = new AtomicLong(0);
+
+    /* Serialized documents, which have not yet been written. */
+    private final Queue<QueuedDocument> m_queue = new ConcurrentLinkedQueue<QueuedDocument>();
+
+    private final AtomicInteger m_queueSize = new AtomicInteger(0);
+
+    private final AtomicBoolean m_writeScheduled = new AtomicBoolean(false);
+
+    /* Lock guarding the channel and all fields below, only one thread writes at a time. */
+    private final ReentrantLock m_writeLock = new ReentrantLock();
+
+    /* Signaled if documents have been queued while flushing threads are waiting for them. */
+    private final Condition m_queued = m_writeLock.newCondition();
+
+    /* The number of flushing threads waiting for documents to be queued. */
+    private final AtomicInteger m_waitingFlushes = new AtomicInteger(0);
 
-    private final List<byte[]> m_buffer;
+    /* Queued documents which could not be written yet, since documents with smaller offsets are missing. */
+    private final PriorityQueue<QueuedDocument> m_pending = new PriorityQueue<QueuedDocument>(11, OFFSET_COMPARATOR);
 
-    private AtomicBoolean m_dirty = new AtomicBoolean(false);
+    /* Offset up to which all data has been written into the file store file. */
+    private long m_writtenOffset = 0;
+
+    /* Offset up to which all data has been written into the file store file and is not rewritten anymore, i.e. the
+     * end of the last full block if compressed. Read without lock, in order to not serialize readers. */
+    private volatile long m_durableOffset = 0;
+
+    /* Uncompressed data of the current block, if compressed. */
+    private final BlockBuffer m_block;
+
+    /* Offset of the current block in the uncompressed data, if compressed. */
+    private long m_blockOffset = 0;
+
+    /* Position in file store file after the last full block, where the current block is written, if compressed. */
+    private long m_filePosition = 0;
+
+    /* Position in file store file after the written part of the current block, if compressed. */
+    private long m_tailPosition = 0;
+
+    /* Set if the written part of the current block is written compressed as a single block, if compressed. */
+    private boolean m_tailCompressed = true;
+
+    private FileChannel m_channel;
+
+    /* Set if the writer has been closed, the channel is then closed after each flush. */
+    private boolean m_closed = false;
+
+    /* Error of the background writer, thrown once on the next write or flush. */
+    private final AtomicReference<IOException> m_writeError = new AtomicReference<IOException>();
 
     /**
      * Constructor for class {@link BufferedFileStoreWriter}.
      * @param fileStore The file store to serialize documents to.
-     * @param bufferSize The maximal number of documents in the buffer.
+     * @param bufferSize The number of documents in the buffer after which the buffer is written in the background.
+     * @param compression The compression codec to apply.
      */
-    BufferedFileStoreWriter(final FileStore fileStore, final int bufferSize) {
+    BufferedFileStoreWriter(final FileStore fileStore, final int bufferSize, final FileStoreCompression compression) {
         m_fileStore = fileStore;
         m_bufferSize = bufferSize;
-        m_buffer = new ArrayList<byte[]>(m_bufferSize);
+        m_compression = compression;
+        m_block = new BlockBuffer(compression == FileStoreCompression.NONE ? 0 : FileStoreCompression.BLOCK_SIZE);
     }
 
     /**
-     * Puts given document into buffer and writes buffer into file store file if maximum buffer size is reached.
+     * @return The compression codec applied by this writer.
+     */
+    FileStoreCompression getCompression() {
+        return m_compression;
+    }
+
+    /**
+     * Serializes the given document and puts it into the buffer. The buffer is written into the file store file in the
+     * background if maximum buffer size is reached. This method can be called by multiple threads concurrently.
      * @param document The document to write.
      * @return The address of the document in the file store file.
-     * @throws IOException If document data could not be written to file store file.
+     * @throws IOException If document data could not be serialized or buffered data could not be written to file
+     *             store file.
+     */
+    public DocumentAddress write(final Document document) throws IOException {
+        checkWriteError();
+        final byte[] serializeDoc = serializeDocument(document);
+        final long offset = m_offset.getAndAdd(serializeDoc.length);
+        m_queue.add(new QueuedDocument(offset, serializeDoc));
+        if (m_waitingFlushes.get() > 0) {
+            signalQueued();
+        }
+
+        final int queueSize = m_queueSize.incrementAndGet();
+        if (queueSize >= m_bufferSize * BACK_PRESSURE_FACTOR) {
+            // background writer can not keep up, write queued data in this thread
+            writeQueue();
+        } else if (queueSize >= m_bufferSize && m_writeScheduled.compareAndSet(false, true)) {
+            scheduleWrite();
+        }
+
+        return new DocumentAddress(document.getUUID(), offset, serializeDoc.length);
+    }
+
+    /**
+     * Serializes the given document using the reusable buffer of the current thread.
      */
-    public synchronized DocumentAddress write(final Document document) throws IOException {
-        final byte[] serializeDoc = AbstractDocumentFileStoreCell.serializeDocument(document);
-        final DocumentAddress address = new DocumentAddress(document.getUUID(), m_offset, serializeDoc.length);
-        m_offset += serializeDoc.length;
-        m_buffer.add(serializeDoc);
-        m_dirty.set(true);
+    private static byte[] serializeDocument(final Document document) throws IOException {
+        final ByteArrayOutputStream bos = SERIALIZATION_BUFFER.get();
+        bos.reset();
+        final DataOutputStream dos = new DataOutputStream(bos);
+        TermDocumentDeSerializationUtil.fastSerializeDocument(document, dos);
+        dos.flush();
+        final byte[] serializedDoc = bos.toByteArray();
+        if (serializedDoc.length > MAX_REUSED_BUFFER_SIZE) {
+            SERIALIZATION_BUFFER.remove();
+        }
+        return serializedDoc;
+    }
 
-        if (m_buffer.size() >= m_bufferSize) {
-            writeBuffer();
+    /**
+     * Wakes up the flushing threads waiting for documents to be queued.
+     */
+    private void signalQueued() {
+        m_writeLock.lock();
+        try {
+            m_queued.signalAll();
+        } finally {
+            m_writeLock.unlock();
         }
+    }
 
-        return address;
+    /**
+     * Submits a task writing the queued data to the background writer.
+     */
+    private void scheduleWrite() {
+        WRITER_SERVICE.execute(new Runnable() {
+            @Override
+            public void run() {
+                m_writeScheduled.set(false);
+                try {
+                    writeQueue();
+                } catch (IOException e) {
+                    LOGGER.error("Could not write documents to file store file.", e);
+                    m_writeError.set(e);
+                }
+            }
+        });
     }
 
     /**
-     * Writes bufferd document data into file store file.
+     * Writes all queued document data, which is contiguous to the already written data, into the file store file.
      * @throws IOException If data could not be written into file store file.
      */
-    private synchronized void writeBuffer() throws IOException {
-        OutputStream os = null;
+    private void writeQueue() throws IOException {
+        m_writeLock.lock();
         try {
-            os = new BufferedOutputStream(new FileOutputStream(m_fileStore.getFile(), true));
-            for (byte[] d : m_buffer) {
-                os.write(d);
+            QueuedDocument queuedDoc;
+            while ((queuedDoc = m_queue.poll()) != null) {
+                m_queueSize.decrementAndGet();
+                m_pending.add(queuedDoc);
+            }
+
+            // collect documents with contiguous offsets, starting at the end of the written or appended data
+            final List<QueuedDocument> batch = new ArrayList<QueuedDocument>(m_pending.size());
+            long endOffset = appendedOffset();
+            while (!m_pending.isEmpty() && m_pending.peek().m_offset == endOffset) {
+                queuedDoc = m_pending.poll();
+                batch.add(queuedDoc);
+                endOffset += queuedDoc.m_data.length;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            if (m_compression != FileStoreCompression.NONE) {
+                appendToBlocks(batch);
+                return;
+            }
+
+            final ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i] = ByteBuffer.wrap(batch.get(i).m_data);
+            }
+            try {
+                final FileChannel channel = getChannel();
+                channel.position(m_writtenOffset);
+                long written = 0;
+                final long toWrite = endOffset - m_writtenOffset;
+                while (written < toWrite) {
+                    written += channel.write(buffers);
+                }
+            } catch (IOException e) {
+                // keep documents in order to retry, position based writing makes retries idempotent
+                m_pending.addAll(batch);
+                try {
+                    closeChannel();
+                } catch (IOException ce) {
+                    e.addSuppressed(ce);
+                }
+                throw e;
             }
+            m_writtenOffset = endOffset;
+            m_durableOffset = endOffset;
         } finally {
-            if (os != null) {
-                os.close();
+            m_writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return The offset up to which all data has been written, or appended to the current block if compressed.
+     */
+    private long appendedOffset() {
+        if (m_compression == FileStoreCompression.NONE) {
+            return m_writtenOffset;
+        }
+        return m_blockOffset + m_block.size();
+    }
+
+    /**
+     * Appends the given documents to the current block and writes the block once it is full. If the block cannot be
+     * written, the block is kept and the documents not appended yet are kept as pending, in order to retry.
+     */
+    private void appendToBlocks(final List<QueuedDocument> batch) throws IOException {
+        for (int i = 0; i < batch.size(); i++) {
+            final QueuedDocument doc = batch.get(i);
+            m_block.write(doc.m_data, 0, doc.m_data.length);
+            if (m_block.size() >= FileStoreCompression.BLOCK_SIZE) {
+                try {
+                    writeBlock(true);
+                } catch (IOException e) {
+                    m_pending.addAll(batch.subList(i + 1, batch.size()));
+                    throw e;
+                }
             }
         }
-        m_buffer.clear();
     }
 
     /**
-     * Flushes buffer, writes all data in buffer into file store file. A file store instance is required in order to
-     * validate the file to write to. The file store file may have been changed or moved, thus the related file store
-     * instance have to be provided in order to be able to update the file location.
+     * Compresses the current block and writes it into the file store file, in place of its previously written parts.
+     * A full block is completed, which means that the next block is written after it. A block which is not full yet,
+     * i.e. the last block if the writer is closed, is rewritten once more documents have been appended.
+     * @param full {@code true} if the block is full and to be completed.
+     */
+    private void writeBlock(final boolean full) throws IOException {
+        final int size = m_block.size();
+        final long blockEnd = m_blockOffset + size;
+        if (size == 0) {
+            return;
+        }
+        if (m_writtenOffset < blockEnd || !m_tailCompressed) {
+            final byte[] compressed = m_compression.compress(m_block.buffer(), size);
+            m_tailPosition = writeBlockData(m_filePosition, m_compression, m_block.buffer(), 0, size, compressed);
+            m_tailCompressed = true;
+            m_writtenOffset = blockEnd;
+        }
+        if (full) {
+            m_filePosition = m_tailPosition;
+            m_blockOffset = blockEnd;
+            m_block.reset();
+            m_durableOffset = blockEnd;
+        }
+    }
+
+    /**
+     * Appends the documents of the current block which have not been written yet as stored block after the written
+     * part of the block. Flushing a block which is not full yet thus writes each document once, the block is
+     * compressed once it is full or the writer is closed.
+     */
+    private void writeBlockTail() throws IOException {
+        final long blockEnd = m_blockOffset + m_block.size();
+        if (m_writtenOffset >= blockEnd) {
+            return;
+        }
+        final int from = (int)(m_writtenOffset - m_blockOffset);
+        final int length = (int)(blockEnd - m_writtenOffset);
+        m_tailPosition = writeBlockData(m_tailPosition, FileStoreCompression.NONE, m_block.buffer(), from, length,
+            null);
+        m_tailCompressed = false;
+        m_writtenOffset = blockEnd;
+    }
+
+    /**
+     * Writes a block, consisting of header and data, at the given position and truncates the file after it, in order
+     * to remove previously written, larger versions of the block.
+     * @param compressed The compressed data or {@code null} to store the given data as it is.
+     * @return The position after the written block.
+     */
+    private long writeBlockData(final long position, final FileStoreCompression compression, final byte[] data,
+        final int from, final int length, final byte[] compressed) throws IOException {
+        final ByteBuffer body = compressed != null ? ByteBuffer.wrap(compressed) : ByteBuffer.wrap(data, from, length);
+        final ByteBuffer header = ByteBuffer.allocate(FileStoreCompression.BLOCK_HEADER_SIZE);
+        header.put(compression.getId());
+        header.putInt(length);
+        header.putInt(body.remaining());
+        header.flip();
+        final ByteBuffer[] buffers = new ByteBuffer[]{header, body};
+        final long end = position + header.remaining() + body.remaining();
+        try {
+            final FileChannel channel = getChannel();
+            channel.position(position);
+            while (body.hasRemaining()) {
+                channel.write(buffers);
+            }
+            if (m_tailPosition > end) {
+                channel.truncate(end);
+            }
+        } catch (IOException e) {
+            // keep block in order to retry
+            try {
+                closeChannel();
+            } catch (IOException ce) {
+                e.addSuppressed(ce);
+            }
+            throw e;
+        }
+        return end;
+    }
+
+    /**
+     * @return The file channel of the file store file, which is opened if necessary.
+     */
+    private FileChannel getChannel() throws IOException {
+        if (m_channel == null || !m_channel.isOpen()) {
+            final File file = m_fileStore.getFile();
+            m_channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        return m_channel;
+    }
+
+    /**
+     * Closes the file channel if it is open.
+     */
+    private void closeChannel() throws IOException {
+        if (m_channel != null) {
+            try {
+                m_channel.close();
+            } finally {
+                m_channel = null;
+            }
+        }
+    }
+
+    /**
+     * Throws the error of the background writer, if any. The error is thrown only once, since the data which could
+     * not be written is kept and written again on the next write or flush.
+     */
+    private void checkWriteError() throws IOException {
+        final IOException writeError = m_writeError.getAndSet(null);
+        if (writeError != null) {
+            throw new IOException("Could not write documents to file store file.", writeError);
+        }
+    }
+
+    /**
+     * Flushes buffer, writes all data in buffer up to the given offset into file store file. Data of documents
+     * following the given offset is not waited for. The file channel is kept open for subsequent writes, until the
+     * writer is closed. A file store instance is required in order to validate the file to write to. The file store
+     * file may have been changed or moved, thus the related file store instance have to be provided in order to be
+     * able to update the file location. Nothing is done if the data has already been written, as before, the file
+     * store is then updated by the next flush.
      * @param fileStore The related file store instance.
+     * @param endOffset The offset up to which the data has to be written, usually the end of the flushed document.
      * @throws IOException If buffer could not be flushed into file store file.
      */
-    public void flush(final FileStore fileStore) throws IOException {
-        if (m_dirty.compareAndSet(true, false)) {
-            updateFileStore(fileStore);
-            writeBuffer();
+    public void flush(final FileStore fileStore, final long endOffset) throws IOException {
+        checkWriteError();
+        if (endOffset <= m_durableOffset) {
+            return;
+        }
+        m_writeLock.lock();
+        try {
+            if (updateFileStore(fileStore)) {
+                closeChannel();
+            }
+            final long offset = Math.min(endOffset, m_offset.get());
+            awaitAppended(offset);
+            if (m_writtenOffset < offset) {
+                // the data is part of the current block, which is not full yet
+                writeBlockTail();
+            }
+            if (m_closed && m_writtenOffset == m_offset.get()) {
+                closeChannel();
+            }
+        } finally {
+            m_writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes all buffered data into the file store file and closes the file channel. Documents written afterwards
+     * are still written, but the channel is then closed after each flush.
+     * @throws IOException If buffer could not be flushed into file store file.
+     */
+    void close() throws IOException {
+        checkWriteError();
+        m_writeLock.lock();
+        try {
+            m_closed = true;
+            awaitAppended(m_offset.get());
+            writeBlock(false);
+            closeChannel();
+        } finally {
+            m_writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the serialized data of the document at the given address, if it is part of the current block, which is
+     * not full yet. Such data is read from memory, since the block is rewritten in place once it has grown. Other data
+     * is written into the file store file by this method and can be read from it.
+     * @param address The address of the document.
+     * @return The serialized data of the document or {@code null} if it has to be read from the file store file.
+     * @throws IOException If buffered data could not be written into file store file.
+     */
+    byte[] readBuffered(final DocumentAddress address) throws IOException {
+        final long endOffset = address.getOffset() + address.getLength();
+        if (endOffset <= m_durableOffset) {
+            // already written and not rewritten anymore, read without acquiring the lock
+            return null;
+        }
+        m_writeLock.lock();
+        try {
+            awaitAppended(Math.min(endOffset, m_offset.get()));
+            if (m_compression == FileStoreCompression.NONE || address.getOffset() < m_blockOffset
+                || endOffset > m_blockOffset + m_block.size()) {
+                return null;
+            }
+            final int from = (int)(address.getOffset() - m_blockOffset);
+            return m_block.copyOfRange(from, from + address.getLength());
+        } finally {
+            m_writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the queued data until all data up to the given offset has been written, or appended to the current block
+     * if compressed. Waits for producers which have reserved an offset but not yet queued their data. The write lock
+     * must be held by the calling thread.
+     */
+    private void awaitAppended(final long offset) throws IOException {
+        m_waitingFlushes.incrementAndGet();
+        try {
+            writeQueue();
+            while (appendedOffset() < offset) {
+                m_queued.await();
+                writeQueue();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for documents to be written.");
+        } finally {
+            m_waitingFlushes.decrementAndGet();
         }
     }
 
     /**
      * Updates related file store instance if file store file has been moved.
      * @param fileStore The file store to update.
+     * @return {@code true} if the file store has been updated, otherwise {@code false}.
      */
-    private void updateFileStore(final FileStore fileStore) {
+    private boolean updateFileStore(final FileStore fileStore) {
         if (m_fileStore.toString().equals(fileStore.toString())
                 && !m_fileStore.getFile().getAbsolutePath().equals(fileStore.getFile().getAbsolutePath())) {
             m_fileStore = fileStore;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Byte array output stream providing access to its buffer, in order to compress and read blocks without copying.
+     */
+    private static final class BlockBuffer extends ByteArrayOutputStream {
+
+        BlockBuffer(final int size) {
+            super(size);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+
+        byte[] copyOfRange(final int from, final int to) {
+            return Arrays.copyOfRange(buf, from, to);
+        }
+    }
+
+    /**
+     * Serialized document data together with its reserved offset in the file store file.
+     */
+    private static final class QueuedDocument {
+
+        private final long m_offset;
+
+        private final byte[] m_data;
+
+        QueuedDocument(final long offset, final byte[] data) {
+            m_offset = offset;
+            m_data = data;
         }
     }
 }
@@ -47,6 +47,7 @@
 
 package org.knime.ext.textprocessing.data.filestore;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.knime.core.data.filestore.FileStore;
@@ -85,12 +86,38 @@ static synchronized BufferedFileStoreWriterFactory instance() {
      * @return The buffered writer for the given file store.
      */
     BufferedFileStoreWriter getBufferedFileStoreWriter(final FileStore fileStore) {
-        BufferedFileStoreWriter fileStoreWriter = m_bufferedWriter.get(fileStore.toString());
-        if (fileStoreWriter == null) {
+        return m_bufferedWriter.computeIfAbsent(fileStore.toString(), k -> {
             final int bufferSize = Math.min(DEFALT_BUFFER_SIZE, StoragePreferenceInitializer.fileStoreChunkSize());
-            fileStoreWriter = new BufferedFileStoreWriter(fileStore, bufferSize);
-            m_bufferedWriter.put(fileStore.toString(), fileStoreWriter);
+            return new BufferedFileStoreWriter(fileStore, bufferSize, FileStoreCompression.fromPreferences());
+        });
+    }
+
+    /**
+     * Returns the related buffered writer for the given file store if documents are written to it, without creating
+     * a new writer.
+     * @param fileStore The file store to get the related buffered writer for.
+     * @return The buffered writer for the given file store or {@code null} if no writer is registered, in which case
+     *         the document data has been written into the file store file.
+     */
+    BufferedFileStoreWriter findBufferedFileStoreWriter(final FileStore fileStore) {
+        return m_bufferedWriter.get(fileStore.toString());
+    }
+
+    /**
+     * Closes and removes the buffered writer of the given file store, if any. This method is called once no more
+     * documents are added to the file store. The writer is removed after it has been closed, in order to not read
+     * its data from the file store file before it has been written.
+     * @param fileStore The file store to close the related buffered writer for.
+     * @throws IOException If the buffered data could not be written into the file store file.
+     */
+    void closeBufferedFileStoreWriter(final FileStore fileStore) throws IOException {
+        final BufferedFileStoreWriter fileStoreWriter = m_bufferedWriter.get(fileStore.toString());
+        if (fileStoreWriter != null) {
+            try {
+                fileStoreWriter.close();
+            } finally {
+                m_bufferedWriter.remove(fileStore.toString(), fileStoreWriter);
+            }
         }
-        return fileStoreWriter;
     }
 }
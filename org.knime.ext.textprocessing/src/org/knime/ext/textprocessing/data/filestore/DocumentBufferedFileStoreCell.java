@@ -123,6 +123,7 @@ public DocumentBufferedFileStoreCell(final FileStore fileStore,
         final BufferedFileStoreWriter bufferedFileStoreWriter, final Document document) throws IOException {
         super(fileStore, document);
         m_bufferedFileStoreWriter = bufferedFileStoreWriter;
+        m_compression = m_bufferedFileStoreWriter.getCompression();
 
         // Write document only if it has not been already serialized.
         if (m_serialized.compareAndSet(false, true)) {
@@ -145,15 +146,36 @@ public DocumentBufferedFileStoreCell(final FileStore fileStore,
      */
     @Override
     protected void flushToFileStore() throws IOException {
-        // if cell has been create with empty constructor the file store writer instance has been been initialized.
-        // Thus it has to be requested at this point.
+        if (initBufferedFileStoreWriter()) {
+            // flush up to the end of the document and hand over file store, which file may have been moved.
+            m_bufferedFileStoreWriter.flush(getFileStore(), m_offset + m_length);
+        }
+    }
+
+    /**
+     * Looks up the file store writer if the cell has been created with the empty constructor, in which case the
+     * writer has not been initialized. No writer is created, if none is registered for the file store, the document
+     * data has already been written into the file store file.
+     * @return {@code true} if the cell has a writer, otherwise {@code false}.
+     */
+    private boolean initBufferedFileStoreWriter() {
         if (m_bufferedFileStoreWriter == null) {
             m_bufferedFileStoreWriter =
-                    BufferedFileStoreWriterFactory.instance().getBufferedFileStoreWriter(getFileStore());
+                    BufferedFileStoreWriterFactory.instance().findBufferedFileStoreWriter(getFileStore());
         }
+        return m_bufferedFileStoreWriter != null;
+    }
 
-        // flush and hand over file store, which file may have been moved.
-        m_bufferedFileStoreWriter.flush(getFileStore());
+    /**
+     * {@inheritDoc}
+     * Documents of a compressed block, which is not full yet, are read from the buffered file store writer.
+     */
+    @Override
+    protected byte[] readBufferedDocumentData() throws IOException {
+        if (!initBufferedFileStoreWriter()) {
+            return null;
+        }
+        return m_bufferedFileStoreWriter.readBuffered(new DocumentAddress(m_docUuid, m_offset, m_length));
     }
 
     /**
@@ -109,16 +109,24 @@ public DocumentBufferedFileStoreDataCellFactory(final int maxCellsInFileStore) {
      * Prepares the factory and creates a file store to store cells in.
      */
     @Override
-    public synchronized void prepare(final FileStoreFactory fileStoreFactory) {
-        // Bug 5936: null check has been removed, factory should be re-prepared every time.
-        m_fileStoreFactory = fileStoreFactory;
-        createNewFileStore();
+    public void prepare(final FileStoreFactory fileStoreFactory) {
+        // files of previous executions may have been deleted by a reset
+        FileStoreDocumentReader.closeIdleReaders();
+        final FileStore previousFileStore;
+        synchronized (this) {
+            // Bug 5936: null check has been removed, factory should be re-prepared every time.
+            m_fileStoreFactory = fileStoreFactory;
+            previousFileStore = createNewFileStore();
+        }
+        closeFileStoreWriter(previousFileStore);
     }
 
     /**
-     * Creates new file store with random uuid.
+     * Creates new file store with random uuid. Must be called while holding the lock of this factory.
+     * @return The previous file store, whose writer needs to be closed, or {@code null}.
      */
-    private void createNewFileStore() {
+    private FileStore createNewFileStore() {
+        final FileStore previousFileStore = m_fileStore;
         try {
             final String fileStore = UUID.randomUUID().toString();
             LOGGER.debug("Creating file store: " + fileStore);
@@ -128,33 +136,61 @@ private void createNewFileStore() {
         } catch (IOException e) {
             LOGGER.error("Could not create file store.", e);
         }
+        return previousFileStore;
+    }
+
+    /**
+     * Closes the writer of the given file store, since no more documents are added to it. The writer is closed
+     * without holding the lock of this factory, so that other threads are not blocked while the remaining data is
+     * written.
+     * @param fileStore The file store whose writer is closed, may be {@code null}.
+     */
+    private static void closeFileStoreWriter(final FileStore fileStore) {
+        if (fileStore != null) {
+            try {
+                BufferedFileStoreWriterFactory.instance().closeBufferedFileStoreWriter(fileStore);
+            } catch (IOException e) {
+                LOGGER.error("Could not close file store writer.", e);
+            }
+        }
     }
 
     /**
      * {@inheritDoc}
      * Factory has to be prepared before {@link DocumentBufferedFileStoreDataCellFactory#createDataCell(TextContainer)}
-     * can be called. Otherwise an {@link IllegalStateException} will be thrown.
+     * can be called. Otherwise an {@link IllegalStateException} will be thrown. This method can be called by multiple
+     * threads concurrently, documents are serialized on the calling threads in parallel.
      */
     @Override
-    public synchronized DataCell createDataCell(final TextContainer tc) {
-        if (m_fileStoreFactory == null) {
-            throw new IllegalStateException(
-                "Factory is not prepared, FileStore has not been created. Prepare factory before creating data cells!");
-        }
-
+    public DataCell createDataCell(final TextContainer tc) {
         DataCell dc = null;
         if (tc instanceof Document) {
-            Document doc = (Document)tc;
-            try {
-                dc = new DocumentBufferedFileStoreCell(m_fileStore, m_bufferedFileStoreWriter, doc);
-
+            final FileStore fileStore;
+            final BufferedFileStoreWriter fileStoreWriter;
+            FileStore previousFileStore = null;
+            // only the assignment of the file store needs to be synchronized
+            synchronized (this) {
+                if (m_fileStoreFactory == null) {
+                    throw new IllegalStateException("Factory is not prepared, FileStore has not been created. "
+                        + "Prepare factory before creating data cells!");
+                }
+                fileStore = m_fileStore;
+                fileStoreWriter = m_bufferedFileStoreWriter;
                 m_cellsInFileStore++;
                 if (m_cellsInFileStore >= m_maxCellsInFileStore) {
-                    createNewFileStore();
+                    previousFileStore = createNewFileStore();
                     m_cellsInFileStore = 0;
                 }
+            }
+
+            Document doc = (Document)tc;
+            try {
+                dc = new DocumentBufferedFileStoreCell(fileStore, fileStoreWriter, doc);
             } catch (IOException e) {
                 LOGGER.error("Could not store document in cell: " + doc.getTitle(), e);
+            } finally {
+                // the last document of the previous file store has been written by this thread
+                closeFileStoreWriter(previousFileStore);
             }
         }
         return dc;
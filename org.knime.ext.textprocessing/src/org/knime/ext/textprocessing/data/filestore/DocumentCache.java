@@ -0,0 +1,231 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.data.filestore;
+
+import java.util.UUID;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
+import org.knime.core.node.NodeLogger;
+import org.knime.ext.textprocessing.TextprocessingCorePlugin;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.preferences.StoragePreferenceInitializer;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+
+/**
+ * Concurrent cache of deserialized documents of file store cells. The cache is bounded by the estimated amount of
+ * memory retained by the cached documents, rather than by the number of documents, since documents can vary in size
+ * by several orders of magnitude. The size of the cache can be specified in the storage preferences (see
+ * {@link StoragePreferenceInitializer#PREF_DOCUMENT_CACHE_SIZE}). The cache is segmented, so that concurrent access
+ * of different threads does not contend on a single lock. Since the maximal size is split evenly among the segments,
+ * the number of segments is chosen such that each segment holds at least {@link #MIN_SEGMENT_SIZE} bytes. Documents
+ * which do not fit into a segment are not cached, since they would be evicted immediately and would evict all other
+ * documents of their segment. Hit, miss and eviction counts are recorded and can be accessed via {@link #getStats()}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class DocumentCache {
+
+    /* Logger */
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DocumentCache.class);
+
+    /**
+     * Factor to estimate the memory retained by a deserialized document from the length of its serialized data,
+     * accounting for object headers, references and two byte chars of strings.
+     */
+    static final int RETAINED_SIZE_FACTOR = 8;
+
+    /** The minimal size of a segment of the cache in bytes. */
+    static final long MIN_SEGMENT_SIZE = 64L * 1024L * 1024L;
+
+    /* Maximal number of segments of the cache. */
+    private static final int MAX_CONCURRENCY_LEVEL = 4;
+
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+
+    private static volatile Cache<UUID, CachedDocument> cache;
+
+    /* The maximal retained size of a document to cache, which is the size of a segment. */
+    private static volatile long maxRetainedSize;
+
+    static {
+        createCache();
+        final TextprocessingCorePlugin plugin = TextprocessingCorePlugin.getDefault();
+        if (plugin != null) {
+            final IPreferenceStore pStore = plugin.getPreferenceStore();
+            pStore.addPropertyChangeListener(new IPropertyChangeListener() {
+                @Override
+                public void propertyChange(final PropertyChangeEvent event) {
+                    if (StoragePreferenceInitializer.PREF_DOCUMENT_CACHE_SIZE.equals(event.getProperty())) {
+                        LOGGER.debug("Document cache size changed, recreating document cache. Old cache " + getStats());
+                        createCache();
+                    }
+                }
+            });
+        }
+    }
+
+    private DocumentCache() { }
+
+    private static synchronized void createCache() {
+        int cacheSize = StoragePreferenceInitializer.DEFAULT_DOCUMENT_CACHE_SIZE;
+        if (TextprocessingCorePlugin.getDefault() != null) {
+            cacheSize = StoragePreferenceInitializer.documentCacheSize();
+        }
+        final long maxWeight = cacheSize * BYTES_PER_MB;
+        // the number of segments is a power of two, which is at least the concurrency level
+        final int concurrencyLevel = Integer.highestOneBit(
+            (int)Math.max(1, Math.min(MAX_CONCURRENCY_LEVEL, maxWeight / MIN_SEGMENT_SIZE)));
+        maxRetainedSize = maxWeight / concurrencyLevel;
+        cache = CacheBuilder.newBuilder()
+            .concurrencyLevel(concurrencyLevel)
+            .maximumWeight(maxWeight)
+            .weigher(new Weigher<UUID, CachedDocument>() {
+                @Override
+                public int weigh(final UUID key, final CachedDocument value) {
+                    return value.getRetainedSize();
+                }
+            })
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached document with the given uuid or {@code null} if the document is not cached.
+     *
+     * @param uuid The uuid of the document.
+     * @return The cached document or {@code null}.
+     */
+    static Document get(final UUID uuid) {
+        final CachedDocument cachedDoc = cache.getIfPresent(uuid);
+        if (cachedDoc != null) {
+            return cachedDoc.getDocument();
+        }
+        return null;
+    }
+
+    /**
+     * Puts the given document into the cache, if no document with the same uuid is cached. Otherwise the cached
+     * document is returned and the given document is discarded. Documents which are too large to be cached (see
+     * {@link #isCacheable(int)}) are not put into the cache.
+     *
+     * @param uuid The uuid of the document.
+     * @param document The document to cache.
+     * @param serializedLength The length of the serialized data of the document, used to estimate its retained size.
+     * @return The cached document, which is either the given document or the document which has been cached before.
+     */
+    static Document putIfAbsent(final UUID uuid, final Document document, final int serializedLength) {
+        if (!isCacheable(serializedLength)) {
+            LOGGER.debug("Document is too large to be cached (" + serializedLength + " bytes serialized), increase"
+                + " the document cache size in the preferences to cache it.");
+            return document;
+        }
+        final long retainedSize = (long)serializedLength * RETAINED_SIZE_FACTOR;
+        final CachedDocument cachedDoc = cache.asMap().putIfAbsent(uuid,
+            new CachedDocument(document, (int)Math.min(Integer.MAX_VALUE, retainedSize)));
+        if (cachedDoc != null) {
+            return cachedDoc.getDocument(); // race condition, another thread "won"
+        }
+        return document;
+    }
+
+    /**
+     * Checks whether a document with the given length of its serialized data fits into a segment of the cache and
+     * thus stays cached until it is evicted by the least recently used policy.
+     *
+     * @param serializedLength The length of the serialized data of the document.
+     * @return {@code true} if the document is cached, otherwise {@code false}.
+     */
+    static boolean isCacheable(final int serializedLength) {
+        return (long)serializedLength * RETAINED_SIZE_FACTOR <= maxRetainedSize;
+    }
+
+    /**
+     * @return The hit, miss and eviction statistics of the document cache.
+     */
+    public static CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * Removes all documents from the cache.
+     */
+    public static void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * A deserialized document together with its estimated retained size.
+     */
+    private static final class CachedDocument {
+
+        private final Document m_document;
+
+        private final int m_retainedSize;
+
+        CachedDocument(final Document document, final int retainedSize) {
+            m_document = document;
+            m_retainedSize = retainedSize;
+        }
+
+        Document getDocument() {
+            return m_document;
+        }
+
+        int getRetainedSize() {
+            return m_retainedSize;
+        }
+    }
+}
@@ -108,6 +108,8 @@ public DocumentFileStoreDataCellFactory(final int maxCellsInFileStore) {
      */
     @Override
     public synchronized void prepare(final FileStoreFactory fileStoreFactory) {
+        // files of previous executions may have been deleted by a reset
+        FileStoreDocumentReader.closeIdleReaders();
         // Bug 5936: null check has been removed, factory should be re-prepared every time.
         m_fileStoreFactory = fileStoreFactory;
         createNewFileStore();
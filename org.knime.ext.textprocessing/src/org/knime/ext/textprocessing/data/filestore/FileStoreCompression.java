@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.data.filestore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.knime.ext.textprocessing.preferences.StoragePreferenceInitializer;
+
+/**
+ * The compression codecs of buffered file store files. Files written without compression contain the serialized
+ * documents concatenated. Files written with compression consist of blocks, each containing the compressed data of
+ * multiple complete documents. Each block starts with a header consisting of the codec id (byte), the uncompressed
+ * length (int) and the compressed length (int) of the block data. A block which has been flushed before it was full
+ * is written as sequence of stored blocks (codec {@link #NONE}), which are replaced by the compressed block once it is
+ * full or the file is closed. The offset of a document is its offset in the uncompressed data stream, which is
+ * resolved to a block and an offset within the block by {@link FileStoreDocumentReader}.
+ *
+ * The id of the codec is serialized with each cell, the ids must not be changed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+enum FileStoreCompression {
+
+    /** No compression, serialized documents are concatenated. The data of a block is stored as it is. */
+    NONE((byte)0, StoragePreferenceInitializer.COMPRESSION_NONE) {
+        @Override
+        byte[] compress(final byte[] data, final int length) {
+            return Arrays.copyOf(data, length);
+        }
+
+        @Override
+        byte[] decompress(final byte[] data, final int uncompressedLength) throws IOException {
+            if (data.length != uncompressedLength) {
+                throw new IOException("Uncompressed file store block is truncated.");
+            }
+            return data;
+        }
+    },
+
+    /** Blocks compressed with the JDK deflate codec. */
+    DEFLATE((byte)1, StoragePreferenceInitializer.COMPRESSION_DEFLATE) {
+        @Override
+        byte[] compress(final byte[] data, final int length) {
+            final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+            try {
+                deflater.setInput(data, 0, length);
+                deflater.finish();
+                final ByteArrayOutputStream bos = new ByteArrayOutputStream(length / 2 + 16);
+                final byte[] buffer = new byte[8192];
+                while (!deflater.finished()) {
+                    final int count = deflater.deflate(buffer);
+                    bos.write(buffer, 0, count);
+                }
+                return bos.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        byte[] decompress(final byte[] data, final int uncompressedLength) throws IOException {
+            final Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(data);
+                final byte[] uncompressed = new byte[uncompressedLength];
+                int offset = 0;
+                while (offset < uncompressedLength) {
+                    final int count = inflater.inflate(uncompressed, offset, uncompressedLength - offset);
+                    if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+                        throw new IOException("Compressed file store block is truncated.");
+                    }
+                    offset += count;
+                }
+                return uncompressed;
+            } catch (DataFormatException e) {
+                throw new IOException("Compressed file store block is corrupt.", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    /** The size of the header of each compressed block in bytes. */
+    static final int BLOCK_HEADER_SIZE = 9;
+
+    /** The uncompressed size of a block, after which the block is compressed and written. */
+    static final int BLOCK_SIZE = 128 * 1024;
+
+    private final byte m_id;
+
+    private final String m_name;
+
+    private FileStoreCompression(final byte id, final String name) {
+        m_id = id;
+        m_name = name;
+    }
+
+    /**
+     * @return The id of the codec, which is stored with cells and in the block headers.
+     */
+    byte getId() {
+        return m_id;
+    }
+
+    /**
+     * Compresses the given data.
+     *
+     * @param data The data to compress.
+     * @param length The number of bytes to compress.
+     * @return The compressed data.
+     */
+    abstract byte[] compress(final byte[] data, final int length);
+
+    /**
+     * Decompresses the given data.
+     *
+     * @param data The compressed data.
+     * @param uncompressedLength The length of the uncompressed data.
+     * @return The uncompressed data.
+     * @throws IOException If data cannot be decompressed.
+     */
+    abstract byte[] decompress(final byte[] data, final int uncompressedLength) throws IOException;
+
+    /**
+     * Returns the codec with the given id.
+     *
+     * @param id The id of the codec.
+     * @return The codec with the given id.
+     * @throws IOException If no codec with the given id exists.
+     */
+    static FileStoreCompression fromId(final int id) throws IOException {
+        for (final FileStoreCompression compression : values()) {
+            if (compression.m_id == id) {
+                return compression;
+            }
+        }
+        throw new IOException("Unknown file store compression codec: " + id);
+    }
+
+    /**
+     * @return The codec specified in the storage preferences.
+     */
+    static FileStoreCompression fromPreferences() {
+        final String name = StoragePreferenceInitializer.fileStoreCompression();
+        for (final FileStoreCompression compression : values()) {
+            if (compression.m_name.equals(name)) {
+                return compression;
+            }
+        }
+        return NONE;
+    }
+}
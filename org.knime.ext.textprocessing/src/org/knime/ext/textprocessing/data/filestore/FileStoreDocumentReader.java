@@ -0,0 +1,394 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.data.filestore;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.NodeLogger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+
+/**
+ * Shared, reference counted reader of serialized document data from a file store file. For each file store file only
+ * one reader exists, which keeps a single {@link FileChannel} open. Document data is read via positional reads
+ * ({@link FileChannel#read(ByteBuffer, long)}), which do not change the position of the channel. Thus arbitrary many
+ * threads can read from the same file concurrently without any locking and without opening, seeking and closing a
+ * stream for each document.
+ *
+ * Readers are retained for the duration of a single read only. Idle readers (not retained by any thread) are kept
+ * open to serve subsequent reads of the same file, but are closed if the number of open readers exceeds
+ * {@link #MAX_OPEN_READERS}. Since file store files are deleted if their node is reset, idle readers are also closed
+ * whenever the document cell factories are prepared for a new execution, the cached blocks of deleted files are then
+ * removed as well (see {@link #closeIdleReaders()}).
+ *
+ * Compressed file store files (see {@link FileStoreCompression}) are read block wise. The index of the blocks of a
+ * file is built lazily from the block headers and used to resolve the offset of a document in the uncompressed data to
+ * its block and the offset within the block. Besides blocks of the compression codec of the file, such files may
+ * contain stored blocks (see {@link FileStoreCompression#NONE}), which are written if a block is flushed before it is
+ * full. Decompressed blocks are cached, so that subsequent reads of documents of the same block do not decompress the
+ * block again.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class FileStoreDocumentReader {
+
+    /* Logger */
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(FileStoreDocumentReader.class);
+
+    /** The maximal number of file channels kept open. */
+    static final int MAX_OPEN_READERS = 64;
+
+    /** The maximal size of all cached decompressed blocks in bytes. */
+    static final long MAX_BLOCK_CACHE_SIZE = 32L * 1024L * 1024L;
+
+    /* Decompressed blocks mapped by path of their file and their position in the file. */
+    private static final Cache<String, byte[]> BLOCK_CACHE = CacheBuilder.newBuilder()
+        // the maximum weight is split among the default number of segments, each of them is still able to cache blocks
+        // much larger than the block size
+        .maximumWeight(MAX_BLOCK_CACHE_SIZE)
+        .weigher(new Weigher<String, byte[]>() {
+            @Override
+            public int weigh(final String key, final byte[] value) {
+                return value.length;
+            }
+        })
+        .build();
+
+    /* Reference count value of a closed reader. */
+    private static final int CLOSED = -1;
+
+    /* Open readers mapped by absolute path of their file store file. */
+    private static final Map<String, FileStoreDocumentReader> READERS =
+        new ConcurrentHashMap<String, FileStoreDocumentReader>();
+
+    private final String m_path;
+
+    private final FileChannel m_channel;
+
+    /* Number of threads currently reading, or CLOSED. */
+    private final AtomicInteger m_refCount = new AtomicInteger(0);
+
+    /* Index of the blocks of a compressed file, in ascending order of their offsets, guarded by itself. */
+    private final List<Block> m_blockIndex = new ArrayList<Block>();
+
+    /* Position in file up to which blocks have been indexed, guarded by m_blockIndex. */
+    private long m_indexedPosition = 0;
+
+    /* Offset in the uncompressed data up to which blocks have been indexed, guarded by m_blockIndex. */
+    private long m_indexedOffset = 0;
+
+    /**
+     * Constructor for class {@link FileStoreDocumentReader}. Opens a read only channel on the given file.
+     *
+     * @param path The absolute path of the file to read from.
+     * @throws IOException If file cannot be opened.
+     */
+    private FileStoreDocumentReader(final String path) throws IOException {
+        m_path = path;
+        m_channel = FileChannel.open(new File(path).toPath(), StandardOpenOption.READ);
+    }
+
+    /**
+     * Reads the serialized data of the document at the given address from the given file store file. The shared
+     * reader of the file is retained for the duration of the read and released afterwards.
+     *
+     * @param file The file store file to read from.
+     * @param address The address of the document in the file.
+     * @param compression The compression codec of the file.
+     * @return The serialized document data.
+     * @throws IOException If data cannot be read from file.
+     */
+    static byte[] read(final File file, final DocumentAddress address, final FileStoreCompression compression)
+        throws IOException {
+        final String path = file.getAbsolutePath();
+        try {
+            return readOnce(path, address, compression);
+        } catch (ClosedByInterruptException e) {
+            // this thread has been interrupted, which closed the shared channel.
+            invalidate(path);
+            throw e;
+        } catch (ClosedChannelException e) {
+            // the channel has been closed by an interrupt of another thread, retry once with a new channel.
+            invalidate(path);
+            return readOnce(path, address, compression);
+        }
+    }
+
+    /**
+     * Closes and removes all idle readers, readers that are currently retained stay open. The cached blocks of
+     * closed readers whose file has been deleted, e.g. since its node has been reset, are removed as well. This method
+     * is called if too many readers are open and whenever a document cell factory is prepared for a new execution.
+     */
+    static void closeIdleReaders() {
+        final Iterator<FileStoreDocumentReader> it = READERS.values().iterator();
+        while (it.hasNext()) {
+            final FileStoreDocumentReader reader = it.next();
+            if (reader.tryClose()) {
+                it.remove();
+                if (!new File(reader.m_path).exists()) {
+                    final String prefix = reader.m_path + '@';
+                    BLOCK_CACHE.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+                }
+            }
+        }
+    }
+
+    private static byte[] readOnce(final String path, final DocumentAddress address,
+        final FileStoreCompression compression) throws IOException {
+        final FileStoreDocumentReader reader = acquire(path);
+        try {
+            if (compression == FileStoreCompression.NONE) {
+                return reader.readBytes(address.getOffset(), address.getLength());
+            }
+            return reader.readCompressed(address, compression);
+        } finally {
+            reader.release();
+        }
+    }
+
+    /**
+     * Returns the retained reader of the file with the given path, creates and registers a new one if necessary.
+     */
+    private static FileStoreDocumentReader acquire(final String path) throws IOException {
+        while (true) {
+            FileStoreDocumentReader reader = READERS.get(path);
+            if (reader == null) {
+                if (READERS.size() >= MAX_OPEN_READERS) {
+                    closeIdleReaders();
+                }
+                final FileStoreDocumentReader newReader = new FileStoreDocumentReader(path);
+                reader = READERS.putIfAbsent(path, newReader);
+                if (reader == null) {
+                    reader = newReader;
+                } else {
+                    // race condition, another thread "won"
+                    newReader.tryClose();
+                }
+            }
+            if (reader.retain()) {
+                return reader;
+            }
+            // reader has been closed in the meantime, remove it and try again
+            READERS.remove(path, reader);
+        }
+    }
+
+    /**
+     * Removes the reader of the file with the given path and closes it once it is idle.
+     */
+    private static void invalidate(final String path) {
+        final FileStoreDocumentReader reader = READERS.remove(path);
+        if (reader != null) {
+            reader.tryClose();
+        }
+    }
+
+    private boolean retain() {
+        while (true) {
+            final int count = m_refCount.get();
+            if (count == CLOSED) {
+                return false;
+            }
+            if (m_refCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        if (m_refCount.decrementAndGet() == 0 && READERS.get(m_path) != this) {
+            // reader has been removed from registry while in use
+            tryClose();
+        }
+    }
+
+    /**
+     * Closes the channel if the reader is idle.
+     *
+     * @return {@code true} if the reader has been closed by this call, otherwise {@code false}.
+     */
+    private boolean tryClose() {
+        if (m_refCount.compareAndSet(0, CLOSED)) {
+            try {
+                m_channel.close();
+            } catch (IOException e) {
+                LOGGER.debug("Could not close FileStore file channel.", e);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private byte[] readBytes(final long offset, final int length) throws IOException {
+        final byte[] data = new byte[length];
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            final int redBytes = m_channel.read(buffer, position);
+            if (redBytes < 0) {
+                throw new IOException("Could not read all bytes of document, unexpected end of file: " + m_path);
+            }
+            position += redBytes;
+        }
+        return data;
+    }
+
+    /**
+     * Reads the document at the given address from the decompressed block containing it.
+     */
+    private byte[] readCompressed(final DocumentAddress address, final FileStoreCompression compression)
+        throws IOException {
+        final Block block = findBlock(address.getOffset(), compression);
+        final byte[] blockData;
+        try {
+            blockData = BLOCK_CACHE.get(m_path + '@' + block.m_position, new Callable<byte[]>() {
+                @Override
+                public byte[] call() throws IOException {
+                    final byte[] compressed =
+                        readBytes(block.m_position + FileStoreCompression.BLOCK_HEADER_SIZE, block.m_compressedLength);
+                    return block.m_compression.decompress(compressed, block.m_uncompressedLength);
+                }
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException)e.getCause();
+            }
+            throw new IOException("Could not decompress file store block.", e.getCause());
+        }
+
+        final int intraBlockOffset = (int)(address.getOffset() - block.m_offset);
+        if (intraBlockOffset + address.getLength() > blockData.length) {
+            throw new IOException("Document exceeds its file store block: " + m_path);
+        }
+        return Arrays.copyOfRange(blockData, intraBlockOffset, intraBlockOffset + address.getLength());
+    }
+
+    /**
+     * Returns the block containing the given offset of the uncompressed data. The block index is extended by reading
+     * the headers of not yet indexed blocks if necessary.
+     */
+    private Block findBlock(final long offset, final FileStoreCompression compression) throws IOException {
+        synchronized (m_blockIndex) {
+            while (offset >= m_indexedOffset) {
+                if (m_indexedPosition >= m_channel.size()) {
+                    throw new IOException("Document offset exceeds the compressed file store file: " + m_path);
+                }
+                final ByteBuffer header = ByteBuffer.wrap(readBytes(m_indexedPosition,
+                    FileStoreCompression.BLOCK_HEADER_SIZE));
+                final FileStoreCompression blockCompression = FileStoreCompression.fromId(header.get());
+                if (blockCompression != compression && blockCompression != FileStoreCompression.NONE) {
+                    throw new IOException("Unexpected compression codec of file store block: " + m_path);
+                }
+                final Block block = new Block(m_indexedOffset, m_indexedPosition, blockCompression, header.getInt(),
+                    header.getInt());
+                m_blockIndex.add(block);
+                m_indexedOffset += block.m_uncompressedLength;
+                m_indexedPosition += FileStoreCompression.BLOCK_HEADER_SIZE + block.m_compressedLength;
+            }
+
+            // binary search for the last block starting at or before the offset
+            int low = 0;
+            int high = m_blockIndex.size() - 1;
+            while (low < high) {
+                final int mid = (low + high + 1) >>> 1;
+                if (m_blockIndex.get(mid).m_offset <= offset) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return m_blockIndex.get(low);
+        }
+    }
+
+    /**
+     * Index entry of a compressed block.
+     */
+    private static final class Block {
+
+        /* Offset of the block in the uncompressed data. */
+        private final long m_offset;
+
+        /* Position of the block header in the file. */
+        private final long m_position;
+
+        /* The codec of the block, either the codec of the file or none for stored blocks. */
+        private final FileStoreCompression m_compression;
+
+        private final int m_uncompressedLength;
+
+        private final int m_compressedLength;
+
+        Block(final long offset, final long position, final FileStoreCompression compression,
+            final int uncompressedLength, final int compressedLength) {
+            m_offset = offset;
+            m_position = position;
+            m_compression = compression;
+            m_uncompressedLength = uncompressedLength;
+            m_compressedLength = compressedLength;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.cooccurrencecounter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.Paragraph;
+import org.knime.ext.textprocessing.data.Section;
+import org.knime.ext.textprocessing.data.SectionAnnotation;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Term;
+
+import gnu.trove.TLongIntHashMap;
+import gnu.trove.TObjectIntHashMap;
+
+/**
+ * Counts the co-occurrences of the terms of a document. The terms are mapped to document local int ids and the pairs
+ * are kept in a primitive map keyed by the two ids packed into a {@code long}. All buffers are reused for the next
+ * document, so an instance must only be used by one thread at a time.
+ * <p>
+ * The counts, the orientation of the pairs and the order in which the pairs are created are the same as the ones of
+ * the former term tuple based implementation: for each unit (sentence, paragraph, title, section and document)
+ * each pair of distinct terms co-occurs the minimum of the terms' frequencies within the unit, neighbors are counted
+ * within sentences.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class CooccurrenceCounter {
+
+    private static final int NO_LEVELS = CooccurrenceLevel.values().length;
+
+    private final boolean m_checkTags;
+
+    private final boolean m_skipMetaInfo;
+
+    private final boolean[] m_included = new boolean[NO_LEVELS];
+
+    /** Maps a term (or its words if tags are not checked) to its local id + 1. */
+    private final TObjectIntHashMap<Object> m_termIds = new TObjectIntHashMap<>();
+
+    private final List<Term> m_terms = new ArrayList<>();
+
+    private final List<String> m_texts = new ArrayList<>();
+
+    private final Unit[] m_units = new Unit[NO_LEVELS];
+
+    /** Maps the packed ids of a pair to its index + 1. */
+    private final TLongIntHashMap m_pairIds = new TLongIntHashMap();
+
+    private int[] m_term1 = new int[256];
+
+    private int[] m_term2 = new int[256];
+
+    private final int[][] m_counts = new int[NO_LEVELS][256];
+
+    private int m_noOfPairs = 0;
+
+    /**
+     * Creates a new instance of {@code CooccurrenceCounter}.
+     *
+     * @param checkTags {@code true} if terms with equal words but different tags are different terms.
+     * @param skipMetaInfo {@code true} if meta information sections are skipped.
+     * @param level The selected co-occurrence level, including all lower levels.
+     */
+    CooccurrenceCounter(final boolean checkTags, final boolean skipMetaInfo, final CooccurrenceLevel level) {
+        m_checkTags = checkTags;
+        m_skipMetaInfo = skipMetaInfo;
+        for (final CooccurrenceLevel l : CooccurrenceLevel.values()) {
+            m_included[l.ordinal()] = l.getLevel() <= level.getLevel();
+            m_units[l.ordinal()] = new Unit();
+        }
+    }
+
+    /**
+     * Counts the co-occurrences of the given terms in the given document.
+     *
+     * @param doc The document.
+     * @param terms The terms to count, other terms are ignored.
+     * @return The co-occurrences of the document.
+     */
+    DocumentCooccurrences count(final Document doc, final TermChecker terms) {
+        try {
+            countDocument(doc, terms);
+            final int[][] counts = new int[NO_LEVELS][];
+            for (int l = 0; l < NO_LEVELS; l++) {
+                counts[l] = Arrays.copyOf(m_counts[l], m_noOfPairs);
+            }
+            return new DocumentCooccurrences(new ArrayList<>(m_terms), Arrays.copyOf(m_term1, m_noOfPairs),
+                Arrays.copyOf(m_term2, m_noOfPairs), counts);
+        } finally {
+            reset();
+        }
+    }
+
+    private void countDocument(final Document doc, final TermChecker terms) {
+        final boolean inclNeighbors = m_included[CooccurrenceLevel.NEIGHBOR.ordinal()];
+        final boolean inclTitle = m_included[CooccurrenceLevel.TITLE.ordinal()];
+        for (final Section section : doc.getSections()) {
+            final SectionAnnotation annotation = section.getAnnotation();
+            final boolean title = SectionAnnotation.TITLE.equals(annotation)
+                || SectionAnnotation.CONFERENCE_TITLE.equals(annotation)
+                || SectionAnnotation.JOURNAL_TITLE.equals(annotation);
+            if (m_skipMetaInfo && SectionAnnotation.META_INFORMATION.equals(annotation)) {
+                //this is a meta information section that should be skipped -> continue
+                continue;
+            }
+            for (final Paragraph paragraph : section.getParagraphs()) {
+                int previousId = -1;
+                for (final Sentence sentence : paragraph.getSentences()) {
+                    for (final Term term : sentence.getTerms()) {
+                        if (!terms.containsTerm(term)) {
+                            previousId = -1;
+                            continue;
+                        }
+                        final int id = getLocalId(term);
+                        addToUnit(CooccurrenceLevel.DOCUMENT, id);
+                        addToUnit(CooccurrenceLevel.SECTION, id);
+                        addToUnit(CooccurrenceLevel.PARAGRAPH, id);
+                        addToUnit(CooccurrenceLevel.SENTENCE, id);
+                        //tread the title section extra
+                        if (title && inclTitle) {
+                            addToUnit(CooccurrenceLevel.TITLE, id);
+                        }
+                        if (inclNeighbors) {
+                            //ignore terms that are equal
+                            if (previousId >= 0 && previousId != id) {
+                                m_counts[CooccurrenceLevel.NEIGHBOR.ordinal()][getPair(previousId, id)]++;
+                            }
+                            previousId = id;
+                        }
+                    }
+                    processUnit(CooccurrenceLevel.SENTENCE);
+                    //count neighbors only within a sentence
+                    previousId = -1;
+                }
+                processUnit(CooccurrenceLevel.PARAGRAPH);
+            }
+            if (title) {
+                processUnit(CooccurrenceLevel.TITLE);
+            }
+            processUnit(CooccurrenceLevel.SECTION);
+        }
+        processUnit(CooccurrenceLevel.DOCUMENT);
+    }
+
+    private void addToUnit(final CooccurrenceLevel level, final int id) {
+        if (m_included[level.ordinal()]) {
+            m_units[level.ordinal()].add(id);
+        }
+    }
+
+    private int getLocalId(final Term term) {
+        final Object key = m_checkTags ? term : term.getWords();
+        final int id = m_termIds.get(key) - 1;
+        if (id >= 0) {
+            return id;
+        }
+        final int newId = m_terms.size();
+        m_termIds.put(key, newId + 1);
+        m_terms.add(term);
+        m_texts.add(term.getText());
+        return newId;
+    }
+
+    /**
+     * Adds the co-occurrences of all pairs of distinct terms of the unit of the given level, each pair co-occurs the
+     * minimum of the terms' frequencies, and clears the unit.
+     */
+    private void processUnit(final CooccurrenceLevel level) {
+        final Unit unit = m_units[level.ordinal()];
+        final int size = unit.m_size;
+        final int[] ids = unit.m_ids;
+        final int[] freqs = unit.m_freqs;
+        for (int i = 0; i < size; i++) {
+            final int id1 = ids[i];
+            final int freq1 = freqs[id1];
+            for (int j = i + 1; j < size; j++) {
+                final int id2 = ids[j];
+                final int pair = getPair(id1, id2);
+                //the count arrays might have been grown by getPair
+                m_counts[level.ordinal()][pair] += Math.min(freq1, freqs[id2]);
+            }
+        }
+        unit.clear();
+    }
+
+    /**
+     * Returns the index of the pair of the given terms, creating the pair if necessary. As in the former term tuple
+     * based implementation the first term of a created pair is the lexicographically smaller one, or the given first
+     * term if equal.
+     */
+    private int getPair(final int id1, final int id2) {
+        final long key = id1 < id2 ? ((long)id1 << 32) | id2 : ((long)id2 << 32) | id1;
+        final int pair = m_pairIds.get(key) - 1;
+        if (pair >= 0) {
+            return pair;
+        }
+        if (m_noOfPairs == m_term1.length) {
+            final int capacity = m_noOfPairs * 2;
+            m_term1 = Arrays.copyOf(m_term1, capacity);
+            m_term2 = Arrays.copyOf(m_term2, capacity);
+            for (int l = 0; l < NO_LEVELS; l++) {
+                m_counts[l] = Arrays.copyOf(m_counts[l], capacity);
+            }
+        }
+        final int newPair = m_noOfPairs++;
+        m_pairIds.put(key, newPair + 1);
+        if (m_texts.get(id1).compareTo(m_texts.get(id2)) <= 0) {
+            m_term1[newPair] = id1;
+            m_term2[newPair] = id2;
+        } else {
+            m_term1[newPair] = id2;
+            m_term2[newPair] = id1;
+        }
+        return newPair;
+    }
+
+    private void reset() {
+        m_termIds.clear();
+        m_terms.clear();
+        m_texts.clear();
+        m_pairIds.clear();
+        for (int l = 0; l < NO_LEVELS; l++) {
+            Arrays.fill(m_counts[l], 0, m_noOfPairs, 0);
+            m_units[l].clear();
+        }
+        m_noOfPairs = 0;
+    }
+
+    /**
+     * The distinct terms of a unit in order of first occurrence with their frequencies.
+     */
+    private static final class Unit {
+
+        private int[] m_ids = new int[64];
+
+        /** The frequencies indexed by local term id. */
+        private int[] m_freqs = new int[64];
+
+        private int m_size = 0;
+
+        void add(final int id) {
+            if (id >= m_freqs.length) {
+                m_freqs = Arrays.copyOf(m_freqs, Math.max(id + 1, m_freqs.length * 2));
+            }
+            if (m_freqs[id]++ == 0) {
+                if (m_size == m_ids.length) {
+                    m_ids = Arrays.copyOf(m_ids, m_size * 2);
+                }
+                m_ids[m_size++] = id;
+            }
+        }
+
+        void clear() {
+            for (int i = 0; i < m_size; i++) {
+                m_freqs[m_ids[i]] = 0;
+            }
+            m_size = 0;
+        }
+    }
+}
@@ -50,6 +50,9 @@
 import org.knime.core.node.defaultnodesettings.DialogComponentButtonGroup;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnNameSelection;
 import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.data.TermValue;
 
@@ -88,5 +91,20 @@ public CooccurrenceCounterNodeDialog() {
         addDialogComponent(new DialogComponentNumber(CooccurrenceCounterNodeModel.createProcessCountModel(),
                                                         "Maximum number of parallel processes", Integer.valueOf(1), 3));
         setHorizontalPlacement(false);
+        createNewGroup(" Corpus aggregation ");
+        final SettingsModelBoolean aggregateCorpusModel = CooccurrenceCounterNodeModel.createAggregateCorpusModel();
+        final SettingsModelString scoreModel = CooccurrenceCounterNodeModel.createScoreModel();
+        final SettingsModelIntegerBounded minDocCountModel = CooccurrenceCounterNodeModel.createMinDocCountModel();
+        aggregateCorpusModel.addChangeListener(e -> {
+            scoreModel.setEnabled(aggregateCorpusModel.getBooleanValue());
+            minDocCountModel.setEnabled(aggregateCorpusModel.getBooleanValue());
+        });
+        scoreModel.setEnabled(aggregateCorpusModel.getBooleanValue());
+        minDocCountModel.setEnabled(aggregateCorpusModel.getBooleanValue());
+        addDialogComponent(new DialogComponentBoolean(aggregateCorpusModel, "Aggregate over corpus"));
+        addDialogComponent(new DialogComponentButtonGroup(scoreModel, "Score", false, CooccurrenceScore.values()));
+        addDialogComponent(
+            new DialogComponentNumber(minDocCountModel, "Minimum document count", Integer.valueOf(1), 6));
+        closeCurrentGroup();
     }
 }
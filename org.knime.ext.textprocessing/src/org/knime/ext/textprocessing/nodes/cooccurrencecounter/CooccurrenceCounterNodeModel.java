@@ -47,25 +47,21 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.knime.base.data.sort.SortedTable;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.node.BufferedDataContainer;
@@ -82,17 +78,10 @@
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
-import org.knime.core.util.MutableInteger;
-import org.knime.core.util.ThreadPool;
-import org.knime.ext.textprocessing.data.Document;
-import org.knime.ext.textprocessing.data.DocumentCell;
 import org.knime.ext.textprocessing.data.DocumentValue;
-import org.knime.ext.textprocessing.data.Paragraph;
-import org.knime.ext.textprocessing.data.Section;
-import org.knime.ext.textprocessing.data.SectionAnnotation;
-import org.knime.ext.textprocessing.data.Sentence;
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.TermValue;
+import org.knime.ext.textprocessing.nodes.cooccurrencecounter.CooccurrenceWorker.CooccurrenceHandler;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
@@ -119,6 +108,12 @@ public class CooccurrenceCounterNodeModel extends NodeModel {
 
     private final SettingsModelInteger m_procCount = createProcessCountModel();
 
+    private final SettingsModelBoolean m_aggregateCorpus = createAggregateCorpusModel();
+
+    private final SettingsModelString m_score = createScoreModel();
+
+    private final SettingsModelIntegerBounded m_minDocCount = createMinDocCountModel();
+
     private TextContainerDataCellFactory m_termFac = TextContainerDataCellFactoryBuilder.createTermCellFactory();
 
     /**
@@ -158,6 +153,30 @@ static SettingsModelInteger createProcessCountModel() {
             Integer.MAX_VALUE);
     }
 
+    /**
+     * @return the aggregate co-occurrences over the corpus model
+     * @since 3.8
+     */
+    static SettingsModelBoolean createAggregateCorpusModel() {
+        return new SettingsModelBoolean("aggregateCorpus", false);
+    }
+
+    /**
+     * @return the score of the aggregated term pairs model
+     * @since 3.8
+     */
+    static SettingsModelString createScoreModel() {
+        return new SettingsModelString("cooccurrenceScore", CooccurrenceScore.getDefault().getActionCommand());
+    }
+
+    /**
+     * @return the minimum number of documents of the aggregated term pairs model
+     * @since 3.8
+     */
+    static SettingsModelIntegerBounded createMinDocCountModel() {
+        return new SettingsModelIntegerBounded("minDocumentCount", 1, 1, Integer.MAX_VALUE);
+    }
+
     /**
      * @return the sort input table model
      */
@@ -224,327 +243,105 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             myExec = exec;
         }
         final BufferedDataContainer dc = exec.createDataContainer(createResultSpec(spec));
-        DataCell previousDocCell = null;
         final boolean checkTags = m_checkTags.getBooleanValue();
-        final boolean skipMetaInfo = m_skipMetaInfo.getBooleanValue();
-        TermChecker terms = new TermChecker(checkTags);
-        int docRowCounter = 0;
-        int totalRowCounter = 0;
-        final AtomicInteger rowId = new AtomicInteger();
-        final AtomicInteger progressCounter = new AtomicInteger();
+        final CooccurrenceLevel level = CooccurrenceLevel.getCooccurrenceLevel(m_coocLevel.getStringValue());
+        final AtomicLong rowId = new AtomicLong(0);
         exec.setMessage("Processing documents...");
-        //initialize the thread pool
-        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool();
-        //The semaphore restricts the number of concurrent processes
-        final Semaphore semaphore = new Semaphore(m_procCount.getIntValue());
-        for (final DataRow row : table) {
-            docRowCounter++;
-            totalRowCounter++;
-            myExec.setMessage("Reading row " + totalRowCounter + " of " + rowCount);
-            exec.checkCanceled();
-            final DataCell docCell = row.getCell(docIdx);
-            if (docCell.isMissing()) {
-                //skip missing document cells
-                continue;
-            }
-            final DataCell termCell = row.getCell(termIdx);
-            if (termCell.isMissing()) {
-                //skip missing term cells
-                continue;
+        try (final CorpusCooccurrenceAggregator aggregator = new CorpusCooccurrenceAggregator(checkTags)) {
+            final CooccurrenceHandler handler;
+            if (m_aggregateCorpus.getBooleanValue()) {
+                handler = (docCell, cooccurrences) -> aggregator.add(cooccurrences);
+            } else {
+                handler = (docCell, cooccurrences) -> {
+                    for (int p = 0; p < cooccurrences.getNumberOfPairs(); p++) {
+                        final List<DataCell> cells = createCells(docCell,
+                            cooccurrences.getTerm(cooccurrences.getTerm1(p)),
+                            cooccurrences.getTerm(cooccurrences.getTerm2(p)), getCounts(cooccurrences, p));
+                        dc.addRowToTable(new DefaultRow(RowKey.createRowKey(rowId.getAndIncrement()), cells));
+                    }
+                };
             }
-            final Term term = ((TermValue)termCell).getTermValue();
-            if (previousDocCell == null) {
-                previousDocCell = docCell;
+            final CooccurrenceWorker worker = new CooccurrenceWorker(docIdx, termIdx, checkTags,
+                m_skipMetaInfo.getBooleanValue(), level, handler, rowCount, m_procCount.getIntValue(), myExec);
+            try {
+                worker.run(table);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception)e.getCause();
+                }
+                throw e;
             }
-            if (previousDocCell.equals(docCell)) {
-                terms.addTerm(term);
-            } else {
-                pool.enqueue(processDocument(myExec, rowCount, progressCounter, docRowCounter, semaphore, rowId, dc,
-                    previousDocCell, terms, skipMetaInfo, checkTags));
-                previousDocCell = docCell;
-                terms = new TermChecker(checkTags);
-                terms.addTerm(term);
-                docRowCounter = 0;
+            if (m_aggregateCorpus.getBooleanValue()) {
+                exec.setMessage("Writing aggregated co-occurrences...");
+                final CooccurrenceScore score = CooccurrenceScore.valueOf(m_score.getStringValue());
+                aggregator.write((term1, term2, counts, docCount, value) -> {
+                    final List<DataCell> cells = createCells(null, term1, term2, counts);
+                    cells.add(new IntCell(docCount));
+                    if (score != CooccurrenceScore.NONE) {
+                        cells.add(new DoubleCell(value));
+                    }
+                    dc.addRowToTable(new DefaultRow(RowKey.createRowKey(rowId.getAndIncrement()), cells));
+                }, m_minDocCount.getIntValue(), score, exec);
             }
         }
-        //process the last document
-        exec.setMessage("Processing documents...");
-        pool.enqueue(processDocument(myExec, rowCount, progressCounter, docRowCounter, semaphore, rowId, dc,
-            previousDocCell, terms, skipMetaInfo, checkTags));
-        pool.waitForTermination();
         dc.close();
         return new BufferedDataTable[]{dc.getTable()};
     }
 
-    private Runnable processDocument(final ExecutionMonitor exec, final long totalRowCount,
-        final AtomicInteger progressCounter, final int docRowCounter, final Semaphore semaphore,
-        final AtomicInteger rowId, final BufferedDataContainer dc, final DataCell docCell, final TermChecker terms,
-        final boolean skipMetaInformation, final boolean checkTags) throws CanceledExecutionException {
-        exec.checkCanceled();
-        return new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    semaphore.acquire();
-                    final Document doc = ((DocumentValue)docCell).getDocument();
-                    final HashMap<TermTuple, TermTuple> tuples = new LinkedHashMap<TermTuple, TermTuple>();
-                    final List<Section> sections = doc.getSections();
-                    final Map<TermContainer, MutableInteger> documentTerms =
-                        new LinkedHashMap<TermContainer, MutableInteger>();
-                    final Map<TermContainer, MutableInteger> titleTerms =
-                        new LinkedHashMap<TermContainer, MutableInteger>();
-                    final Map<TermContainer, MutableInteger> sectionTerms =
-                        new LinkedHashMap<TermContainer, MutableInteger>();
-                    final Map<TermContainer, MutableInteger> paragraphTerms =
-                        new LinkedHashMap<TermContainer, MutableInteger>();
-                    final Map<TermContainer, MutableInteger> sentenceTerms =
-                        new LinkedHashMap<TermContainer, MutableInteger>();
-                    for (final Section section : sections) {
-                        final SectionAnnotation annotation = section.getAnnotation();
-                        final boolean title = SectionAnnotation.TITLE.equals(annotation)
-                            || SectionAnnotation.CONFERENCE_TITLE.equals(annotation)
-                            || SectionAnnotation.JOURNAL_TITLE.equals(annotation);
-                        if (skipMetaInformation && SectionAnnotation.META_INFORMATION.equals(annotation)) {
-                            //this is a meta information section that should be skipped -> continue
-                            continue;
-                        }
-                        final List<Paragraph> paragraphs = section.getParagraphs();
-                        for (final Paragraph paragraph : paragraphs) {
-                            final List<Sentence> sentences = paragraph.getSentences();
-                            TermContainer previousTermContainer = null;
-                            for (final Sentence sentence : sentences) {
-                                exec.checkCanceled();
-                                final List<Term> termList = sentence.getTerms();
-                                for (final Term term : termList) {
-                                    if (terms.containsTerm(term)) {
-                                        final TermContainer termContainer = new TermContainer(checkTags, term);
-                                        if (inclDoc()) {
-                                            addTerm(documentTerms, termContainer);
-                                        }
-                                        if (inclSection()) {
-                                            addTerm(sectionTerms, termContainer);
-                                        }
-                                        if (inclParagraph()) {
-                                            addTerm(paragraphTerms, termContainer);
-                                        }
-                                        if (inclSentence()) {
-                                            addTerm(sentenceTerms, termContainer);
-                                        }
-                                        //tread the title section extra
-                                        if (title && inclTitle()) {
-                                            addTerm(titleTerms, termContainer);
-                                        }
-                                        if (inclNeighbors()) {
-                                            if (previousTermContainer != null) {
-                                                //the two terms are neighbors
-                                                processNeighbors(tuples, previousTermContainer, termContainer);
-                                            }
-                                            previousTermContainer = termContainer;
-                                        }
-                                    } else {
-                                        previousTermContainer = null;
-                                    }
-                                }
-                                //process all terms that co-occur in this sentence
-                                processTerms(tuples, sentenceTerms, CooccurrenceLevel.SENTENCE);
-                                //count neighbors only within a sentence
-                                previousTermContainer = null;
-                            }
-                            //process all terms that co-occur in this paragraph
-                            processTerms(tuples, paragraphTerms, CooccurrenceLevel.PARAGRAPH);
-                        }
-                        if (title) {
-                            //process all terms that co-occur in the title of this document
-                            processTerms(tuples, titleTerms, CooccurrenceLevel.TITLE);
-                        }
-                        //process all terms that co-occur in this section
-                        processTerms(tuples, sectionTerms, CooccurrenceLevel.SECTION);
-                    }
-                    //process all terms that co-occur in this document
-                    processTerms(tuples, documentTerms, CooccurrenceLevel.DOCUMENT);
-                    //create a data row for each tuple
-                    createRows(exec, rowId, dc, docCell, tuples);
-                    exec.setProgress(progressCounter.addAndGet(docRowCounter) / (double)totalRowCount);
-                } catch (final CanceledExecutionException e) {
-                    // this exception is handled outside of the thread
-                } catch (final InterruptedException e) {
-                    throw new IllegalStateException(e);
-                } finally {
-                    semaphore.release();
-                }
-            }
-        };
-    }
-
-    /**
-     * @param containerMap the term container and their occurrence counter
-     * @param termContainer the term to add to the map
-     */
-    void addTerm(final Map<TermContainer, MutableInteger> containerMap, final TermContainer termContainer) {
-        MutableInteger counter = containerMap.get(termContainer);
-        if (counter == null) {
-            counter = new MutableInteger(0);
-            containerMap.put(termContainer, counter);
+    private static int[] getCounts(final DocumentCooccurrences cooccurrences, final int pair) {
+        final CooccurrenceLevel[] levels = CooccurrenceLevel.values();
+        final int[] counts = new int[levels.length];
+        for (final CooccurrenceLevel level : levels) {
+            counts[level.ordinal()] = cooccurrences.getCount(pair, level);
         }
-        counter.inc();
+        return counts;
     }
 
     /**
-     * @param tuples {@link Map} that holds all {@link TermTuple}s
-     * @param terms the terms to add to the tuple map
-     * @param occurrence the type of occurrence
+     * @param docCell the document cell or <code>null</code> if the co-occurrences are aggregated over the corpus
+     * @param term1 the first term
+     * @param term2 the second term
+     * @param counts the co-occurrences indexed by the ordinal of the {@link CooccurrenceLevel}
+     * @return the cells of the result row
      */
-    void processTerms(final Map<TermTuple, TermTuple> tuples, final Map<TermContainer, MutableInteger> terms,
-        final CooccurrenceLevel occurrence) {
-        if (terms.size() < 2) {
-            //the map might contain one element which we need to remove as well
-            terms.clear();
-            return;
+    private List<DataCell> createCells(final DataCell docCell, final Term term1, final Term term2, final int[] counts) {
+        final List<DataCell> cells = new ArrayList<DataCell>();
+        if (docCell != null) {
+            cells.add(docCell);
         }
-        for (final Entry<TermContainer, MutableInteger> outerTerm : terms.entrySet()) {
-            boolean skip = true;
-            for (final Entry<TermContainer, MutableInteger> innerTerm : terms.entrySet()) {
-                if (skip) {
-                    if (innerTerm.equals(outerTerm)) {
-                        skip = false;
-                    }
-                    continue;
-                }
-                final TermTuple tuple = new TermTuple(outerTerm.getKey(), innerTerm.getKey());
-                TermTuple termTuple = tuples.get(tuple);
-                if (termTuple == null) {
-                    tuples.put(tuple, tuple);
-                    termTuple = tuple;
-                }
-                termTuple.inc(occurrence, outerTerm.getValue().intValue(), innerTerm.getValue().intValue());
-            }
+        if (m_checkTags.getBooleanValue()) {
+            cells.add(m_termFac.createDataCell(term1));
+            cells.add(m_termFac.createDataCell(term2));
+        } else {
+            cells.add(new StringCell(term1.getText()));
+            cells.add(new StringCell(term2.getText()));
         }
-        terms.clear();
-    }
-
-    /**
-     * @param tuples the {@link TermTuple}s
-     * @param termContainer1 the first term
-     * @param termContainer2 the second term
-     */
-    void processNeighbors(final Map<TermTuple, TermTuple> tuples, final TermContainer termContainer1,
-        final TermContainer termContainer2) {
-        //ignore terms that are equal
-        if (termContainer1.equals(termContainer2)) {
-            return;
+        if (inclDoc()) {
+            cells.add(new IntCell(counts[CooccurrenceLevel.DOCUMENT.ordinal()]));
+        }
+        if (inclSection()) {
+            cells.add(new IntCell(counts[CooccurrenceLevel.SECTION.ordinal()]));
         }
-        final TermTuple tuple = new TermTuple(termContainer1, termContainer2);
-        TermTuple termTuple = tuples.get(tuple);
-        if (termTuple == null) {
-            tuples.put(tuple, tuple);
-            termTuple = tuple;
+        if (inclParagraph()) {
+            cells.add(new IntCell(counts[CooccurrenceLevel.PARAGRAPH.ordinal()]));
         }
-        termTuple.incNeighbors();
-    }
-
-    /**
-     * @param exec provide progress and cancellation
-     * @param rowId the {@link AtomicInteger} that holds the row id
-     * @param dc the data container to use
-     * @param docCell the {@link DocumentCell} that contains the given tuples
-     * @param tuples the tuples that occurred in the given document
-     * @throws CanceledExecutionException if the operation has been canceled
-     */
-    void createRows(final ExecutionMonitor exec, final AtomicLong rowId, final BufferedDataContainer dc,
-        final DataCell docCell, final HashMap<TermTuple, TermTuple> tuples) throws CanceledExecutionException {
-        synchronized (dc) {
-            //we synchronize the whole block to ensure that the tuples of a
-            //document added consecutively to the table
-            for (final TermTuple tuple : tuples.keySet()) {
-                exec.checkCanceled();
-                final List<DataCell> cells = new LinkedList<DataCell>();
-                cells.add(docCell);
-                if (m_checkTags.getBooleanValue()) {
-                    cells.add(m_termFac.createDataCell(tuple.getTerm1()));
-                    cells.add(m_termFac.createDataCell(tuple.getTerm2()));
-                } else {
-                    cells.add(new StringCell(tuple.getTerm1().getText()));
-                    cells.add(new StringCell(tuple.getTerm2().getText()));
-                }
-                if (inclDoc()) {
-                    cells.add(new IntCell(tuple.getDocument()));
-                }
-                if (inclSection()) {
-                    cells.add(new IntCell(tuple.getSection()));
-                }
-                if (inclParagraph()) {
-                    cells.add(new IntCell(tuple.getParagraph()));
-                }
-                if (inclSentence()) {
-                    cells.add(new IntCell(tuple.getSentence()));
-                }
-                if (inclNeighbors()) {
-                    cells.add(new IntCell(tuple.getNeighbor()));
-                }
-                if (inclTitle()) {
-                    cells.add(new IntCell(tuple.getTitle()));
-                }
-                final DefaultRow row = new DefaultRow(RowKey.createRowKey(rowId.getAndIncrement()), cells);
-                dc.addRowToTable(row);
-            }
+        if (inclSentence()) {
+            cells.add(new IntCell(counts[CooccurrenceLevel.SENTENCE.ordinal()]));
         }
-    }
-
-    /**
-     * @param exec provide progress and cancellation
-     * @param rowId the {@link AtomicInteger} that holds the row id
-     * @param dc the data container to use
-     * @param docCell the {@link DocumentCell} that contains the given tuples
-     * @param tuples the tuples that occurred in the given document
-     * @throws CanceledExecutionException if the operation has been canceled
-     * @deprecated Use
-     *             {@link CooccurrenceCounterNodeModel#createRows(ExecutionMonitor, AtomicLong, BufferedDataContainer, DataCell, HashMap)}
-     *             instead.
-     */
-    @Deprecated
-    void createRows(final ExecutionMonitor exec, final AtomicInteger rowId, final BufferedDataContainer dc,
-        final DataCell docCell, final HashMap<TermTuple, TermTuple> tuples) throws CanceledExecutionException {
-        synchronized (dc) {
-            //we synchronize the whole block to ensure that the tuples of a
-            //document added consecutively to the table
-            for (final TermTuple tuple : tuples.keySet()) {
-                exec.checkCanceled();
-                final List<DataCell> cells = new LinkedList<DataCell>();
-                cells.add(docCell);
-                if (m_checkTags.getBooleanValue()) {
-                    cells.add(m_termFac.createDataCell(tuple.getTerm1()));
-                    cells.add(m_termFac.createDataCell(tuple.getTerm2()));
-                } else {
-                    cells.add(new StringCell(tuple.getTerm1().getText()));
-                    cells.add(new StringCell(tuple.getTerm2().getText()));
-                }
-                if (inclDoc()) {
-                    cells.add(new IntCell(tuple.getDocument()));
-                }
-                if (inclSection()) {
-                    cells.add(new IntCell(tuple.getSection()));
-                }
-                if (inclParagraph()) {
-                    cells.add(new IntCell(tuple.getParagraph()));
-                }
-                if (inclSentence()) {
-                    cells.add(new IntCell(tuple.getSentence()));
-                }
-                if (inclNeighbors()) {
-                    cells.add(new IntCell(tuple.getNeighbor()));
-                }
-                if (inclTitle()) {
-                    cells.add(new IntCell(tuple.getTitle()));
-                }
-                final DefaultRow row = new DefaultRow(RowKey.createRowKey(rowId.getAndIncrement()), cells);
-                dc.addRowToTable(row);
-            }
+        if (inclNeighbors()) {
+            cells.add(new IntCell(counts[CooccurrenceLevel.NEIGHBOR.ordinal()]));
         }
+        if (inclTitle()) {
+            cells.add(new IntCell(counts[CooccurrenceLevel.TITLE.ordinal()]));
+        }
+        return cells;
     }
 
     private DataTableSpec createResultSpec(final DataTableSpec spec) {
         final List<DataColumnSpec> specs = new LinkedList<DataColumnSpec>();
-        specs.add(spec.getColumnSpec(m_docCol.getStringValue()));
+        if (!m_aggregateCorpus.getBooleanValue()) {
+            specs.add(spec.getColumnSpec(m_docCol.getStringValue()));
+        }
         final DataColumnSpecCreator creator;
         if (m_checkTags.getBooleanValue()) {
             creator = new DataColumnSpecCreator(spec.getColumnSpec(m_termCol.getStringValue()));
@@ -580,6 +377,16 @@ private DataTableSpec createResultSpec(final DataTableSpec spec) {
             creator.setName("Title cooccurrence");
             specs.add(creator.createSpec());
         }
+        if (m_aggregateCorpus.getBooleanValue()) {
+            creator.setName("Document count");
+            specs.add(creator.createSpec());
+            final CooccurrenceScore score = CooccurrenceScore.valueOf(m_score.getStringValue());
+            if (score != CooccurrenceScore.NONE) {
+                creator.setName(score.getText());
+                creator.setType(DoubleCell.TYPE);
+                specs.add(creator.createSpec());
+            }
+        }
         return new DataTableSpec(specs.toArray(new DataColumnSpec[0]));
     }
 
@@ -646,6 +453,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_checkTags.saveSettingsTo(settings);
         m_coocLevel.saveSettingsTo(settings);
         m_skipMetaInfo.saveSettingsTo(settings);
+        m_aggregateCorpus.saveSettingsTo(settings);
+        m_score.saveSettingsTo(settings);
+        m_minDocCount.saveSettingsTo(settings);
     }
 
     /**
@@ -659,6 +469,22 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         m_procCount.validateSettings(settings);
         m_checkTags.validateSettings(settings);
         m_coocLevel.validateSettings(settings);
+        // added in 3.8
+        if (settings.containsKey(m_aggregateCorpus.getConfigName())) {
+            m_aggregateCorpus.validateSettings(settings);
+        }
+        if (settings.containsKey(m_score.getConfigName())) {
+            m_score.validateSettings(settings);
+            final String score = settings.getString(m_score.getConfigName());
+            try {
+                CooccurrenceScore.valueOf(score);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSettingsException("Unknown co-occurrence score: " + score, e);
+            }
+        }
+        if (settings.containsKey(m_minDocCount.getConfigName())) {
+            m_minDocCount.validateSettings(settings);
+        }
     }
 
     /**
@@ -678,6 +504,16 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
             //new introduced in KNIME 2.8
             m_skipMetaInfo.setBooleanValue(false);
         }
+        // added in 3.8
+        if (settings.containsKey(m_aggregateCorpus.getConfigName())) {
+            m_aggregateCorpus.loadSettingsFrom(settings);
+        }
+        if (settings.containsKey(m_score.getConfigName())) {
+            m_score.loadSettingsFrom(settings);
+        }
+        if (settings.containsKey(m_minDocCount.getConfigName())) {
+            m_minDocCount.loadSettingsFrom(settings);
+        }
     }
 
     /**
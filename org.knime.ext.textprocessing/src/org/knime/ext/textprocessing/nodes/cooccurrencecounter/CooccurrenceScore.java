@@ -0,0 +1,141 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.cooccurrencecounter;
+
+import org.knime.core.node.util.ButtonGroupEnumInterface;
+import org.knime.ext.textprocessing.util.similarity.PointwiseMutualInformation;
+
+/**
+ * The association scores of term pairs that can be computed when the co-occurrences are aggregated over the corpus.
+ * The probabilities are estimated from the number of documents containing a term or a pair of terms.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public enum CooccurrenceScore implements ButtonGroupEnumInterface {
+
+    /** No score. */
+    NONE("None", "Do not compute a score", true),
+    /** Point-wise mutual information. */
+    PMI("PMI", "Compute the point-wise mutual information of the term pairs", false),
+    /** Normalized point-wise mutual information. */
+    NPMI("NPMI", "Compute the normalized point-wise mutual information of the term pairs, ranging from -1 to 1",
+        false);
+
+    private final String m_text;
+
+    private final String m_tooltip;
+
+    private final boolean m_isDefault;
+
+    private CooccurrenceScore(final String text, final String tooltip, final boolean isDefault) {
+        m_text = text;
+        m_tooltip = tooltip;
+        m_isDefault = isDefault;
+    }
+
+    /**
+     * @param pairDocCount the number of documents containing both terms
+     * @param docFreq1 the number of documents containing the first term
+     * @param docFreq2 the number of documents containing the second term
+     * @param noOfDocs the number of documents
+     * @return the score of the pair or {@link Double#NaN} if no score is computed
+     */
+    double getScore(final int pairDocCount, final int docFreq1, final int docFreq2, final int noOfDocs) {
+        final double joint = pairDocCount / (double)noOfDocs;
+        final double p1 = docFreq1 / (double)noOfDocs;
+        final double p2 = docFreq2 / (double)noOfDocs;
+        switch (this) {
+            case PMI:
+                return PointwiseMutualInformation.pmi(joint, p1, p2);
+            case NPMI:
+                return PointwiseMutualInformation.npmi(joint, p1, p2);
+            default:
+                return Double.NaN;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getText() {
+        return m_text;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getActionCommand() {
+        return name();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getToolTip() {
+        return m_tooltip;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDefault() {
+        return m_isDefault;
+    }
+
+    /**
+     * @return the default {@link CooccurrenceScore}
+     */
+    public static CooccurrenceScore getDefault() {
+        return NONE;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.cooccurrencecounter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.util.MultiThreadWorker;
+import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.data.TermValue;
+
+/**
+ * Multi-threaded co-occurrence counter. The consecutive rows of the same document are grouped, the co-occurrences of
+ * the groups are counted in parallel by thread local {@link CooccurrenceCounter}s and handed to a
+ * {@link CooccurrenceHandler} in the order of the input table.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class CooccurrenceWorker extends MultiThreadWorker<CooccurrenceWorker.DocumentTerms, DocumentCooccurrences> {
+
+    /**
+     * The number of counted documents per thread, which may be queued waiting for the preceding documents.
+     */
+    private static final int QUEUE_SIZE_PER_THREAD = 4;
+
+    private final int m_docColIdx;
+
+    private final int m_termColIdx;
+
+    private final boolean m_checkTags;
+
+    private final ThreadLocal<CooccurrenceCounter> m_counters;
+
+    private final CooccurrenceHandler m_handler;
+
+    private final long m_totalNoOfRows;
+
+    private final ExecutionMonitor m_exec;
+
+    private final AtomicLong m_processedRowCount = new AtomicLong(0);
+
+    /**
+     * Creates a new instance of {@code CooccurrenceWorker}.
+     *
+     * @param docColIdx The index of the document column.
+     * @param termColIdx The index of the term column.
+     * @param checkTags {@code true} if terms with equal words but different tags are different terms.
+     * @param skipMetaInfo {@code true} if meta information sections are skipped.
+     * @param level The selected co-occurrence level.
+     * @param handler The handler of the co-occurrences of each document.
+     * @param totalNoOfRows The total number of input rows.
+     * @param maxActiveInstanceSize The number of threads.
+     * @param exec The execution monitor to report progress.
+     */
+    CooccurrenceWorker(final int docColIdx, final int termColIdx, final boolean checkTags,
+        final boolean skipMetaInfo, final CooccurrenceLevel level, final CooccurrenceHandler handler,
+        final long totalNoOfRows, final int maxActiveInstanceSize, final ExecutionMonitor exec) {
+        super(maxActiveInstanceSize * QUEUE_SIZE_PER_THREAD, maxActiveInstanceSize);
+        m_docColIdx = docColIdx;
+        m_termColIdx = termColIdx;
+        m_checkTags = checkTags;
+        m_counters = ThreadLocal.withInitial(() -> new CooccurrenceCounter(checkTags, skipMetaInfo, level));
+        m_handler = handler;
+        m_totalNoOfRows = totalNoOfRows;
+        m_exec = exec;
+    }
+
+    /**
+     * Counts the co-occurrences of all documents of the given table.
+     *
+     * @param table The table containing the documents and their terms, the rows of a document have to be consecutive.
+     * @throws InterruptedException If the thread has been interrupted.
+     * @throws ExecutionException If the counting or handling of a document failed.
+     * @throws CancellationException If the execution has been canceled.
+     */
+    void run(final DataTable table) throws InterruptedException, ExecutionException, CancellationException {
+        run(() -> new DocumentTermsIterator(table.iterator()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected DocumentCooccurrences compute(final DocumentTerms in, final long index) throws Exception {
+        m_exec.checkCanceled();
+        final DocumentCooccurrences cooccurrences =
+            m_counters.get().count(((DocumentValue)in.m_docCell).getDocument(), in.m_terms);
+        final long processed = m_processedRowCount.addAndGet(in.m_noOfRows);
+        m_exec.setProgress(processed / (double)Math.max(1, m_totalNoOfRows),
+            () -> "Processing row " + processed + " of " + m_totalNoOfRows);
+        return cooccurrences;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void processFinished(
+        final MultiThreadWorker<DocumentTerms, DocumentCooccurrences>.ComputationTask task)
+        throws ExecutionException, CancellationException, InterruptedException {
+        try {
+            m_handler.handle(task.getInput().m_docCell, task.get());
+        } catch (final IOException e) {
+            throw new ExecutionException(e);
+        }
+    }
+
+    /**
+     * Handles the co-occurrences of the documents in the order of the input table.
+     */
+    @FunctionalInterface
+    interface CooccurrenceHandler {
+
+        /**
+         * @param docCell The document cell.
+         * @param cooccurrences The co-occurrences of the document.
+         * @throws IOException If the co-occurrences could not be written.
+         */
+        void handle(DataCell docCell, DocumentCooccurrences cooccurrences) throws IOException;
+    }
+
+    /**
+     * A document and the terms of its consecutive rows.
+     */
+    static final class DocumentTerms {
+
+        private final DataCell m_docCell;
+
+        private final TermChecker m_terms;
+
+        private long m_noOfRows = 0;
+
+        private DocumentTerms(final DataCell docCell, final TermChecker terms) {
+            m_docCell = docCell;
+            m_terms = terms;
+        }
+    }
+
+    /**
+     * Groups the consecutive rows of the same document. Rows with a missing document or term are skipped.
+     */
+    private final class DocumentTermsIterator implements Iterator<DocumentTerms> {
+
+        private final Iterator<DataRow> m_rows;
+
+        /** The number of skipped rows not yet assigned to a document, only used for the progress. */
+        private long m_noOfSkippedRows = 0;
+
+        private DataRow m_nextRow;
+
+        DocumentTermsIterator(final Iterator<DataRow> rows) {
+            m_rows = rows;
+            m_nextRow = nextValidRow();
+        }
+
+        private DataRow nextValidRow() {
+            while (m_rows.hasNext()) {
+                final DataRow row = m_rows.next();
+                if (!row.getCell(m_docColIdx).isMissing() && !row.getCell(m_termColIdx).isMissing()) {
+                    return row;
+                }
+                m_noOfSkippedRows++;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_nextRow != null;
+        }
+
+        @Override
+        public DocumentTerms next() {
+            if (m_nextRow == null) {
+                throw new NoSuchElementException();
+            }
+            final DataCell docCell = m_nextRow.getCell(m_docColIdx);
+            final DocumentTerms doc = new DocumentTerms(docCell, new TermChecker(m_checkTags));
+            while (m_nextRow != null && docCell.equals(m_nextRow.getCell(m_docColIdx))) {
+                doc.m_terms.addTerm(((TermValue)m_nextRow.getCell(m_termColIdx)).getTermValue());
+                doc.m_noOfRows += 1 + m_noOfSkippedRows;
+                m_noOfSkippedRows = 0;
+                m_nextRow = nextValidRow();
+            }
+            if (m_nextRow == null) {
+                doc.m_noOfRows += m_noOfSkippedRows;
+            }
+            return doc;
+        }
+    }
+}
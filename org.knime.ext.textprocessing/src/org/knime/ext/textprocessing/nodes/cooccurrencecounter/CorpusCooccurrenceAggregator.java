@@ -0,0 +1,492 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.cooccurrencecounter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+import org.knime.ext.textprocessing.data.Term;
+
+import gnu.trove.TLongIntHashMap;
+import gnu.trove.TObjectIntHashMap;
+
+/**
+ * Sums the co-occurrences of the term pairs over all documents of a corpus. The terms are mapped to corpus wide int
+ * ids, the pair counts are kept in a primitive map keyed by the two ids packed into a {@code long}. To bound the
+ * memory the counts are written as sorted runs to temporary files once the map exceeds a maximum number of pairs
+ * ({@link #MAX_PAIRS_IN_MEMORY} by default), the runs are merged when the result is written. At most a maximum number
+ * of runs ({@link #MAX_MERGE_FAN_IN} by default) are read at once, more runs are first merged into intermediate runs.
+ * <p>
+ * Besides the co-occurrences the number of documents containing each term and each pair is counted, these document
+ * frequencies are used to prune rare pairs and to compute the {@link CooccurrenceScore} of the pairs.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class CorpusCooccurrenceAggregator implements AutoCloseable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(CorpusCooccurrenceAggregator.class);
+
+    /**
+     * The default maximum number of pairs kept in memory before they are written to a run file.
+     */
+    static final int MAX_PAIRS_IN_MEMORY = 1 << 20;
+
+    /**
+     * The default maximum number of runs that are merged at once, which bounds the number of open files and read
+     * buffers.
+     */
+    static final int MAX_MERGE_FAN_IN = 64;
+
+    private static final int NO_LEVELS = CooccurrenceLevel.values().length;
+
+    /** The index of the number of documents containing a pair in the count arrays. */
+    private static final int DOC_COUNT = NO_LEVELS;
+
+    private static final int NO_COUNTS = NO_LEVELS + 1;
+
+    private final boolean m_checkTags;
+
+    private final int m_maxPairsInMemory;
+
+    private final int m_maxMergeFanIn;
+
+    /** Maps a term (or its words if tags are not checked) to its corpus id + 1. */
+    private final TObjectIntHashMap<Object> m_termIds = new TObjectIntHashMap<>();
+
+    private final List<Term> m_terms = new ArrayList<>();
+
+    private final List<String> m_texts = new ArrayList<>();
+
+    /** Maps the packed ids of a pair to its index + 1. */
+    private final TLongIntHashMap m_pairIds = new TLongIntHashMap();
+
+    /** The counts of the levels followed by the document count indexed by pair. */
+    private final int[][] m_counts = new int[NO_COUNTS][1024];
+
+    private int m_noOfPairs = 0;
+
+    /** The number of documents containing a term indexed by corpus id. */
+    private int[] m_docFreqs = new int[1024];
+
+    private int m_noOfDocs = 0;
+
+    private final List<Run> m_runs = new ArrayList<>();
+
+    /**
+     * Creates a new instance of {@code CorpusCooccurrenceAggregator}.
+     *
+     * @param checkTags {@code true} if terms with equal words but different tags are different terms.
+     */
+    CorpusCooccurrenceAggregator(final boolean checkTags) {
+        this(checkTags, MAX_PAIRS_IN_MEMORY, MAX_MERGE_FAN_IN);
+    }
+
+    /**
+     * Creates a new instance of {@code CorpusCooccurrenceAggregator} with the given memory and merge limits.
+     *
+     * @param checkTags {@code true} if terms with equal words but different tags are different terms.
+     * @param maxPairsInMemory The maximum number of pairs kept in memory before they are written to a run file.
+     * @param maxMergeFanIn The maximum number of runs that are merged at once, at least 2.
+     */
+    CorpusCooccurrenceAggregator(final boolean checkTags, final int maxPairsInMemory, final int maxMergeFanIn) {
+        if (maxPairsInMemory < 1) {
+            throw new IllegalArgumentException("The maximum number of pairs in memory must be larger than 0!");
+        }
+        if (maxMergeFanIn < 2) {
+            throw new IllegalArgumentException("The maximum merge fan-in must be larger than 1!");
+        }
+        m_checkTags = checkTags;
+        m_maxPairsInMemory = maxPairsInMemory;
+        m_maxMergeFanIn = maxMergeFanIn;
+    }
+
+    /**
+     * Adds the co-occurrences of a document.
+     *
+     * @param cooccurrences The co-occurrences of the document.
+     * @throws IOException If a run could not be written.
+     */
+    void add(final DocumentCooccurrences cooccurrences) throws IOException {
+        m_noOfDocs++;
+        final int[] ids = new int[cooccurrences.getNumberOfTerms()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = getId(cooccurrences.getTerm(i));
+            m_docFreqs[ids[i]]++;
+        }
+        final CooccurrenceLevel[] levels = CooccurrenceLevel.values();
+        for (int p = 0; p < cooccurrences.getNumberOfPairs(); p++) {
+            final int pair = getPair(ids[cooccurrences.getTerm1(p)], ids[cooccurrences.getTerm2(p)]);
+            for (int l = 0; l < NO_LEVELS; l++) {
+                m_counts[l][pair] += cooccurrences.getCount(p, levels[l]);
+            }
+            m_counts[DOC_COUNT][pair]++;
+        }
+        if (m_noOfPairs > m_maxPairsInMemory) {
+            spill();
+        }
+    }
+
+    private int getId(final Term term) {
+        final Object key = m_checkTags ? term : term.getWords();
+        final int id = m_termIds.get(key) - 1;
+        if (id >= 0) {
+            return id;
+        }
+        final int newId = m_terms.size();
+        if (newId == m_docFreqs.length) {
+            m_docFreqs = Arrays.copyOf(m_docFreqs, newId * 2);
+        }
+        m_termIds.put(key, newId + 1);
+        m_terms.add(term);
+        m_texts.add(term.getText());
+        return newId;
+    }
+
+    private int getPair(final int id1, final int id2) {
+        final long key = pack(id1, id2);
+        final int pair = m_pairIds.get(key) - 1;
+        if (pair >= 0) {
+            return pair;
+        }
+        if (m_noOfPairs == m_counts[0].length) {
+            for (int l = 0; l < NO_COUNTS; l++) {
+                m_counts[l] = Arrays.copyOf(m_counts[l], m_noOfPairs * 2);
+            }
+        }
+        m_pairIds.put(key, m_noOfPairs + 1);
+        return m_noOfPairs++;
+    }
+
+    private static long pack(final int id1, final int id2) {
+        return id1 < id2 ? ((long)id1 << 32) | id2 : ((long)id2 << 32) | id1;
+    }
+
+    /**
+     * Returns the keys of the pairs in memory in ascending order.
+     */
+    private long[] sortedKeys() {
+        final long[] keys = m_pairIds.keys();
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    private void clearPairs() {
+        for (int l = 0; l < NO_COUNTS; l++) {
+            Arrays.fill(m_counts[l], 0, m_noOfPairs, 0);
+        }
+        m_pairIds.clear();
+        m_noOfPairs = 0;
+    }
+
+    /**
+     * Writes the pairs in memory as sorted run to a temporary file.
+     */
+    private void spill() throws IOException {
+        final long[] keys = sortedKeys();
+        final Run run = createRun();
+        LOGGER.debug("Writing " + keys.length + " co-occurrence pairs to " + run.m_file);
+        try (final DataOutputStream out = openRun(run)) {
+            for (final long key : keys) {
+                final int pair = m_pairIds.get(key) - 1;
+                out.writeLong(key);
+                for (int l = 0; l < NO_COUNTS; l++) {
+                    out.writeInt(m_counts[l][pair]);
+                }
+            }
+        }
+        run.m_size = keys.length;
+        clearPairs();
+    }
+
+    /**
+     * Creates a new empty run, which is registered in order to be deleted on {@link #close()}.
+     */
+    private Run createRun() throws IOException {
+        final Run run = new Run(FileUtil.createTempFile("cooccurrences", ".bin"));
+        m_runs.add(run);
+        return run;
+    }
+
+    private static DataOutputStream openRun(final Run run) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run.m_file), 1 << 16));
+    }
+
+    /**
+     * Merges the oldest runs, as many as the maximum fan-in, into a new run until at most as many runs as the
+     * maximum fan-in are left. The counts of a pair are summed, pairs are not pruned since their counts may be spread over runs.
+     */
+    private void mergeIntermediateRuns(final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        while (m_runs.size() > m_maxMergeFanIn) {
+            final List<Run> group = new ArrayList<>(m_runs.subList(0, m_maxMergeFanIn));
+            final Run run = createRun();
+            LOGGER.debug("Merging " + group.size() + " co-occurrence runs into " + run.m_file);
+            final long[] size = new long[1];
+            try (final DataOutputStream out = openRun(run)) {
+                merge(group, (key, counts) -> {
+                    out.writeLong(key);
+                    for (int l = 0; l < NO_COUNTS; l++) {
+                        out.writeInt(counts[l]);
+                    }
+                    size[0]++;
+                }, exec);
+            }
+            run.m_size = size[0];
+            for (final Run merged : group) {
+                deleteRun(merged);
+            }
+            m_runs.subList(0, m_maxMergeFanIn).clear();
+        }
+    }
+
+    /**
+     * Hands the summed co-occurrences of all pairs to the given handler, ordered by the ids of the terms. Pairs that
+     * occur in less than the given number of documents are pruned while the counts are merged.
+     *
+     * @param handler The handler of the pairs.
+     * @param minDocCount The minimum number of documents a pair has to occur in.
+     * @param score The score to compute for each pair.
+     * @param exec The execution monitor to check for cancellation.
+     * @throws IOException If a run could not be read or written.
+     * @throws CanceledExecutionException If the execution has been canceled.
+     */
+    void write(final PairHandler handler, final int minDocCount, final CooccurrenceScore score,
+        final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        final int[] counts = new int[NO_COUNTS];
+        if (m_runs.isEmpty()) {
+            for (final long key : sortedKeys()) {
+                exec.checkCanceled();
+                final int pair = m_pairIds.get(key) - 1;
+                for (int l = 0; l < NO_COUNTS; l++) {
+                    counts[l] = m_counts[l][pair];
+                }
+                handlePair(handler, key, counts, minDocCount, score);
+            }
+            clearPairs();
+            return;
+        }
+        if (m_noOfPairs > 0) {
+            spill();
+        }
+        mergeIntermediateRuns(exec);
+        merge(m_runs, (key, mergedCounts) -> handlePair(handler, key, mergedCounts, minDocCount, score), exec);
+    }
+
+    /**
+     * Merges the given runs and hands the summed counts of each pair to the given handler in ascending order of the
+     * pair keys.
+     */
+    private static void merge(final List<Run> runs, final MergedPairHandler handler, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        final int[] counts = new int[NO_COUNTS];
+        final PriorityQueue<RunReader> queue =
+            new PriorityQueue<>(runs.size(), Comparator.comparingLong(r -> r.m_key));
+        try {
+            for (final Run run : runs) {
+                final RunReader reader = new RunReader(run);
+                if (reader.next()) {
+                    queue.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+            while (!queue.isEmpty()) {
+                exec.checkCanceled();
+                final long key = queue.peek().m_key;
+                Arrays.fill(counts, 0);
+                // sum the counts of the pair over all runs
+                while (!queue.isEmpty() && queue.peek().m_key == key) {
+                    final RunReader reader = queue.poll();
+                    for (int l = 0; l < NO_COUNTS; l++) {
+                        counts[l] += reader.m_counts[l];
+                    }
+                    if (reader.next()) {
+                        queue.add(reader);
+                    } else {
+                        reader.close();
+                    }
+                }
+                handler.handle(key, counts);
+            }
+        } finally {
+            for (final RunReader reader : queue) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Prunes rare pairs, computes the score and orients the pair as the document counts do, the
+     * lexicographically smaller term is the first one.
+     */
+    private void handlePair(final PairHandler handler, final long key, final int[] counts, final int minDocCount,
+        final CooccurrenceScore score) throws CanceledExecutionException {
+        final int docCount = counts[DOC_COUNT];
+        if (docCount < minDocCount) {
+            return;
+        }
+        final int id1 = (int)(key >>> 32);
+        final int id2 = (int)key;
+        final double value = score.getScore(docCount, m_docFreqs[id1], m_docFreqs[id2], m_noOfDocs);
+        if (m_texts.get(id1).compareTo(m_texts.get(id2)) <= 0) {
+            handler.handle(m_terms.get(id1), m_terms.get(id2), counts, docCount, value);
+        } else {
+            handler.handle(m_terms.get(id2), m_terms.get(id1), counts, docCount, value);
+        }
+    }
+
+    /**
+     * Deletes the temporary run files.
+     */
+    @Override
+    public void close() {
+        for (final Run run : m_runs) {
+            deleteRun(run);
+        }
+        m_runs.clear();
+    }
+
+    private static void deleteRun(final Run run) {
+        if (!run.m_file.delete() && run.m_file.exists()) {
+            LOGGER.debug("Could not delete temporary file " + run.m_file);
+        }
+    }
+
+    /**
+     * Handles the summed counts of a pair while runs are merged.
+     */
+    @FunctionalInterface
+    private interface MergedPairHandler {
+
+        void handle(long key, int[] counts) throws IOException, CanceledExecutionException;
+    }
+
+    /**
+     * Handles the summed co-occurrences of a pair of terms.
+     */
+    @FunctionalInterface
+    interface PairHandler {
+
+        /**
+         * @param term1 The first term.
+         * @param term2 The second term.
+         * @param counts The co-occurrences indexed by the ordinal of the {@link CooccurrenceLevel}.
+         * @param docCount The number of documents containing both terms.
+         * @param score The score of the pair or {@link Double#NaN} if no score is computed.
+         * @throws CanceledExecutionException If the execution has been canceled.
+         */
+        void handle(Term term1, Term term2, int[] counts, int docCount, double score)
+            throws CanceledExecutionException;
+    }
+
+    /**
+     * A sorted run written to a temporary file.
+     */
+    private static final class Run {
+
+        private final File m_file;
+
+        /** The number of pairs, set once the run has been written. */
+        private long m_size;
+
+        Run(final File file) {
+            m_file = file;
+        }
+    }
+
+    /**
+     * Reads the pairs of a run one after another.
+     */
+    private static final class RunReader implements AutoCloseable {
+
+        private final DataInputStream m_in;
+
+        private long m_remaining;
+
+        private long m_key;
+
+        private final int[] m_counts = new int[NO_COUNTS];
+
+        RunReader(final Run run) throws IOException {
+            m_in = new DataInputStream(new BufferedInputStream(new FileInputStream(run.m_file), 1 << 16));
+            m_remaining = run.m_size;
+        }
+
+        boolean next() throws IOException {
+            if (m_remaining == 0) {
+                return false;
+            }
+            m_remaining--;
+            m_key = m_in.readLong();
+            for (int l = 0; l < NO_COUNTS; l++) {
+                m_counts[l] = m_in.readInt();
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            m_in.close();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.cooccurrencecounter;
+
+import java.util.List;
+
+import org.knime.ext.textprocessing.data.Term;
+
+/**
+ * The co-occurrences of the term pairs of a single document, as computed by {@link CooccurrenceCounter}. The terms
+ * are identified by document local ids, the counts are indexed by the ordinal of the {@link CooccurrenceLevel}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class DocumentCooccurrences {
+
+    private final List<Term> m_terms;
+
+    private final int[] m_term1;
+
+    private final int[] m_term2;
+
+    private final int[][] m_counts;
+
+    /**
+     * Creates a new instance of {@code DocumentCooccurrences}.
+     *
+     * @param terms The terms of the document, indexed by their local id.
+     * @param term1 The local ids of the first terms of the pairs.
+     * @param term2 The local ids of the second terms of the pairs.
+     * @param counts The counts of the pairs per level, indexed by the ordinal of the {@link CooccurrenceLevel}.
+     */
+    DocumentCooccurrences(final List<Term> terms, final int[] term1, final int[] term2, final int[][] counts) {
+        m_terms = terms;
+        m_term1 = term1;
+        m_term2 = term2;
+        m_counts = counts;
+    }
+
+    /**
+     * @return The number of term pairs.
+     */
+    int getNumberOfPairs() {
+        return m_term1.length;
+    }
+
+    /**
+     * @param localId The local id of a term.
+     * @return The term with the given id.
+     */
+    Term getTerm(final int localId) {
+        return m_terms.get(localId);
+    }
+
+    /**
+     * @return The number of distinct terms of the document.
+     */
+    int getNumberOfTerms() {
+        return m_terms.size();
+    }
+
+    /**
+     * @param pair The index of the pair.
+     * @return The local id of the first term of the pair.
+     */
+    int getTerm1(final int pair) {
+        return m_term1[pair];
+    }
+
+    /**
+     * @param pair The index of the pair.
+     * @return The local id of the second term of the pair.
+     */
+    int getTerm2(final int pair) {
+        return m_term2[pair];
+    }
+
+    /**
+     * @param pair The index of the pair.
+     * @param level The co-occurrence level.
+     * @return The number of co-occurrences of the pair on the given level.
+     */
+    int getCount(final int pair, final CooccurrenceLevel level) {
+        return m_counts[level.ordinal()][pair];
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.frequencies;
+
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.Paragraph;
+import org.knime.ext.textprocessing.data.Section;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Term;
+
+import gnu.trove.TObjectIntHashMap;
+
+/**
+ * The number of occurrences of each term of a document, counted in a single traversal of the document. Computing the
+ * term frequencies of all terms of a document via {@link #getCount(Term)} requires one traversal of the document, while
+ * {@link Frequencies#absoluteTermFrequency(Term, Document)} traverses the document once for each term.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class DocumentTermCounts {
+
+    private final TObjectIntHashMap<Term> m_counts = new TObjectIntHashMap<Term>();
+
+    private int m_totalCount = 0;
+
+    /**
+     * Creates a new instance of {@code DocumentTermCounts} counting the terms of the given document.
+     *
+     * @param doc The document to count the terms of.
+     */
+    public DocumentTermCounts(final Document doc) {
+        for (final Section s : doc.getSections()) {
+            for (final Paragraph p : s.getParagraphs()) {
+                for (final Sentence sen : p.getSentences()) {
+                    for (final Term t : sen.getTerms()) {
+                        if (t != null) {
+                            m_totalCount++;
+                            m_counts.put(t, m_counts.get(t) + 1);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the absolute term frequency of the given term, equal to
+     * {@link Frequencies#absoluteTermFrequency(Term, Document)}.
+     *
+     * @param term The term.
+     * @return The number of occurrences of the term in the document.
+     */
+    public int getCount(final Term term) {
+        return m_counts.get(term);
+    }
+
+    /**
+     * Returns the relative term frequency of the given term, equal to
+     * {@link Frequencies#relativeTermFrequency(Term, Document)}.
+     *
+     * @param term The term.
+     * @return The number of occurrences of the term divided by the number of all terms of the document.
+     */
+    public double getRelativeCount(final Term term) {
+        return (double)getCount(term) / (double)m_totalCount;
+    }
+
+    /**
+     * @return The number of all terms of the document.
+     */
+    public int getTotalCount() {
+        return m_totalCount;
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.frequencies;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentCategory;
+import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.TermValue;
+
+import gnu.trove.TObjectIntHashMap;
+
+/**
+ * Term statistics of a bag of words table, i.e. the number of documents and categories containing each term, computed
+ * in a single pass over the table. Terms, documents and categories are mapped to dense int ids, documents are
+ * identified by their {@link UUID}. The postings (ids of the documents containing a term) are kept in primitive int
+ * arrays during the pass and are discarded after the document and category frequencies have been computed.
+ *
+ * Since document ids are assigned in the order the documents occur in the table, the postings of a bag of words table,
+ * which contains the rows of each document consecutively, are sorted and duplicate free by construction. Postings of
+ * other tables are sorted and deduplicated once after the pass.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class TermStatistics {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int INITIAL_POSTINGS_CAPACITY = 4;
+
+    /* Term ids are stored incremented by one, since the map returns 0 for absent keys. */
+    private final TObjectIntHashMap<Term> m_termIds;
+
+    private final int[] m_documentFrequencies;
+
+    private final int[] m_categoryFrequencies;
+
+    private final int m_noDocuments;
+
+    private final int m_noCategories;
+
+    private TermStatistics(final TObjectIntHashMap<Term> termIds, final int[] documentFrequencies,
+        final int[] categoryFrequencies, final int noDocuments, final int noCategories) {
+        m_termIds = termIds;
+        m_documentFrequencies = documentFrequencies;
+        m_categoryFrequencies = categoryFrequencies;
+        m_noDocuments = noDocuments;
+        m_noCategories = noCategories;
+    }
+
+    /**
+     * Computes the term statistics of the given bag of words table. Rows with missing term or document cells are
+     * ignored.
+     *
+     * @param bow The bag of words table.
+     * @param documentColIndex The index of the document column.
+     * @param termColIndex The index of the term column.
+     * @param computeCategories If {@code true} the category frequencies are computed as well.
+     * @param exec The execution monitor to report progress and check for cancellation.
+     * @return The term statistics of the given table.
+     * @throws CanceledExecutionException If the user canceled the execution.
+     */
+    public static TermStatistics compute(final BufferedDataTable bow, final int documentColIndex,
+        final int termColIndex, final boolean computeCategories, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final Builder builder = new Builder(computeCategories);
+        final long maxRows = bow.size();
+        long currRow = 1;
+        for (final DataRow row : bow) {
+            exec.setProgress((double)currRow / (double)maxRows,
+                "Computing term statistics of row " + currRow + " of " + maxRows);
+            exec.checkCanceled();
+            currRow++;
+
+            final DataCell termCell = row.getCell(termColIndex);
+            final DataCell docCell = row.getCell(documentColIndex);
+            if (!termCell.isMissing() && !docCell.isMissing()) {
+                builder.add(((TermValue)termCell).getTermValue(), ((DocumentValue)docCell).getDocument());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the dense id of the given term or -1 if the term does not occur in the bag of words.
+     *
+     * @param term The term.
+     * @return The id of the term or -1.
+     */
+    public int getTermId(final Term term) {
+        return m_termIds.get(term) - 1;
+    }
+
+    /**
+     * @return The number of distinct terms.
+     */
+    public int getNumberOfTerms() {
+        return m_termIds.size();
+    }
+
+    /**
+     * @return The number of distinct documents.
+     */
+    public int getNumberOfDocuments() {
+        return m_noDocuments;
+    }
+
+    /**
+     * @return The number of distinct categories of all documents, or 0 if category frequencies were not computed.
+     */
+    public int getNumberOfCategories() {
+        return m_noCategories;
+    }
+
+    /**
+     * Returns the number of documents containing the given term.
+     *
+     * @param term The term.
+     * @return The number of documents containing the term, 0 if the term does not occur in the bag of words.
+     */
+    public int getDocumentFrequency(final Term term) {
+        final int id = getTermId(term);
+        return id < 0 ? 0 : m_documentFrequencies[id];
+    }
+
+    /**
+     * Returns the number of distinct categories of the documents containing the given term.
+     *
+     * @param term The term.
+     * @return The number of categories of the documents containing the term, 0 if the term does not occur in the bag
+     *         of words or category frequencies were not computed.
+     */
+    public int getCategoryFrequency(final Term term) {
+        final int id = getTermId(term);
+        return id < 0 || m_categoryFrequencies == null ? 0 : m_categoryFrequencies[id];
+    }
+
+    /**
+     * Collects term document tuples and creates the statistics.
+     */
+    private static final class Builder {
+
+        private final boolean m_computeCategories;
+
+        private final TObjectIntHashMap<Term> m_termIds = new TObjectIntHashMap<Term>(INITIAL_CAPACITY);
+
+        /* Document ids are stored incremented by one, since the map returns 0 for absent keys. */
+        private final TObjectIntHashMap<UUID> m_docIds = new TObjectIntHashMap<UUID>(INITIAL_CAPACITY);
+
+        private final TObjectIntHashMap<DocumentCategory> m_catIds = new TObjectIntHashMap<DocumentCategory>();
+
+        private int[][] m_postings = new int[INITIAL_CAPACITY][];
+
+        private int[] m_postingSizes = new int[INITIAL_CAPACITY];
+
+        /* Terms whose postings are not sorted, since the rows of their documents are not consecutive. */
+        private final BitSet m_unsorted = new BitSet();
+
+        /* The category ids of each document, only used if categories are computed. */
+        private int[][] m_docCategories = new int[INITIAL_CAPACITY][];
+
+        private Builder(final boolean computeCategories) {
+            m_computeCategories = computeCategories;
+        }
+
+        private void add(final Term term, final Document doc) {
+            final int docId = documentId(doc);
+
+            int termId = m_termIds.get(term) - 1;
+            if (termId < 0) {
+                termId = m_termIds.size();
+                m_termIds.put(term, termId + 1);
+                if (termId == m_postings.length) {
+                    m_postings = Arrays.copyOf(m_postings, termId * 2);
+                    m_postingSizes = Arrays.copyOf(m_postingSizes, termId * 2);
+                }
+                m_postings[termId] = new int[INITIAL_POSTINGS_CAPACITY];
+            }
+
+            int[] postings = m_postings[termId];
+            final int size = m_postingSizes[termId];
+            if (size > 0) {
+                final int last = postings[size - 1];
+                if (last == docId) {
+                    return;
+                } else if (last > docId) {
+                    m_unsorted.set(termId);
+                }
+            }
+            if (size == postings.length) {
+                postings = Arrays.copyOf(postings, size * 2);
+                m_postings[termId] = postings;
+            }
+            postings[size] = docId;
+            m_postingSizes[termId] = size + 1;
+        }
+
+        private int documentId(final Document doc) {
+            final UUID uuid = doc.getUUID();
+            int docId = m_docIds.get(uuid) - 1;
+            if (docId < 0) {
+                docId = m_docIds.size();
+                m_docIds.put(uuid, docId + 1);
+                if (m_computeCategories) {
+                    if (docId == m_docCategories.length) {
+                        m_docCategories = Arrays.copyOf(m_docCategories, docId * 2);
+                    }
+                    m_docCategories[docId] = categoryIds(doc.getCategories());
+                }
+            }
+            return docId;
+        }
+
+        private int[] categoryIds(final Set<DocumentCategory> categories) {
+            final int[] ids = new int[categories.size()];
+            int i = 0;
+            for (final DocumentCategory cat : categories) {
+                int catId = m_catIds.get(cat) - 1;
+                if (catId < 0) {
+                    catId = m_catIds.size();
+                    m_catIds.put(cat, catId + 1);
+                }
+                ids[i++] = catId;
+            }
+            return ids;
+        }
+
+        private TermStatistics build() {
+            final int noTerms = m_termIds.size();
+            final int noCats = m_computeCategories ? m_catIds.size() : 0;
+            final int[] docFreqs = new int[noTerms];
+            final int[] catFreqs = m_computeCategories ? new int[noTerms] : null;
+
+            // marks the categories counted for the current term by the id of the term plus one
+            final int[] catStamps = new int[noCats];
+            for (int termId = 0; termId < noTerms; termId++) {
+                final int[] postings = m_postings[termId];
+                int size = m_postingSizes[termId];
+                if (m_unsorted.get(termId)) {
+                    size = sortDistinct(postings, size);
+                }
+                docFreqs[termId] = size;
+
+                if (catFreqs != null) {
+                    int catFreq = 0;
+                    for (int i = 0; i < size; i++) {
+                        for (final int catId : m_docCategories[postings[i]]) {
+                            if (catStamps[catId] != termId + 1) {
+                                catStamps[catId] = termId + 1;
+                                catFreq++;
+                            }
+                        }
+                    }
+                    catFreqs[termId] = catFreq;
+                }
+                // postings are not required anymore
+                m_postings[termId] = null;
+            }
+            return new TermStatistics(m_termIds, docFreqs, catFreqs, m_docIds.size(), noCats);
+        }
+
+        private static int sortDistinct(final int[] values, final int size) {
+            Arrays.sort(values, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || values[distinct - 1] != values[i]) {
+                    values[distinct++] = values[i];
+                }
+            }
+            return distinct;
+        }
+    }
+}
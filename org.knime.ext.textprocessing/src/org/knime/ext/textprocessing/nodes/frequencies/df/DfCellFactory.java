@@ -48,25 +48,17 @@
  */
 package org.knime.ext.textprocessing.nodes.frequencies.df;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
-
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataType;
-import org.knime.core.data.RowIterator;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
-import org.knime.ext.textprocessing.data.Document;
-import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.TermValue;
 import org.knime.ext.textprocessing.nodes.frequencies.FrequencyCellFactory;
+import org.knime.ext.textprocessing.nodes.frequencies.TermStatistics;
 
 /**
  *
@@ -85,7 +77,7 @@ public class DfCellFactory extends FrequencyCellFactory {
      */
     public static final boolean INT_COL = true;
 
-    private Map<Term, Set<UUID>> m_termUUID;
+    private final TermStatistics m_statistics;
 
     /**
      * @param documentCellIndex The column index containing the documents.
@@ -99,36 +91,7 @@ public DfCellFactory(final int documentCellIndex, final int termCellindex, final
         final ExecutionContext exec) throws CanceledExecutionException {
         super(documentCellIndex, termCellindex, COLNAME, INT_COL);
 
-        m_termUUID = new HashMap<Term, Set<UUID>>();
-
-        long maxRows = docData.size();
-        long currRow = 1;
-
-        RowIterator it = docData.iterator();
-        while (it.hasNext()) {
-            double prog = (double)currRow / (double)maxRows;
-            exec.setProgress(prog, "Computing idf value of term " + currRow + " of " + maxRows);
-            exec.checkCanceled();
-            currRow++;
-            DataRow row = it.next();
-
-            // check for missing values in term or document column!
-            if (row.getCell(getTermColIndex()).isMissing() || row.getCell(getDocumentColIndex()).isMissing()) {
-                continue;
-            }
-
-            Term t = ((TermValue)row.getCell(getTermColIndex())).getTermValue();
-            Document d = ((DocumentValue)row.getCell(getDocumentColIndex())).getDocument();
-
-            if (!m_termUUID.containsKey(t)) {
-                Set<UUID> uuids = new HashSet<UUID>();
-                uuids.add(d.getUUID());
-                m_termUUID.put(t, uuids);
-            } else {
-                Set<UUID> uuids = m_termUUID.get(t);
-                uuids.add(d.getUUID());
-            }
-        }
+        m_statistics = TermStatistics.compute(docData, getDocumentColIndex(), getTermColIndex(), false, exec);
     }
 
     /**
@@ -142,13 +105,7 @@ public DataCell[] getCells(final DataRow row) {
         }
 
         Term t = ((TermValue)row.getCell(getTermColIndex())).getTermValue();
-        int df = 0;
-
-        // check if set m_termUUID.get(t) exists
-        if (m_termUUID.containsKey(t)) {
-            df = m_termUUID.get(t).size();
-
-        }
+        final int df = m_statistics.getDocumentFrequency(t);
         return new DataCell[]{new IntCell(df)};
     }
 
@@ -47,24 +47,18 @@
  */
 package org.knime.ext.textprocessing.nodes.frequencies.icf;
 
-import java.util.HashSet;
-import java.util.Hashtable;
-import java.util.Set;
-
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataType;
-import org.knime.core.data.RowIterator;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
-import org.knime.ext.textprocessing.data.DocumentCategory;
-import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.TermValue;
 import org.knime.ext.textprocessing.nodes.frequencies.Frequencies;
 import org.knime.ext.textprocessing.nodes.frequencies.FrequencyCellFactory;
+import org.knime.ext.textprocessing.nodes.frequencies.TermStatistics;
 
 /**
  * The icf cell factory computes the inverse category frequency value of each term and adds the value as a new double
@@ -84,9 +78,7 @@ public class IcfCellFactory extends FrequencyCellFactory {
      */
     public static final boolean INT_COL = false;
 
-    private Hashtable<Term, Set<DocumentCategory>> m_termCatData;
-
-    private Set<DocumentCategory> m_cats;
+    private final TermStatistics m_statistics;
 
 
     /**
@@ -105,40 +97,7 @@ public IcfCellFactory(final int documentCellIndex,
             final ExecutionContext exec) throws CanceledExecutionException {
         super(documentCellIndex, termCellindex, COLNAME, INT_COL);
 
-        m_termCatData = new Hashtable<Term, Set<DocumentCategory>>();
-        m_cats = new HashSet<DocumentCategory>();
-
-        long maxRows = docData.size();
-        int currRow = 1;
-
-        RowIterator it = docData.iterator();
-        while (it.hasNext()) {
-            double prog = (double)currRow / (double)maxRows;
-            exec.setProgress(prog, "Computing icf value of term " + currRow
-                    + " of " + maxRows);
-            exec.checkCanceled();
-            currRow++;
-
-            DataRow row = it.next();
-            if (!row.getCell(getTermColIndex()).isMissing() && !row.getCell(getDocumentColIndex()).isMissing()) {
-                Term t = ((TermValue)row.getCell(getTermColIndex())).getTermValue();
-                Set<DocumentCategory> cats =
-                    ((DocumentValue)row.getCell(getDocumentColIndex()))
-                    .getDocument().getCategories();
-
-                m_cats.addAll(cats);
-
-                // save term and doc
-                Set<DocumentCategory> termCats;
-                if (!m_termCatData.containsKey(t)) {
-                    termCats = new HashSet<DocumentCategory>();
-                } else {
-                    termCats = m_termCatData.get(t);
-                }
-                termCats.addAll(cats);
-                m_termCatData.put(t, termCats);
-            }
-        }
+        m_statistics = TermStatistics.compute(docData, getDocumentColIndex(), getTermColIndex(), true, exec);
     }
 
     /**
@@ -149,8 +108,9 @@ public DataCell[] getCells(final DataRow row) {
         if (!row.getCell(getTermColIndex()).isMissing() && !row.getCell(getDocumentColIndex()).isMissing()) {
             Term t = ((TermValue)row.getCell(getTermColIndex())).getTermValue();
             double idf = 0;
-            if (m_termCatData.containsKey(t)) {
-                idf = Frequencies.inverseDocumentFrequency(m_cats.size(), m_termCatData.get(t).size());
+            if (m_statistics.getTermId(t) >= 0) {
+                idf = Frequencies.inverseDocumentFrequency(m_statistics.getNumberOfCategories(),
+                    m_statistics.getCategoryFrequency(t));
             }
             return new DoubleCell[]{new DoubleCell(idf)};
         } else {
@@ -47,24 +47,18 @@
  */
 package org.knime.ext.textprocessing.nodes.frequencies.idf;
 
-import java.util.HashSet;
-import java.util.Hashtable;
-import java.util.Set;
-
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataType;
-import org.knime.core.data.RowIterator;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
-import org.knime.ext.textprocessing.data.Document;
-import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.TermValue;
 import org.knime.ext.textprocessing.nodes.frequencies.Frequencies;
 import org.knime.ext.textprocessing.nodes.frequencies.FrequencyCellFactory;
+import org.knime.ext.textprocessing.nodes.frequencies.TermStatistics;
 
 /**
  * The idf cell factory computes three variants of the inverse document frequency value for each term and adds the value
@@ -84,9 +78,7 @@ public class IdfCellFactory extends FrequencyCellFactory {
      */
     public static final boolean INT_COL = false;
 
-    private Hashtable<Term, Set<Integer>> m_termDocData;
-
-    private Set<Integer> m_docs;
+    private final TermStatistics m_statistics;
 
     private String m_idfMethod;
 
@@ -122,46 +114,7 @@ public IdfCellFactory(final int documentCellIndex, final int termCellindex, fina
         super(documentCellIndex, termCellindex, COLNAME, INT_COL);
 
         m_idfMethod = method;
-        m_termDocData = new Hashtable<Term, Set<Integer>>();
-        m_docs = new HashSet<Integer>();
-
-        long maxRows = docData.size();
-        int currRow = 1;
-
-        RowIterator it = docData.iterator();
-        while (it.hasNext()) {
-            double prog = (double)currRow / (double)maxRows;
-            exec.setProgress(prog, "Computing idf value of term " + currRow + " of " + maxRows);
-            exec.checkCanceled();
-            currRow++;
-
-            DataRow row = it.next();
-            // check for missing values in term or document column!
-            if (row.getCell(getTermColIndex()).isMissing() || row.getCell(getDocumentColIndex()).isMissing()) {
-                continue;
-            }
-            Term t = ((TermValue)row.getCell(getTermColIndex())).getTermValue();
-            Document d = ((DocumentValue)row.getCell(getDocumentColIndex())).getDocument();
-            int dHash = d.hashCode();
-
-            // save doc
-            if (!m_docs.contains(dHash)) {
-                m_docs.add(dHash);
-            }
-
-            // save term and doc
-            Set<Integer> docs;
-            if (!m_termDocData.containsKey(t)) {
-                docs = new HashSet<Integer>();
-                docs.add(dHash);
-                m_termDocData.put(t, docs);
-            } else {
-                docs = m_termDocData.get(t);
-                if (!docs.contains(dHash)) {
-                    docs.add(dHash);
-                }
-            }
-        }
+        m_statistics = TermStatistics.compute(docData, getDocumentColIndex(), getTermColIndex(), false, exec);
     }
 
     /**
@@ -176,13 +129,15 @@ public DataCell[] getCells(final DataRow row) {
         Term t = ((TermValue)row.getCell(getTermColIndex())).getTermValue();
         double idf = 0;
         // based on the selected method, compute the inverse document frequency value
-        if (m_termDocData.containsKey(t)) {
+        final int noTDocs = m_statistics.getDocumentFrequency(t);
+        if (noTDocs > 0) {
+            final int noAllDocs = m_statistics.getNumberOfDocuments();
             if (m_idfMethod.equalsIgnoreCase(IdfNodeModel.IDF_NORMALZED)) {
-                idf = Frequencies.normalizedInverseDocumentFrequency(m_docs.size(), m_termDocData.get(t).size());
+                idf = Frequencies.normalizedInverseDocumentFrequency(noAllDocs, noTDocs);
             } else if (m_idfMethod.equalsIgnoreCase(IdfNodeModel.IDF_PROBABILISTIC)) {
-                idf = Frequencies.probabilisticInverseDocumentFrequency(m_docs.size(), m_termDocData.get(t).size());
+                idf = Frequencies.probabilisticInverseDocumentFrequency(noAllDocs, noTDocs);
             } else {
-                idf = Frequencies.inverseDocumentFrequency(m_docs.size(), m_termDocData.get(t).size());
+                idf = Frequencies.inverseDocumentFrequency(noAllDocs, noTDocs);
             }
         }
         if (Double.isNaN(idf)) {
@@ -47,6 +47,8 @@
  */
 package org.knime.ext.textprocessing.nodes.frequencies.tf;
 
+import java.util.UUID;
+
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataType;
@@ -56,7 +58,7 @@
 import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.TermValue;
-import org.knime.ext.textprocessing.nodes.frequencies.Frequencies;
+import org.knime.ext.textprocessing.nodes.frequencies.DocumentTermCounts;
 import org.knime.ext.textprocessing.nodes.frequencies.FrequencyCellFactory;
 
 /**
@@ -80,6 +82,10 @@ public class TfCellFactory extends FrequencyCellFactory {
 
     private boolean m_relative = TfNodeModel.DEF_RELATIVE;
 
+    /* The term counts of the document of the previous row, since the rows of a document are usually consecutive. */
+    private UUID m_lastDocUuid;
+
+    private DocumentTermCounts m_lastDocCounts;
 
     /**
      * Creates new instance of <code>TfCellFactory</code> which computes
@@ -122,11 +128,15 @@ public final DataCell[] getCells(final DataRow row) {
             Term term = ((TermValue)row.getCell(getTermColIndex())).getTermValue();
             Document doc = ((DocumentValue)row.getCell(getDocumentColIndex()))
                             .getDocument();
+            if (m_lastDocCounts == null || !doc.getUUID().equals(m_lastDocUuid)) {
+                m_lastDocCounts = new DocumentTermCounts(doc);
+                m_lastDocUuid = doc.getUUID();
+            }
             DataCell freq;
             if (m_relative) {
-                freq = new DoubleCell(Frequencies.relativeTermFrequency(term, doc));
+                freq = new DoubleCell(m_lastDocCounts.getRelativeCount(term));
             } else {
-                freq = new IntCell(Frequencies.absoluteTermFrequency(term, doc));
+                freq = new IntCell(m_lastDocCounts.getCount(term));
             }
             return new DataCell[]{freq};
         } else {
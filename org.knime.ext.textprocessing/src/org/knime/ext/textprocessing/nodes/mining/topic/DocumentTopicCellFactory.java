@@ -48,6 +48,8 @@
  */
 package org.knime.ext.textprocessing.nodes.mining.topic;
 
+import java.util.Arrays;
+
 import org.knime.base.node.io.filereader.DataCellFactory;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -95,28 +97,24 @@ public DataCell[] getCells(final DataRow row) {
             throw new IllegalStateException("Topic model must not be null. Call setTopicModel first.");
         }
         final DataCell[] cells = new DataCell[m_noOfTopics + 1];
+        if (row.getCell(m_colIdx).isMissing()) {
+            Arrays.fill(cells, DataType.getMissingCell());
+            return cells;
+        }
+        // Estimate the topic distribution of the document once, given the current Gibbs state.
+        final double[] topicDistribution = m_model.getTopicProbabilities(m_docIdx);
         double maxProb = 0;
         int maxTopicIdx = 0;
         for (int idx = 0; idx < m_noOfTopics; idx++) {
-            if (row.getCell(m_colIdx).isMissing()) {
-                cells[idx] = DataType.getMissingCell();
-            } else {
-                // Estimate the topic distribution of the first document, given the current Gibbs state.
-                final double[] topicDistribution = m_model.getTopicProbabilities(m_docIdx);
-                final double topicProb = topicDistribution[idx];
-                if (topicProb > maxProb) {
-                    maxProb = topicProb;
-                    maxTopicIdx = idx;
-                }
-                cells[idx] = new DoubleCell(topicProb);
+            final double topicProb = topicDistribution[idx];
+            if (topicProb > maxProb) {
+                maxProb = topicProb;
+                maxTopicIdx = idx;
             }
+            cells[idx] = new DoubleCell(topicProb);
         }
-        if (row.getCell(m_colIdx).isMissing()) {
-            cells[cells.length - 1] = DataType.getMissingCell();
-        } else {
-            cells[cells.length - 1] = new StringCell(TOPIC_PREFIX + maxTopicIdx);
-            m_docIdx++;
-        }
+        cells[cells.length - 1] = new StringCell(TOPIC_PREFIX + maxTopicIdx);
+        m_docIdx++;
         return cells;
     }
 
@@ -125,9 +123,18 @@ public DataCell[] getCells(final DataRow row) {
      */
     @Override
     public DataColumnSpec[] getColumnSpecs() {
-        DataColumnSpec[] specs = new DataColumnSpec[m_noOfTopics + 1];
+        return createColumnSpecs(m_noOfTopics);
+    }
+
+    /**
+     * @param noOfTopics the number of topics
+     * @return the specs of the topic probability columns followed by the assigned topic column
+     * @since 3.8
+     */
+    public static DataColumnSpec[] createColumnSpecs(final int noOfTopics) {
+        DataColumnSpec[] specs = new DataColumnSpec[noOfTopics + 1];
         final DataColumnSpecCreator creator = new DataColumnSpecCreator("Dummy", DoubleCell.TYPE);
-        for (int idx = 0; idx < m_noOfTopics; idx++) {
+        for (int idx = 0; idx < noOfTopics; idx++) {
             creator.setName(TOPIC_PREFIX + idx);
             specs[idx] = creator.createSpec();
         }
@@ -0,0 +1,212 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.topic;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.TopicModelPortObject;
+
+/**
+ * Infers the topic distribution of new documents given a trained {@link TopicModelPortObject} by collapsed Gibbs
+ * sampling of the topic assignments of the document's words, while the topic-word distributions are kept fixed. This
+ * is the same inference scheme as the one of MALLET's {@code TopicInferencer}. Words that are not part of the model's
+ * vocabulary are ignored.
+ * <p>
+ * The inferencer is stateless and may be used by several threads concurrently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class GibbsTopicInferencer {
+
+    private final TopicModelPortObject m_model;
+
+    private final int m_noOfTopics;
+
+    private final double[] m_alpha;
+
+    private final double m_alphaSum;
+
+    private final double m_beta;
+
+    /**
+     * The inverse of the sum of the weights of each topic plus beta for each word. The probability of a word given a
+     * topic is the weight of the word plus beta, times the norm of the topic.
+     */
+    private final double[] m_topicNorms;
+
+    /**
+     * Creates a new instance of {@code GibbsTopicInferencer}.
+     *
+     * @param model The topic model.
+     */
+    public GibbsTopicInferencer(final TopicModelPortObject model) {
+        m_model = model;
+        m_noOfTopics = model.getNoOfTopics();
+        m_alpha = new double[m_noOfTopics];
+        double alphaSum = 0;
+        for (int k = 0; k < m_noOfTopics; k++) {
+            m_alpha[k] = model.getAlpha(k);
+            alphaSum += m_alpha[k];
+        }
+        m_alphaSum = alphaSum;
+        // the weights of the model are read directly, instead of copying the probabilities into a second array
+        m_beta = model.getBeta();
+        final double betaSum = m_beta * model.getVocabularySize();
+        m_topicNorms = new double[m_noOfTopics];
+        for (int k = 0; k < m_noOfTopics; k++) {
+            m_topicNorms[k] = 1.0 / (model.getTopicWeight(k) + betaSum);
+        }
+    }
+
+    /**
+     * @return The number of topics.
+     */
+    public int getNoOfTopics() {
+        return m_noOfTopics;
+    }
+
+    /**
+     * Returns the vocabulary indices of the words of the given document in the order of their occurrence. As for the
+     * training, the words are the texts of the terms.
+     *
+     * @param doc The document.
+     * @return The indices of the words of the document which are part of the vocabulary.
+     */
+    public int[] getWordIndices(final Document doc) {
+        int[] indices = new int[Math.max(16, doc.getLength())];
+        int size = 0;
+        final Iterator<Sentence> sentences = doc.sentenceIterator();
+        while (sentences.hasNext()) {
+            for (final Term term : sentences.next().getTerms()) {
+                final int index = m_model.getWordIndex(term.getText());
+                if (index >= 0) {
+                    if (size == indices.length) {
+                        indices = Arrays.copyOf(indices, size * 2);
+                    }
+                    indices[size++] = index;
+                }
+            }
+        }
+        return Arrays.copyOf(indices, size);
+    }
+
+    /**
+     * Samples the topic distribution of a document. The topic counts of all iterations after the burn-in are averaged.
+     *
+     * @param words The vocabulary indices of the words of the document.
+     * @param noOfIterations The number of sampling iterations.
+     * @param burnIn The number of initial iterations that are not averaged.
+     * @param random The random number generator.
+     * @return The probabilities of the topics.
+     */
+    public double[] infer(final int[] words, final int noOfIterations, final int burnIn,
+        final SplittableRandom random) {
+        final int noOfTopics = m_noOfTopics;
+        final double[] distribution = new double[noOfTopics];
+        if (words.length == 0) {
+            for (int k = 0; k < noOfTopics; k++) {
+                distribution[k] = m_alpha[k] / m_alphaSum;
+            }
+            return distribution;
+        }
+        final int[] topics = new int[words.length];
+        final int[] counts = new int[noOfTopics];
+        final double[] cumulative = new double[noOfTopics];
+        // initialize the assignments sequentially with the counts of the preceding words
+        for (int i = 0; i < words.length; i++) {
+            topics[i] = sample(words[i], counts, cumulative, random);
+            counts[topics[i]]++;
+        }
+        int noOfSamples = 0;
+        for (int iteration = 0; iteration < noOfIterations; iteration++) {
+            for (int i = 0; i < words.length; i++) {
+                counts[topics[i]]--;
+                topics[i] = sample(words[i], counts, cumulative, random);
+                counts[topics[i]]++;
+            }
+            if (iteration >= burnIn) {
+                for (int k = 0; k < noOfTopics; k++) {
+                    distribution[k] += counts[k];
+                }
+                noOfSamples++;
+            }
+        }
+        if (noOfSamples == 0) {
+            for (int k = 0; k < noOfTopics; k++) {
+                distribution[k] = counts[k];
+            }
+            noOfSamples = 1;
+        }
+        final double norm = 1.0 / (words.length + m_alphaSum);
+        for (int k = 0; k < noOfTopics; k++) {
+            distribution[k] = (distribution[k] / noOfSamples + m_alpha[k]) * norm;
+        }
+        return distribution;
+    }
+
+    private int sample(final int word, final int[] counts, final double[] cumulative, final SplittableRandom random) {
+        double sum = 0;
+        for (int k = 0; k < m_noOfTopics; k++) {
+            sum += (counts[k] + m_alpha[k]) * (m_model.getWeight(word, k) + m_beta) * m_topicNorms[k];
+            cumulative[k] = sum;
+        }
+        final double u = random.nextDouble() * sum;
+        for (int k = 0; k < m_noOfTopics - 1; k++) {
+            if (u < cumulative[k]) {
+                return k;
+            }
+        }
+        return m_noOfTopics - 1;
+    }
+}
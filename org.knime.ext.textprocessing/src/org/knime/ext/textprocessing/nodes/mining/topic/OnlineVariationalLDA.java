@@ -0,0 +1,460 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.topic;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+import org.knime.core.util.MultiThreadWorker;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.TopicModelPortObject;
+
+import cc.mallet.types.Dirichlet;
+import cc.mallet.util.Randoms;
+
+import gnu.trove.TIntObjectHashMap;
+import gnu.trove.TObjectIntHashMap;
+
+/**
+ * Latent Dirichlet allocation trained by online variational Bayes (Hoffman, Blei and Bach, 2010). The documents are
+ * processed in mini-batches, for each mini-batch the variational topic distributions of the documents are estimated in
+ * parallel and the variational topic-word parameters are moved towards the estimate of the mini-batch with a decaying
+ * learning rate. Only the topic-word parameters are held for the whole vocabulary, the expectations and statistics are
+ * computed for the words of a document or mini-batch. Hence the memory is bounded by the size of the vocabulary times
+ * the number of topics and does not depend on the number of documents.
+ * <p>
+ * The estimation of a document does not involve random numbers and the statistics of a mini-batch are summed up in
+ * document order, thus the training is reproducible given the seed of the initial topic-word parameters.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class OnlineVariationalLDA {
+
+    /** The maximum number of iterations of the estimation of a document. */
+    private static final int MAX_DOC_ITERATIONS = 100;
+
+    /** The estimation of a document stops if the mean change of its topic parameters is below this threshold. */
+    private static final double DOC_CONVERGENCE_THRESHOLD = 1e-3;
+
+    private final String[] m_vocabulary;
+
+    /** Maps a word to its index + 1. */
+    private final TObjectIntHashMap<String> m_wordIndices;
+
+    private final int m_noOfTopics;
+
+    private final double[] m_alpha;
+
+    private final double m_eta;
+
+    private final double m_learningOffset;
+
+    private final double m_learningDecay;
+
+    /** The variational topic-word parameters, indexed by word * number of topics + topic. */
+    private final double[] m_lambda;
+
+    private final double[] m_lambdaSums;
+
+    /** The digamma of {@link #m_lambdaSums}, the normalization of the expected log topic-word probabilities. */
+    private final double[] m_digammaSums;
+
+    /** The sufficient statistics of the current mini-batch, mapping a word index to its statistics per topic. */
+    private final TIntObjectHashMap<double[]> m_batchStats = new TIntObjectHashMap<>();
+
+    private long m_noOfUpdates;
+
+    /**
+     * Creates a new model with randomly initialized topic-word parameters.
+     *
+     * @param vocabulary The distinct words.
+     * @param noOfTopics The number of topics.
+     * @param alpha The Dirichlet prior of each topic on the per-document topic distributions.
+     * @param eta The Dirichlet prior on the per-topic word distributions.
+     * @param learningOffset The offset of the learning rate, which slows down the early updates.
+     * @param learningDecay The exponential decay of the learning rate, in (0.5, 1].
+     * @param seed The seed of the initial topic-word parameters.
+     */
+    OnlineVariationalLDA(final String[] vocabulary, final int noOfTopics, final double alpha, final double eta,
+        final double learningOffset, final double learningDecay, final int seed) {
+        this(vocabulary, new double[noOfTopics], eta, learningOffset, learningDecay, 0);
+        Arrays.fill(m_alpha, alpha);
+        final Randoms random = new Randoms(seed);
+        for (int i = 0; i < m_lambda.length; i++) {
+            m_lambda[i] = random.nextGamma(100, 0.01);
+        }
+        updateExpectations();
+    }
+
+    /**
+     * Creates a new model that resumes the training of the given model.
+     *
+     * @param model The previously trained model.
+     * @param learningOffset The offset of the learning rate, which slows down the early updates.
+     * @param learningDecay The exponential decay of the learning rate, in (0.5, 1].
+     */
+    OnlineVariationalLDA(final TopicModelPortObject model, final double learningOffset, final double learningDecay) {
+        this(createVocabulary(model), new double[model.getNoOfTopics()], model.getBeta(), learningOffset,
+            learningDecay, model.getNoOfUpdates());
+        for (int k = 0; k < m_noOfTopics; k++) {
+            m_alpha[k] = model.getAlpha(k);
+        }
+        // the weights of the model are the expected counts, i.e. the parameters without the prior
+        for (int w = 0; w < m_vocabulary.length; w++) {
+            for (int k = 0; k < m_noOfTopics; k++) {
+                m_lambda[w * m_noOfTopics + k] = model.getWeight(w, k) + m_eta;
+            }
+        }
+        updateExpectations();
+    }
+
+    private OnlineVariationalLDA(final String[] vocabulary, final double[] alpha, final double eta,
+        final double learningOffset, final double learningDecay, final long noOfUpdates) {
+        m_vocabulary = vocabulary;
+        m_noOfTopics = alpha.length;
+        m_alpha = alpha;
+        m_eta = eta;
+        m_learningOffset = learningOffset;
+        m_learningDecay = learningDecay;
+        m_noOfUpdates = noOfUpdates;
+        m_wordIndices = new TObjectIntHashMap<>(vocabulary.length);
+        for (int w = 0; w < vocabulary.length; w++) {
+            m_wordIndices.put(vocabulary[w], w + 1);
+        }
+        final int size = TopicModelPortObject.getNoOfWeights(vocabulary.length, m_noOfTopics);
+        m_lambda = new double[size];
+        m_lambdaSums = new double[m_noOfTopics];
+        m_digammaSums = new double[m_noOfTopics];
+    }
+
+    private static String[] createVocabulary(final TopicModelPortObject model) {
+        final String[] vocabulary = new String[model.getVocabularySize()];
+        for (int w = 0; w < vocabulary.length; w++) {
+            vocabulary[w] = model.getWord(w);
+        }
+        return vocabulary;
+    }
+
+    /**
+     * @return The number of topics.
+     */
+    int getNoOfTopics() {
+        return m_noOfTopics;
+    }
+
+    /**
+     * @return The number of mini-batch updates performed so far, including the ones of a resumed model.
+     */
+    long getNoOfUpdates() {
+        return m_noOfUpdates;
+    }
+
+    /**
+     * @param doc The document.
+     * @return The indices of the document's words in the vocabulary, words not contained in the vocabulary are
+     *         ignored.
+     */
+    int[] getWordIndices(final Document doc) {
+        int[] indices = new int[Math.max(16, doc.getLength())];
+        int size = 0;
+        final Iterator<Sentence> sentences = doc.sentenceIterator();
+        while (sentences.hasNext()) {
+            for (final Term term : sentences.next().getTerms()) {
+                final int index = m_wordIndices.get(term.getText()) - 1;
+                if (index >= 0) {
+                    if (size == indices.length) {
+                        indices = Arrays.copyOf(indices, size * 2);
+                    }
+                    indices[size++] = index;
+                }
+            }
+        }
+        return Arrays.copyOf(indices, size);
+    }
+
+    /**
+     * Updates the model with a mini-batch of documents.
+     *
+     * @param batch The word indices of the documents of the mini-batch.
+     * @param corpusSize The number of documents of the corpus the mini-batch is drawn from.
+     * @param noOfThreads The number of threads to estimate the documents with.
+     * @return The estimated log likelihood per word of the mini-batch before the update.
+     * @throws InterruptedException If the thread has been interrupted.
+     * @throws ExecutionException If the estimation of a document failed.
+     */
+    double update(final List<int[]> batch, final long corpusSize, final int noOfThreads)
+        throws InterruptedException, ExecutionException {
+        m_batchStats.clear();
+        final BatchEstimator estimator = new BatchEstimator(noOfThreads);
+        estimator.run(batch);
+        final double rho = Math.pow(m_learningOffset + m_noOfUpdates, -m_learningDecay);
+        final double scale = corpusSize / (double)batch.size();
+        for (int i = 0; i < m_lambda.length; i++) {
+            m_lambda[i] = (1 - rho) * m_lambda[i] + rho * m_eta;
+        }
+        // only the words of the mini-batch have non-zero statistics
+        m_batchStats.forEachEntry((w, stats) -> {
+            final int offset = w * m_noOfTopics;
+            for (int k = 0; k < m_noOfTopics; k++) {
+                m_lambda[offset + k] += rho * scale * stats[k];
+            }
+            return true;
+        });
+        m_noOfUpdates++;
+        updateExpectations();
+        return estimator.m_noOfWords == 0 ? 0 : estimator.m_logLikelihood / estimator.m_noOfWords;
+    }
+
+    /**
+     * @param words The word indices of a document.
+     * @return The estimated topic distribution of the document.
+     */
+    double[] infer(final int[] words) {
+        final double[] gamma = estimate(words).m_gamma;
+        double sum = 0;
+        for (final double g : gamma) {
+            sum += g;
+        }
+        for (int k = 0; k < m_noOfTopics; k++) {
+            gamma[k] /= sum;
+        }
+        return gamma;
+    }
+
+    /**
+     * @return The trained model whose weights are the expected topic-word counts.
+     */
+    TopicModelPortObject createTopicModel() {
+        final double[] weights = new double[m_lambda.length];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Math.max(0, m_lambda[i] - m_eta);
+        }
+        return new TopicModelPortObject(m_vocabulary.clone(), m_alpha.clone(), m_eta, weights, m_noOfUpdates);
+    }
+
+    private void updateExpectations() {
+        Arrays.fill(m_lambdaSums, 0);
+        for (int i = 0; i < m_lambda.length; i++) {
+            m_lambdaSums[i % m_noOfTopics] += m_lambda[i];
+        }
+        for (int k = 0; k < m_noOfTopics; k++) {
+            m_digammaSums[k] = Dirichlet.digamma(m_lambdaSums[k]);
+        }
+    }
+
+    /**
+     * @return The exponential of the expected log topic-word probabilities of the given distinct words, indexed by
+     *         position of the word * number of topics + topic.
+     */
+    private double[] computeExpElogBeta(final int[] ids) {
+        final double[] expElogBeta = new double[ids.length * m_noOfTopics];
+        for (int i = 0; i < ids.length; i++) {
+            final int offset = ids[i] * m_noOfTopics;
+            for (int k = 0; k < m_noOfTopics; k++) {
+                expElogBeta[i * m_noOfTopics + k] =
+                    Math.exp(Dirichlet.digamma(m_lambda[offset + k]) - m_digammaSums[k]);
+            }
+        }
+        return expElogBeta;
+    }
+
+    /**
+     * Estimates the variational topic parameters of a document given the current topic-word parameters.
+     */
+    private DocumentStatistics estimate(final int[] words) {
+        // count the distinct words
+        final int[] sorted = words.clone();
+        Arrays.sort(sorted);
+        int[] ids = new int[sorted.length];
+        int[] counts = new int[sorted.length];
+        int n = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (n > 0 && ids[n - 1] == sorted[i]) {
+                counts[n - 1]++;
+            } else {
+                ids[n] = sorted[i];
+                counts[n++] = 1;
+            }
+        }
+        ids = Arrays.copyOf(ids, n);
+        counts = Arrays.copyOf(counts, n);
+        final int noOfTopics = m_noOfTopics;
+        final double[] expElogBeta = computeExpElogBeta(ids);
+        final double[] gamma = new double[noOfTopics];
+        for (int k = 0; k < noOfTopics; k++) {
+            gamma[k] = m_alpha[k] + words.length / (double)noOfTopics;
+        }
+        final double[] newGamma = new double[noOfTopics];
+        final double[] expElogTheta = new double[noOfTopics];
+        final double[] phiNorms = new double[n];
+        for (int iter = 0; iter < MAX_DOC_ITERATIONS; iter++) {
+            computeExpElogTheta(gamma, expElogTheta);
+            computePhiNorms(expElogBeta, expElogTheta, phiNorms);
+            for (int k = 0; k < noOfTopics; k++) {
+                double sum = 0;
+                for (int i = 0; i < n; i++) {
+                    sum += counts[i] * expElogBeta[i * noOfTopics + k] / phiNorms[i];
+                }
+                newGamma[k] = m_alpha[k] + expElogTheta[k] * sum;
+            }
+            double change = 0;
+            for (int k = 0; k < noOfTopics; k++) {
+                change += Math.abs(newGamma[k] - gamma[k]);
+                gamma[k] = newGamma[k];
+            }
+            if (change / noOfTopics < DOC_CONVERGENCE_THRESHOLD) {
+                break;
+            }
+        }
+        computeExpElogTheta(gamma, expElogTheta);
+        computePhiNorms(expElogBeta, expElogTheta, phiNorms);
+        return new DocumentStatistics(ids, counts, gamma, expElogTheta, expElogBeta, phiNorms);
+    }
+
+    private static void computeExpElogTheta(final double[] gamma, final double[] expElogTheta) {
+        double sum = 0;
+        for (final double g : gamma) {
+            sum += g;
+        }
+        final double digammaSum = Dirichlet.digamma(sum);
+        for (int k = 0; k < gamma.length; k++) {
+            expElogTheta[k] = Math.exp(Dirichlet.digamma(gamma[k]) - digammaSum);
+        }
+    }
+
+    private void computePhiNorms(final double[] expElogBeta, final double[] expElogTheta, final double[] phiNorms) {
+        for (int i = 0; i < phiNorms.length; i++) {
+            final int offset = i * m_noOfTopics;
+            double norm = 1e-100;
+            for (int k = 0; k < m_noOfTopics; k++) {
+                norm += expElogTheta[k] * expElogBeta[offset + k];
+            }
+            phiNorms[i] = norm;
+        }
+    }
+
+    /**
+     * The variational parameters of a document.
+     */
+    private static final class DocumentStatistics {
+
+        private final int[] m_ids;
+
+        private final int[] m_counts;
+
+        private final double[] m_gamma;
+
+        private final double[] m_expElogTheta;
+
+        private final double[] m_expElogBeta;
+
+        private final double[] m_phiNorms;
+
+        DocumentStatistics(final int[] ids, final int[] counts, final double[] gamma, final double[] expElogTheta,
+            final double[] expElogBeta, final double[] phiNorms) {
+            m_ids = ids;
+            m_counts = counts;
+            m_gamma = gamma;
+            m_expElogTheta = expElogTheta;
+            m_expElogBeta = expElogBeta;
+            m_phiNorms = phiNorms;
+        }
+    }
+
+    /**
+     * Estimates the documents of a mini-batch in parallel and sums up their statistics in document order.
+     */
+    private final class BatchEstimator extends MultiThreadWorker<int[], DocumentStatistics> {
+
+        private double m_logLikelihood = 0;
+
+        private long m_noOfWords = 0;
+
+        BatchEstimator(final int noOfThreads) {
+            super(noOfThreads * 2, noOfThreads);
+        }
+
+        @Override
+        protected DocumentStatistics compute(final int[] in, final long index) throws Exception {
+            return estimate(in);
+        }
+
+        @Override
+        protected void processFinished(final MultiThreadWorker<int[], DocumentStatistics>.ComputationTask task)
+            throws ExecutionException, CancellationException, InterruptedException {
+            final DocumentStatistics stats = task.get();
+            final int noOfTopics = m_noOfTopics;
+            double gammaSum = 0;
+            for (final double g : stats.m_gamma) {
+                gammaSum += g;
+            }
+            for (int i = 0; i < stats.m_ids.length; i++) {
+                final int offset = stats.m_ids[i] * noOfTopics;
+                final double weight = stats.m_counts[i] / stats.m_phiNorms[i];
+                double[] wordStats = m_batchStats.get(stats.m_ids[i]);
+                if (wordStats == null) {
+                    wordStats = new double[noOfTopics];
+                    m_batchStats.put(stats.m_ids[i], wordStats);
+                }
+                double wordProb = 0;
+                for (int k = 0; k < noOfTopics; k++) {
+                    wordStats[k] += weight * stats.m_expElogTheta[k] * stats.m_expElogBeta[i * noOfTopics + k];
+                    wordProb += stats.m_gamma[k] / gammaSum * m_lambda[offset + k] / m_lambdaSums[k];
+                }
+                m_logLikelihood += stats.m_counts[i] * Math.log(wordProb);
+                m_noOfWords += stats.m_counts[i];
+            }
+        }
+    }
+}
@@ -47,9 +47,13 @@
 package org.knime.ext.textprocessing.nodes.mining.topic;
 
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
+import org.knime.core.node.defaultnodesettings.DialogComponentButtonGroup;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnNameSelection;
 import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.DialogComponentNumberEdit;
+import org.knime.core.node.defaultnodesettings.SettingsModelDouble;
+import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.ext.textprocessing.data.DocumentValue;
 
 /**
@@ -80,10 +84,51 @@ public ParallelTopicExtractorNodeDialog() {
         addDialogComponent(
             new DialogComponentNumber(ParallelTopicExtractorNodeModel.createBetaModel(), "Beta: ", 0.1, 6));
         setHorizontalPlacement(false);
+        final SettingsModelString engineModel = ParallelTopicExtractorNodeModel.createEngineModel();
+        addDialogComponent(
+            new DialogComponentButtonGroup(engineModel, "Training engine", false, TopicModelEngine.values()));
+        final SettingsModelInteger noOfIterationsModel = ParallelTopicExtractorNodeModel.createNoOfIterationsModel();
         setHorizontalPlacement(true);
-        addDialogComponent(new DialogComponentNumber(ParallelTopicExtractorNodeModel.createNoOfIterationsModel(),
-            "No of iterations: ", 100, 6));
+        addDialogComponent(new DialogComponentNumber(noOfIterationsModel, "No of iterations: ", 100, 6));
         addDialogComponent(new DialogComponentNumber(ParallelTopicExtractorNodeModel.createNoOfThreadsModel(),
             "No of threads: ", 1, 5));
+        setHorizontalPlacement(false);
+        createNewGroup(" Vocabulary pruning ");
+        setHorizontalPlacement(true);
+        addDialogComponent(new DialogComponentNumber(ParallelTopicExtractorNodeModel.createMinDocFreqModel(),
+            "Min document frequency: ", 1, 6));
+        addDialogComponent(new DialogComponentNumber(ParallelTopicExtractorNodeModel.createMaxDocFreqRatioModel(),
+            "Max document frequency ratio: ", 0.05, 6));
+        setHorizontalPlacement(false);
+        addDialogComponent(new DialogComponentNumber(ParallelTopicExtractorNodeModel.createMaxVocabularySizeModel(),
+            "Max vocabulary size (0 = unlimited): ", 1000, 8));
+        closeCurrentGroup();
+        createNewGroup(" Online variational Bayes ");
+        final SettingsModelInteger batchSizeModel = ParallelTopicExtractorNodeModel.createBatchSizeModel();
+        final SettingsModelInteger noOfPassesModel = ParallelTopicExtractorNodeModel.createNoOfPassesModel();
+        final SettingsModelDouble learningDecayModel = ParallelTopicExtractorNodeModel.createLearningDecayModel();
+        final SettingsModelDouble learningOffsetModel = ParallelTopicExtractorNodeModel.createLearningOffsetModel();
+        engineModel.addChangeListener(e -> {
+            final boolean onlineVB = TopicModelEngine.ONLINE_VB.getActionCommand().equals(engineModel.getStringValue());
+            noOfIterationsModel.setEnabled(!onlineVB);
+            batchSizeModel.setEnabled(onlineVB);
+            noOfPassesModel.setEnabled(onlineVB);
+            learningDecayModel.setEnabled(onlineVB);
+            learningOffsetModel.setEnabled(onlineVB);
+        });
+        final boolean onlineVB = TopicModelEngine.ONLINE_VB.getActionCommand().equals(engineModel.getStringValue());
+        noOfIterationsModel.setEnabled(!onlineVB);
+        batchSizeModel.setEnabled(onlineVB);
+        noOfPassesModel.setEnabled(onlineVB);
+        learningDecayModel.setEnabled(onlineVB);
+        learningOffsetModel.setEnabled(onlineVB);
+        setHorizontalPlacement(true);
+        addDialogComponent(new DialogComponentNumber(batchSizeModel, "Mini-batch size: ", 64, 6));
+        addDialogComponent(new DialogComponentNumber(noOfPassesModel, "No of passes: ", 1, 6));
+        setHorizontalPlacement(false);
+        setHorizontalPlacement(true);
+        addDialogComponent(new DialogComponentNumber(learningDecayModel, "Learning rate decay: ", 0.05, 6));
+        addDialogComponent(new DialogComponentNumber(learningOffsetModel, "Learning rate offset: ", 64, 8));
+        closeCurrentGroup();
     }
 }
@@ -54,6 +54,7 @@
 import java.util.List;
 import java.util.Random;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -64,7 +65,9 @@
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
@@ -87,17 +90,19 @@
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
 import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.data.TopicModelPortObject;
+import org.knime.ext.textprocessing.data.TopicModelPortObjectSpec;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
-import org.knime.ext.textprocessing.util.mallet.Document2FeatureSequencePipe;
-import org.knime.ext.textprocessing.util.mallet.DocumentInstanceIterator;
+import org.knime.ext.textprocessing.util.mallet.FeatureSequenceImporter;
 
-import cc.mallet.pipe.Pipe;
 import cc.mallet.topics.ParallelTopicModel;
 import cc.mallet.types.Alphabet;
 import cc.mallet.types.IDSorter;
-import cc.mallet.types.Instance;
 import cc.mallet.types.InstanceList;
 
 /**
@@ -250,11 +255,59 @@ public void close() throws SecurityException {
     private final SettingsModel[] m_models = new SettingsModel[]{m_docCol, m_noOfThreads, m_noOfTopics, m_topKWords,
         m_noOfIterations, m_alpha, m_beta, m_seed};
 
+    private final SettingsModelInteger m_minDocFreq = createMinDocFreqModel();
+
+    private final SettingsModelDouble m_maxDocFreqRatio = createMaxDocFreqRatioModel();
+
+    private final SettingsModelInteger m_maxVocabularySize = createMaxVocabularySizeModel();
+
+    private final SettingsModelString m_engine = createEngineModel();
+
+    private final SettingsModelInteger m_batchSize = createBatchSizeModel();
+
+    private final SettingsModelInteger m_noOfPasses = createNoOfPassesModel();
+
+    private final SettingsModelDouble m_learningDecay = createLearningDecayModel();
+
+    private final SettingsModelDouble m_learningOffset = createLearningOffsetModel();
+
+    /** The models added in 3.8. */
+    private final SettingsModel[] m_newModels = new SettingsModel[]{m_minDocFreq, m_maxDocFreqRatio,
+        m_maxVocabularySize, m_engine, m_batchSize, m_noOfPasses, m_learningDecay, m_learningOffset};
+
+    private final boolean m_modelOutPort;
+
     /**
      * Constructor.
      */
     ParallelTopicExtractorNodeModel() {
-        super(1, 3);
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param modelOutPort <code>true</code> if the trained topic model is provided at an additional output port
+     * @since 3.8
+     */
+    ParallelTopicExtractorNodeModel(final boolean modelOutPort) {
+        super(createInPortTypes(modelOutPort), createOutPortTypes(modelOutPort));
+        m_modelOutPort = modelOutPort;
+    }
+
+    private static PortType[] createInPortTypes(final boolean modelPorts) {
+        if (modelPorts) {
+            return new PortType[]{BufferedDataTable.TYPE, TopicModelPortObject.TYPE_OPTIONAL};
+        }
+        return new PortType[]{BufferedDataTable.TYPE};
+    }
+
+    private static PortType[] createOutPortTypes(final boolean modelOutPort) {
+        if (modelOutPort) {
+            return new PortType[]{BufferedDataTable.TYPE, BufferedDataTable.TYPE, BufferedDataTable.TYPE,
+                TopicModelPortObject.TYPE};
+        }
+        return new PortType[]{BufferedDataTable.TYPE, BufferedDataTable.TYPE, BufferedDataTable.TYPE};
     }
 
     /**
@@ -307,6 +360,70 @@ static SettingsModelInteger createNoOfThreadsModel() {
             Integer.MAX_VALUE);
     }
 
+    /**
+     * @return the minimum document frequency model
+     * @since 3.8
+     */
+    static SettingsModelInteger createMinDocFreqModel() {
+        return new SettingsModelIntegerBounded("minDocumentFrequency", 1, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the maximum document frequency ratio model
+     * @since 3.8
+     */
+    static SettingsModelDouble createMaxDocFreqRatioModel() {
+        return new SettingsModelDoubleBounded("maxDocumentFrequencyRatio", 1.0, 0, 1);
+    }
+
+    /**
+     * @return the maximum vocabulary size model, 0 means unlimited
+     * @since 3.8
+     */
+    static SettingsModelInteger createMaxVocabularySizeModel() {
+        return new SettingsModelIntegerBounded("maxVocabularySize", 0, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the training engine model
+     * @since 3.8
+     */
+    static SettingsModelString createEngineModel() {
+        return new SettingsModelString("trainingEngine", TopicModelEngine.getDefault().getActionCommand());
+    }
+
+    /**
+     * @return the mini-batch size model of the online variational Bayes engine
+     * @since 3.8
+     */
+    static SettingsModelInteger createBatchSizeModel() {
+        return new SettingsModelIntegerBounded("batchSize", 256, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the number of passes model of the online variational Bayes engine
+     * @since 3.8
+     */
+    static SettingsModelInteger createNoOfPassesModel() {
+        return new SettingsModelIntegerBounded("noOfPasses", 1, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the learning rate decay model of the online variational Bayes engine
+     * @since 3.8
+     */
+    static SettingsModelDouble createLearningDecayModel() {
+        return new SettingsModelDoubleBounded("learningDecay", 0.7, 0.5, 1);
+    }
+
+    /**
+     * @return the learning rate offset model of the online variational Bayes engine
+     * @since 3.8
+     */
+    static SettingsModelDouble createLearningOffsetModel() {
+        return new SettingsModelDoubleBounded("learningOffset", 1024, 1, Integer.MAX_VALUE);
+    }
+
     /**
      * @return the document column model
      */
@@ -318,8 +435,8 @@ static SettingsModelString createDocColModel() {
      * {@inheritDoc}
      */
     @Override
-    protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
-        final DataTableSpec spec = inSpecs[0];
+    protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        final DataTableSpec spec = (DataTableSpec)inSpecs[0];
         if (spec == null) {
             return null;
         }
@@ -327,29 +444,52 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
 
         final ColumnRearranger docTopCR = createDocumentTopicColumnRearranger(spec, m_noOfTopics.getIntValue(), null,
             spec.findColumnIndex(m_docCol.getStringValue()));
-        return new DataTableSpec[]{docTopCR.createSpec(), createTopicTableSpec(), createDetailedTableSpec()};
+        final DataTableSpec[] tableSpecs =
+            new DataTableSpec[]{docTopCR.createSpec(), createTopicTableSpec(), createDetailedTableSpec()};
+        if (!m_modelOutPort) {
+            return tableSpecs;
+        }
+        final int noOfTopics = m_noOfTopics.getIntValue();
+        final TopicModelPortObjectSpec inModelSpec = (TopicModelPortObjectSpec)inSpecs[1];
+        if (inModelSpec != null) {
+            if (TopicModelEngine.valueOf(m_engine.getStringValue()) != TopicModelEngine.ONLINE_VB) {
+                setWarningMessage("The input topic model is only used by the online variational Bayes engine.");
+            } else {
+                if (inModelSpec.getNoOfTopics() != noOfTopics) {
+                    throw new InvalidSettingsException("The number of topics of the input model ("
+                        + inModelSpec.getNoOfTopics() + ") differs from the configured number of topics ("
+                        + noOfTopics + ").");
+                }
+                // the training is resumed with the vocabulary and priors of the input model
+                return new PortObjectSpec[]{tableSpecs[0], tableSpecs[1], tableSpecs[2], inModelSpec};
+            }
+        }
+        // the size of the vocabulary is unknown until the documents are imported
+        return new PortObjectSpec[]{tableSpecs[0], tableSpecs[1], tableSpecs[2], new TopicModelPortObjectSpec(
+            noOfTopics, -1, m_alpha.getDoubleValue() * noOfTopics, m_beta.getDoubleValue())};
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
-        throws Exception {
-        final BufferedDataTable table = inData[0];
+    protected PortObject[] execute(final PortObject[] inData, final ExecutionContext exec) throws Exception {
+        final BufferedDataTable table = (BufferedDataTable)inData[0];
         checkDataTableSpec(table.getDataTableSpec());
+        if (TopicModelEngine.valueOf(m_engine.getStringValue()) == TopicModelEngine.ONLINE_VB) {
+            final TopicModelPortObject inModel = inData.length > 1 ? (TopicModelPortObject)inData[1] : null;
+            return executeOnlineVariationalBayes(table, inModel, exec);
+        }
         final int noOfTopics = m_noOfTopics.getIntValue();
         final int colIdx = table.getSpec().findColumnIndex(m_docCol.getStringValue());
         final int noOfThreads = m_noOfThreads.getIntValue();
         final int noOfIterations = m_noOfIterations.getIntValue();
-        final Iterator<Instance> docsIter =
-            new DocumentInstanceIterator(exec.createSubProgress(0.05), table, colIdx, false);
-        final Pipe docPipe = new Document2FeatureSequencePipe();
         exec.setMessage("Preprocessing documents");
         // Begin by importing documents from text to feature sequences
-        final InstanceList instances = new InstanceList(docPipe);
-        exec.checkCanceled();
-        instances.addThruPipe(docsIter);
+        final FeatureSequenceImporter importer =
+            FeatureSequenceImporter.importDocuments(table, colIdx, noOfThreads, exec.createSubProgress(0.05));
+        pruneVocabulary(importer);
+        final InstanceList instances = importer.createInstanceList();
         exec.checkCanceled();
         final ParallelTopicModel model =
             new ParallelTopicModel(noOfTopics, m_alpha.getDoubleValue() * noOfTopics, m_beta.getDoubleValue());
@@ -382,9 +522,153 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         // Get an array of sorted sets of word ID/count pairs
         final BufferedDataTable topicTable =
             createTopicTable(exec.createSubExecutionContext(0.025), dataAlphabet, model, m_topKWords.getIntValue());
+        if (m_modelOutPort) {
+            return new PortObject[]{docTopicTable, topicTable, myLogHandler.getDetailsTable(),
+                createTopicModel(model, dataAlphabet)};
+        }
         return new BufferedDataTable[]{docTopicTable, topicTable, myLogHandler.getDetailsTable()};
     }
 
+    /**
+     * Trains the topic model by online variational Bayes over mini-batches of the documents, which are streamed from
+     * the table. Only the word indices of the current mini-batch are kept in memory.
+     */
+    private PortObject[] executeOnlineVariationalBayes(final BufferedDataTable table,
+        final TopicModelPortObject inModel, final ExecutionContext exec) throws Exception {
+        final int colIdx = table.getSpec().findColumnIndex(m_docCol.getStringValue());
+        final int noOfThreads = m_noOfThreads.getIntValue();
+        final int batchSize = m_batchSize.getIntValue();
+        final int noOfPasses = m_noOfPasses.getIntValue();
+        final OnlineVariationalLDA model;
+        final long corpusSize;
+        if (inModel != null) {
+            // the vocabulary of the resumed model is kept, the pruning does not apply
+            model = new OnlineVariationalLDA(inModel, m_learningOffset.getDoubleValue(),
+                m_learningDecay.getDoubleValue());
+            corpusSize = countDocuments(table, colIdx, exec);
+        } else {
+            exec.setMessage("Preprocessing documents");
+            final FeatureSequenceImporter importer =
+                FeatureSequenceImporter.importVocabulary(table, colIdx, noOfThreads, exec.createSubProgress(0.05));
+            pruneVocabulary(importer);
+            model = new OnlineVariationalLDA(importer.getVocabulary(), m_noOfTopics.getIntValue(),
+                m_alpha.getDoubleValue(), m_beta.getDoubleValue(), m_learningOffset.getDoubleValue(),
+                m_learningDecay.getDoubleValue(), m_seed.getIntValue());
+            corpusSize = importer.getNoOfDocuments();
+        }
+        exec.setMessage("Extracting topics");
+        final ExecutionMonitor trainExec = exec.createSubProgress(inModel != null ? 0.9 : 0.85);
+        final BufferedDataContainer details = exec.createDataContainer(createDetailedTableSpec());
+        final double noOfSteps = Math.max(1, (double)noOfPasses * table.size());
+        long step = 0;
+        final List<int[]> batch = new ArrayList<>(batchSize);
+        for (int pass = 1; pass <= noOfPasses; pass++) {
+            try (final CloseableRowIterator rows = table.iterator()) {
+                while (rows.hasNext()) {
+                    final DataRow row = rows.next();
+                    trainExec.checkCanceled();
+                    step++;
+                    final DataCell cell = row.getCell(colIdx);
+                    if (!(cell instanceof DocumentValue)) {
+                        continue;
+                    }
+                    batch.add(model.getWordIndices(((DocumentValue)cell).getDocument()));
+                    if (batch.size() == batchSize) {
+                        updateModel(model, batch, corpusSize, noOfThreads, details);
+                        final int currentPass = pass;
+                        trainExec.setProgress(step / noOfSteps,
+                            () -> "Processing pass " + currentPass + " of " + noOfPasses + ", update "
+                                + model.getNoOfUpdates());
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                updateModel(model, batch, corpusSize, noOfThreads, details);
+            }
+        }
+        details.close();
+        exec.setMessage("Writing tables");
+        exec.checkCanceled();
+        final ColumnRearranger dtcr = new ColumnRearranger(table.getDataTableSpec());
+        dtcr.append(new VariationalTopicCellFactory(model, colIdx, noOfThreads));
+        final BufferedDataTable docTopicTable =
+            exec.createColumnRearrangeTable(table, dtcr, exec.createSubProgress(0.075));
+        final TopicModelPortObject topicModel = model.createTopicModel();
+        final BufferedDataTable topicTable =
+            createTopicTable(exec.createSubExecutionContext(0.025), topicModel, m_topKWords.getIntValue());
+        if (m_modelOutPort) {
+            return new PortObject[]{docTopicTable, topicTable, details.getTable(), topicModel};
+        }
+        return new BufferedDataTable[]{docTopicTable, topicTable, details.getTable()};
+    }
+
+    /**
+     * Counts the rows whose document is not missing, which make up the corpus of the training.
+     */
+    private static long countDocuments(final BufferedDataTable table, final int colIdx, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        long noOfDocuments = 0;
+        try (final CloseableRowIterator rows = table.iterator()) {
+            while (rows.hasNext()) {
+                exec.checkCanceled();
+                if (rows.next().getCell(colIdx) instanceof DocumentValue) {
+                    noOfDocuments++;
+                }
+            }
+        }
+        return noOfDocuments;
+    }
+
+    /**
+     * Updates the model with the mini-batch, adds the estimated log likelihood per word to the details table and
+     * clears the mini-batch.
+     */
+    private static void updateModel(final OnlineVariationalLDA model, final List<int[]> batch,
+        final long corpusSize, final int noOfThreads, final BufferedDataContainer details) throws Exception {
+        final double logLikelihood;
+        try {
+            logLikelihood = model.update(batch, corpusSize, noOfThreads);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception)e.getCause();
+            }
+            throw e;
+        }
+        batch.clear();
+        final long update = model.getNoOfUpdates();
+        details.addRowToTable(
+            new DefaultRow(RowKey.createRowKey(update - 1), new IntCell((int)update), new DoubleCell(logLikelihood)));
+    }
+
+    private void pruneVocabulary(final FeatureSequenceImporter importer) {
+        final int noOfPrunedWords = importer.prune(m_minDocFreq.getIntValue(), m_maxDocFreqRatio.getDoubleValue(),
+            m_maxVocabularySize.getIntValue());
+        LOGGER.debug("Pruned " + noOfPrunedWords + " words, the vocabulary contains "
+            + importer.getVocabularySize() + " words");
+        if (importer.getNoOfDocuments() > 0 && importer.getVocabularySize() == 0) {
+            throw new IllegalArgumentException("The vocabulary is empty, please relax the vocabulary pruning.");
+        }
+    }
+
+    private static TopicModelPortObject createTopicModel(final ParallelTopicModel model, final Alphabet alphabet) {
+        final int noOfTopics = model.getNumTopics();
+        final String[] vocabulary = new String[alphabet.size()];
+        for (int w = 0; w < vocabulary.length; w++) {
+            vocabulary[w] = (String)alphabet.lookupObject(w);
+        }
+        final double[] weights = new double[TopicModelPortObject.getNoOfWeights(vocabulary.length, noOfTopics)];
+        for (int w = 0; w < model.typeTopicCounts.length; w++) {
+            // the counts are packed with the topic in the lower bits and sorted by count, 0 marks the end
+            for (final int packed : model.typeTopicCounts[w]) {
+                if (packed == 0) {
+                    break;
+                }
+                weights[w * noOfTopics + (packed & model.topicMask)] = packed >> model.topicBits;
+            }
+        }
+        return new TopicModelPortObject(vocabulary, model.alpha.clone(), model.beta, weights);
+    }
+
     private final void checkDataTableSpec(final DataTableSpec spec) throws InvalidSettingsException {
         DataTableSpecVerifier verifier = new DataTableSpecVerifier(spec);
         verifier.verifyMinimumDocumentCells(1, true);
@@ -417,6 +701,89 @@ private DataTableSpec createTopicTableSpec() {
         return new DataTableSpec(specs.toArray(new DataColumnSpec[0]));
     }
 
+    private BufferedDataTable createTopicTable(final ExecutionContext exec, final TopicModelPortObject model,
+        final int topKWords) throws CanceledExecutionException {
+        final BufferedDataContainer dc = exec.createDataContainer(createTopicTableSpec());
+        final int noOfTopics = model.getNoOfTopics();
+        final int[] words = new int[Math.min(topKWords, model.getVocabularySize())];
+        long rowId = 0;
+        for (int topicId = 0; topicId < noOfTopics; topicId++) {
+            exec.setProgress(topicId / (double)noOfTopics, "create rows for topic " + topicId + " of " + noOfTopics);
+            exec.checkCanceled();
+            selectTopWords(model, topicId, words);
+            final DataCell topicIdCell = new StringCell(DocumentTopicCellFactory.TOPIC_PREFIX + topicId);
+            for (int i = 0; i < words.length; i++) {
+                final DataCell termCell = new StringCell(model.getWord(words[i]));
+                final DataCell termWeightCell = new DoubleCell(model.getWeight(words[i], topicId));
+                dc.addRowToTable(new DefaultRow(RowKey.createRowKey(rowId++), topicIdCell, termCell, termWeightCell));
+            }
+        }
+        dc.close();
+        return dc.getTable();
+    }
+
+    /**
+     * Selects the words with the highest weights of the given topic in descending order of their weights, words of
+     * equal weights are ordered by their index. The words are selected by a min-heap of the size of the given array.
+     */
+    private static void selectTopWords(final TopicModelPortObject model, final int topic, final int[] topWords) {
+        final int k = topWords.length;
+        if (k == 0) {
+            return;
+        }
+        final double[] weights = new double[k];
+        for (int w = 0; w < model.getVocabularySize(); w++) {
+            final double weight = model.getWeight(w, topic);
+            if (w < k) {
+                // sift up the word
+                int i = w;
+                while (i > 0 && isLower(weight, w, weights[(i - 1) / 2], topWords[(i - 1) / 2])) {
+                    topWords[i] = topWords[(i - 1) / 2];
+                    weights[i] = weights[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                topWords[i] = w;
+                weights[i] = weight;
+            } else if (isLower(weights[0], topWords[0], weight, w)) {
+                siftDown(topWords, weights, k, w, weight);
+            }
+        }
+        // sort the heap by repeatedly moving its lowest word to the end
+        for (int size = k - 1; size > 0; size--) {
+            final int word = topWords[size];
+            final double weight = weights[size];
+            topWords[size] = topWords[0];
+            weights[size] = weights[0];
+            siftDown(topWords, weights, size, word, weight);
+        }
+    }
+
+    /** Replaces the root of the min-heap of the given size by the given word and restores the heap. */
+    private static void siftDown(final int[] words, final double[] weights, final int size, final int word,
+        final double weight) {
+        int i = 0;
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && isLower(weights[child + 1], words[child + 1], weights[child], words[child])) {
+                child++;
+            }
+            if (!isLower(weights[child], words[child], weight, word)) {
+                break;
+            }
+            words[i] = words[child];
+            weights[i] = weights[child];
+            i = child;
+        }
+        words[i] = word;
+        weights[i] = weight;
+    }
+
+    /** @return {@code true} if the first word ranks lower than the second word. */
+    private static boolean isLower(final double weight1, final int word1, final double weight2, final int word2) {
+        final int cmp = Double.compare(weight1, weight2);
+        return cmp < 0 || (cmp == 0 && word1 > word2);
+    }
+
     private BufferedDataTable createTopicTable(final ExecutionContext exec, final Alphabet dataAlphabet,
         final ParallelTopicModel model, final int topKWords) throws CanceledExecutionException {
         final BufferedDataContainer dc = exec.createDataContainer(createTopicTableSpec());
@@ -480,6 +847,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         for (SettingsModel model : m_models) {
             model.saveSettingsTo(settings);
         }
+        for (SettingsModel model : m_newModels) {
+            model.saveSettingsTo(settings);
+        }
     }
 
     /**
@@ -490,6 +860,21 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         for (SettingsModel model : m_models) {
             model.validateSettings(settings);
         }
+        // added in 3.8
+        for (SettingsModel model : m_newModels) {
+            if (settings.containsKey(model.getConfigName())) {
+                model.validateSettings(settings);
+            }
+        }
+        if (settings.containsKey(m_engine.getConfigName())) {
+            final String engine =
+                ((SettingsModelString)m_engine.createCloneWithValidatedValue(settings)).getStringValue();
+            try {
+                TopicModelEngine.valueOf(engine);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSettingsException("Invalid training engine: " + engine, e);
+            }
+        }
         final String docCol = ((SettingsModelString)m_docCol.createCloneWithValidatedValue(settings)).getStringValue();
         if (docCol == null || docCol.trim().isEmpty()) {
             throw new InvalidSettingsException("Please select the document column");
@@ -504,6 +889,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         for (SettingsModel model : m_models) {
             model.loadSettingsFrom(settings);
         }
+        // added in 3.8
+        for (SettingsModel model : m_newModels) {
+            if (settings.containsKey(model.getConfigName())) {
+                model.loadSettingsFrom(settings);
+            }
+        }
     }
 
     /**
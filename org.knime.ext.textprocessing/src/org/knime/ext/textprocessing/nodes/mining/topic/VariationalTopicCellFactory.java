@@ -0,0 +1,112 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.topic;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.ext.textprocessing.data.DocumentValue;
+
+/**
+ * Cell factory appending the topic probabilities and the most probable topic of each document estimated by an
+ * {@link OnlineVariationalLDA} model. The estimation does not involve random numbers, thus the documents are
+ * processed in parallel.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class VariationalTopicCellFactory extends AbstractCellFactory {
+
+    private final OnlineVariationalLDA m_model;
+
+    private final int m_docColIdx;
+
+    /**
+     * Creates a new instance of {@code VariationalTopicCellFactory}.
+     *
+     * @param model The trained model.
+     * @param docColIdx The index of the document column.
+     * @param noOfThreads The number of threads.
+     */
+    VariationalTopicCellFactory(final OnlineVariationalLDA model, final int docColIdx, final int noOfThreads) {
+        super(DocumentTopicCellFactory.createColumnSpecs(model.getNoOfTopics()));
+        m_model = model;
+        m_docColIdx = docColIdx;
+        setParallelProcessing(true, noOfThreads, 10 * noOfThreads);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataCell[] getCells(final DataRow row) {
+        final int noOfTopics = m_model.getNoOfTopics();
+        final DataCell[] cells = new DataCell[noOfTopics + 1];
+        final DataCell docCell = row.getCell(m_docColIdx);
+        if (docCell.isMissing()) {
+            for (int k = 0; k < cells.length; k++) {
+                cells[k] = DataType.getMissingCell();
+            }
+            return cells;
+        }
+        final double[] distribution =
+            m_model.infer(m_model.getWordIndices(((DocumentValue)docCell).getDocument()));
+        int maxTopicIdx = 0;
+        for (int k = 0; k < noOfTopics; k++) {
+            if (distribution[k] > distribution[maxTopicIdx]) {
+                maxTopicIdx = k;
+            }
+            cells[k] = new DoubleCell(distribution[k]);
+        }
+        cells[noOfTopics] = new StringCell(DocumentTopicCellFactory.TOPIC_PREFIX + maxTopicIdx);
+        return cells;
+    }
+}
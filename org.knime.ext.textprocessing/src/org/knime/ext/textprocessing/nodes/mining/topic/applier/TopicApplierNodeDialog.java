@@ -0,0 +1,81 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.topic.applier;
+
+import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
+import org.knime.core.node.defaultnodesettings.DialogComponentColumnNameSelection;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
+import org.knime.ext.textprocessing.data.DocumentValue;
+
+/**
+ * The {@code NodeDialog} of the Topic Applier node.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class TopicApplierNodeDialog extends DefaultNodeSettingsPane {
+
+    /**
+     * Creates a new instance of {@code TopicApplierNodeDialog}.
+     */
+    @SuppressWarnings("unchecked")
+    TopicApplierNodeDialog() {
+        addDialogComponent(new DialogComponentColumnNameSelection(TopicApplierNodeModel.createDocColModel(),
+            "Document column", 1, DocumentValue.class));
+        createNewGroup(" Inference ");
+        addDialogComponent(new DialogComponentNumber(TopicApplierNodeModel.createNoOfIterationsModel(),
+            "No of iterations", Integer.valueOf(10), 5));
+        addDialogComponent(new DialogComponentNumber(TopicApplierNodeModel.createBurnInModel(),
+            "No of burn-in iterations", Integer.valueOf(1), 5));
+        addDialogComponent(new DialogComponentNumber(TopicApplierNodeModel.createSeedModel(), "Seed",
+            Integer.valueOf(1), 10));
+        closeCurrentGroup();
+        addDialogComponent(new DialogComponentNumber(TopicApplierNodeModel.createNoOfThreadsModel(),
+            "No of threads", Integer.valueOf(1), 3));
+    }
+}
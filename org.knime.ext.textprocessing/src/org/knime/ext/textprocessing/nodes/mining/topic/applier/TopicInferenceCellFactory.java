@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.mining.topic.applier;
+
+import java.util.SplittableRandom;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.nodes.mining.topic.DocumentTopicCellFactory;
+import org.knime.ext.textprocessing.nodes.mining.topic.GibbsTopicInferencer;
+
+/**
+ * Cell factory appending the inferred topic probabilities and the most probable topic of each document. The documents
+ * are processed in parallel. The random numbers of a document are seeded by the given seed and the sequence of its
+ * words, hence the result of a document does not depend on its position in the table or the partitioning of the table
+ * and is reproduced if the document is parsed again, which assigns a new UUID to it.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class TopicInferenceCellFactory extends AbstractCellFactory {
+
+    private final GibbsTopicInferencer m_inferencer;
+
+    private final int m_docColIdx;
+
+    private final int m_noOfIterations;
+
+    private final int m_burnIn;
+
+    private final long m_seed;
+
+    /**
+     * Creates a new instance of {@code TopicInferenceCellFactory}.
+     *
+     * @param inferencer The inferencer of the topic model.
+     * @param docColIdx The index of the document column.
+     * @param noOfIterations The number of sampling iterations per document.
+     * @param burnIn The number of initial iterations that are not averaged.
+     * @param seed The seed of the random numbers.
+     * @param noOfThreads The number of threads.
+     */
+    TopicInferenceCellFactory(final GibbsTopicInferencer inferencer, final int docColIdx, final int noOfIterations,
+        final int burnIn, final long seed, final int noOfThreads) {
+        super(DocumentTopicCellFactory.createColumnSpecs(inferencer.getNoOfTopics()));
+        m_inferencer = inferencer;
+        m_docColIdx = docColIdx;
+        m_noOfIterations = noOfIterations;
+        m_burnIn = burnIn;
+        m_seed = seed;
+        setParallelProcessing(true, noOfThreads, 10 * noOfThreads);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataCell[] getCells(final DataRow row) {
+        final int noOfTopics = m_inferencer.getNoOfTopics();
+        final DataCell[] cells = new DataCell[noOfTopics + 1];
+        final DataCell docCell = row.getCell(m_docColIdx);
+        if (docCell.isMissing()) {
+            for (int k = 0; k < cells.length; k++) {
+                cells[k] = DataType.getMissingCell();
+            }
+            return cells;
+        }
+        final Document doc = ((DocumentValue)docCell).getDocument();
+        final int[] words = m_inferencer.getWordIndices(doc);
+        final SplittableRandom random = new SplittableRandom(m_seed ^ hash(words));
+        final double[] distribution = m_inferencer.infer(words, m_noOfIterations, m_burnIn, random);
+        int maxTopicIdx = 0;
+        for (int k = 0; k < noOfTopics; k++) {
+            if (distribution[k] > distribution[maxTopicIdx]) {
+                maxTopicIdx = k;
+            }
+            cells[k] = new DoubleCell(distribution[k]);
+        }
+        cells[noOfTopics] = new StringCell(DocumentTopicCellFactory.TOPIC_PREFIX + maxTopicIdx);
+        return cells;
+    }
+
+    /**
+     * Returns a 64 bit hash of the given vocabulary indices, which only depends on the words of a document and the
+     * model.
+     */
+    private static long hash(final int[] words) {
+        long hash = words.length;
+        for (final int word : words) {
+            hash = 1000003L * hash + word;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.misc.stringmatcher;
+
+import java.util.Arrays;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+import gnu.trove.TIntArrayList;
+
+/**
+ * A BK-tree over the words of a dictionary, which finds the nearest words of a query without comparing it to all
+ * words. Each child of a node is keyed by its distance from the node, the triangle inequality of the
+ * Levenshtein-Damerau distance allows to skip all children whose key differs too much from the distance of the query
+ * to the node. The distance may be asymmetric if insertions and deletions have different weights, which is accounted
+ * for by the {@link LevenDamerau#getAsymmetry() asymmetry} of the distance.
+ * <p>
+ * The tree is immutable once it has been built and may be searched by several threads concurrently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class BKTree {
+
+    private final LevenDamerau m_distance;
+
+    private final char[][] m_words;
+
+    /** The first child of each node, -1 if the node is a leaf. */
+    private final int[] m_firstChildren;
+
+    /** The next sibling of each node, -1 if it is the last child of its parent. */
+    private final int[] m_nextSiblings;
+
+    /** The distance of each node from its parent. */
+    private final int[] m_keys;
+
+    private final double m_asymmetry;
+
+    /**
+     * Builds the tree over the given words, the index of a word is its node.
+     *
+     * @param words the words of the dictionary
+     * @param distance the distance
+     * @param exec the execution monitor to check for cancellation
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    BKTree(final char[][] words, final LevenDamerau distance, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        m_distance = distance;
+        m_words = words;
+        m_asymmetry = distance.getAsymmetry();
+        m_firstChildren = new int[words.length];
+        m_nextSiblings = new int[words.length];
+        m_keys = new int[words.length];
+        Arrays.fill(m_firstChildren, -1);
+        Arrays.fill(m_nextSiblings, -1);
+        for (int i = 1; i < words.length; i++) {
+            if (i % 1024 == 0) {
+                exec.checkCanceled();
+                exec.setProgress(i / (double)words.length);
+            }
+            insert(i);
+        }
+    }
+
+    private void insert(final int word) {
+        int node = 0;
+        while (true) {
+            final int key = m_distance.calculate(m_words[node], m_words[word]);
+            int child = m_firstChildren[node];
+            while (child >= 0 && m_keys[child] != key) {
+                child = m_nextSiblings[child];
+            }
+            if (child < 0) {
+                m_keys[word] = key;
+                m_nextSiblings[word] = m_firstChildren[node];
+                m_firstChildren[node] = word;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Finds all words with the smallest distance from the word to the query.
+     *
+     * @param query the query
+     * @param nearest the list to add the indices of the nearest words to, in no particular order
+     * @return the smallest distance or {@link Integer#MAX_VALUE} if the tree is empty
+     */
+    int findNearest(final char[] query, final TIntArrayList nearest) {
+        if (m_words.length == 0) {
+            return Integer.MAX_VALUE;
+        }
+        int best = Integer.MAX_VALUE;
+        // the nodes to visit and the lower bounds of their distances
+        final TIntArrayList stack = new TIntArrayList();
+        final TIntArrayList lowerBounds = new TIntArrayList();
+        stack.add(0);
+        lowerBounds.add(0);
+        while (!stack.isEmpty()) {
+            final int last = stack.size() - 1;
+            final int node = stack.remove(last);
+            if (lowerBounds.remove(last) > best) {
+                continue;
+            }
+            // a node farther than best + the largest key neither is nearest nor has children that are not pruned,
+            // thus its distance only needs to be computed up to this bound
+            int maxKey = 0;
+            for (int child = m_firstChildren[node]; child >= 0; child = m_nextSiblings[child]) {
+                maxKey = Math.max(maxKey, m_keys[child]);
+            }
+            final int dist =
+                m_distance.calculate(m_words[node], query, (int)Math.min(Integer.MAX_VALUE - 1, (long)best + maxKey));
+            if (dist < best) {
+                best = dist;
+                nearest.clear();
+            }
+            if (dist == best) {
+                nearest.add(node);
+            }
+            for (int child = m_firstChildren[node]; child >= 0; child = m_nextSiblings[child]) {
+                // d(node, query) <= d(node, child) + d(child, query)
+                // d(node, child) <= d(node, query) + d(query, child) <= d(node, query) + asymmetry * d(child, query)
+                final int key = m_keys[child];
+                double lowerBound = dist - key;
+                if (key > dist && m_asymmetry != Double.POSITIVE_INFINITY) {
+                    // distances are integers, the epsilon guards against rounding errors of the division
+                    lowerBound = Math.ceil((key - dist) / m_asymmetry - 1e-9);
+                }
+                if (lowerBound <= best) {
+                    stack.add(child);
+                    lowerBounds.add((int)Math.max(0, lowerBound));
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -45,6 +45,7 @@
 package org.knime.ext.textprocessing.nodes.misc.stringmatcher;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
@@ -207,6 +208,42 @@ public void setweight(final int wd, final int wi, final int wc, final int ws) {
         m_ws = ws;
     }
 
+    /**
+     * @return <code>true</code> if all operations have the weight 1
+     * @since 3.8
+     */
+    boolean hasUnitWeights() {
+        return m_wd == 1 && m_wi == 1 && m_wc == 1 && m_ws == 1;
+    }
+
+    /**
+     * @return <code>true</code> if the weights are not negative and the weight of 2 switch operations is at least the
+     *         sum of the weights of an insertion and a deletion. Only then the distance is computed correctly and
+     *         satisfies the triangle inequality.
+     * @since 3.8
+     */
+    boolean hasValidWeights() {
+        return m_wd >= 0 && m_wi >= 0 && m_wc >= 0 && m_ws >= 0 && 2L * m_ws >= (long)m_wi + m_wd;
+    }
+
+    /**
+     * Returns the factor by which the distance of two words may grow if they are swapped. Swapping the words turns
+     * the insertions into deletions and vice versa, the other operations are symmetric.
+     *
+     * @return the asymmetry of the distance, 1 if the distance is symmetric and {@link Double#POSITIVE_INFINITY} if
+     *         only one of insertions and deletions is free
+     * @since 3.8
+     */
+    double getAsymmetry() {
+        if (m_wd == m_wi) {
+            return 1;
+        }
+        if (m_wd == 0 || m_wi == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Math.max(m_wd, m_wi) / (double)Math.min(m_wd, m_wi);
+    }
+
     /**
      * minimumfunction for 4 integers.
      *
@@ -260,7 +297,7 @@ public int calculate(final String string1, final String string2, final int k) {
      * @param wordtochar the second string
      * @return the distance of the two strings
      */
-    private int calculate(final char[] wordfromchar, final char[] wordtochar) {
+    int calculate(final char[] wordfromchar, final char[] wordtochar) {
 
         int max = 0;
         for (char c : wordfromchar) {
@@ -326,7 +363,7 @@ private int calculate(final char[] wordfromchar, final char[] wordtochar) {
      * @param k the maximal value for the distance
      * @return the minimum of k+1 and the Levenshtein-Damerau distance of the two strings
      */
-    private int calculate(final char[] wordfromchar, final char[] wordtochar, final int k) {
+    int calculate(final char[] wordfromchar, final char[] wordtochar, final int k) {
         int n = wordfromchar.length;
         int m = wordtochar.length;
 
@@ -361,13 +398,30 @@ private int calculate(final char[] wordfromchar, final char[] wordtochar, final
      *         returned
      */
     public ArrayList<char[]> getNearestWord(final char[] word) {
+        if (m_sorted == 0) {
+            return null;
+        }
+        final ArrayList<char[]> nearest = new ArrayList<char[]>(3);
+        m_lastdist = getNearestWords(word, nearest);
+        return nearest;
+    }
+
+    /**
+     * Finds all words, which have the smallest distance to the given. Other than {@link #getNearestWord(char[])}
+     * this method does not change the state of this object, thus it may be called by several threads concurrently.
+     *
+     * @param word the string to be searched in the list
+     * @param nearest the list to add the words with the smallest distance to
+     * @return the smallest distance
+     * @since 3.8
+     */
+    int getNearestWords(final char[] word, final List<char[]> nearest) {
         if (m_sorted == 1) {
-            return getNearestWord(this.m_sortedbiblist, word);
+            return getNearestWord(this.m_sortedbiblist, word, nearest);
         } else if (m_sorted == 2) {
-            return getNearestWord(this.m_bibdata, this.m_bibcol, word);
-        } else {
-            return null;
+            return getNearestWord(this.m_bibdata, this.m_bibcol, word, nearest);
         }
+        return Integer.MAX_VALUE;
     }
 
     /**
@@ -379,13 +433,13 @@ public ArrayList<char[]> getNearestWord(final char[] word) {
      * @param bibcol the column of the Datatable, which contains the strings
      *
      * @param word the string to be searched in the list t
-     * @return an List of all words which have the smallest distance to z
+     * @param nearest the list to add all words which have the smallest distance to z to
+     * @return the smallest distance
      */
-    private ArrayList<char[]> getNearestWord(final DataTable bibdata, final int bibcol, final char[] word) {
+    private int getNearestWord(final DataTable bibdata, final int bibcol, final char[] word,
+        final List<char[]> nearest) {
         int k = Integer.MAX_VALUE;
 
-        ArrayList<char[]> nearest = new ArrayList<char[]>(3);
-
         for (DataRow row : bibdata) {
             DataCell cell = row.getCell(bibcol);
             String cellString;
@@ -407,8 +461,7 @@ private ArrayList<char[]> getNearestWord(final DataTable bibdata, final int bibc
                 }
             }
         }
-        m_lastdist = k;
-        return nearest;
+        return k;
     }
 
     /**
@@ -418,15 +471,14 @@ private ArrayList<char[]> getNearestWord(final DataTable bibdata, final int bibc
      *
      * @param t an by length sorted ArrayList (like the method sort produces)
      * @param z the string to be searched in the list t
-     * @return an List of all words which have the smallest distance to z
+     * @param nearest the list to add all words which have the smallest distance to z to
+     * @return the smallest distance
      */
-    private ArrayList<char[]> getNearestWord(final ArrayList<ArrayList<char[]>> t, final char[] z) {
+    private int getNearestWord(final ArrayList<ArrayList<char[]>> t, final char[] z, final List<char[]> nearest) {
         if (t.isEmpty()) {
-            m_lastdist = Integer.MAX_VALUE;
-            return new ArrayList<char[]>();
+            return Integer.MAX_VALUE;
         }
         int m = z.length;
-        ArrayList<char[]> nearest = new ArrayList<char[]>(3);
         int k = m + t.size() + 1;
         for (int i = 1; i <= 2 * m + 1; i++) {
             int n = m + (int)Math.pow(-1, i) * Math.abs(i / 2);
@@ -450,8 +502,7 @@ private ArrayList<char[]> getNearestWord(final ArrayList<ArrayList<char[]>> t, f
                 }
             }
         }
-        m_lastdist = k;
-        return nearest;
+        return k;
     }
 
     /**
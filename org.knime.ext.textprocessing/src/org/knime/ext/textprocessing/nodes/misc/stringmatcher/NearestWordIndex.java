@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.misc.stringmatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.ext.textprocessing.data.TermValue;
+
+import gnu.trove.TIntArrayList;
+import gnu.trove.TIntHashSet;
+
+/**
+ * Index over the words of a dictionary that finds all words with the smallest Levenshtein-Damerau distance to a
+ * query. The dictionary is compiled once into a {@link BKTree}, which supports all valid weights. If all weights are 1
+ * a {@link SymSpellIndex} is built in addition, which finds the words within a small distance of the query directly,
+ * the tree is only searched for queries without a near word. The maximum distance of the deletion index is chosen
+ * depending on the available memory, which only affects the runtime but not the result.
+ * <p>
+ * The nearest words are returned in the order of the length buckets of {@link LevenDamerau}'s presorted search, i.e.
+ * words of the same length as the query first, followed by the words one character longer, one character shorter and
+ * so on, and in dictionary order within a length. The distance is computed from the dictionary word to the query.
+ * <p>
+ * The index is immutable once it has been built and may be searched by several threads concurrently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class NearestWordIndex {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NearestWordIndex.class);
+
+    /** The maximum distance of the deletion index. */
+    private static final int MAX_SYMSPELL_DISTANCE = 2;
+
+    private final LevenDamerau m_distance;
+
+    private final char[][] m_words;
+
+    private final BKTree m_tree;
+
+    private final SymSpellIndex m_symSpell;
+
+    private NearestWordIndex(final LevenDamerau distance, final char[][] words, final BKTree tree,
+        final SymSpellIndex symSpell) {
+        m_distance = distance;
+        m_words = words;
+        m_tree = tree;
+        m_symSpell = symSpell;
+    }
+
+    /**
+     * Builds the index over the words of the given column. Missing cells are skipped, the text of terms is used.
+     *
+     * @param data the data table containing the dictionary
+     * @param col the column of the dictionary
+     * @param distance the distance with its weights, which must be {@link LevenDamerau#hasValidWeights() valid}
+     * @param exec the execution monitor to report progress and check for cancellation
+     * @return the index
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    static NearestWordIndex build(final DataTable data, final int col, final LevenDamerau distance,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        final List<char[]> wordList = new ArrayList<>();
+        for (final DataRow row : data) {
+            exec.checkCanceled();
+            final DataCell cell = row.getCell(col);
+            if (cell.isMissing()) {
+                continue;
+            }
+            if (cell.getType().isCompatible(TermValue.class)) {
+                wordList.add(((TermValue)cell).getTermValue().getText().toCharArray());
+            } else {
+                wordList.add(cell.toString().toCharArray());
+            }
+        }
+        return build(wordList.toArray(new char[wordList.size()][]), distance, exec);
+    }
+
+    /**
+     * Builds the index over the given words.
+     *
+     * @param words the words of the dictionary
+     * @param distance the distance with its weights, which must be {@link LevenDamerau#hasValidWeights() valid}
+     * @param exec the execution monitor to report progress and check for cancellation
+     * @return the index
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    static NearestWordIndex build(final char[][] words, final LevenDamerau distance, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        if (!distance.hasValidWeights()) {
+            throw new IllegalArgumentException(
+                "The nearest words can only be found for non-negative weights with 2*weight(switch) >= "
+                    + "weight(insert)+weight(delete)");
+        }
+        SymSpellIndex symSpell = null;
+        if (distance.hasUnitWeights()) {
+            // each entry takes 8 bytes, use at most a quarter of the heap
+            final long maxEntries = Runtime.getRuntime().maxMemory() / 4 / 8;
+            for (int d = MAX_SYMSPELL_DISTANCE; d > 0 && symSpell == null; d--) {
+                if (SymSpellIndex.estimateSize(words, d) <= Math.min(maxEntries, Integer.MAX_VALUE - 8)) {
+                    LOGGER.debug("Building deletion index of distance " + d + " over " + words.length + " words");
+                    symSpell = new SymSpellIndex(words, d, exec.createSubProgress(0.5));
+                }
+            }
+        }
+        final BKTree tree = new BKTree(words, distance, exec.createSubProgress(symSpell == null ? 1 : 0.5));
+        return new NearestWordIndex(distance, words, tree, symSpell);
+    }
+
+    /**
+     * Finds all words with the smallest distance to the query.
+     *
+     * @param query the query
+     * @param nearest the list to add the nearest words to
+     * @return the smallest distance or {@link Integer#MAX_VALUE} if the dictionary is empty
+     */
+    int find(final char[] query, final List<char[]> nearest) {
+        final TIntArrayList ids = new TIntArrayList();
+        int best = Integer.MAX_VALUE;
+        if (m_symSpell != null) {
+            final TIntHashSet candidates = new TIntHashSet();
+            m_symSpell.collectCandidates(query, candidates);
+            for (final int id : candidates.toArray()) {
+                final int dist = m_distance.calculate(m_words[id], query);
+                if (dist < best) {
+                    best = dist;
+                    ids.clear();
+                }
+                if (dist == best) {
+                    ids.add(id);
+                }
+            }
+            if (best > m_symSpell.getMaxDistance()) {
+                // the nearest words are not within the distance of the index
+                ids.clear();
+                best = m_tree.findNearest(query, ids);
+            }
+        } else {
+            best = m_tree.findNearest(query, ids);
+        }
+        final int[] sorted = ids.toNativeArray();
+        final int length = query.length;
+        final long[] keys = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = ((long)getLengthRank(m_words[sorted[i]].length, length) << 32) | sorted[i];
+        }
+        Arrays.sort(keys);
+        for (final long key : keys) {
+            nearest.add(m_words[(int)key]);
+        }
+        return best;
+    }
+
+    /**
+     * @return the position of the length in the search order m, m + 1, m - 1, m + 2, m - 2, ... of the query length m
+     */
+    private static int getLengthRank(final int wordLength, final int queryLength) {
+        if (wordLength > queryLength) {
+            return 2 * (wordLength - queryLength) - 1;
+        }
+        return 2 * (queryLength - wordLength);
+    }
+}
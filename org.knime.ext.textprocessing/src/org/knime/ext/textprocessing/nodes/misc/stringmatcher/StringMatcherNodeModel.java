@@ -47,10 +47,13 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.ToIntBiFunction;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
-import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.StringValue;
@@ -63,12 +66,14 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.util.MultiThreadWorker;
 import org.knime.ext.textprocessing.data.DocumentCell;
 import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.data.TermValue;
@@ -158,13 +163,26 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
         checkDataTableSpec(inSpecs[0], m_col1);
         checkDataTableSpec(inSpecs[1], m_col2);
 
-        if (2 * m_ws.getIntValue() < m_wi.getIntValue() + m_wd.getIntValue()) {
-            throw new InvalidSettingsException("2*weight(switch) must be >= weight(insert)+weight(delete)");
-        }
+        checkWeights(m_wd.getIntValue(), m_wi.getIntValue(), m_wc.getIntValue(), m_ws.getIntValue());
 
         return new DataTableSpec[]{createSpec(inSpecs[0])};
     }
 
+    /**
+     * Checks the weights for which the Levenshtein-Damerau distance is computed correctly, which is required for the
+     * nearest words found by the index to be exact. The weights are checked on configure and not on validation, so
+     * that workflows with other weights still load.
+     */
+    private static void checkWeights(final int wd, final int wi, final int wc, final int ws)
+        throws InvalidSettingsException {
+        if (wd < 0 || wi < 0 || wc < 0 || ws < 0) {
+            throw new InvalidSettingsException("The weights must not be negative");
+        }
+        if (2L * ws < (long)wi + wd) {
+            throw new InvalidSettingsException("2*weight(switch) must be >= weight(insert)+weight(delete)");
+        }
+    }
+
     private final void checkDataTableSpec(final DataTableSpec spec, final SettingsModelString modelStr)
         throws InvalidSettingsException {
         DataTableSpecVerifier verifier = new DataTableSpecVerifier(spec);
@@ -220,21 +238,9 @@ protected DataTableSpec createSpec(final DataTableSpec spec) {
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
         throws Exception {
-        // needed for the progress calculation.
-        int count = 0;
-        long max = inData[0].size();
-
-        int numberofrelatedwords = m_numberofrelatedwords.getIntValue();
-
-        if (m_sortInMemory.getBooleanValue()) {
-            exec.setProgress(0, "Presorting Datatable");
-        }
-
         if (inData.length < 2) {
             throw new IllegalArgumentException("Two input tables expected");
         }
-        DataTable searchdata = inData[0]; // searching table
-
         checkDataTableSpec(inData[0].getDataTableSpec(), m_col1);
         checkDataTableSpec(inData[1].getDataTableSpec(), m_col2);
 
@@ -245,69 +251,113 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             throw new InvalidSettingsException("Input table changed, please reconfigure!");
         }
 
-        LevenDamerau ld = new LevenDamerau(inData[1], dictcol, m_sortInMemory.getBooleanValue(), exec);
-        ld.setweight(m_wd.getIntValue(), m_wi.getIntValue(), m_wc.getIntValue(), m_ws.getIntValue());
-        ArrayList<char[]> words; // found words
-
-        DataCell[] related;
+        final ToIntBiFunction<char[], List<char[]>> search;
+        final ExecutionMonitor searchExec;
+        if (m_sortInMemory.getBooleanValue()) {
+            // compile the dictionary once into an index instead of comparing each word with the whole dictionary
+            exec.setMessage("Indexing dictionary");
+            final LevenDamerau ld = new LevenDamerau();
+            ld.setweight(m_wd.getIntValue(), m_wi.getIntValue(), m_wc.getIntValue(), m_ws.getIntValue());
+            final NearestWordIndex index = NearestWordIndex.build(inData[1], dictcol, ld, exec.createSubProgress(0.2));
+            search = index::find;
+            searchExec = exec.createSubProgress(0.8);
+        } else {
+            final LevenDamerau ld = new LevenDamerau(inData[1], dictcol, false, exec);
+            ld.setweight(m_wd.getIntValue(), m_wi.getIntValue(), m_wc.getIntValue(), m_ws.getIntValue());
+            search = ld::getNearestWords;
+            searchExec = exec;
+        }
+        exec.setMessage("Searching related words");
 
         // Initialize the buffer with one column for the origin word and if selected for related words
-        BufferedDataContainer buf = exec.createDataContainer(createSpec(inData[0].getDataTableSpec()));
+        final BufferedDataContainer buf = exec.createDataContainer(createSpec(inData[0].getDataTableSpec()));
+        final RelatedWordsSearcher searcher =
+            new RelatedWordsSearcher(search, searchcol, inData[0].size(), buf, searchExec);
+        try {
+            searcher.run(inData[0]);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception)e.getCause();
+            }
+            throw e;
+        }
+        buf.close();
+        return new BufferedDataTable[]{buf.getTable()};
+    }
 
-        int startwords = 0; // if the min dist is not shown, the first word
-        // will be written
-        if (m_showdist.getBooleanValue()) {
-            related = new DataCell[numberofrelatedwords + 2];
-            startwords = 1;
-        } else {
-            related = new DataCell[numberofrelatedwords + 1];
+    /**
+     * Searches the related words of the rows in parallel and adds the result rows in the order of the input table.
+     */
+    private final class RelatedWordsSearcher extends MultiThreadWorker<DataRow, DataRow> {
+
+        private final ToIntBiFunction<char[], List<char[]>> m_search;
+
+        private final int m_searchcol;
+
+        private final long m_max;
+
+        private final BufferedDataContainer m_buf;
+
+        private final ExecutionMonitor m_exec;
+
+        private final int m_noOfRelatedWords = m_numberofrelatedwords.getIntValue();
+
+        private final boolean m_showDistance = m_showdist.getBooleanValue();
+
+        private long m_count = 0;
+
+        RelatedWordsSearcher(final ToIntBiFunction<char[], List<char[]>> search, final int searchcol, final long max,
+            final BufferedDataContainer buf, final ExecutionMonitor exec) {
+            super(10 * KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads(),
+                KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads());
+            m_search = search;
+            m_searchcol = searchcol;
+            m_max = max;
+            m_buf = buf;
+            m_exec = exec;
         }
 
-        for (DataRow row : searchdata) {
-            exec.checkCanceled();
-            DataCell cell = row.getCell(searchcol);
+        @Override
+        protected DataRow compute(final DataRow row, final long index) throws Exception {
+            m_exec.checkCanceled();
+            // the first output column is the origin word, the second one the minimal found distance if selected
+            final int startwords = m_showDistance ? 1 : 0;
+            final DataCell[] related = new DataCell[m_noOfRelatedWords + 1 + startwords];
+            final DataCell cell = row.getCell(m_searchcol);
             if (!cell.isMissing() && cell.getType().isCompatible(TermValue.class)) {
                 related[0] = new StringCell(((TermValue)cell).getTermValue().getText());
             } else {
                 related[0] = cell;
             }
+            final List<char[]> words = new ArrayList<char[]>(3);
             if (!cell.isMissing()) {
-                /**
-                 * the field related representates the new row in the output the first output column is the origin word
-                 * the second one the minimal found distance
-                 */
-
-                double prog = (double)(count++) / (double)max;
-                exec.setProgress(prog, "Searching related words for '" + related[0] + "'");
-
-                /**
-                 * words includes all words from bibdata, which have the minimal distance
-                 */
-                words = ld.getNearestWord(((StringValue)related[0]).getStringValue().toCharArray());
-
-                if (m_showdist.getBooleanValue()) {
-                    related[1] = new IntCell(ld.getlastdistance());
+                // words includes all words of the dictionary, which have the minimal distance
+                final char[] word = ((StringValue)related[0]).getStringValue().toCharArray();
+                final int distance = m_search.applyAsInt(word, words);
+                if (m_showDistance) {
+                    related[1] = new IntCell(distance);
                 }
-
-            } else {
-                words = new ArrayList<char[]>();
+            } else if (m_showDistance) {
+                related[1] = DataType.getMissingCell();
             }
-
-            for (int i = 1; i <= numberofrelatedwords; i++) {
+            for (int i = 1; i <= m_noOfRelatedWords; i++) {
                 if (words.size() > i - 1) {
                     related[i + startwords] = new StringCell(String.valueOf(words.get(i - 1)));
-
                 } else {
                     related[i + startwords] = DataType.getMissingCell();
                 }
             }
-            /** add the new row to the table */
-            buf.addRowToTable(new DefaultRow(row.getKey(), related));
-
+            return new DefaultRow(row.getKey(), related);
         }
 
-        buf.close();
-        return new BufferedDataTable[]{buf.getTable()};
+        @Override
+        protected void processFinished(final MultiThreadWorker<DataRow, DataRow>.ComputationTask task)
+            throws ExecutionException, CancellationException, InterruptedException {
+            final DataRow row = task.get();
+            m_buf.addRowToTable(row);
+            final long count = ++m_count;
+            m_exec.setProgress(count / (double)m_max, () -> "Searching related words for '" + row.getCell(0) + "'");
+        }
     }
 
     /**
@@ -0,0 +1,173 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.misc.stringmatcher;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+import gnu.trove.TIntHashSet;
+
+/**
+ * A symmetric delete index (SymSpell) over the words of a dictionary for the Levenshtein-Damerau distance with unit
+ * weights. Every word is indexed by all strings that result from deleting up to the maximum distance characters. Each
+ * edit operation of unit weight can be undone by deleting at most one character of each of the two words, thus all
+ * words within the maximum distance of a query share at least one deletion string with the query. The candidates
+ * found this way still have to be verified by computing their distance.
+ * <p>
+ * The deletion strings are stored as 32 bit hashes packed together with the word index into a sorted {@code long[]},
+ * hash collisions only add candidates. The index is immutable once it has been built and may be searched by several
+ * threads concurrently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class SymSpellIndex {
+
+    private final int m_maxDistance;
+
+    /** The hashes of the deletion strings in the upper and the word indices in the lower 32 bits, sorted. */
+    private final long[] m_entries;
+
+    /**
+     * Builds the index over the given words.
+     *
+     * @param words the words of the dictionary
+     * @param maxDistance the maximum number of deleted characters
+     * @param exec the execution monitor to check for cancellation
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    SymSpellIndex(final char[][] words, final int maxDistance, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        m_maxDistance = maxDistance;
+        long[] entries = new long[words.length * 8 + 16];
+        int size = 0;
+        final Set<String> deletes = new HashSet<>();
+        for (int i = 0; i < words.length; i++) {
+            if (i % 1024 == 0) {
+                exec.checkCanceled();
+                exec.setProgress(0.9 * i / words.length);
+            }
+            deletes.clear();
+            collectDeletes(new String(words[i]), maxDistance, deletes);
+            if (size + deletes.size() > entries.length) {
+                entries = Arrays.copyOf(entries, Math.max(size + deletes.size(), entries.length + entries.length / 2));
+            }
+            for (final String delete : deletes) {
+                entries[size++] = ((long)delete.hashCode() << 32) | i;
+            }
+        }
+        m_entries = Arrays.copyOf(entries, size);
+        exec.checkCanceled();
+        Arrays.parallelSort(m_entries);
+    }
+
+    /**
+     * Estimates the number of entries of an index over the given words, which is an upper bound of the number of
+     * distinct deletion strings.
+     *
+     * @param words the words of the dictionary
+     * @param maxDistance the maximum number of deleted characters
+     * @return the estimated number of entries
+     */
+    static long estimateSize(final char[][] words, final int maxDistance) {
+        long size = 0;
+        for (final char[] word : words) {
+            long combinations = 1;
+            for (int d = 1; d <= Math.min(maxDistance, word.length); d++) {
+                combinations = combinations * (word.length - d + 1) / d;
+                size += combinations;
+            }
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * @return the maximum distance of the words that are guaranteed to be found
+     */
+    int getMaxDistance() {
+        return m_maxDistance;
+    }
+
+    /**
+     * Collects the indices of all words that may be within the maximum distance of the query. All words within the
+     * maximum distance are contained.
+     *
+     * @param query the query
+     * @param candidates the set to add the word indices to
+     */
+    void collectCandidates(final char[] query, final TIntHashSet candidates) {
+        final Set<String> deletes = new HashSet<>();
+        collectDeletes(new String(query), m_maxDistance, deletes);
+        for (final String delete : deletes) {
+            final long hash = (long)delete.hashCode() << 32;
+            int i = Arrays.binarySearch(m_entries, hash);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            // the word indices are non-negative, the entries of the hash are between hash and hash | 0xFFFFFFFF
+            while (i < m_entries.length && (m_entries[i] & 0xFFFFFFFF00000000L) == hash) {
+                candidates.add((int)m_entries[i]);
+                i++;
+            }
+        }
+    }
+
+    private static void collectDeletes(final String word, final int maxDistance, final Set<String> deletes) {
+        if (!deletes.add(word) || maxDistance == 0) {
+            return;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            collectDeletes(word.substring(0, i) + word.substring(i + 1), maxDistance - 1, deletes);
+        }
+    }
+}
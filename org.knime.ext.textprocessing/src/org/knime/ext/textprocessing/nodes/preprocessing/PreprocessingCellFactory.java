@@ -48,18 +48,20 @@
  */
 package org.knime.ext.textprocessing.nodes.preprocessing;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataType;
 import org.knime.core.data.container.SingleCellFactory;
 import org.knime.ext.textprocessing.data.Document;
-import org.knime.ext.textprocessing.data.DocumentBuilder;
+import org.knime.ext.textprocessing.data.DocumentTransformer;
 import org.knime.ext.textprocessing.data.DocumentValue;
-import org.knime.ext.textprocessing.data.Paragraph;
-import org.knime.ext.textprocessing.data.Section;
 import org.knime.ext.textprocessing.data.Sentence;
 import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.Word;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactoryBuilder;
 
@@ -111,48 +113,88 @@ public DataCell getCell(final DataRow row) {
 
         // apply preprocessing
         // Note: TermPreprocessing has to be thread safe!
-        Document preprocessedDoc = preprocessDocument(((DocumentValue)row.getCell(m_docColIndex)).getDocument());
+        final DataCell docCell = row.getCell(m_docColIndex);
+        final Document document = ((DocumentValue)docCell).getDocument();
+        final Document preprocessedDoc = preprocessDocument(document);
+
+        // pass unchanged documents through without re-serialization if the cell type fits the new column
+        if (preprocessedDoc == document && docCell.getType().equals(getColumnSpecs()[0].getType())) {
+            return docCell;
+        }
 
         // create new document cell
         return m_documentCellFac.createDataCell(preprocessedDoc);
     }
 
     private Document preprocessDocument(final Document document) {
-        final DocumentBuilder builder = new DocumentBuilder(document);
-        for (final Section s : document.getSections()) {
-            for (final Paragraph p : s.getParagraphs()) {
-                for (final Sentence sen : p.getSentences()) {
-                    Term previous = null;
-                    for (Term t : sen.getTerms()) {
-                        // check unmodifiability, or ignore flag and preprocess term
-                        if (!t.isUnmodifiable() || m_preprocessUnmodifiable) {
-                            t = m_preprocessing.preprocessTerm(t);
-                        }
-                        // if current term is empty (filtered, replaced) shift white space suffix to previous term
-                        if (t != null && t.getText().isEmpty() && previous != null) {
-                            final String whiteSpaceSuffix =
-                                t.getWords().get(t.getWords().size() - 1).getWhitespaceSuffix();
-                            previous.getWords().get(previous.getWords().size() - 1)
-                                .addWhiteSpaceSuffix(whiteSpaceSuffix);
-                        }
-                        // add previous term if not empty
-                        if (previous != null && !previous.getText().isEmpty()) {
-                            builder.addTerm(previous);
-                        }
-                        // shift current term to previous
-                        previous = t;
-                    }
-                    // add last term if not empty
-                    if (previous != null && !previous.getText().isEmpty()) {
-                        builder.addTerm(previous);
-                    }
-
-                    builder.createNewSentence();
-                }
-                builder.createNewParagraph();
+        // only changed sentences, paragraphs and sections are rebuilt, unchanged ones are shared with the input
+        return DocumentTransformer.transformSentences(document, this::preprocessSentence);
+    }
+
+    private Sentence preprocessSentence(final Sentence sentence) {
+        final List<Term> terms = sentence.getTerms();
+        final List<Term> newTerms = new ArrayList<Term>(terms.size());
+        boolean changed = false;
+        Term previous = null;
+        for (final Term term : terms) {
+            Term t = term;
+            // check unmodifiability, or ignore flag and preprocess term
+            if (!t.isUnmodifiable() || m_preprocessUnmodifiable) {
+                t = m_preprocessing.preprocessTerm(t);
+                changed |= !isSameTerm(term, t);
             }
-            builder.createNewSection(s.getAnnotation());
+            // if current term is empty (filtered, replaced) shift white space suffix to previous term
+            if (t != null && t.getText().isEmpty() && previous != null) {
+                previous = appendWhiteSpaceSuffix(previous, t);
+            }
+            // add previous term if not empty
+            if (previous != null && !previous.getText().isEmpty()) {
+                newTerms.add(previous);
+            }
+            // shift current term to previous
+            previous = t;
+        }
+        // add last term if not empty
+        if (previous != null && !previous.getText().isEmpty()) {
+            newTerms.add(previous);
+        }
+
+        if (newTerms.isEmpty()) {
+            // empty sentences are removed
+            return null;
+        } else if (!changed && newTerms.size() == terms.size()) {
+            // reuse unchanged sentence
+            return sentence;
         }
-        return builder.createDocument();
+        return new Sentence(newTerms);
+    }
+
+    /**
+     * Returns a copy of the given term with the white space suffix of the given empty term appended to the suffix of
+     * its last word. The term is not changed in place, since its words may be shared with the input document.
+     */
+    private static Term appendWhiteSpaceSuffix(final Term term, final Term emptyTerm) {
+        final List<Word> words = term.getWords();
+        final List<Word> emptyWords = emptyTerm.getWords();
+        if (words.isEmpty() || emptyWords.isEmpty()) {
+            return term;
+        }
+        final String whiteSpaceSuffix = emptyWords.get(emptyWords.size() - 1).getWhitespaceSuffix();
+        if (whiteSpaceSuffix.isEmpty()) {
+            return term;
+        }
+        final List<Word> newWords = new ArrayList<Word>(words);
+        final Word last = words.get(words.size() - 1);
+        newWords.set(newWords.size() - 1, new Word(last.getText(), last.getWhitespaceSuffix() + whiteSpaceSuffix));
+        return new Term(newWords, term.getTags(), term.isUnmodifiable());
+    }
+
+    /**
+     * Returns {@code true} if the preprocessed term is the original term or equals it including its tags and white
+     * space suffixes, since {@link Term#equals(Object)} ignores the latter.
+     */
+    private static boolean isSameTerm(final Term original, final Term preprocessed) {
+        return original == preprocessed || (preprocessed != null && original.equals(preprocessed)
+            && original.getTextWithWsSuffix().equals(preprocessed.getTextWithWsSuffix()));
     }
 }
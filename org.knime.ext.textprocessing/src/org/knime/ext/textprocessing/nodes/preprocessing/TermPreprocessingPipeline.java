@@ -0,0 +1,100 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.preprocessing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.ext.textprocessing.data.Term;
+
+/**
+ * Term preprocessing composing an ordered list of term preprocessings, which are applied one after the other to each
+ * term. Thus several preprocessing steps are applied in a single traversal of a document, which is rebuilt and
+ * written only once. A term filtered out or emptied by one step is not passed to the following steps, as if the
+ * steps were applied by subsequent preprocessing nodes.
+ * <p>
+ * The pipeline is thread safe if all of its steps are thread safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class TermPreprocessingPipeline implements TermPreprocessing {
+
+    private final TermPreprocessing[] m_steps;
+
+    /**
+     * Creates a new instance of {@code TermPreprocessingPipeline}.
+     *
+     * @param steps The preprocessing steps in the order to apply them.
+     */
+    public TermPreprocessingPipeline(final List<TermPreprocessing> steps) {
+        m_steps = new ArrayList<>(steps).toArray(new TermPreprocessing[steps.size()]);
+    }
+
+    /**
+     * @return The number of preprocessing steps.
+     */
+    public int getNoOfSteps() {
+        return m_steps.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Term preprocessTerm(final Term term) {
+        Term preprocessed = term;
+        for (final TermPreprocessing step : m_steps) {
+            preprocessed = step.preprocessTerm(preprocessed);
+            if (preprocessed == null || preprocessed.getText().isEmpty()) {
+                break;
+            }
+        }
+        return preprocessed;
+    }
+}
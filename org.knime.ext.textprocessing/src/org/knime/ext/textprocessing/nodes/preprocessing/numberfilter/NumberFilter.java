@@ -60,18 +60,21 @@
 public class NumberFilter implements TermPreprocessing, StringPreprocessing {
     /**
      * Constant for filtering mode that filters terms that represent numbers.
+     * @since 3.8
      */
-    static final String FILTERINGMODE_TERM_REPRESENTS_NUMBER = "Filter terms representing numbers";
+    public static final String FILTERINGMODE_TERM_REPRESENTS_NUMBER = "Filter terms representing numbers";
 
     /**
      * Constant for filtering mode that filters any terms that contain numbers.
+     * @since 3.8
      */
-    static final String FILTERINGMODE_TERM_CONTAINS_NUMBER = "Filter terms containing numbers";
+    public static final String FILTERINGMODE_TERM_CONTAINS_NUMBER = "Filter terms containing numbers";
 
     /**
      * Constant for default filtering mode.
+     * @since 3.8
      */
-    static final String DEF_FILTERINGMODE = FILTERINGMODE_TERM_REPRESENTS_NUMBER;
+    public static final String DEF_FILTERINGMODE = FILTERINGMODE_TERM_REPRESENTS_NUMBER;
 
     // regex for terms that consist of numbers, decimal seperators and leading +-.
     private static final Pattern NUMBER_REGEX = Pattern.compile("^[-+]?(?:\\d*[.,]{1}\\d+|\\d)+");
@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.preprocessing.pipeline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
+import org.knime.core.node.defaultnodesettings.DialogComponentStringSelection;
+import org.knime.core.node.defaultnodesettings.SettingsModel;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.ext.textprocessing.nodes.preprocessing.PreprocessingNodeSettingsPane2;
+import org.knime.ext.textprocessing.nodes.preprocessing.caseconverter.CaseConverter;
+import org.knime.ext.textprocessing.nodes.preprocessing.ncharsfilter.NCharsFilterNodeModel2;
+import org.knime.ext.textprocessing.nodes.preprocessing.numberfilter.NumberFilter;
+import org.knime.ext.textprocessing.nodes.preprocessing.snowballstemmer.SnowballStemmerFactory;
+import org.knime.ext.textprocessing.nodes.preprocessing.snowballstemmer.SnowballStemmerNodeModel2;
+import org.knime.ext.textprocessing.nodes.preprocessing.stopwordfilter.BuildInStopwordListFactory;
+
+/**
+ * The {@code NodeDialog} for the Preprocessing Pipeline node. Each step can be enabled and configured in its own
+ * group, the steps are applied in the order of the groups.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class PreprocessingPipelineNodeDialog extends PreprocessingNodeSettingsPane2 {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PreprocessingPipelineNodeDialog.class);
+
+    static SettingsModelBoolean getPunctuationErasureModel() {
+        return new SettingsModelBoolean("punctuationErasure", true);
+    }
+
+    static SettingsModelBoolean getNumberFilterModel() {
+        return new SettingsModelBoolean("numberFilter", true);
+    }
+
+    static SettingsModelString getNumberFilterModeModel() {
+        return new SettingsModelString("numberFilterMode", NumberFilter.DEF_FILTERINGMODE);
+    }
+
+    static SettingsModelBoolean getNCharsFilterModel() {
+        return new SettingsModelBoolean("nCharsFilter", true);
+    }
+
+    static SettingsModelIntegerBounded getNModel() {
+        return new SettingsModelIntegerBounded("nChars", NCharsFilterNodeModel2.DEF_N, NCharsFilterNodeModel2.MIN_N,
+            NCharsFilterNodeModel2.MAX_N);
+    }
+
+    static SettingsModelBoolean getCaseConverterModel() {
+        return new SettingsModelBoolean("caseConverter", true);
+    }
+
+    static SettingsModelString getCaseModel() {
+        return new SettingsModelString("case", CaseConverter.DEF_CASE);
+    }
+
+    static SettingsModelBoolean getStopWordFilterModel() {
+        return new SettingsModelBoolean("stopWordFilter", true);
+    }
+
+    static SettingsModelString getStopWordListModel() {
+        return new SettingsModelString("stopWordList", BuildInStopwordListFactory.getInstance().getDefaultName());
+    }
+
+    static SettingsModelBoolean getStopWordCaseSensitiveModel() {
+        return new SettingsModelBoolean("stopWordCaseSensitive", false);
+    }
+
+    static SettingsModelBoolean getStemmerModel() {
+        return new SettingsModelBoolean("snowballStemmer", true);
+    }
+
+    static SettingsModelString getStemmerNameModel() {
+        return new SettingsModelString("stemmerName", SnowballStemmerNodeModel2.DEF_STEMMER_NAME);
+    }
+
+    /**
+     * Creates new instance of {@code PreprocessingPipelineNodeDialog}.
+     */
+    PreprocessingPipelineNodeDialog() {
+        super();
+        createNewTab("Pipeline");
+        setSelected("Pipeline");
+
+        createNewGroup(" Punctuation Erasure ");
+        addDialogComponent(new DialogComponentBoolean(getPunctuationErasureModel(), "Erase punctuation"));
+        closeCurrentGroup();
+
+        createNewGroup(" Number Filter ");
+        final SettingsModelString numberFilterModeModel = getNumberFilterModeModel();
+        addStep(getNumberFilterModel(), "Filter numbers", numberFilterModeModel);
+        addDialogComponent(new DialogComponentStringSelection(numberFilterModeModel, "Filtering mode",
+            NumberFilter.FILTERINGMODE_TERM_REPRESENTS_NUMBER, NumberFilter.FILTERINGMODE_TERM_CONTAINS_NUMBER));
+        closeCurrentGroup();
+
+        createNewGroup(" N Chars Filter ");
+        final SettingsModelIntegerBounded nModel = getNModel();
+        setHorizontalPlacement(true);
+        addStep(getNCharsFilterModel(), "Filter short terms", nModel);
+        addDialogComponent(new DialogComponentNumber(nModel, "N Chars", 1));
+        setHorizontalPlacement(false);
+        closeCurrentGroup();
+
+        createNewGroup(" Case Converter ");
+        final SettingsModelString caseModel = getCaseModel();
+        setHorizontalPlacement(true);
+        addStep(getCaseConverterModel(), "Convert case", caseModel);
+        addDialogComponent(
+            new DialogComponentStringSelection(caseModel, "Case", CaseConverter.LOWER_CASE, CaseConverter.UPPER_CASE));
+        setHorizontalPlacement(false);
+        closeCurrentGroup();
+
+        createNewGroup(" Stop Word Filter ");
+        final SettingsModelString stopWordListModel = getStopWordListModel();
+        final SettingsModelBoolean caseSensitiveModel = getStopWordCaseSensitiveModel();
+        addStep(getStopWordFilterModel(), "Filter stop words", stopWordListModel, caseSensitiveModel);
+        setHorizontalPlacement(true);
+        addDialogComponent(new DialogComponentStringSelection(stopWordListModel, "Stopword list",
+            BuildInStopwordListFactory.getInstance().getNames()));
+        addDialogComponent(new DialogComponentBoolean(caseSensitiveModel, "Case sensitive"));
+        setHorizontalPlacement(false);
+        closeCurrentGroup();
+
+        createNewGroup(" Snowball Stemmer ");
+        final SettingsModelString stemmerNameModel = getStemmerNameModel();
+        setHorizontalPlacement(true);
+        addStep(getStemmerModel(), "Stem terms", stemmerNameModel);
+        try {
+            final List<String> names = new ArrayList<String>(new SnowballStemmerFactory().getStemmerNames());
+            addDialogComponent(new DialogComponentStringSelection(stemmerNameModel, "Snowball Stemmer", names));
+        } catch (Exception e) {
+            LOGGER.warn("Could not load Snowball stemmer!");
+            LOGGER.debug(e.getMessage());
+        }
+        setHorizontalPlacement(false);
+        closeCurrentGroup();
+    }
+
+    /**
+     * Adds the check box of a step, which enables the settings of the step.
+     */
+    private void addStep(final SettingsModelBoolean stepModel, final String label,
+        final SettingsModel... stepSettings) {
+        stepModel.addChangeListener(e -> updateEnabled(stepModel, stepSettings));
+        updateEnabled(stepModel, stepSettings);
+        addDialogComponent(new DialogComponentBoolean(stepModel, label));
+    }
+
+    private static void updateEnabled(final SettingsModelBoolean stepModel, final SettingsModel[] stepSettings) {
+        Arrays.stream(stepSettings).forEach(m -> m.setEnabled(stepModel.getBooleanValue()));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.preprocessing.pipeline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModel;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.ext.textprocessing.nodes.preprocessing.StreamableFunctionPreprocessingNodeModel;
+import org.knime.ext.textprocessing.nodes.preprocessing.TermPreprocessing;
+import org.knime.ext.textprocessing.nodes.preprocessing.TermPreprocessingPipeline;
+import org.knime.ext.textprocessing.nodes.preprocessing.caseconverter.CaseConverter;
+import org.knime.ext.textprocessing.nodes.preprocessing.ncharsfilter.NCharsFilter;
+import org.knime.ext.textprocessing.nodes.preprocessing.numberfilter.NumberFilter;
+import org.knime.ext.textprocessing.nodes.preprocessing.puncterasure.PunctuationErasure;
+import org.knime.ext.textprocessing.nodes.preprocessing.snowballstemmer.SnowballStemmerFactory;
+import org.knime.ext.textprocessing.nodes.preprocessing.snowballstemmer.WrappedSnowballStemmer;
+import org.knime.ext.textprocessing.nodes.preprocessing.stopwordfilter.BuildInStopwordListFactory;
+import org.knime.ext.textprocessing.nodes.preprocessing.stopwordfilter.StopWordFilter;
+
+/**
+ * The node model of the Preprocessing Pipeline node, which applies the enabled steps of the common preprocessing chain
+ * Punctuation Erasure, Number Filter, N Chars Filter, Case Converter, Stop Word Filter and Snowball Stemmer by means of
+ * a {@link TermPreprocessingPipeline}. Each document is deserialized, rebuilt and written only once instead of once
+ * per step.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class PreprocessingPipelineNodeModel extends StreamableFunctionPreprocessingNodeModel {
+
+    private final SettingsModelBoolean m_punctuationErasureModel =
+        PreprocessingPipelineNodeDialog.getPunctuationErasureModel();
+
+    private final SettingsModelBoolean m_numberFilterModel = PreprocessingPipelineNodeDialog.getNumberFilterModel();
+
+    private final SettingsModelString m_numberFilterModeModel =
+        PreprocessingPipelineNodeDialog.getNumberFilterModeModel();
+
+    private final SettingsModelBoolean m_nCharsFilterModel = PreprocessingPipelineNodeDialog.getNCharsFilterModel();
+
+    private final SettingsModelIntegerBounded m_nModel = PreprocessingPipelineNodeDialog.getNModel();
+
+    private final SettingsModelBoolean m_caseConverterModel = PreprocessingPipelineNodeDialog.getCaseConverterModel();
+
+    private final SettingsModelString m_caseModel = PreprocessingPipelineNodeDialog.getCaseModel();
+
+    private final SettingsModelBoolean m_stopWordFilterModel =
+        PreprocessingPipelineNodeDialog.getStopWordFilterModel();
+
+    private final SettingsModelString m_stopWordListModel = PreprocessingPipelineNodeDialog.getStopWordListModel();
+
+    private final SettingsModelBoolean m_stopWordCaseSensitiveModel =
+        PreprocessingPipelineNodeDialog.getStopWordCaseSensitiveModel();
+
+    private final SettingsModelBoolean m_stemmerModel = PreprocessingPipelineNodeDialog.getStemmerModel();
+
+    private final SettingsModelString m_stemmerNameModel = PreprocessingPipelineNodeDialog.getStemmerNameModel();
+
+    private final List<SettingsModel> m_models = Arrays.asList(m_punctuationErasureModel, m_numberFilterModel,
+        m_numberFilterModeModel, m_nCharsFilterModel, m_nModel, m_caseConverterModel, m_caseModel,
+        m_stopWordFilterModel, m_stopWordListModel, m_stopWordCaseSensitiveModel, m_stemmerModel, m_stemmerNameModel);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void preparePreprocessing(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (m_stopWordFilterModel.getBooleanValue()
+            && BuildInStopwordListFactory.getInstance().getStopwordListByName(m_stopWordListModel.getStringValue())
+                == null) {
+            throw new InvalidSettingsException(
+                "The stop word list '" + m_stopWordListModel.getStringValue() + "' does not exist.");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected TermPreprocessing createPreprocessing() throws Exception {
+        final List<TermPreprocessing> steps = new ArrayList<>();
+        if (m_punctuationErasureModel.getBooleanValue()) {
+            steps.add(new PunctuationErasure());
+        }
+        if (m_numberFilterModel.getBooleanValue()) {
+            steps.add(new NumberFilter(m_numberFilterModeModel.getStringValue()));
+        }
+        if (m_nCharsFilterModel.getBooleanValue()) {
+            steps.add(new NCharsFilter(m_nModel.getIntValue()));
+        }
+        if (m_caseConverterModel.getBooleanValue()) {
+            steps.add(new CaseConverter(m_caseModel.getStringValue()));
+        }
+        if (m_stopWordFilterModel.getBooleanValue()) {
+            final Set<String> stopWords =
+                BuildInStopwordListFactory.getInstance().getStopwordListByName(m_stopWordListModel.getStringValue());
+            steps.add(new StopWordFilter(stopWords, m_stopWordCaseSensitiveModel.getBooleanValue()));
+        }
+        if (m_stemmerModel.getBooleanValue()) {
+            steps.add(new WrappedSnowballStemmer(
+                new SnowballStemmerFactory().getStemmerByName(m_stemmerNameModel.getStringValue())));
+        }
+        return new TermPreprocessingPipeline(steps);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        super.loadValidatedSettingsFrom(settings);
+        for (final SettingsModel model : m_models) {
+            model.loadSettingsFrom(settings);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void saveSettingsTo(final NodeSettingsWO settings) {
+        super.saveSettingsTo(settings);
+        for (final SettingsModel model : m_models) {
+            model.saveSettingsTo(settings);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        super.validateSettings(settings);
+        for (final SettingsModel model : m_models) {
+            model.validateSettings(settings);
+        }
+    }
+}
@@ -47,6 +47,7 @@
  */
 package org.knime.ext.textprocessing.nodes.source.grabber;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
@@ -293,15 +294,14 @@ private void parseDocumentsAndNotify(final File dir) throws Exception {
             currFile++;
             LOGGER.info("Parsing file: " + f.getAbsolutePath());
 
-            InputStream is;
-            if (f.getName().toLowerCase().endsWith(".gz")
-                    || f.getName().toLowerCase().endsWith(".zip")) {
-                is = new GZIPInputStream(new FileInputStream(f));
-            } else {
-                is = new FileInputStream(f);
+            // documents are handed out one by one via the listener while the file is read,
+            // none of them is kept by the parser
+            try (InputStream is = openStream(f)) {
+                parser.setDocumentFilepath(f.getAbsolutePath());
+                parser.parseDocument(is);
+            } finally {
+                parser.clean();
             }
-            parser.setDocumentFilepath(f.getAbsolutePath());
-            parser.parseDocument(is);
         }
 
         if (getDeleteFiles()) {
@@ -314,6 +314,14 @@ private void parseDocumentsAndNotify(final File dir) throws Exception {
         return;
     }
 
+    private static InputStream openStream(final File f) throws IOException {
+        if (f.getName().toLowerCase().endsWith(".gz")
+                || f.getName().toLowerCase().endsWith(".zip")) {
+            return new BufferedInputStream(new GZIPInputStream(new FileInputStream(f)));
+        }
+        return new BufferedInputStream(new FileInputStream(f));
+    }
+
     @Deprecated
     private List < Document > parseDocuments(final File dir) throws Exception {
         List<Document> docs = new ArrayList<Document>();
@@ -342,16 +350,10 @@ private List < Document > parseDocuments(final File dir) throws Exception {
             currFile++;
             LOGGER.info("Parsing file: " + f.getAbsolutePath());
 
-            InputStream is;
-            if (f.getName().toLowerCase().endsWith(".gz")
-                    || f.getName().toLowerCase().endsWith(".zip")) {
-                is = new GZIPInputStream(new FileInputStream(f));
-            } else {
-                is = new FileInputStream(f);
+            try (InputStream is = openStream(f)) {
+                parser.setDocumentFilepath(f.getAbsolutePath());
+                docs.addAll(parser.parse(is));
             }
-            parser.setDocumentFilepath(f.getAbsolutePath());
-
-            docs.addAll(parser.parse(is));
             parser.clean();
         }
 
@@ -53,11 +53,18 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.zip.GZIPInputStream;
 
 import org.knime.core.data.DataTableSpec;
@@ -73,6 +80,13 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.util.ThreadPool;
 import org.knime.ext.textprocessing.data.Document;
 import org.knime.ext.textprocessing.data.DocumentCategory;
@@ -86,9 +100,10 @@
  * The model for all {@link org.knime.ext.textprocessing.data.Document} parser nodes, no matter what format they parse.
  * The factory provides them with the right {@link org.knime.ext.textprocessing.nodes.source.parser.DocumentParser}
  * instance to use for parsing the files with the specified file extensions in the specified directory. <br/>
- * All files partitioned into several chunks of files. The chunks of files are then parsed concurrently the worker
- * threads of the KNIME thread pool. For each thread a new concrete {@link DocumentParser} instance is created using the
- * specified {@link DocumentParserFactory}.
+ * Each file is parsed as a separate task by the worker threads of the KNIME thread pool, and the parsed documents are
+ * pushed to the (streamable) output in the order of the files as soon as they are parsed. The concrete
+ * {@link DocumentParser} instances are created using the specified {@link DocumentParserFactory} and reused for the
+ * following files.
  *
  * @author Kilian Thiel, University of Konstanz
  */
@@ -165,8 +180,6 @@ public class DocumentParserNodeModel extends NodeModel {
 
     private final List<String> m_validExtensions;
 
-    private DocumentDataTableBuilder m_dtBuilder = new DocumentDataTableBuilder(m_tokenizerModel.getStringValue());
-
     /**
      * Creates a new instance of <code>DocumentParserNodeModel</code> with the specified parser factory to create the
      * parser to use, and the valid extensions of files to parse.
@@ -204,8 +217,11 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
             throw new MissingTokenizerException(m_tokenizerModel.getStringValue());
         }
 
-        m_dtBuilder = new DocumentDataTableBuilder(m_tokenizerModel.getStringValue());
-        return new DataTableSpec[]{m_dtBuilder.createDataTableSpec()};
+        return new DataTableSpec[]{createDataTableSpec()};
+    }
+
+    private DataTableSpec createDataTableSpec() {
+        return new DocumentDataTableBuilder(m_tokenizerModel.getStringValue()).createDataTableSpec();
     }
 
     /**
@@ -244,132 +260,238 @@ private final DocumentParser createParser() throws InstantiationException {
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
         throws Exception {
-        final File dir = new File(m_pathModel.getStringValue());
-        final boolean recursive = m_recursiveModel.getBooleanValue();
-        final boolean ignoreHiddenFiles = m_ignoreHiddenFilesModel.getBooleanValue();
+        final BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(exec.createDataContainer(createDataTableSpec()));
+        createStreamableOperator(null, null).runFinal(new PortInput[0], new PortOutput[]{output}, exec);
+        return new BufferedDataTable[]{output.getDataTable()};
+    }
 
-        final FileCollector fc = new FileCollector(dir, m_validExtensions, recursive, ignoreHiddenFiles);
-        final List<File> files = fc.getFiles();
-        final int numberOfFiles = files.size();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new StreamableOperator() {
 
-        final int numberOfThreads = KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads();
-        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool();
-        final Semaphore semaphore = new Semaphore(numberOfThreads);
-        final int chunkSize = numberOfFiles / numberOfThreads;
-        final AtomicInteger fileCount = new AtomicInteger(0);
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final File dir = new File(m_pathModel.getStringValue());
+                final boolean recursive = m_recursiveModel.getBooleanValue();
+                final boolean ignoreHiddenFiles = m_ignoreHiddenFilesModel.getBooleanValue();
+
+                final FileCollector fc = new FileCollector(dir, m_validExtensions, recursive, ignoreHiddenFiles);
+                final List<File> files = fc.getFiles();
+
+                final DocumentDataTableBuilder dtBuilder =
+                    new DocumentDataTableBuilder(m_tokenizerModel.getStringValue());
+                dtBuilder.openRowOutput((RowOutput)outputs[0], exec);
+                try {
+                    parseFiles(files, dtBuilder, exec);
+                    dtBuilder.closeRowOutput();
+                } finally {
+                    dtBuilder.closeCache();
+                }
+            }
+        };
+    }
 
+    /**
+     * Parses the files in parallel, one task per file, and pushes the parsed documents to the given builder in the
+     * order of the files. Idle threads take the next file as soon as they finish the previous one, so that a few large
+     * files do not stall the other threads. The documents are handed over from the parsing threads as soon as they are
+     * parsed, hence the documents of the first file are pushed while it is still parsed. Each file hands its documents
+     * over through a bounded queue and at most twice as many files as threads are parsed ahead of the file currently
+     * pushed, so the number of documents held in memory does not depend on the size of the files.
+     *
+     * @param files The files to parse.
+     * @param builder The builder to push the documents to.
+     * @param exec The execution context.
+     * @throws Exception If the execution was canceled or the parsing failed unexpectedly.
+     */
+    private void parseFiles(final List<File> files, final DocumentDataTableBuilder builder,
+        final ExecutionContext exec) throws Exception {
+        final int noOfThreads = KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(noOfThreads);
+        // parser instances are reused by the worker threads, one instance is used by one thread at a time
+        final Queue<DocumentParser> idleParsers = new ConcurrentLinkedQueue<DocumentParser>();
+        final Deque<ParsedFile> pending = new ArrayDeque<ParsedFile>();
+        final int noOfFiles = files.size();
+        final Iterator<File> it = files.iterator();
         try {
-            m_dtBuilder.openDataTable(exec);
-
-            List<File> chunk = new ArrayList<File>(chunkSize);
-            for (final File f : files) {
-                chunk.add(f);
-                if (chunk.size() >= chunkSize) {
-                    pool.enqueue(parseFiles(chunk, exec, semaphore, fileCount, numberOfFiles));
-                    chunk = new ArrayList<File>(chunkSize);
+            // wait invisibly, so that the slot of this thread in the global pool is used for parsing meanwhile
+            pool.runInvisible(() -> {
+                int count = 0;
+                while (it.hasNext() || !pending.isEmpty()) {
+                    while (it.hasNext() && pending.size() < 2 * noOfThreads) {
+                        final ParsedFile parsedFile = new ParsedFile(it.next());
+                        parsedFile.m_future = pool.enqueue(() -> parseFile(parsedFile, idleParsers));
+                        pending.add(parsedFile);
+                    }
+
+                    // the head stays pending until all of its documents are pushed, so that it is canceled on failure
+                    final ParsedFile head = pending.peek();
+                    try {
+                        Document d;
+                        while ((d = head.take()) != null) {
+                            builder.pushDocument(d);
+                        }
+                        head.m_future.get();
+                    } catch (InterruptedException e) {
+                        // the node thread is interrupted if the execution is canceled
+                        exec.checkCanceled();
+                        throw e;
+                    }
+                    pending.poll();
+
+                    final int c = ++count;
+                    exec.setProgress(c / (double)noOfFiles, () -> "Parsed file " + c + " of " + noOfFiles);
                 }
+                return null;
+            });
+        } catch (ExecutionException e) {
+            // unwrap failures of the parsing tasks, which are wrapped twice, and of the invisible task
+            Throwable cause = e.getCause();
+            if (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
             }
-            // process last chunk
-            if (chunk.size() > 0) {
-                pool.enqueue(parseFiles(chunk, exec, semaphore, fileCount, numberOfFiles));
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
             }
-
-            pool.waitForTermination();
-
-            return new BufferedDataTable[]{m_dtBuilder.getAndCloseDataTable()};
+            throw e;
         } finally {
-            m_dtBuilder.closeCache();
+            // interrupt the threads still parsing (e.g. if canceled), they abort when handing over their next document
+            for (final ParsedFile parsedFile : pending) {
+                parsedFile.m_future.cancel(true);
+            }
         }
     }
 
     /**
-     * Creates and returns new anonymous {@link Runnable} instance that parses the given chunk of files.
-     * @param files The files to parse.
-     * @param exec The exection context.
-     * @param semaphore Semaphore to accquire.
-     * @param fileCount Count of parsed files.
-     * @param noFiles Number of files to parse in total, over all threads.
-     * @return new anonymous {@link Runnable} instance that parses given files.
-     * @throws CanceledExecutionException If execution was canceled.
+     * Parses the file of the given hand over and puts all parsed documents into it.
      */
-    private Runnable parseFiles(final List<File> files, final ExecutionContext exec, final Semaphore semaphore,
-        final AtomicInteger fileCount, final int noFiles) throws CanceledExecutionException {
-        exec.checkCanceled();
-        return new Runnable() {
+    private void parseFile(final ParsedFile parsedFile, final Queue<DocumentParser> idleParsers) {
+        try {
+            final DocumentParser parser = idleParsers.poll();
+            if (parser != null) {
+                parseFile(parsedFile, parser, idleParsers);
+                return;
+            }
+            try {
+                parseFile(parsedFile, createParser(), idleParsers);
+            } catch (InstantiationException e) {
+                LOGGER.error("Parser instance could not be created.");
+                setWarningMessage("Could not parse files!");
+            }
+        } finally {
+            // always mark the end, also if parsing failed with an error, so that the output thread does not wait
+            parsedFile.close();
+        }
+    }
 
-            @Override
-            public void run() {
-                try {
-                    semaphore.acquire();
+    private void parseFile(final ParsedFile parsedFile, final DocumentParser parser,
+        final Queue<DocumentParser> idleParsers) {
+        final File f = parsedFile.m_file;
+        LOGGER.info("Parsing file: " + f.getAbsolutePath());
 
-                    final DocumentParser parser = createParser();
+        InputStream is = null;
+        try {
+            if (f.getName().toLowerCase().endsWith(".gz")) {
+                is = new BufferedInputStream(new GZIPInputStream(new FileInputStream(f)));
+            } else {
+                is = new BufferedInputStream(new FileInputStream(f));
+            }
+            parser.setDocumentFilepath(f.getAbsolutePath());
 
-                    for (final File f : files) {
-                        exec.checkCanceled();
-                        final int count = fileCount.incrementAndGet();
-                        final double progress = count / (double)noFiles;
-                        exec.setProgress(progress, "Parsing file " + count + " of " + noFiles + " ...");
-
-                        LOGGER.info("Parsing file: " + f.getAbsolutePath());
-
-                        InputStream is = null;
-                        try {
-                            if (f.getName().toLowerCase().endsWith(".gz")) {
-                                is = new BufferedInputStream(new GZIPInputStream(new FileInputStream(f)));
-                            } else {
-                                is = new BufferedInputStream(new FileInputStream(f));
-                            }
-                            parser.setDocumentFilepath(f.getAbsolutePath());
-
-                            // first remove all listeners in order to avoid that two or more listeners are registered,
-                            // adding the same document twice or more times.
-                            parser.removeAllDocumentParsedListener();
-                            parser.addDocumentParsedListener(new InternalDocumentParsedEventListener());
-
-                            parser.parseDocument(is);
-                        } catch (Exception e) {
-                            LOGGER.error("Could not parse file: " + f.getAbsolutePath().toString(), e);
-                            setWarningMessage("Could not parse all files properly!");
-                        } finally {
-                            if (is != null) {
-                                try {
-                                    is.close();
-                                } catch (IOException e) {
-                                    LOGGER.debug("Could not close input stream of file:"
-                                        + f.getAbsolutePath().toString());
-                                }
-                            }
-                        }
-                    }
-                    parser.clean();
-                } catch (InstantiationException e) {
-                    LOGGER.error("Parser instance could not be created.");
-                    setWarningMessage("Could not parse files!");
-                } catch (InterruptedException e) {
-                    LOGGER.warn("Parser thread was interrupted, could not parse all files.");
-                    setWarningMessage("Could not parse all files properly!");
-                } catch (CanceledExecutionException e) {
-                    // handled by main executor thread
-                } finally {
-                    semaphore.release();
+            // first remove all listeners in order to avoid that two or more listeners are registered,
+            // adding the same document twice or more times.
+            parser.removeAllDocumentParsedListener();
+            parser.addDocumentParsedListener(event -> {
+                final Document d = event.getDocument();
+                if (d != null) {
+                    parsedFile.put(d);
+                }
+            });
+
+            parser.parseDocument(is);
+        } catch (Exception e) {
+            if (!Thread.currentThread().isInterrupted()) {
+                LOGGER.error("Could not parse file: " + f.getAbsolutePath().toString(), e);
+                setWarningMessage("Could not parse all files properly!");
+            } // else canceled, nobody waits for the documents of this file anymore
+        } finally {
+            if (is != null) {
+                try {
+                    is.close();
+                } catch (IOException e) {
+                    LOGGER.debug("Could not close input stream of file:" + f.getAbsolutePath().toString());
                 }
             }
-        };
+            parser.removeAllDocumentParsedListener();
+            parser.clean();
+            idleParsers.add(parser);
+        }
     }
 
-    private class InternalDocumentParsedEventListener implements DocumentParsedEventListener {
+    /**
+     * Hands the documents of a single file over from the thread parsing the file to the thread pushing the documents
+     * to the output. The queue is bounded, the parsing thread waits if the queue is full.
+     */
+    private static final class ParsedFile {
+
+        /** Marks the end of the documents of the file. */
+        private static final Object END = new Object();
+
+        private static final int CAPACITY = 16;
+
+        private final BlockingQueue<Object> m_documents = new ArrayBlockingQueue<Object>(CAPACITY);
+
+        private final File m_file;
+
+        private Future<?> m_future;
+
+        ParsedFile(final File file) {
+            m_file = file;
+        }
+
         /**
-         * {@inheritDoc}
+         * Puts the given document into the queue, waits if the queue is full.
+         *
+         * @throws CancellationException If the thread was interrupted while waiting, which aborts the parsing.
          */
-        @Override
-        public synchronized void documentParsed(final DocumentParsedEvent event) {
-            if (m_dtBuilder != null) {
-                final Document d = event.getDocument();
-                if (d != null) {
-                    m_dtBuilder.addDocument(d);
-                }
+        void put(final Document d) {
+            try {
+                m_documents.put(d);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Parsing of file " + m_file.getAbsolutePath() + " was canceled.");
+            }
+        }
+
+        /**
+         * Marks the end of the documents of the file.
+         */
+        void close() {
+            try {
+                m_documents.put(END);
+            } catch (InterruptedException e) {
+                // canceled, nobody waits for the documents of this file anymore
+                Thread.currentThread().interrupt();
             }
         }
+
+        /**
+         * Waits for the next document of the file. The parsing task always marks the end of the documents, also if
+         * parsing failed.
+         *
+         * @return the next document of the file or {@code null} if all documents have been taken.
+         * @throws InterruptedException If the thread was interrupted while waiting.
+         */
+        Document take() throws InterruptedException {
+            final Object o = m_documents.take();
+            return o == END ? null : (Document)o;
+        }
     }
 
     /**
@@ -393,10 +515,7 @@ protected void saveInternals(final File nodeInternDir, final ExecutionMonitor ex
      */
     @Override
     protected void reset() {
-        try {
-            m_dtBuilder.getAndCloseDataTable();
-        } catch (Exception e) { /* Do noting just try */
-        }
+        // Nothing to do here ...
     }
 
     /**
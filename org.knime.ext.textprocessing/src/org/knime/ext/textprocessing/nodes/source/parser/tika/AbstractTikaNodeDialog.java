@@ -59,6 +59,7 @@
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
 import org.knime.core.node.defaultnodesettings.DialogComponentButtonGroup;
 import org.knime.core.node.defaultnodesettings.DialogComponentFileChooser;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.DialogComponentPasswordField;
 import org.knime.core.node.defaultnodesettings.DialogComponentString;
 import org.knime.core.node.defaultnodesettings.DialogComponentStringListSelection;
@@ -107,7 +108,8 @@ public abstract class AbstractTikaNodeDialog extends DefaultNodeSettingsPane {
      * for creating an additional error column is provided. Another boolean button is added to specify whether embedded
      * files should be extracted as well to a specific directory using a file chooser component. For encrypted files,
      * there is a boolean button to specify whether any detected encrypted files should be parsed. If set to true, a
-     * password has to be given in the authentication component.
+     * password has to be given in the authentication component. Finally, the number of files parsed in parallel and
+     * the timeout per file can be specified.
      *
      */
     public AbstractTikaNodeDialog() {
@@ -172,6 +174,15 @@ public AbstractTikaNodeDialog() {
         setHorizontalPlacement(false);
 
         closeCurrentGroup();
+
+        createNewGroup("Parallel parsing settings");
+        setHorizontalPlacement(true);
+        addDialogComponent(
+            new DialogComponentNumber(TikaParserConfig.getNumberOfThreadsModel(), "Number of parallel files", 1));
+        addDialogComponent(
+            new DialogComponentNumber(TikaParserConfig.getTimeoutModel(), "Timeout per file (seconds)", 10));
+        setHorizontalPlacement(false);
+        closeCurrentGroup();
     }
 
     class FilterChangeListener implements ChangeListener {
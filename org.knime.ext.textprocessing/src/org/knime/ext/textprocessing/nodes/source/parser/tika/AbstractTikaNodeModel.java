@@ -51,12 +51,24 @@
 import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.knime.core.data.DataCell;
@@ -72,11 +84,14 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelFilterString;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelPassword;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.defaultnodesettings.SettingsModelStringArray;
@@ -91,6 +106,8 @@
 import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.util.FileUtil;
+import org.knime.core.util.MultiThreadWorker;
+import org.knime.core.util.ThreadUtils;
 
 import com.google.common.collect.Iterables;
 
@@ -101,6 +118,8 @@
  */
 public abstract class AbstractTikaNodeModel extends NodeModel {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(AbstractTikaNodeModel.class);
+
     private SettingsModelString m_typesModel = TikaParserConfig.getTypeModel();
 
     private SettingsModelStringArray m_columnModel = TikaParserConfig.getColumnModel();
@@ -121,6 +140,10 @@ public abstract class AbstractTikaNodeModel extends NodeModel {
 
     private SettingsModelBoolean m_extractInlineImagesModel = TikaParserConfig.getExtractInlineImagesModel();
 
+    private SettingsModelIntegerBounded m_numberOfThreadsModel = TikaParserConfig.getNumberOfThreadsModel();
+
+    private SettingsModelIntegerBounded m_timeoutModel = TikaParserConfig.getTimeoutModel();
+
     /**
      * Creates a new instance.
      *
@@ -204,96 +227,259 @@ public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final
                 throws Exception {
                 assert inputs.length > 0 || isSourceNode();
 
-                RowOutput rowOutput1 = (RowOutput)outputs[0]; // data output port 1
-                RowOutput rowOutput2 = (RowOutput)outputs[1]; // data output port 2
-
-                boolean ext, error = false;
-                if (m_typesModel.getStringValue().equals(TikaParserConfig.EXT_TYPE)) {
-                    ext = true;
-                } else {
-                    ext = false;
+                final File attachmentDir = getAttachmentDir();
+                int noOfThreads = m_numberOfThreadsModel.getIntValue();
+                final int maxThreads = KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads();
+                if (noOfThreads > maxThreads) {
+                    LOGGER.info("Parsing at most " + maxThreads + " files in parallel, the maximal number of KNIME "
+                        + "threads.");
+                    noOfThreads = maxThreads;
                 }
-
-                final List<String> validTypes = m_filterModel.getIncludeList();
-                Map<String, Integer> duplicateFiles = new HashMap<String, Integer>();
-                List<String> outputColumnsOne = Arrays.asList(m_columnModel.getStringArrayValue());
-                if (m_errorColumnModel.getBooleanValue()) {
-                    outputColumnsOne = new ArrayList<String>(outputColumnsOne);
-                    outputColumnsOne.add(m_errorColNameModel.getStringValue());
+                if (attachmentDir != null && noOfThreads > 1) {
+                    // the names of extracted files with equal names depend on the order in which they are extracted
+                    LOGGER.info("Extracting attachments, files are parsed sequentially.");
+                    noOfThreads = 1;
                 }
-                final File attachmentDir = getAttachmentDir();
-                int rowKeyOne = 0;
-                int rowKeyTwo = 0;
-
-                Iterable<URL> urls = readInput(isSourceNode() ? null : (RowInput)inputs[0]);
-                int count = 1;
-                for (URL url : urls) {
-                    String errorMsg = "";
-
-                    if (url == null) {
-                        errorMsg = "Missing cell. Cannot locate file path";
-                        rowOutput1.push(TikaParser.setMissingRow(outputColumnsOne, "", rowKeyOne, errorMsg,
-                            m_errorColNameModel.getStringValue()));
-                        continue;
-                    }
-                    TikaParser tikaParser = new TikaParser(isSourceNode());
-                    tikaParser.setOutputColumnsOne(outputColumnsOne);
-                    tikaParser.setValidTypes(validTypes);
-                    tikaParser.setErrorColName(m_errorColNameModel.getStringValue());
-                    tikaParser.setAuthBoolean(m_authBooleanModel.getBooleanValue());
-                    tikaParser.setExtBoolean(ext);
-                    tikaParser.setPassword(m_authModel.getStringValue());
-                    tikaParser.setDuplicates(duplicateFiles);
-                    boolean inlineImage = m_extractInlineImagesModel.getBooleanValue();
-                    if (!m_extractInlineImagesModel.isEnabled()) {
-                        inlineImage = false;
-                    }
-                    tikaParser.setExtractInlineImages(inlineImage);
-
-                    List<DataCell[]> datacells = tikaParser.parse(url, attachmentDir);
-                    duplicateFiles = tikaParser.getDuplicates();
-                    errorMsg = tikaParser.getErrorMsg();
-                    if (datacells == null || datacells.isEmpty()) {
-                        if (!errorMsg.isEmpty()) {
-                            setWarningMessage(errorMsg + ": " + TikaParser.getStringRepresentation(url));
-                            error = true;
-                        }
-                        continue; // skipped files
-                    }
-
-                    DataCell[] rowOne = datacells.get(0);
-                    rowOutput1.push(new DefaultRow(RowKey.createRowKey((long)rowKeyOne), rowOne));
-                    rowKeyOne++;
 
-                    if (!errorMsg.isEmpty()) {
-                        setWarningMessage(errorMsg + ": " + TikaParser.getStringRepresentation(url));
-                        error = true;
-                        continue;
+                final Iterable<URL> urls = readInput(isSourceNode() ? null : (RowInput)inputs[0]);
+                final int noOfFiles = Iterables.size(urls);
+
+                final int timeout = m_timeoutModel.getIntValue();
+                // files are parsed in separate (daemon) threads if a timeout is set, so that workers are not blocked
+                // by files whose parsing does not terminate. Tika does not react on interrupts, thus the parsing of
+                // a timed out file keeps running until it terminates on its own, also after the node has finished.
+                // The number of threads is bounded, one per worker plus one per worker for timed out files.
+                final ExecutorService timeoutExecutor = timeout > 0 ? ThreadUtils.executorServiceWithContext(
+                    new ThreadPoolExecutor(0, 2 * noOfThreads, 60L, TimeUnit.SECONDS,
+                        new SynchronousQueue<Runnable>(), r -> {
+                            final Thread t = new Thread(r, "Tika Parser");
+                            t.setDaemon(true);
+                            return t;
+                        })) : null;
+                final FileParser fileParser = new FileParser((RowOutput)outputs[0], (RowOutput)outputs[1],
+                    attachmentDir, noOfThreads, timeoutExecutor, noOfFiles, exec);
+                try {
+                    fileParser.run(urls);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception) {
+                        throw (Exception)e.getCause();
                     }
-
-                    if (datacells.size() > 1) {
-                        for (int j = 1; j < datacells.size(); j++) {
-                            rowOutput2.push(new DefaultRow(RowKey.createRowKey((long)rowKeyTwo), datacells.get(j)));
-                            rowKeyTwo++;
-                        }
+                    throw e;
+                } finally {
+                    if (timeoutExecutor != null) {
+                        timeoutExecutor.shutdownNow();
                     }
-
-                    exec.checkCanceled();
-                    int filesSize = Iterables.size(urls);
-                    exec.setProgress(count / (double)filesSize, "Parsing file " + count + " of " + filesSize);
                 }
 
-                if (error) {
+                if (fileParser.m_error) {
                     setWarningMessage("Not all files are parsed!");
                 }
 
                 for (int i = 0; i < outputs.length; i++) {
                     ((RowOutput)outputs[i]).close();
                 }
+            }
+        };
+    }
+
+    /**
+     * The result of parsing a single file.
+     */
+    private static final class ParsedFile {
+
+        private final URL m_url;
+
+        private final List<DataCell[]> m_datacells;
+
+        private final String m_errorMsg;
+
+        private final boolean m_timedOut;
+
+        ParsedFile(final URL url, final List<DataCell[]> datacells, final String errorMsg, final boolean timedOut) {
+            m_url = url;
+            m_datacells = datacells;
+            m_errorMsg = errorMsg;
+            m_timedOut = timedOut;
+        }
+    }
+
+    /**
+     * Parses the files with a pool of reusable, configured {@link TikaParser} instances and pushes the resulting rows
+     * to both outputs in the order of the input files.
+     */
+    private final class FileParser extends MultiThreadWorker<URL, ParsedFile> {
+
+        private final Queue<TikaParser> m_idleParsers = new ConcurrentLinkedQueue<TikaParser>();
+
+        private final RowOutput m_rowOutput1;
+
+        private final RowOutput m_rowOutput2;
+
+        private final File m_attachmentDir;
+
+        private final ExecutorService m_timeoutExecutor;
+
+        private final int m_timeout = m_timeoutModel.getIntValue();
+
+        private final int m_noOfFiles;
+
+        private final ExecutionContext m_exec;
+
+        private final boolean m_ext = m_typesModel.getStringValue().equals(TikaParserConfig.EXT_TYPE);
+
+        private final List<String> m_validTypes = m_filterModel.getIncludeList();
+
+        private final List<String> m_outputColumnsOne;
+
+        private final String m_errorColName = m_errorColNameModel.getStringValue();
+
+        private final Map<String, Integer> m_duplicateFiles = new HashMap<String, Integer>();
+
+        private int m_rowKeyOne = 0;
+
+        private int m_rowKeyTwo = 0;
+
+        private int m_count = 0;
+
+        private boolean m_error = false;
+
+        FileParser(final RowOutput rowOutput1, final RowOutput rowOutput2, final File attachmentDir,
+            final int noOfThreads, final ExecutorService timeoutExecutor, final int noOfFiles,
+            final ExecutionContext exec) {
+            super(4 * noOfThreads, noOfThreads);
+            m_rowOutput1 = rowOutput1;
+            m_rowOutput2 = rowOutput2;
+            m_attachmentDir = attachmentDir;
+            m_timeoutExecutor = timeoutExecutor;
+            m_noOfFiles = noOfFiles;
+            m_exec = exec;
+
+            List<String> outputColumnsOne = Arrays.asList(m_columnModel.getStringArrayValue());
+            if (m_errorColumnModel.getBooleanValue()) {
+                outputColumnsOne = new ArrayList<String>(outputColumnsOne);
+                outputColumnsOne.add(m_errorColName);
+            }
+            m_outputColumnsOne = outputColumnsOne;
+        }
+
+        private TikaParser createParser() {
+            final TikaParser tikaParser = new TikaParser(isSourceNode());
+            tikaParser.setOutputColumnsOne(m_outputColumnsOne);
+            tikaParser.setValidTypes(m_validTypes);
+            tikaParser.setErrorColName(m_errorColName);
+            tikaParser.setAuthBoolean(m_authBooleanModel.getBooleanValue());
+            tikaParser.setExtBoolean(m_ext);
+            tikaParser.setPassword(m_authModel.getStringValue());
+            tikaParser.setDuplicates(m_duplicateFiles);
+            boolean inlineImage = m_extractInlineImagesModel.getBooleanValue();
+            if (!m_extractInlineImagesModel.isEnabled()) {
+                inlineImage = false;
+            }
+            tikaParser.setExtractInlineImages(inlineImage);
+            return tikaParser;
+        }
+
+        @Override
+        protected ParsedFile compute(final URL url, final long index) throws Exception {
+            m_exec.checkCanceled();
+            if (url == null) {
+                return new ParsedFile(null, null, "Missing cell. Cannot locate file path", false);
+            }
+
+            TikaParser tikaParser = m_idleParsers.poll();
+            if (tikaParser == null) {
+                tikaParser = createParser();
+            } else {
+                tikaParser.reset();
+            }
+
+            final List<DataCell[]> datacells;
+            if (m_timeoutExecutor != null) {
+                final TikaParser parser = tikaParser;
+                final Future<List<DataCell[]>> future;
+                try {
+                    future = m_timeoutExecutor.submit(() -> parser.parse(url, m_attachmentDir));
+                } catch (RejectedExecutionException e) {
+                    // all spare threads are blocked by timed out files, which are still being parsed
+                    m_idleParsers.add(tikaParser);
+                    return new ParsedFile(url, null,
+                        "Too many timed out files are still being parsed, file has not been parsed", true);
+                }
+                try {
+                    datacells = future.get(m_timeout, TimeUnit.SECONDS);
+                } catch (TimeoutException e) {
+                    // the parser might still be used by the aborted thread, hence it is not reused
+                    future.cancel(true);
+                    return new ParsedFile(url, null, "Parsing timed out after " + m_timeout + " seconds", true);
+                } catch (InterruptedException e) {
+                    future.cancel(true);
+                    throw e;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception) {
+                        throw (Exception)e.getCause();
+                    }
+                    throw e;
+                }
+            } else {
+                datacells = tikaParser.parse(url, m_attachmentDir);
+            }
+            final String errorMsg = tikaParser.getErrorMsg();
+            m_idleParsers.add(tikaParser);
+            return new ParsedFile(url, datacells, errorMsg, false);
+        }
 
+        @Override
+        protected void processFinished(final MultiThreadWorker<URL, ParsedFile>.ComputationTask task)
+            throws ExecutionException, CancellationException, InterruptedException {
+            final ParsedFile file = task.get();
+            final int count = ++m_count;
+            m_exec.setProgress(count / (double)m_noOfFiles, () -> "Parsing file " + count + " of " + m_noOfFiles);
+
+            if (file.m_url == null) {
+                m_rowOutput1.push(TikaParser.setMissingRow(m_outputColumnsOne, "", m_rowKeyOne++, file.m_errorMsg,
+                    m_errorColName));
+                return;
             }
 
-        };
+            final String path = getPath(file.m_url);
+            if (file.m_timedOut) {
+                setWarningMessage(file.m_errorMsg + ": " + path);
+                m_error = true;
+                m_rowOutput1.push(TikaParser.setMissingRow(m_outputColumnsOne, path, m_rowKeyOne++, file.m_errorMsg,
+                    m_errorColName));
+                return;
+            }
+
+            final List<DataCell[]> datacells = file.m_datacells;
+            if (datacells == null || datacells.isEmpty()) {
+                if (!file.m_errorMsg.isEmpty()) {
+                    setWarningMessage(file.m_errorMsg + ": " + path);
+                    m_error = true;
+                }
+                return; // skipped files
+            }
+
+            m_rowOutput1.push(new DefaultRow(RowKey.createRowKey((long)m_rowKeyOne++), datacells.get(0)));
+
+            if (!file.m_errorMsg.isEmpty()) {
+                setWarningMessage(file.m_errorMsg + ": " + path);
+                m_error = true;
+                return;
+            }
+
+            for (int j = 1; j < datacells.size(); j++) {
+                m_rowOutput2.push(new DefaultRow(RowKey.createRowKey((long)m_rowKeyTwo++), datacells.get(j)));
+            }
+        }
+
+        private String getPath(final URL url) throws ExecutionException {
+            try {
+                return TikaParser.getStringRepresentation(url);
+            } catch (IOException | URISyntaxException e) {
+                throw new ExecutionException(e);
+            }
+        }
+
     }
 
     /**
@@ -312,6 +498,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_errorColNameModel.saveSettingsTo(settings);
         m_filterModel.saveSettingsTo(settings);
         m_extractInlineImagesModel.saveSettingsTo(settings);
+        m_numberOfThreadsModel.saveSettingsTo(settings);
+        m_timeoutModel.saveSettingsTo(settings);
     }
 
     /**
@@ -344,6 +532,13 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         } catch (Exception e) {
             //do nothing, just to make sure it's backwards compatible
         }
+        // added in 3.8
+        if (settings.containsKey(m_numberOfThreadsModel.getConfigName())) {
+            m_numberOfThreadsModel.validateSettings(settings);
+        }
+        if (settings.containsKey(m_timeoutModel.getConfigName())) {
+            m_timeoutModel.validateSettings(settings);
+        }
 
         Boolean extract =
             ((SettingsModelBoolean)m_extractAttachmentModel.createCloneWithValidatedValue(settings)).getBooleanValue();
@@ -392,6 +587,13 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         } catch (Exception e) {
             //do nothing, just to make sure it's backwards compatible
         }
+        // added in 3.8
+        if (settings.containsKey(m_numberOfThreadsModel.getConfigName())) {
+            m_numberOfThreadsModel.loadSettingsFrom(settings);
+        }
+        if (settings.containsKey(m_timeoutModel.getConfigName())) {
+            m_timeoutModel.loadSettingsFrom(settings);
+        }
     }
 
     /**
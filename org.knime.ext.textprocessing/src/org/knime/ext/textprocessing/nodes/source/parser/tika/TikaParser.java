@@ -138,6 +138,18 @@ public TikaParser(final boolean sourceNode) {
         m_sourceNode = sourceNode;
     }
 
+    /**
+     * Resets the state of the last parsed file, such as its content, metadata and error message, so that the parser
+     * instance including its configuration can be reused for the next file.
+     *
+     * @since 3.8
+     */
+    public void reset() {
+        m_handler = new BodyContentHandler(-1);
+        m_metadata = new Metadata();
+        m_errorMsg = "";
+    }
+
     /**
      * This method parses a file and creates a list of DataCell arrays containing the parsed information and its
      * attachments.
@@ -58,6 +58,7 @@
 import org.apache.tika.parser.ParseContext;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelFilterString;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelPassword;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.defaultnodesettings.SettingsModelStringArray;
@@ -166,6 +167,24 @@ public class TikaParserConfig {
      */
     public static final boolean DEFAULT_EXTRACT_INLINE_IMGS = false;
 
+    /**
+     * The default number of files that are parsed in parallel.
+     * @since 3.8
+     */
+    public static final int DEFAULT_NUMBER_OF_THREADS = 1;
+
+    /**
+     * The maximal number of files that are parsed in parallel.
+     * @since 3.8
+     */
+    public static final int MAX_NUMBER_OF_THREADS = 256;
+
+    /**
+     * The default time in seconds after which the parsing of a single file is aborted, 0 means no timeout.
+     * @since 3.8
+     */
+    public static final int DEFAULT_TIMEOUT = 0;
+
     /**
      * @return SettingsModelString contains the string of the path to the input directory.
      */
@@ -291,6 +310,26 @@ public static SettingsModelBoolean getExtractInlineImagesModel() {
         return new SettingsModelBoolean(TikaParserConfigKeys.CFGKEY_EXTRACT_INLINE_IMGS, DEFAULT_EXTRACT_INLINE_IMGS);
     }
 
+    /**
+     * @return SettingsModelIntegerBounded containing the number of files that are parsed in parallel, at most
+     *         {@link #MAX_NUMBER_OF_THREADS}.
+     * @since 3.8
+     */
+    public static SettingsModelIntegerBounded getNumberOfThreadsModel() {
+        return new SettingsModelIntegerBounded(TikaParserConfigKeys.CFGKEY_NUMBER_OF_THREADS,
+            DEFAULT_NUMBER_OF_THREADS, 1, MAX_NUMBER_OF_THREADS);
+    }
+
+    /**
+     * @return SettingsModelIntegerBounded containing the time in seconds after which the parsing of a single file is
+     *         aborted, 0 means no timeout.
+     * @since 3.8
+     */
+    public static SettingsModelIntegerBounded getTimeoutModel() {
+        return new SettingsModelIntegerBounded(TikaParserConfigKeys.CFGKEY_TIMEOUT, DEFAULT_TIMEOUT, 0,
+            Integer.MAX_VALUE);
+    }
+
     /**
      *
      * @author Andisa Dewi, KNIME.com, Berlin, Germany
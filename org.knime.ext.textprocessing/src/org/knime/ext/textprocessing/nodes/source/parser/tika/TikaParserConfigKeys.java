@@ -126,4 +126,14 @@ private TikaParserConfigKeys() {
      */
     static final String CFGKEY_EXTRACT_INLINE_IMGS = "ExtractInlineImagesPDF";
 
+    /**
+     * The configuration key of the number of files that are parsed in parallel.
+     */
+    static final String CFGKEY_NUMBER_OF_THREADS = "MaximalParallelThreads";
+
+    /**
+     * The configuration key of the time in seconds after which the parsing of a single file is aborted.
+     */
+    static final String CFGKEY_TIMEOUT = "ParseTimeout";
+
 }
@@ -52,9 +52,7 @@
 import java.util.List;
 
 import org.knime.ext.textprocessing.data.Document;
-import org.knime.ext.textprocessing.data.DocumentBuilder;
-import org.knime.ext.textprocessing.data.Paragraph;
-import org.knime.ext.textprocessing.data.Section;
+import org.knime.ext.textprocessing.data.DocumentTransformer;
 import org.knime.ext.textprocessing.data.Sentence;
 import org.knime.ext.textprocessing.data.Tag;
 import org.knime.ext.textprocessing.data.Term;
@@ -174,28 +172,17 @@ public AbstractDocumentTagger(final boolean setUnmodifiable, final boolean caseS
      */
     @Override
     public synchronized Document tag(final Document doc) {
-        DocumentBuilder db = new DocumentBuilder(doc, m_tokenizerName);
-        for (Section s : doc.getSections()) {
-            for (Paragraph p : s.getParagraphs()) {
-                List<Sentence> newSentenceList = new ArrayList<>();
-                for (Sentence sn : p.getSentences()) {
-                    final Sentence taggedSentence;
-                    if (sn.getTerms().isEmpty()) {
-                        //do not try to tag empty sentences but keep the original one
-                        //to prevent exceptions in the taggers
-                        taggedSentence = sn;
-                    } else {
-                        // tag sentence
-                        taggedSentence = tagSentence(sn);
-                    }
-                    // add tagged sentence to document
-                    newSentenceList.add(taggedSentence);
-                }
-                db.addParagraph(new Paragraph(newSentenceList));
+        // only sentences containing new entities and their paragraphs and sections are rebuilt, all other parts
+        // are shared with the given document, which is returned itself if nothing has been tagged
+        return DocumentTransformer.transformSentences(doc, sn -> {
+            if (sn.getTerms().isEmpty()) {
+                //do not try to tag empty sentences but keep the original one
+                //to prevent exceptions in the taggers
+                return sn;
             }
-            db.createNewSection(s.getAnnotation());
-        }
-        return db.createDocument();
+            // tag sentence
+            return tagSentence(sn);
+        });
     }
 
     private Sentence tagSentence(final Sentence s) {
@@ -206,7 +193,8 @@ private Sentence tagSentence(final Sentence s) {
         }
 
         // Collect words and terms
-        List<Term> termList = s.getTerms();
+        final List<Term> origTermList = s.getTerms();
+        List<Term> termList = origTermList;
 
         // go through all recognized named entities and rearrange terms
         for (TaggedEntity entity : entities) {
@@ -214,6 +202,10 @@ private Sentence tagSentence(final Sentence s) {
             // entities and entity tag.
             termList = buildTermList(termList, findNe(termList, entity), entity.getTagString());
         }
+        if (termList == origTermList) {
+            // no entity found in sentence, keep the original one
+            return s;
+        }
         return new Sentence(termList);
     }
 
@@ -0,0 +1,336 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.tagging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable Aho-Corasick automaton, compiled once from the entries of a dictionary, which finds all dictionary
+ * entries contained in a text in a single pass over the text. The time required to match a text is linear in the
+ * length of the text (plus the number of matches) and independent of the size of the dictionary, whereas checking
+ * each entry with {@link String#contains(CharSequence)} is linear in the size of the dictionary.
+ *
+ * The matching behavior is equal to {@link NamedEntityMatcher#matchWithSentence(String, String)}: an entry is found
+ * if the text contains the entry, if matching is case insensitive both are lower cased before.
+ *
+ * The automaton is stored in flat arrays. States are numbered in breadth first order, thus the children of each state
+ * are numbered consecutively and sorted by the character of their incoming edge, which allows transitions to be
+ * looked up by binary search. Instances can be shared by arbitrary many threads.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class DictionaryAutomaton {
+
+    private static final int NO_STATE = -1;
+
+    private static final int ROOT = 0;
+
+    /** The original entries in the order of the dictionary. */
+    private final String[] m_entries;
+
+    private final boolean m_caseSensitive;
+
+    /** The index of the first child of each state, the children of state s are [childStart[s], childStart[s+1]). */
+    private final int[] m_childStart;
+
+    /** The character of the incoming edge of each state. */
+    private final char[] m_stateChar;
+
+    /** The failure transition of each state. */
+    private final int[] m_fail;
+
+    /** The index of the key ending at each state or -1. */
+    private final int[] m_stateKey;
+
+    /** The state itself or the nearest state on its failure path at which a key ends, or -1. */
+    private final int[] m_match;
+
+    /** The indices of the entries of each key, the entries of key k are [keyEntryStart[k], keyEntryStart[k+1]). */
+    private final int[] m_keyEntryStart;
+
+    private final int[] m_keyEntries;
+
+    /** The index of the empty key, which is contained in every text, or -1. */
+    private final int m_emptyKey;
+
+    /**
+     * Compiles a new automaton from the given dictionary entries.
+     *
+     * @param entries The dictionary entries to find. Duplicate entries are found (and returned) multiple times.
+     * @param caseSensitive If {@code false} the case of entries and texts is ignored.
+     */
+    public DictionaryAutomaton(final Collection<String> entries, final boolean caseSensitive) {
+        if (entries == null) {
+            throw new NullPointerException("Dictionary entries may not be null!");
+        }
+        m_entries = entries.toArray(new String[entries.size()]);
+        m_caseSensitive = caseSensitive;
+
+        // map (lower cased) keys to the indices of their entries
+        final Map<String, List<Integer>> keyEntries = new HashMap<String, List<Integer>>(m_entries.length * 2);
+        for (int i = 0; i < m_entries.length; i++) {
+            final String key = caseSensitive ? m_entries[i] : m_entries[i].toLowerCase();
+            List<Integer> indices = keyEntries.get(key);
+            if (indices == null) {
+                indices = new ArrayList<Integer>(1);
+                keyEntries.put(key, indices);
+            }
+            indices.add(i);
+        }
+        final String[] keys = keyEntries.keySet().toArray(new String[keyEntries.size()]);
+        Arrays.sort(keys);
+
+        m_keyEntryStart = new int[keys.length + 1];
+        m_keyEntries = new int[m_entries.length];
+        int pos = 0;
+        for (int k = 0; k < keys.length; k++) {
+            m_keyEntryStart[k] = pos;
+            for (final Integer index : keyEntries.get(keys[k])) {
+                m_keyEntries[pos++] = index;
+            }
+        }
+        m_keyEntryStart[keys.length] = pos;
+
+        // the empty key is the first key in sorted order, it ends at the root and is handled separately
+        final int firstKey;
+        if (keys.length > 0 && keys[0].isEmpty()) {
+            m_emptyKey = 0;
+            firstKey = 1;
+        } else {
+            m_emptyKey = -1;
+            firstKey = 0;
+        }
+
+        // build trie in breadth first order. Each state covers the range of sorted keys sharing the prefix of the
+        // state, children are created by grouping the range by the character following the prefix.
+        final int capacity = countStates(keys, firstKey);
+        final int[] childStart = new int[capacity + 1];
+        final char[] stateChar = new char[capacity];
+        final int[] parent = new int[capacity];
+        final int[] stateKey = new int[capacity];
+        final int[] lo = new int[capacity];
+        final int[] hi = new int[capacity];
+        final int[] depth = new int[capacity];
+        Arrays.fill(stateKey, -1);
+        lo[ROOT] = firstKey;
+        hi[ROOT] = keys.length;
+        parent[ROOT] = NO_STATE;
+        int stateCount = 1;
+        for (int s = 0; s < stateCount; s++) {
+            final int d = depth[s];
+            int i = lo[s];
+            if (i < hi[s] && keys[i].length() == d) {
+                stateKey[s] = i;
+                i++;
+            }
+            childStart[s] = stateCount;
+            while (i < hi[s]) {
+                final char c = keys[i].charAt(d);
+                int j = i + 1;
+                while (j < hi[s] && keys[j].charAt(d) == c) {
+                    j++;
+                }
+                final int child = stateCount++;
+                stateChar[child] = c;
+                parent[child] = s;
+                lo[child] = i;
+                hi[child] = j;
+                depth[child] = d + 1;
+                i = j;
+            }
+        }
+        childStart[stateCount] = stateCount;
+
+        m_childStart = childStart;
+        m_stateChar = stateChar;
+        m_stateKey = stateKey;
+
+        // compute failure transitions and match links in breadth first order
+        m_fail = new int[stateCount];
+        m_match = new int[stateCount];
+        m_fail[ROOT] = ROOT;
+        m_match[ROOT] = NO_STATE;
+        for (int s = 1; s < stateCount; s++) {
+            final int p = parent[s];
+            if (p == ROOT) {
+                m_fail[s] = ROOT;
+            } else {
+                int f = m_fail[p];
+                int next = transition(f, stateChar[s]);
+                while (next == NO_STATE && f != ROOT) {
+                    f = m_fail[f];
+                    next = transition(f, stateChar[s]);
+                }
+                m_fail[s] = next == NO_STATE ? ROOT : next;
+            }
+            m_match[s] = m_stateKey[s] >= 0 ? s : m_match[m_fail[s]];
+        }
+    }
+
+    /**
+     * Counts the states of the trie of the given sorted keys, which is one (root) plus the sum over all keys of the
+     * characters not shared with the previous key.
+     */
+    private static int countStates(final String[] keys, final int firstKey) {
+        int count = 1;
+        for (int k = firstKey; k < keys.length; k++) {
+            final String key = keys[k];
+            int common = 0;
+            if (k > firstKey) {
+                final String prev = keys[k - 1];
+                final int max = Math.min(prev.length(), key.length());
+                while (common < max && prev.charAt(common) == key.charAt(common)) {
+                    common++;
+                }
+            }
+            count += key.length() - common;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the child of the given state with an incoming edge labeled with the given character or -1.
+     */
+    private int transition(final int state, final char c) {
+        int low = m_childStart[state];
+        int high = m_childStart[state + 1] - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final char midChar = m_stateChar[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return NO_STATE;
+    }
+
+    /**
+     * Finds all dictionary entries contained in the given text. The entries are returned in the order of the
+     * dictionary, each occurrence of an entry in the dictionary is returned once, regardless of how often the entry
+     * occurs in the text.
+     *
+     * @param text The text to search for dictionary entries.
+     * @return The list of dictionary entries contained in the given text.
+     */
+    public List<String> findEntries(final String text) {
+        if (m_entries.length == 0) {
+            return Collections.emptyList();
+        }
+        final String str = m_caseSensitive ? text : text.toLowerCase();
+
+        int[] foundKeys = new int[16];
+        int foundCount = 0;
+        if (m_emptyKey >= 0) {
+            foundKeys[foundCount++] = m_emptyKey;
+        }
+
+        int state = ROOT;
+        final int length = str.length();
+        for (int i = 0; i < length; i++) {
+            final char c = str.charAt(i);
+            int next = transition(state, c);
+            while (next == NO_STATE && state != ROOT) {
+                state = m_fail[state];
+                next = transition(state, c);
+            }
+            state = next == NO_STATE ? ROOT : next;
+
+            for (int m = m_match[state]; m != NO_STATE; m = m_match[m_fail[m]]) {
+                if (foundCount == foundKeys.length) {
+                    foundKeys = Arrays.copyOf(foundKeys, foundCount * 2);
+                }
+                foundKeys[foundCount++] = m_stateKey[m];
+            }
+        }
+        if (foundCount == 0) {
+            return Collections.emptyList();
+        }
+
+        // collect entries of the found keys and restore dictionary order
+        Arrays.sort(foundKeys, 0, foundCount);
+        int entryCount = 0;
+        int[] entryIndices = new int[foundCount];
+        for (int i = 0; i < foundCount; i++) {
+            final int key = foundKeys[i];
+            if (i > 0 && key == foundKeys[i - 1]) {
+                continue;
+            }
+            for (int e = m_keyEntryStart[key]; e < m_keyEntryStart[key + 1]; e++) {
+                if (entryCount == entryIndices.length) {
+                    entryIndices = Arrays.copyOf(entryIndices, entryCount * 2);
+                }
+                entryIndices[entryCount++] = m_keyEntries[e];
+            }
+        }
+        Arrays.sort(entryIndices, 0, entryCount);
+        final List<String> entries = new ArrayList<String>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            entries.add(m_entries[entryIndices[i]]);
+        }
+        return entries;
+    }
+
+    /**
+     * @return The number of dictionary entries.
+     */
+    public int size() {
+        return m_entries.length;
+    }
+}
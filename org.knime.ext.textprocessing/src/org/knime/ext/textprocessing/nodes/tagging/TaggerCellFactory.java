@@ -125,12 +125,17 @@ public DataCell getCell(final DataRow row) {
         }
 
         // if not missing
-        if (!row.getCell(m_docColIndex).isMissing()) {
-            final Document d = ((DocumentValue)row.getCell(m_docColIndex)).getDocument();
+        final DataCell docCell = row.getCell(m_docColIndex);
+        if (!docCell.isMissing()) {
+            final Document d = ((DocumentValue)docCell).getDocument();
             final Document taggedDocument;
             synchronized (tagger) {
                 taggedDocument = tagger.tag(d);
             }
+            // pass untagged documents through without re-serialization if the cell type fits the new column
+            if (taggedDocument == d && docCell.getType().equals(getColumnSpecs()[0].getType())) {
+                return docCell;
+            }
             return m_documentCellFac.createDataCell(taggedDocument);
         }
 
@@ -67,6 +67,7 @@
 import org.knime.ext.textprocessing.data.NamedEntityTag;
 import org.knime.ext.textprocessing.data.Tag;
 import org.knime.ext.textprocessing.data.TagFactory;
+import org.knime.ext.textprocessing.nodes.tagging.DictionaryAutomaton;
 import org.knime.ext.textprocessing.nodes.tagging.DocumentTagger;
 import org.knime.ext.textprocessing.nodes.tagging.StreamableTaggerNodeModel2;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
@@ -113,6 +114,9 @@ public abstract class AbstractDictionaryTaggerModel2 extends StreamableTaggerNod
 
     private final Set<String> m_dictionary;
 
+    /* The automaton compiled from the dictionary, built once per execution and shared by all taggers. */
+    private DictionaryAutomaton m_dictionaryAutomaton;
+
     private final SettingsModelBoolean m_setUnmodifiableModel =
         CommonDictionaryTaggerSettingModels.createSetUnmodifiableModel();
 
@@ -161,6 +165,9 @@ protected final void checkInputDataTableSpecs(final DataTableSpec[] inSpecs) thr
     protected final void prepareTagger(final BufferedDataTable[] inData, final ExecutionContext exec) throws Exception {
         // Read table with dictionary
         m_dictionary.clear();
+        synchronized (this) {
+            m_dictionaryAutomaton = null;
+        }
         final int dictIndex = inData[DICT_TABLE_INDEX].getDataTableSpec().findColumnIndex(m_columnModel.getStringValue());
         if (dictIndex >= 0) {
             for (DataRow row : inData[DICT_TABLE_INDEX]) {
@@ -183,6 +190,20 @@ protected final void prepareTagger(final BufferedDataTable[] inData, final Execu
      */
     protected abstract DocumentTagger createDocumentTagger(final Set<String> dictionary);
 
+    /**
+     * Returns the automaton compiled from the dictionary with the case sensitive setting. The automaton is compiled
+     * once per execution, on the first call, and is shared by all taggers.
+     *
+     * @return The automaton compiled from the dictionary.
+     * @since 3.8
+     */
+    protected final synchronized DictionaryAutomaton getDictionaryAutomaton() {
+        if (m_dictionaryAutomaton == null) {
+            m_dictionaryAutomaton = new DictionaryAutomaton(m_dictionary, getCaseSensitiveSetting());
+        }
+        return m_dictionaryAutomaton;
+    }
+
     /**
      * {@inheritDoc}
      */
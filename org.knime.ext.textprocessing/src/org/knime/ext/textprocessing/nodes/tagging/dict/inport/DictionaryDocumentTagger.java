@@ -55,6 +55,7 @@
 import org.knime.ext.textprocessing.data.Sentence;
 import org.knime.ext.textprocessing.data.Tag;
 import org.knime.ext.textprocessing.nodes.tagging.AbstractDocumentTagger;
+import org.knime.ext.textprocessing.nodes.tagging.DictionaryAutomaton;
 import org.knime.ext.textprocessing.nodes.tagging.TaggedEntity;
 
 /**
@@ -65,12 +66,10 @@
  */
 public class DictionaryDocumentTagger extends AbstractDocumentTagger {
 
-    private Set<String> m_namedEntities;
+    private final DictionaryAutomaton m_namedEntities;
 
     private Tag m_tag;
 
-    private boolean m_caseSensitve;
-
     /**
      * Creates a new instance of <code>DictionaryDocumentTagger</code> with given flag to set found named entities
      * unmodifiable, to ignore the case of the named entities to detect, the tag to assign to the found named entities
@@ -106,20 +105,52 @@ public DictionaryDocumentTagger(final boolean setUnmodifiable, final Set<String>
      */
     public DictionaryDocumentTagger(final boolean setUnmodifiable, final Set<String> namedEntities, final Tag tag,
         final boolean caseSensitive, final boolean exactMatch, final String tokenizerName) {
+        this(setUnmodifiable, createAutomaton(namedEntities, caseSensitive), tag, caseSensitive, exactMatch,
+            tokenizerName);
+    }
+
+    /**
+     * Creates a new instance of <code>DictionaryDocumentTagger</code> with given flag to set found named entities
+     * unmodifiable, to ignore the case of the named entities to detect, to compare entities by exact match or contains
+     * match, the tag to assign to the found named entities and the automaton compiled from the named entities to watch
+     * out for. The automaton is immutable and can be shared by multiple taggers.
+     *
+     * @param setUnmodifiable If <code>true</code> found named entities are set unmodifiable, otherwise not.
+     * @param namedEntities The automaton compiled from the named entities to watch out for, with the same case
+     *            sensitivity.
+     * @param tag The tag to assign to found named entities.
+     * @param caseSensitive If <code>false</code> the case of named entities and words of the sentences are ignored,
+     *            otherwise not.
+     * @param exactMatch If <code>true</code> terms must match exactly with the entities to find, to be recognized.
+     *            Otherwise terms only need to contain the entity string to find.
+     * @param tokenizerName The tokenizer used for word tokenization.
+     * @since 3.8
+     */
+    public DictionaryDocumentTagger(final boolean setUnmodifiable, final DictionaryAutomaton namedEntities,
+        final Tag tag, final boolean caseSensitive, final boolean exactMatch, final String tokenizerName) {
         super(setUnmodifiable, caseSensitive, tokenizerName);
 
         if (namedEntities == null) {
-            throw new NullPointerException("Set of named entities may not be null!");
+            throw new NullPointerException("Named entities may not be null!");
         } else if (tag == null) {
             throw new NullPointerException("Specified tag my not be null!");
         }
 
         m_namedEntities = namedEntities;
         m_tag = tag;
-        m_caseSensitve = caseSensitive;
         m_exactMatch = exactMatch;
     }
 
+    /**
+     * Compiles the given named entities, instead of matching each entity with each sentence.
+     */
+    private static DictionaryAutomaton createAutomaton(final Set<String> namedEntities, final boolean caseSensitive) {
+        if (namedEntities == null) {
+            throw new NullPointerException("Set of named entities may not be null!");
+        }
+        return new DictionaryAutomaton(namedEntities, caseSensitive);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -135,23 +166,10 @@ protected List<Tag> getTags(final String tag) {
      */
     @Override
     protected List<TaggedEntity> tagEntities(final Sentence sentence) {
-        List<TaggedEntity> foundEntities = new ArrayList<TaggedEntity>();
-
-        String sentenceStr = sentence.getText();
-        if (!m_caseSensitve) {
-            sentenceStr = sentenceStr.toLowerCase();
-        }
-
-        for (String ne : m_namedEntities) {
-            String entity = ne;
-            if (!m_caseSensitve) {
-                entity = entity.toLowerCase();
-            }
-
-            if (sentenceStr.contains(entity)) {
-                TaggedEntity taggedEntity = new TaggedEntity(ne, m_tag.getTagValue());
-                foundEntities.add(taggedEntity);
-            }
+        final List<String> foundNes = m_namedEntities.findEntries(sentence.getText());
+        final List<TaggedEntity> foundEntities = new ArrayList<TaggedEntity>(foundNes.size());
+        for (final String ne : foundNes) {
+            foundEntities.add(new TaggedEntity(ne, m_tag.getTagValue()));
         }
 
         return foundEntities;
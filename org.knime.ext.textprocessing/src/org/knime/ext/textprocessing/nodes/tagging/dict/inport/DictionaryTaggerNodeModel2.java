@@ -84,7 +84,7 @@ class DictionaryTaggerNodeModel2 extends AbstractDictionaryTaggerModel2 {
      */
     @Override
     protected DocumentTagger createDocumentTagger(final Set<String> dictionary) {
-        return new DictionaryDocumentTagger(getUnmodifiableSetting(), dictionary, getTagSetting(),
+        return new DictionaryDocumentTagger(getUnmodifiableSetting(), getDictionaryAutomaton(), getTagSetting(),
             getCaseSensitiveSetting(), m_exactMatchModel.getBooleanValue(), getTokenizerName());
     }
 
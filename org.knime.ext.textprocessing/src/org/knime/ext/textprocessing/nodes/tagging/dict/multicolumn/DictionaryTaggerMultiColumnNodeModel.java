@@ -63,6 +63,7 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.streamable.InputPortRole;
+import org.knime.ext.textprocessing.nodes.tagging.DictionaryAutomaton;
 import org.knime.ext.textprocessing.nodes.tagging.DocumentTagger;
 import org.knime.ext.textprocessing.nodes.tagging.MultipleTagsetDocumentTagger;
 import org.knime.ext.textprocessing.nodes.tagging.StreamableTaggerNodeModel2;
@@ -99,6 +100,11 @@ final class DictionaryTaggerMultiColumnNodeModel extends StreamableTaggerNodeMod
      */
     private final Map<DictionaryTaggerSettings, List<String>> m_validSettingsAndDicts = new LinkedHashMap<>();
 
+    /**
+     * The taggers of the valid dictionaries, built once per execution and shared by all document taggers.
+     */
+    private final List<SingleDictionaryTagger> m_dictionaryTaggers = new ArrayList<>();
+
     /**
      * A {@link SettingsModelBoolean} containing the flag specifying whether the terms should be set unmodifiable after
      * being tagged or not.
@@ -160,18 +166,15 @@ protected final void checkInputDataTableSpecs(final DataTableSpec[] inSpecs) thr
     @Override
     public DocumentTagger createTagger() throws Exception {
         MultipleDictionarySentenceTagger multiDictTagger = new MultipleDictionarySentenceTagger();
-        for (Entry<DictionaryTaggerSettings, List<String>> entry : m_validSettingsAndDicts.entrySet()) {
-            if (entry.getValue() != null) {
-                multiDictTagger.add(new SingleDictionaryTagger(entry.getKey(), entry.getValue()));
-            }
+        for (SingleDictionaryTagger dictionaryTagger : m_dictionaryTaggers) {
+            multiDictTagger.add(dictionaryTagger);
         }
-        m_validSettingsAndDicts.clear();
         return new MultipleTagsetDocumentTagger(m_setUnmodifiableModel.getBooleanValue(), multiDictTagger,
             getTokenizerName());
     }
 
     /**
-     * Builds dictionaries for valid columns.
+     * Builds dictionaries for valid columns and compiles their automatons.
      *
      * @param inData Input data tables.
      * @param exec The execution context of the node.
@@ -190,6 +193,15 @@ protected void prepareTagger(final BufferedDataTable[] inData, final ExecutionCo
                 }
             }
         }
+
+        // compile each dictionary once, the automatons are shared by all taggers
+        m_dictionaryTaggers.clear();
+        for (Entry<DictionaryTaggerSettings, List<String>> entry : m_validSettingsAndDicts.entrySet()) {
+            final DictionaryAutomaton automaton =
+                new DictionaryAutomaton(entry.getValue(), entry.getKey().getCaseSensitivityOption());
+            m_dictionaryTaggers.add(new SingleDictionaryTagger(entry.getKey(), automaton));
+        }
+        m_validSettingsAndDicts.clear();
     }
 
     /**
@@ -197,7 +209,7 @@ protected void prepareTagger(final BufferedDataTable[] inData, final ExecutionCo
      */
     @Override
     protected void reset() {
-        // Nothing to do here...
+        m_dictionaryTaggers.clear();
     }
 
     /**
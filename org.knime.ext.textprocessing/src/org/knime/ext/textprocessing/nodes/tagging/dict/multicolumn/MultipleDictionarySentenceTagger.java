@@ -88,11 +88,8 @@ public List<MultipleTaggedEntity> tagEntities(final Sentence sentence) {
         final String origSentenceStr = sentence.getText();
 
         for (SingleDictionaryTagger singleTagger : m_singleTagger) {
-            for (String entity : singleTagger.getEntities()) {
-                if (singleTagger.getMatcher().matchWithSentence(entity, origSentenceStr)) {
-                    addToListAndCheckOccurrence(entity, singleTagger.getTag(), singleTagger.getMatcher(),
-                        foundEntities);
-                }
+            for (String entity : singleTagger.getAutomaton().findEntries(origSentenceStr)) {
+                addToListAndCheckOccurrence(entity, singleTagger.getTag(), singleTagger.getMatcher(), foundEntities);
             }
         }
         return new ArrayList<>(foundEntities.values());
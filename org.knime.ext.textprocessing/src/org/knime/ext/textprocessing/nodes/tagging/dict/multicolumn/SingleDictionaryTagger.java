@@ -48,14 +48,14 @@
  */
 package org.knime.ext.textprocessing.nodes.tagging.dict.multicolumn;
 
-import java.util.List;
-
 import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.nodes.tagging.DictionaryAutomaton;
 import org.knime.ext.textprocessing.nodes.tagging.NamedEntityMatcher;
 
 /**
- * The {@code SingleDictionaryTagger} contains the {@code Tag} and dictionary used for tagging and a
- * {@code NamedEntityMatcher} which provides matching behavior (case sensitive and exact matching).
+ * The {@code SingleDictionaryTagger} contains the {@code Tag} and dictionary automaton used for tagging and a
+ * {@code NamedEntityMatcher} which provides matching behavior (case sensitive and exact matching). Instances are
+ * immutable and shared by all taggers of a node execution.
  *
  * @author Julian Bunzel, KNIME.com GmbH, Berlin, Germany
  * @since 3.6
@@ -63,9 +63,9 @@
 final class SingleDictionaryTagger {
 
     /**
-     * A set of entities.
+     * The automaton compiled from the entities, used to find entities in sentences.
      */
-    private final List<String> m_entities;
+    private final DictionaryAutomaton m_automaton;
 
     /**
      * The {@code NamedEntityMatcher} used for word matching.
@@ -82,32 +82,33 @@ final class SingleDictionaryTagger {
      *
      * @param caseSensitivity The case sensitivity behavior.
      * @param exactMatch The exact matching behavior.
-     * @param entities A set of entities.
+     * @param tag The {@code Tag} to be used.
+     * @param automaton The automaton compiled from the entities, with the same case sensitivity behavior.
      */
     SingleDictionaryTagger(final boolean caseSensitivity, final boolean exactMatch, final Tag tag,
-        final List<String> entities) {
-        m_entities = entities;
+        final DictionaryAutomaton automaton) {
         m_tag = tag;
         m_matcher = new NamedEntityMatcher(caseSensitivity, exactMatch);
+        m_automaton = automaton;
     }
 
     /**
      * Creates a new instance of {@code SingleDictionaryTagger}.
      *
      * @param settings The {@code DictionaryTaggerSettings}.
-     * @param entities A set of entities.
+     * @param automaton The automaton compiled from the entities, with the case sensitivity behavior of the settings.
      */
-    SingleDictionaryTagger(final DictionaryTaggerSettings settings, final List<String> entities) {
-        this(settings.getCaseSensitivityOption(), settings.getExactMatchOption(), settings.getTag(), entities);
+    SingleDictionaryTagger(final DictionaryTaggerSettings settings, final DictionaryAutomaton automaton) {
+        this(settings.getCaseSensitivityOption(), settings.getExactMatchOption(), settings.getTag(), automaton);
     }
 
     /**
-     * Returns the set of entities used for tagging.
+     * Returns the {@code DictionaryAutomaton} compiled from the entities.
      *
-     * @return Returns a set of entities used for tagging.
+     * @return Returns the {@code DictionaryAutomaton} compiled from the entities.
      */
-    List<String> getEntities() {
-        return m_entities;
+    DictionaryAutomaton getAutomaton() {
+        return m_automaton;
     }
 
     /**
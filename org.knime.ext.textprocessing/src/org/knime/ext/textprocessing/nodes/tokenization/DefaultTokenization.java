@@ -47,8 +47,8 @@
  */
 package org.knime.ext.textprocessing.nodes.tokenization;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.knime.ext.textprocessing.preferences.TextprocessingPreferenceInitializer;
 
@@ -59,7 +59,7 @@
  * @author Kilian Thiel, University of Konstanz
  */
 public final class DefaultTokenization {
-    private static Map<String, TokenizerPool> m_tokenizerPoolMap = new HashMap<String, TokenizerPool>();
+    private static final Map<String, TokenizerPool> TOKENIZER_POOL_MAP = new ConcurrentHashMap<String, TokenizerPool>();
 
     private DefaultTokenization() {
     }
@@ -75,21 +75,20 @@ private static TokenizerPool createTokenizerPool(final String tokenizerName) {
 
     /**
      * @param tokenizerName The specified tokenizer used for word tokenization.
-     * @return Returns the sentence tokenizer taken from the same TokenizerPool as the word tokenizer.
+     * @return Returns the sentence tokenizer taken from the same TokenizerPool as the word tokenizer. The tokenizer
+     *         can be used by multiple threads concurrently.
      * @since 3.3
      */
-    public static final synchronized Tokenizer getSentenceTokenizer(final String tokenizerName) {
-        m_tokenizerPoolMap.computeIfAbsent(tokenizerName, k -> createTokenizerPool(k));
-        return m_tokenizerPoolMap.get(tokenizerName).nextSentenceTokenizer();
+    public static final Tokenizer getSentenceTokenizer(final String tokenizerName) {
+        return TOKENIZER_POOL_MAP.computeIfAbsent(tokenizerName, k -> createTokenizerPool(k)).nextSentenceTokenizer();
     }
 
     /**
      * @param tokenizerName The specified tokenizer used for word tokenization
-     * @return Returns the specified word tokenizer.
+     * @return Returns the specified word tokenizer. The tokenizer can be used by multiple threads concurrently.
      * @since 3.3
      */
-    public static final synchronized Tokenizer getWordTokenizer(final String tokenizerName) {
-        m_tokenizerPoolMap.computeIfAbsent(tokenizerName, k -> createTokenizerPool(k));
-        return m_tokenizerPoolMap.get(tokenizerName).nextWordTokenizer();
+    public static final Tokenizer getWordTokenizer(final String tokenizerName) {
+        return TOKENIZER_POOL_MAP.computeIfAbsent(tokenizerName, k -> createTokenizerPool(k)).nextWordTokenizer();
     }
 }
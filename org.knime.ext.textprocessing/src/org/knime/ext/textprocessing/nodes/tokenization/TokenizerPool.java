@@ -47,12 +47,29 @@
 
 package org.knime.ext.textprocessing.nodes.tokenization;
 
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
 import org.knime.core.node.NodeLogger;
 import org.knime.ext.textprocessing.nodes.tokenization.tokenizer.sentence.OpenNlpSentenceTokenizer;
 
 /**
- * Provides a pool of tokenizer instances. The pool size is the number of available word and sentence tokenizers. All
- * tokenizer instances are created in the constructor of the pool.
+ * Provides a pool of tokenizer instances. The pool size is the initial number of available word and sentence
+ * tokenizers. All initial tokenizer instances are created in the constructor of the pool.
+ *
+ * Tokenizer instances are not thread-safe, thus each instance is used by one thread at a time only. Tokenizer
+ * instances are leased via {@link #borrowWordTokenizer()} and {@link #borrowSentenceTokenizer()} and have to be
+ * given back via {@link #returnWordTokenizer(Tokenizer)} and {@link #returnSentenceTokenizer(Tokenizer)}. Idle
+ * instances are kept in lock-free queues. If all instances are leased, a new instance is created and kept in the
+ * pool once it is given back, so the pool grows to the number of threads tokenizing concurrently. Only if the
+ * tokenizer factory forces its maximal pool size (e.g. for tokenizers with large models), the number of instances
+ * never exceeds the pool size and the borrowing thread waits until an instance is given back. The tokenizers
+ * returned by
+ * {@link #nextWordTokenizer()} and {@link #nextSentenceTokenizer()} lease an instance for each call of
+ * {@link Tokenizer#tokenize(String)} and can therefore be shared between threads.
  *
  * @author Kilian Thiel, KNIME AG, Zurich, Switzerland
  * @since 3.3
@@ -61,17 +78,21 @@ public class TokenizerPool {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(TokenizerPool.class);
 
-    private final Tokenizer[] m_wordTokenizer;
+    private final Queue<Tokenizer> m_wordTokenizer;
 
-    private final OpenNlpSentenceTokenizer[] m_sentenceTokenizer;
+    private final Queue<Tokenizer> m_sentenceTokenizer;
 
-    private final int m_poolSize;
+    private final Supplier<Tokenizer> m_wordTokenizerFactory;
 
-    private final String m_tokenizerName;
+    private final Supplier<Tokenizer> m_sentenceTokenizerFactory;
 
-    private int m_wordIndex = 0;
+    private final Tokenizer m_pooledWordTokenizer;
 
-    private int m_sentenceIndex = 0;
+    private final Tokenizer m_pooledSentenceTokenizer;
+
+    private final int m_poolSize;
+
+    private final String m_tokenizerName;
 
     /**
      * Constructor for class OpenNLPTokenizerPool.
@@ -84,37 +105,128 @@ public class TokenizerPool {
         }
 
         m_tokenizerName = tokenizerName;
-        if (TokenizerFactoryRegistry.getTokenizerFactoryMap().get(m_tokenizerName).forceMaxPoolSize()) {
-            m_poolSize = TokenizerFactoryRegistry.getTokenizerFactoryMap().get(m_tokenizerName).getMaxPoolSize();
+        final TokenizerFactory factory = TokenizerFactoryRegistry.getTokenizerFactoryMap().get(m_tokenizerName);
+        if (factory.forceMaxPoolSize()) {
+            m_poolSize = factory.getMaxPoolSize();
+            // bounded pool, borrowers wait for idle instances and no further instances are created
+            m_wordTokenizer = new LinkedBlockingQueue<Tokenizer>();
+            m_sentenceTokenizer = new LinkedBlockingQueue<Tokenizer>();
+            m_wordTokenizerFactory = null;
+            m_sentenceTokenizerFactory = null;
         } else {
             m_poolSize = poolSize;
+            m_wordTokenizer = new ConcurrentLinkedQueue<Tokenizer>();
+            m_sentenceTokenizer = new ConcurrentLinkedQueue<Tokenizer>();
+            m_wordTokenizerFactory = factory::getTokenizer;
+            m_sentenceTokenizerFactory = OpenNlpSentenceTokenizer::new;
         }
-        m_wordTokenizer = new Tokenizer[m_poolSize];
-        m_sentenceTokenizer = new OpenNlpSentenceTokenizer[m_poolSize];
 
         LOGGER.debug("Initializing tokenizer pool with " + m_poolSize + " tokenizers.");
         for (int i = 0; i < m_poolSize; i++) {
-            m_wordTokenizer[i] = TokenizerFactoryRegistry.getTokenizerFactoryMap().get(m_tokenizerName).getTokenizer();
-            m_sentenceTokenizer[i] = new OpenNlpSentenceTokenizer();
+            m_wordTokenizer.add(factory.getTokenizer());
+            m_sentenceTokenizer.add(new OpenNlpSentenceTokenizer());
         }
+
+        m_pooledWordTokenizer = text -> {
+            final Tokenizer tokenizer = borrowWordTokenizer();
+            try {
+                return tokenizer.tokenize(text);
+            } finally {
+                returnWordTokenizer(tokenizer);
+            }
+        };
+        m_pooledSentenceTokenizer = text -> {
+            final Tokenizer tokenizer = borrowSentenceTokenizer();
+            try {
+                return tokenizer.tokenize(text);
+            } finally {
+                returnSentenceTokenizer(tokenizer);
+            }
+        };
+    }
+
+    /**
+     * @return A word tokenizer, which can be used by multiple threads concurrently. For each tokenization a tokenizer
+     *         instance is leased from the pool.
+     */
+    Tokenizer nextWordTokenizer() {
+        return m_pooledWordTokenizer;
+    }
+
+    /**
+     * @return A sentence tokenizer, which can be used by multiple threads concurrently. For each tokenization a
+     *         tokenizer instance is leased from the pool.
+     */
+    Tokenizer nextSentenceTokenizer() {
+        return m_pooledSentenceTokenizer;
+    }
+
+    /**
+     * Leases a word tokenizer instance exclusively to the calling thread. The instance has to be given back via
+     * {@link #returnWordTokenizer(Tokenizer)} after usage.
+     * @return An idle word tokenizer instance. If all instances are leased, a new instance is created or, if the
+     *         pool size is forced, the calling thread waits until an instance is given back.
+     */
+    Tokenizer borrowWordTokenizer() {
+        return borrow(m_wordTokenizer, m_wordTokenizerFactory);
     }
 
     /**
-     * @return The next available word tokenizer.
+     * Gives back a word tokenizer instance leased via {@link #borrowWordTokenizer()}.
+     * @param tokenizer The leased tokenizer instance.
      */
-    synchronized Tokenizer nextWordTokenizer() {
-        return m_wordTokenizer[m_wordIndex++ % m_poolSize];
+    void returnWordTokenizer(final Tokenizer tokenizer) {
+        m_wordTokenizer.offer(tokenizer);
     }
 
     /**
-     * @return The next available sentence tokenizer of the pool.
+     * Leases a sentence tokenizer instance exclusively to the calling thread. The instance has to be given back via
+     * {@link #returnSentenceTokenizer(Tokenizer)} after usage.
+     * @return An idle sentence tokenizer instance. If all instances are leased, a new instance is created or, if the
+     *         pool size is forced, the calling thread waits until an instance is given back.
      */
-    synchronized OpenNlpSentenceTokenizer nextSentenceTokenizer() {
-        return m_sentenceTokenizer[m_sentenceIndex++ % m_poolSize];
+    Tokenizer borrowSentenceTokenizer() {
+        return borrow(m_sentenceTokenizer, m_sentenceTokenizerFactory);
+    }
+
+    /**
+     * Gives back a sentence tokenizer instance leased via {@link #borrowSentenceTokenizer()}.
+     * @param tokenizer The leased tokenizer instance.
+     */
+    void returnSentenceTokenizer(final Tokenizer tokenizer) {
+        m_sentenceTokenizer.offer(tokenizer);
+    }
+
+    private static Tokenizer borrow(final Queue<Tokenizer> idleTokenizers,
+        final Supplier<Tokenizer> tokenizerFactory) {
+        final Tokenizer tokenizer = idleTokenizers.poll();
+        if (tokenizer != null) {
+            return tokenizer;
+        }
+        if (tokenizerFactory != null) {
+            // the new instance joins the idle instances when it is given back
+            return tokenizerFactory.get();
+        }
+        // tokenization cannot be aborted in between, hence wait uninterruptibly and restore the interrupt flag
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return ((BlockingQueue<Tokenizer>)idleTokenizers).take();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     /**
-     * @return the poolSize
+     * @return the poolSize, i.e. the number of instances created initially or, if forced, the maximal number of
+     *         instances
      */
     int getPoolSize() {
         return m_poolSize;
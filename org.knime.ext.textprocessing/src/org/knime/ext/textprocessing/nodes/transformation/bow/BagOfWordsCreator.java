@@ -0,0 +1,265 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.transformation.bow;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.util.MultiThreadWorker;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
+
+/**
+ * Multi-threaded bag of words creator. The unique terms of the documents are extracted and converted into term cells
+ * in parallel, the resulting rows are pushed to the row output in the order of the input rows.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BagOfWordsCreator extends MultiThreadWorker<DataRow, DataCell[]> {
+
+    /**
+     * The number of finished documents per thread, which may be queued waiting for the preceding documents.
+     */
+    private static final int QUEUE_SIZE_PER_THREAD = 8;
+
+    private final int m_docColIdx;
+
+    private final int[] m_includedColIdxs;
+
+    private final TextContainerDataCellFactory m_termFac;
+
+    private final RowOutput m_output;
+
+    private final String m_rowKeySuffix;
+
+    private final long m_totalNoOfRows;
+
+    private final ExecutionContext m_exec;
+
+    private final AtomicLong m_processedRowCount = new AtomicLong(0);
+
+    private final AtomicLong m_missingRowCount = new AtomicLong(0);
+
+    private long m_rowId = 0;
+
+    /**
+     * Creates a new instance of {@code BagOfWordsCreator}.
+     *
+     * @param docColIdx The index of the document column.
+     * @param includedColIdxs The indices of the columns to carry over.
+     * @param termFac The factory creating the term cells.
+     * @param output The row output to push the bag of words rows to.
+     * @param rowKeySuffix The suffix of the created row keys, to keep row keys of different partitions unique.
+     * @param totalNoOfRows The total number of input rows or -1 if unknown.
+     * @param maxActiveInstanceSize The number of threads.
+     * @param exec The execution context to report progress.
+     */
+    BagOfWordsCreator(final int docColIdx, final int[] includedColIdxs, final TextContainerDataCellFactory termFac,
+        final RowOutput output, final String rowKeySuffix, final long totalNoOfRows, final int maxActiveInstanceSize,
+        final ExecutionContext exec) {
+        super(maxActiveInstanceSize * QUEUE_SIZE_PER_THREAD, maxActiveInstanceSize);
+        m_docColIdx = docColIdx;
+        m_includedColIdxs = includedColIdxs;
+        m_termFac = termFac;
+        m_output = output;
+        m_rowKeySuffix = rowKeySuffix;
+        m_totalNoOfRows = totalNoOfRows;
+        m_exec = exec;
+    }
+
+    /**
+     * Processes all rows of the given row input.
+     *
+     * @param input The row input.
+     * @throws InterruptedException If the thread has been interrupted.
+     * @throws ExecutionException If the computation of a document failed.
+     * @throws CancellationException If the execution has been canceled.
+     */
+    void run(final RowInput input) throws InterruptedException, ExecutionException, CancellationException {
+        final RowInputIterator it = new RowInputIterator(input);
+        run(() -> it);
+        if (it.m_interrupted != null) {
+            throw it.m_interrupted;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected DataCell[] compute(final DataRow in, final long index) throws Exception {
+        m_exec.checkCanceled();
+        final DataCell docCell = in.getCell(m_docColIdx);
+        final DataCell[] termCells;
+        if (!docCell.isMissing()) {
+            final Set<Term> terms = setOfTerms(((DocumentValue)docCell).getDocument());
+            termCells = new DataCell[terms.size()];
+            int i = 0;
+            for (final Term t : terms) {
+                termCells[i++] = m_termFac.createDataCell(t);
+            }
+        } else {
+            m_missingRowCount.incrementAndGet();
+            termCells = new DataCell[0];
+        }
+
+        final long processed = m_processedRowCount.incrementAndGet();
+        if (m_totalNoOfRows > 0) {
+            m_exec.setProgress(processed / (double)m_totalNoOfRows,
+                () -> "Processing document " + processed + " of " + m_totalNoOfRows);
+        } else {
+            m_exec.setMessage("Processing document " + processed);
+        }
+        return termCells;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void processFinished(final MultiThreadWorker<DataRow, DataCell[]>.ComputationTask task)
+        throws ExecutionException, CancellationException, InterruptedException {
+        final DataRow in = task.getInput();
+        final DataCell[] termCells = task.get();
+        if (termCells.length == 0) {
+            return;
+        }
+        // get additional cells
+        final DataCell[] additionalCells = new DataCell[m_includedColIdxs.length];
+        for (int i = 0; i < m_includedColIdxs.length; i++) {
+            additionalCells[i] = in.getCell(m_includedColIdxs[i]);
+        }
+        for (final DataCell termCell : termCells) {
+            // create new datacell array and add selected columns and term column
+            final DataCell[] newDataCells = new DataCell[additionalCells.length + 1];
+            System.arraycopy(additionalCells, 0, newDataCells, 0, additionalCells.length);
+            newDataCells[additionalCells.length] = termCell;
+            m_output.push(new DefaultRow(createRowKey(m_rowId++), newDataCells));
+        }
+    }
+
+    private RowKey createRowKey(final long rowId) {
+        if (m_rowKeySuffix.isEmpty()) {
+            return RowKey.createRowKey(rowId);
+        }
+        return new RowKey(RowKey.createRowKey(rowId).getString() + m_rowKeySuffix);
+    }
+
+    /**
+     * @return The number of rows with missing documents.
+     */
+    long getMissingRowCount() {
+        return m_missingRowCount.get();
+    }
+
+    private static Set<Term> setOfTerms(final Document doc) {
+        final Set<Term> termSet = new LinkedHashSet<Term>();
+        final Iterator<Sentence> it = doc.sentenceIterator();
+        while (it.hasNext()) {
+            termSet.addAll(it.next().getTerms());
+        }
+        return termSet;
+    }
+
+    /**
+     * Iterator polling the rows of a {@link RowInput}. An interrupt while polling ends the iteration, the exception
+     * is rethrown after the workers have finished.
+     */
+    private static final class RowInputIterator implements Iterator<DataRow> {
+
+        private final RowInput m_input;
+
+        private DataRow m_next;
+
+        private boolean m_done = false;
+
+        private InterruptedException m_interrupted;
+
+        RowInputIterator(final RowInput input) {
+            m_input = input;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (m_next == null && !m_done) {
+                try {
+                    m_next = m_input.poll();
+                } catch (InterruptedException e) {
+                    m_interrupted = e;
+                }
+                m_done = m_next == null;
+            }
+            return m_next != null;
+        }
+
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final DataRow next = m_next;
+            m_next = null;
+            return next;
+        }
+    }
+}
@@ -49,34 +49,35 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Iterator;
-import java.util.LinkedHashSet;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ExecutionException;
 
-import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.RowIterator;
-import org.knime.core.data.RowKey;
-import org.knime.core.data.def.DefaultRow;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
-import org.knime.ext.textprocessing.data.Document;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.ext.textprocessing.data.DocumentValue;
-import org.knime.ext.textprocessing.data.Sentence;
-import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.TermCell2;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
@@ -86,7 +87,9 @@
 /**
  * The model class of the Bag of word creator node. One column containing
  * {@link org.knime.ext.textprocessing.data.DocumentCell}s is necessary to create a bag of words. The output table
- * contains a {@link TermCell2} column and additionally carries over columns selected in the {@code NodeDialog}.
+ * contains a {@link TermCell2} column and additionally carries over columns selected in the {@code NodeDialog}. The
+ * node is distributed streamable, the terms of the documents are extracted in parallel by a
+ * {@link BagOfWordsCreator}, preserving the order of the input rows.
  *
  * @author Kilian Thiel, University of Konstanz
  * @since 3.5
@@ -143,79 +146,83 @@ private void checkDataTableSpec(final DataTableSpec spec) throws InvalidSettings
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
         throws Exception {
-        DataTableSpec inputSpec = inData[0].getDataTableSpec();
-        checkDataTableSpec(inputSpec);
+        final DataTableSpec inputSpec = inData[0].getDataTableSpec();
 
         // prepare data container
         final BufferedDataContainer bdc = exec.createDataContainer(createDataTableSpec(inputSpec));
+        final BufferedDataTableRowOutput output = new BufferedDataTableRowOutput(bdc);
 
-        DataCell docCell = null;
-
-        final long rowCount = inData[0].size();
-        long currRow = 1;
-        AtomicLong rowId = new AtomicLong(0);
-        final RowIterator it = inData[0].iterator();
-        while (it.hasNext()) {
-            DataRow row = it.next();
-
-            // get terms for document
-            docCell = row.getCell(m_documentColIndex);
-
-            // get additional cells
-            String[] includedColNames = m_colFilterModel.applyTo(inputSpec).getIncludes();
-            DataCell[] additionalCells = new DataCell[includedColNames.length];
-            for (int i = 0; i < includedColNames.length; i++) {
-                additionalCells[i] = row.getCell(inputSpec.findColumnIndex(includedColNames[i]));
-            }
-
-            // if cell is not missing
-            if (!docCell.isMissing()) {
-                Document doc = ((DocumentValue)row.getCell(m_documentColIndex)).getDocument();
-                addToBOW(setOfTerms(doc), additionalCells, bdc, rowId);
-            } else {
-                // set warning message
-                setWarningMessage(
-                    "Input table contains missing values in document column. Missing document values will be ignored.");
-            }
+        createStreamableOperator(new PartitionInfo(0, 1), new PortObjectSpec[]{inputSpec})
+            .runFinal(new PortInput[]{new DataTableRowInput(inData[0])}, new PortOutput[]{output}, exec);
 
-            // report status
-            double progress = (double)currRow / (double)rowCount;
-            exec.setProgress(progress, "Processing document " + currRow + " of " + rowCount);
-            exec.checkCanceled();
-            currRow++;
-        }
+        return new BufferedDataTable[]{output.getDataTable()};
+    }
 
-        bdc.close();
-        return new BufferedDataTable[]{bdc.getTable()};
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        return new InputPortRole[]{InputPortRole.DISTRIBUTED_STREAMABLE};
     }
 
-    private void addToBOW(final Set<Term> terms, final DataCell[] additionalCells, final BufferedDataContainer bdc,
-        final AtomicLong rowId) {
-        for (Term t : terms) {
-            final RowKey key = RowKey.createRowKey(rowId.getAndIncrement());
-            final DataCell tc = m_termFac.createDataCell(t);
-            // create new datacell array and add selected columns and term column
-            DataCell[] newDataCells = new DataCell[bdc.getTableSpec().getNumColumns()];
-            for (int i = 0; i < additionalCells.length; i++) {
-                newDataCells[i] = additionalCells[i];
-            }
-            newDataCells[newDataCells.length - 1] = tc;
-            bdc.addRowToTable(new DefaultRow(key, newDataCells));
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{OutputPortRole.DISTRIBUTED};
     }
 
-    private Set<Term> setOfTerms(final Document doc) {
-        Set<Term> termSet = null;
-        if (doc != null) {
-            termSet = new LinkedHashSet<Term>();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        final DataTableSpec inputSpec = (DataTableSpec)inSpecs[0];
+        checkDataTableSpec(inputSpec);
 
-            Iterator<Sentence> it = doc.sentenceIterator();
-            while (it.hasNext()) {
-                Sentence sen = it.next();
-                termSet.addAll(sen.getTerms());
-            }
+        // resolve columns once, not for each row
+        final int docColIdx = m_documentColIndex;
+        final String[] includedColNames = m_colFilterModel.applyTo(inputSpec).getIncludes();
+        final int[] includedColIdxs = new int[includedColNames.length];
+        for (int i = 0; i < includedColNames.length; i++) {
+            includedColIdxs[i] = inputSpec.findColumnIndex(includedColNames[i]);
         }
-        return termSet;
+        // row keys of different partitions must be unique
+        final String rowKeySuffix =
+            partitionInfo.getPartitionCount() > 1 ? "_" + partitionInfo.getPartitionIndex() : "";
+
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final RowInput input = (RowInput)inputs[0];
+                final RowOutput output = (RowOutput)outputs[0];
+                final long rowCount =
+                    input instanceof DataTableRowInput ? ((DataTableRowInput)input).getRowCount() : -1;
+
+                final BagOfWordsCreator creator = new BagOfWordsCreator(docColIdx, includedColIdxs, m_termFac,
+                    output, rowKeySuffix, rowCount, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads(), exec);
+                try {
+                    creator.run(input);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception) {
+                        throw (Exception)e.getCause();
+                    }
+                    throw e;
+                }
+                input.close();
+                output.close();
+
+                if (creator.getMissingRowCount() > 0) {
+                    setWarningMessage("Input table contains missing values in document column. "
+                        + "Missing document values will be ignored.");
+                }
+            }
+        };
     }
 
     private final DataTableSpec createDataTableSpec(final DataTableSpec dataTableSpec) {
@@ -82,4 +82,9 @@ private DocumentVectorConfigKeys2() {
      * The configuration key of the as_collection flag.
      */
     static final String CFGKEY_ASCOLLECTION = "As_Collection";
+
+    /**
+     * The configuration key of the sparse vector flag.
+     */
+    static final String CFGKEY_SPARSE = "Sparse_Vector";
 }
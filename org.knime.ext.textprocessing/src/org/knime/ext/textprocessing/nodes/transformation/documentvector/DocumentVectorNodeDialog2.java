@@ -88,6 +88,18 @@ static final SettingsModelBoolean getAsCollectionModel() {
             DocumentVectorNodeModel2.DEFAULT_ASCOLLECTION);
     }
 
+    /**
+     * Creates and returns an instance of {@link SettingsModelBoolean} specifying if sparse vector cells have to be
+     * created or not.
+     *
+     * @return A {@code SettingsModelBoolean} specifying if sparse vector cells have to be created or not.
+     * @since 3.8
+     */
+    static final SettingsModelBoolean getSparseModel() {
+        return new SettingsModelBoolean(DocumentVectorConfigKeys2.CFGKEY_SPARSE,
+            DocumentVectorNodeModel2.DEFAULT_SPARSE);
+    }
+
     /**
      * Creates and returns an instance of {@link SettingsModelString} containing the name of the column with the vector
      * values to use.
@@ -123,6 +135,10 @@ static final SettingsModelBoolean getIgnoreTagsModel() {
 
     private SettingsModelBoolean m_booleanModel;
 
+    private SettingsModelBoolean m_asCollectionModel;
+
+    private SettingsModelBoolean m_sparseModel;
+
     private boolean m_hasNumberCol = true;
 
     /**
@@ -144,7 +160,13 @@ static final SettingsModelBoolean getIgnoreTagsModel() {
         addDialogComponent(
             new DialogComponentColumnNameSelection(m_columnModel, "Vector value", 0, false, DoubleValue.class));
 
-        addDialogComponent(new DialogComponentBoolean(getAsCollectionModel(), "As collection cell"));
+        m_asCollectionModel = getAsCollectionModel();
+        m_sparseModel = getSparseModel();
+        m_sparseModel.addChangeListener(e -> checkUncheck());
+
+        addDialogComponent(new DialogComponentBoolean(m_asCollectionModel, "As collection cell"));
+
+        addDialogComponent(new DialogComponentBoolean(m_sparseModel, "As sparse vector"));
 
         checkUncheck();
     }
@@ -155,6 +177,7 @@ private void checkUncheck() {
             m_booleanModel.setBooleanValue(true);
         }
         m_columnModel.setEnabled(!m_booleanModel.getBooleanValue() && m_hasNumberCol);
+        m_asCollectionModel.setEnabled(!m_sparseModel.getBooleanValue());
     }
 
     /**
@@ -50,11 +50,9 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.knime.base.data.sort.SortedTable;
@@ -91,11 +89,16 @@
 import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.data.DocumentVectorPortObject;
 import org.knime.ext.textprocessing.data.DocumentVectorPortObjectSpec;
+import org.knime.ext.textprocessing.data.SparseVectorCell;
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.TermValue;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
 import org.knime.ext.textprocessing.util.DocumentDataTableBuilder;
+import org.knime.ext.textprocessing.util.FeatureIndex;
+import org.knime.ext.textprocessing.util.FeatureIndex.FeatureExtractor;
+import org.knime.ext.textprocessing.util.SparseDocumentVectorBuilder;
+import org.knime.ext.textprocessing.util.TermFingerprint;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactoryBuilder;
 
@@ -128,6 +131,13 @@ class DocumentVectorNodeModel2 extends NodeModel {
      */
     static final boolean DEFAULT_ASCOLLECTION = true;
 
+    /**
+     * The default value of the sparse vector flag.
+     *
+     * @since 3.8
+     */
+    static final boolean DEFAULT_SPARSE = false;
+
     private final TextContainerDataCellFactory m_documentCellFac;
 
     private int m_documentColIndex = -1;
@@ -144,6 +154,8 @@ class DocumentVectorNodeModel2 extends NodeModel {
 
     private SettingsModelBoolean m_asCollectionModel = DocumentVectorNodeDialog2.getAsCollectionModel();
 
+    private SettingsModelBoolean m_sparseModel = DocumentVectorNodeDialog2.getSparseModel();
+
     private boolean m_hasNumberCol = true;
 
     /**
@@ -154,6 +166,7 @@ class DocumentVectorNodeModel2 extends NodeModel {
             PortTypeRegistry.getInstance().getPortType(DocumentVectorPortObject.class, false)});
         m_documentCellFac = TextContainerDataCellFactoryBuilder.createDocumentCellFactory();
         m_booleanModel.addChangeListener(e -> checkUncheck());
+        m_sparseModel.addChangeListener(e -> checkUncheck());
         checkUncheck();
     }
 
@@ -165,7 +178,9 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
         checkDataTableSpec((DataTableSpec)inSpecs[0]);
 
         DataTableSpec spec = null;
-        if (m_asCollectionModel.getBooleanValue()) {
+        if (m_sparseModel.getBooleanValue()) {
+            spec = createDataTableSpecAsSparse(null);
+        } else if (m_asCollectionModel.getBooleanValue()) {
             spec = createDataTableSpecAsCollection(null);
         }
 
@@ -219,6 +234,10 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
             }
         }
 
+        if (m_sparseModel.getBooleanValue()) {
+            return executeSparse(dataTable, colIndex, ignoreTags, exec);
+        }
+
         // Sort the data table first by documents
         exec.setProgress("Sorting input table");
         final List<String> colList = new ArrayList<String>();
@@ -226,53 +245,27 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
         boolean[] sortAsc = new boolean[]{true};
         BufferedDataTable sortedTable = new SortedTable(dataTable, colList, sortAsc, exec).getBufferedDataTable();
 
-        // hash table holding an index for each feature
-        final Map<String, Integer> featureIndexTable = new LinkedHashMap<String, Integer>();
-
-        // first go through data table to collect the features
+        // first go through data table in parallel to collect the features, keyed by their fingerprint
         exec.setProgress("Collecting features");
-        int currIndex = 0;
-        RowIterator it = sortedTable.iterator();
-        while (it.hasNext()) {
-            exec.checkCanceled();
-            final DataRow row = it.next();
-            final DataCell termCell = row.getCell(m_termColIndex);
-            final DataCell docCell = row.getCell(m_documentColIndex);
-            // if the term or document is missing, then skip the row
-            if (termCell.isMissing() || docCell.isMissing()) {
-                continue;
-            }
-            final Term t = ((TermValue)termCell).getTermValue();
-
-            String key = null;
-            // if tags have o be ignored
-            if (ignoreTags) {
-                key = t.getText();
-            } else {
-                key = t.toString();
-            }
-            if (key != null && !featureIndexTable.containsKey(key)) {
-                featureIndexTable.put(key, currIndex);
-                currIndex++;
-            }
-        }
+        final FeatureIndex<Term> featureIndex = FeatureIndex.build(sortedTable, new TermExtractor(ignoreTags), exec);
+        final String[] featureColumnNames = getFeatureNames(featureIndex, ignoreTags);
 
         // second go through data table to create feature vectors
         exec.setProgress("Create feature vectors");
         BufferedDataContainer dc;
         if (m_asCollectionModel.getBooleanValue()) {
-            dc = exec.createDataContainer(createDataTableSpecAsCollection(featureIndexTable));
+            dc = exec.createDataContainer(createDataTableSpecAsCollection(featureColumnNames));
         } else {
-            dc = exec.createDataContainer(createDataTableSpecAsColumns(featureIndexTable));
+            dc = exec.createDataContainer(createDataTableSpecAsColumns(featureColumnNames));
         }
 
         Document lastDoc = null;
-        List<DoubleCell> featureVector = initFeatureVector(featureIndexTable.size());
+        List<DoubleCell> featureVector = initFeatureVector(featureIndex.size());
 
         long numberOfRows = sortedTable.size();
         AtomicLong rowid = new AtomicLong(0);
         int currRow = 1;
-        it = sortedTable.iterator();
+        final RowIterator it = sortedTable.iterator();
         while (it.hasNext()) {
             exec.checkCanceled();
             final DataRow row = it.next();
@@ -312,18 +305,11 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
                 }
                 dc.addRowToTable(newRow);
                 // create new feature vector
-                featureVector = initFeatureVector(featureIndexTable.size());
+                featureVector = initFeatureVector(featureIndex.size());
             }
 
             // add new term at certain index to feature vector
-            String key = "";
-            // if tags have o be ignored
-            if (ignoreTags) {
-                key = currTerm.getText();
-            } else {
-                key = currTerm.toString();
-            }
-            final int index = featureIndexTable.get(key);
+            final int index = featureIndex.getId(TermFingerprint.of(currTerm, ignoreTags));
             featureVector.set(index, new DoubleCell(currValue));
 
             // if last row, add feature vector to table
@@ -342,14 +328,87 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
         }
 
         dc.close();
-        String[] featureColumnNames = featureIndexTable.keySet().toArray(new String[featureIndexTable.keySet().size()]);
-        featureIndexTable.clear();
 
         return new PortObject[]{dc.getTable(),
             new DocumentVectorPortObject(new DocumentVectorPortObjectSpec(ignoreTags, m_booleanModel.getBooleanValue(),
                 m_colModel.getStringValue(), m_asCollectionModel.getBooleanValue(), featureColumnNames))};
     }
 
+    /**
+     * Creates sparse document vectors in a single pass over the unsorted input table. Features are indexed in order of
+     * first occurrence and the values are aggregated per document in a hash map keyed by the document UUID, so neither
+     * sorting nor a second pass over the table is required. The documents themselves are not deserialized.
+     */
+    private PortObject[] executeSparse(final BufferedDataTable dataTable, final int colIndex, final boolean ignoreTags,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        exec.setMessage("Collecting features");
+        final ExecutionMonitor collectExec = exec.createSubProgress(0.7);
+        final FeatureIndex<Term> featureIndex =
+            new FeatureIndex<>((t1, t2) -> TermFingerprint.sameKey(t1, t2, ignoreTags));
+        final SparseDocumentVectorBuilder builder = new SparseDocumentVectorBuilder();
+
+        final long numberOfRows = dataTable.size();
+        long currRow = 0;
+        for (final DataRow row : dataTable) {
+            collectExec.checkCanceled();
+            collectExec.setProgress(currRow++ / (double)numberOfRows);
+            final DataCell termCell = row.getCell(m_termColIndex);
+            final DataCell docCell = row.getCell(m_documentColIndex);
+            // if the term or document is missing, then skip the row
+            if (termCell.isMissing() || docCell.isMissing()) {
+                setWarningMessage(row.getKey() + " has missing term/document. This row will be ignored...");
+                continue;
+            }
+            final Term t = ((TermValue)termCell).getTermValue();
+            final int index = featureIndex.add(TermFingerprint.of(t, ignoreTags), t);
+
+            double currValue = 1;
+            if (colIndex > -1) {
+                final DataCell cell = row.getCell(colIndex);
+                // if the value is missing, set it to 0
+                if (cell.isMissing()) {
+                    currValue = 0;
+                    setWarningMessage(
+                        row.getKey().getString() + " has a missing TF value. The value will be set to 0...");
+                } else {
+                    currValue = ((DoubleValue)cell).getDoubleValue();
+                }
+            }
+
+            // the UUID is read from the cell, file store cells do not deserialize the document
+            final int docId = builder.getDocumentId(((DocumentValue)docCell).getDocumentUUID(), docCell);
+            builder.add(docId, index, currValue);
+        }
+
+        exec.setMessage("Create feature vectors");
+        final ExecutionMonitor createExec = exec.createSubProgress(0.3);
+        final String[] featureColumnNames = getFeatureNames(featureIndex, ignoreTags);
+
+        final BufferedDataContainer dc = exec.createDataContainer(createDataTableSpecAsSparse(featureColumnNames));
+        final int numberOfDocs = builder.getNumberOfDocuments();
+        for (int i = 0; i < numberOfDocs; i++) {
+            createExec.checkCanceled();
+            createExec.setProgress(i / (double)numberOfDocs);
+            final DataCell vectorCell = builder.createVector(i, featureColumnNames.length);
+            dc.addRowToTable(
+                new DefaultRow(RowKey.createRowKey((long)i), builder.getDocumentCell(i), vectorCell));
+        }
+        dc.close();
+
+        return new PortObject[]{dc.getTable(),
+            new DocumentVectorPortObject(new DocumentVectorPortObjectSpec(ignoreTags, m_booleanModel.getBooleanValue(),
+                m_colModel.getStringValue(), m_asCollectionModel.getBooleanValue(), true, featureColumnNames))};
+    }
+
+    private static String[] getFeatureNames(final FeatureIndex<Term> featureIndex, final boolean ignoreTags) {
+        final String[] featureNames = new String[featureIndex.size()];
+        for (int i = 0; i < featureNames.length; i++) {
+            final Term t = featureIndex.getFeature(i);
+            featureNames[i] = ignoreTags ? t.getText() : t.toString();
+        }
+        return featureNames;
+    }
+
     private static final DoubleCell DEFAULT_CELL = new DoubleCell(0.0);
 
     private DataRow createDataRowAsCollection(final Document doc, final List<DoubleCell> featureVector,
@@ -373,7 +432,7 @@ private DataRow createDataRowAsColumns(final Document doc, final List<DoubleCell
         return new DefaultRow(rowKey, cells);
     }
 
-    private DataTableSpec createDataTableSpecAsCollection(final Map<String, Integer> featureIndexTable) {
+    private DataTableSpec createDataTableSpecAsCollection(final String[] featureNames) {
         DataColumnSpec[] columnSpecs = new DataColumnSpec[2];
 
         // add document column
@@ -385,12 +444,7 @@ private DataTableSpec createDataTableSpecAsCollection(final Map<String, Integer>
         // add feature vector columns
         columnSpecCreator = new DataColumnSpecCreator(DocumentDataTableBuilder.DEF_DOCUMENT_VECTOR_COLNAME,
             ListCell.getCollectionType(DoubleCell.TYPE));
-        if (featureIndexTable != null) {
-            String[] featureNames = new String[featureIndexTable.size()];
-
-            for (Entry<String, Integer> entry : featureIndexTable.entrySet()) {
-                featureNames[entry.getValue()] = entry.getKey();
-            }
+        if (featureNames != null) {
             columnSpecCreator.setElementNames(featureNames);
         }
         columnSpecs[1] = columnSpecCreator.createSpec();
@@ -398,12 +452,24 @@ private DataTableSpec createDataTableSpecAsCollection(final Map<String, Integer>
         return new DataTableSpec(columnSpecs);
     }
 
-    private DataTableSpec createDataTableSpecAsColumns(final Map<String, Integer> featureIndexTable) {
-        int featureCount = featureIndexTable.size();
+    private DataTableSpec createDataTableSpecAsSparse(final String[] featureNames) {
+        final DataColumnSpecCreator docColumnSpecCreator =
+            new DataColumnSpecCreator(DocumentDataTableBuilder.DEF_DOCUMENT_COLNAME, m_documentCellFac.getDataType());
+        final DataColumnSpecCreator vectorColumnSpecCreator =
+            new DataColumnSpecCreator(DocumentDataTableBuilder.DEF_DOCUMENT_VECTOR_COLNAME, SparseVectorCell.TYPE);
+        if (featureNames != null) {
+            vectorColumnSpecCreator.setElementNames(featureNames);
+        }
+        return new DataTableSpec(docColumnSpecCreator.createSpec(), vectorColumnSpecCreator.createSpec());
+    }
+
+    private DataTableSpec createDataTableSpecAsColumns(final String[] featureNames) {
+        int featureCount = featureNames.length;
         final DataColumnSpec[] columnSpecs = new DataColumnSpec[featureCount + 1];
 
         // add document column
-        UniqueNameGenerator uniqueNameGen = new UniqueNameGenerator(featureIndexTable.keySet());
+        UniqueNameGenerator uniqueNameGen =
+            new UniqueNameGenerator(new LinkedHashSet<String>(Arrays.asList(featureNames)));
         String documentColumnName = uniqueNameGen.newName(DocumentDataTableBuilder.DEF_DOCUMENT_COLNAME);
 
         DataColumnSpecCreator columnSpecCreator =
@@ -411,11 +477,9 @@ private DataTableSpec createDataTableSpecAsColumns(final Map<String, Integer> fe
         columnSpecs[0] = columnSpecCreator.createSpec();
 
         // add feature vector columns
-        final Set<String> terms = featureIndexTable.keySet();
-        for (final String t : terms) {
-            int index = featureIndexTable.get(t) + 1;
-            columnSpecCreator = new DataColumnSpecCreator(t, DoubleCell.TYPE);
-            columnSpecs[index] = columnSpecCreator.createSpec();
+        for (int i = 0; i < featureCount; i++) {
+            columnSpecCreator = new DataColumnSpecCreator(featureNames[i], DoubleCell.TYPE);
+            columnSpecs[i + 1] = columnSpecCreator.createSpec();
         }
 
         return new DataTableSpec(columnSpecs);
@@ -429,6 +493,38 @@ private List<DoubleCell> initFeatureVector(final int size) {
         return featureVector;
     }
 
+    /**
+     * Extracts the terms of rows with a term and a document and fingerprints them by their feature key.
+     */
+    private final class TermExtractor implements FeatureExtractor<Term> {
+
+        private final boolean m_ignoreTags;
+
+        TermExtractor(final boolean ignoreTags) {
+            m_ignoreTags = ignoreTags;
+        }
+
+        @Override
+        public Term getFeature(final DataRow row) {
+            final DataCell termCell = row.getCell(m_termColIndex);
+            // if the term or document is missing, then skip the row
+            if (termCell.isMissing() || row.getCell(m_documentColIndex).isMissing()) {
+                return null;
+            }
+            return ((TermValue)termCell).getTermValue();
+        }
+
+        @Override
+        public long getFingerprint(final Term feature) {
+            return TermFingerprint.of(feature, m_ignoreTags);
+        }
+
+        @Override
+        public boolean isSameFeature(final Term feature, final Term other) {
+            return TermFingerprint.sameKey(feature, other, m_ignoreTags);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -447,6 +543,10 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         m_documentColModel.loadSettingsFrom(settings);
         m_ignoreTags.loadSettingsFrom(settings);
         m_asCollectionModel.loadSettingsFrom(settings);
+        // added in 3.8, older workflows create dense vectors
+        if (settings.containsKey(m_sparseModel.getConfigName())) {
+            m_sparseModel.loadSettingsFrom(settings);
+        }
     }
 
     /**
@@ -459,6 +559,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_documentColModel.saveSettingsTo(settings);
         m_ignoreTags.saveSettingsTo(settings);
         m_asCollectionModel.saveSettingsTo(settings);
+        m_sparseModel.saveSettingsTo(settings);
     }
 
     /**
@@ -471,6 +572,9 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         m_documentColModel.validateSettings(settings);
         m_ignoreTags.validateSettings(settings);
         m_asCollectionModel.validateSettings(settings);
+        if (settings.containsKey(m_sparseModel.getConfigName())) {
+            m_sparseModel.validateSettings(settings);
+        }
     }
 
     /**
@@ -497,5 +601,6 @@ private void checkUncheck() {
             m_booleanModel.setBooleanValue(true);
         }
         m_colModel.setEnabled(!m_booleanModel.getBooleanValue() && m_hasNumberCol);
+        m_asCollectionModel.setEnabled(!m_sparseModel.getBooleanValue());
     }
 }
@@ -52,10 +52,8 @@
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 
 import org.knime.base.data.sort.SortedTable;
 import org.knime.core.data.DataCell;
@@ -91,11 +89,15 @@
 import org.knime.ext.textprocessing.data.DocumentValue;
 import org.knime.ext.textprocessing.data.DocumentVectorPortObject;
 import org.knime.ext.textprocessing.data.DocumentVectorPortObjectSpec;
+import org.knime.ext.textprocessing.data.SparseVectorCell;
 import org.knime.ext.textprocessing.data.Term;
 import org.knime.ext.textprocessing.data.TermValue;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
 import org.knime.ext.textprocessing.util.DocumentDataTableBuilder;
+import org.knime.ext.textprocessing.util.FeatureIndex;
+import org.knime.ext.textprocessing.util.SparseDocumentVectorBuilder;
+import org.knime.ext.textprocessing.util.TermFingerprint;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactoryBuilder;
 
@@ -175,9 +177,11 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
         checkDataTableSpec(dataTableSpec);
         DocumentVectorPortObjectSpec modelSpec = checkModelInput(dataTableSpec, inSpecs[0]);
 
-        // create spec if collection flag is checked
+        // create spec if sparse vectors are created or collection flag is checked
         DataTableSpec spec = null;
-        if ((m_asCollectionModel.isEnabled() && m_asCollectionModel.getBooleanValue())
+        if (m_useSettingsFromModelPortModel.getBooleanValue() && modelSpec.getSparseVectorSetting()) {
+            spec = createDataTableSpecAsSparse(null);
+        } else if ((m_asCollectionModel.isEnabled() && m_asCollectionModel.getBooleanValue())
             || (m_useSettingsFromModelPortModel.getBooleanValue() && modelSpec.getCollectionCellSetting())) {
             spec = createDataTableSpecAsCollection(null);
         }
@@ -281,6 +285,18 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
             setWarningMessage("No feature columns selected: No document vector will be created.");
         }
 
+        // index the persisted vocabulary by fingerprint, so terms are looked up without creating key strings
+        final FeatureIndex<String> featureIndex = new FeatureIndex<>();
+        for (final String term : includedTerms) {
+            featureIndex.add(TermFingerprint.of(term), term);
+        }
+
+        // create sparse vectors as the document vector node if the model has been created with sparse vectors
+        if (m_useSettingsFromModelPortModel.getBooleanValue() && modelSpec.getSparseVectorSetting()) {
+            return executeSparse((BufferedDataTable)inData[1], colIndex, ignoreTags, featureIndex, includedTerms,
+                exec);
+        }
+
         // Sort the data table first by documents
         exec.setProgress("Sorting input table");
         final List<String> colList = new ArrayList<>();
@@ -294,10 +310,10 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
         final BufferedDataContainer dc = exec.createDataContainer(asCollectionCell
             ? createDataTableSpecAsCollection(includedTerms) : createDataTableSpecAsColumns(includedTerms));
 
-        // first go through data table to collect the features, create double cells and rows
+        // go through data table to create double cells and rows
         long rowid = 0;
         Document lastDoc = null;
-        Map<String, DataCell> featureVector = initializeFeatureVector(includedTerms);
+        DataCell[] featureVector = initializeFeatureVector(featureIndex.size());
 
         for (DataRow row : sortedTable) {
             exec.checkCanceled();
@@ -319,14 +335,12 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
                     // add old feature vector to table
                     createRowAndAddToDc(asCollectionCell, dc, rowid++, lastDoc, featureVector);
                     // reset feature vector
-                    featureVector = initializeFeatureVector(includedTerms);
+                    featureVector = initializeFeatureVector(featureIndex.size());
                 }
 
-                // if tags have to be ignored
-                final String key = ignoreTags ? currTerm.getText() : currTerm.toString();
-
-                if (includedTerms.contains(key)) {
-                    featureVector.replace(key, currValue);
+                final int index = featureIndex.getId(TermFingerprint.of(currTerm, ignoreTags));
+                if (index >= 0) {
+                    featureVector[index] = currValue;
                 }
                 lastDoc = currDoc;
             }
@@ -338,7 +352,56 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
         }
 
         dc.close();
-        featureVector.clear();
+
+        return new BufferedDataTable[]{dc.getTable()};
+    }
+
+    /**
+     * Creates sparse document vectors of the features of the model in a single pass over the unsorted input table, in
+     * the same way as the document vector node creates sparse vectors.
+     */
+    private BufferedDataTable[] executeSparse(final BufferedDataTable dataTable, final int colIndex,
+        final boolean ignoreTags, final FeatureIndex<String> featureIndex, final List<String> features,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        exec.setMessage("Collecting features");
+        final ExecutionMonitor collectExec = exec.createSubProgress(0.7);
+        final SparseDocumentVectorBuilder builder = new SparseDocumentVectorBuilder();
+
+        final long numberOfRows = dataTable.size();
+        long currRow = 0;
+        for (final DataRow row : dataTable) {
+            collectExec.checkCanceled();
+            collectExec.setProgress(currRow++ / (double)numberOfRows);
+            final DataCell termCell = row.getCell(m_termColIndex);
+            final DataCell docCell = row.getCell(m_documentColIndex);
+            // if the term or document is missing, then skip the row
+            if (termCell.isMissing() || docCell.isMissing()) {
+                setWarningMessage(row.getKey() + " has missing term/document. This row will be ignored...");
+                continue;
+            }
+
+            // documents without any feature of the model get an empty vector
+            final Document doc = ((DocumentValue)docCell).getDocument();
+            final int docId = builder.getDocumentId(doc.getUUID(), docCell);
+            final Term t = ((TermValue)termCell).getTermValue();
+            final int index = featureIndex.getId(TermFingerprint.of(t, ignoreTags));
+            if (index >= 0) {
+                builder.add(docId, index, ((DoubleValue)getDoubleValue(colIndex, row)).getDoubleValue());
+            }
+        }
+
+        exec.setMessage("Create feature vectors");
+        final ExecutionMonitor createExec = exec.createSubProgress(0.3);
+        final BufferedDataContainer dc =
+            exec.createDataContainer(createDataTableSpecAsSparse(features.toArray(new String[features.size()])));
+        final int numberOfDocs = builder.getNumberOfDocuments();
+        for (int i = 0; i < numberOfDocs; i++) {
+            createExec.checkCanceled();
+            createExec.setProgress(i / (double)numberOfDocs);
+            final DataCell vectorCell = builder.createVector(i, featureIndex.size());
+            dc.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), builder.getDocumentCell(i), vectorCell));
+        }
+        dc.close();
 
         return new BufferedDataTable[]{dc.getTable()};
     }
@@ -357,21 +420,19 @@ private DataCell getDoubleValue(final int colIndex, final DataRow row) {
     }
 
     private void createRowAndAddToDc(final boolean asCollectionCell, final BufferedDataContainer dc, final long rowid,
-        final Document lastDoc, final Map<String, DataCell> featureVector) {
+        final Document lastDoc, final DataCell[] featureVector) {
         DataRow newRow;
         if (asCollectionCell) {
-            newRow = createDataRowAsCollection(lastDoc, new ArrayList<DataCell>(featureVector.values()), rowid);
+            newRow = createDataRowAsCollection(lastDoc, Arrays.asList(featureVector), rowid);
         } else {
-            newRow = createDataRowAsColumns(lastDoc, new ArrayList<DataCell>(featureVector.values()), rowid);
+            newRow = createDataRowAsColumns(lastDoc, Arrays.asList(featureVector), rowid);
         }
         dc.addRowToTable(newRow);
     }
 
-    private static Map<String, DataCell> initializeFeatureVector(final List<String> refTerms) {
-        Map<String, DataCell> featureVector = new LinkedHashMap<>();
-        for (String term : refTerms) {
-            featureVector.put(term, DEFAULT_CELL);
-        }
+    private static DataCell[] initializeFeatureVector(final int size) {
+        final DataCell[] featureVector = new DataCell[size];
+        Arrays.fill(featureVector, DEFAULT_CELL);
         return featureVector;
     }
 
@@ -411,6 +472,17 @@ private DataTableSpec createDataTableSpecAsCollection(final List<String> feature
         return new DataTableSpec(columnSpecs);
     }
 
+    private DataTableSpec createDataTableSpecAsSparse(final String[] featureNames) {
+        final DataColumnSpecCreator docColumnSpecCreator =
+            new DataColumnSpecCreator(DocumentDataTableBuilder.DEF_DOCUMENT_COLNAME, m_documentCellFac.getDataType());
+        final DataColumnSpecCreator vectorColumnSpecCreator =
+            new DataColumnSpecCreator(DocumentDataTableBuilder.DEF_DOCUMENT_VECTOR_COLNAME, SparseVectorCell.TYPE);
+        if (featureNames != null) {
+            vectorColumnSpecCreator.setElementNames(featureNames);
+        }
+        return new DataTableSpec(docColumnSpecCreator.createSpec(), vectorColumnSpecCreator.createSpec());
+    }
+
     private DataTableSpec createDataTableSpecAsColumns(final List<String> features) {
         int featureCount = features.size();
         final DataColumnSpec[] columnSpecs = new DataColumnSpec[featureCount + 1];
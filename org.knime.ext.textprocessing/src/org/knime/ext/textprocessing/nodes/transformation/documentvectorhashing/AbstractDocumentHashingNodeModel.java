@@ -1,19 +1,11 @@
 package org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 
-import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.DataType;
-import org.knime.core.data.collection.CollectionCellFactory;
 import org.knime.core.data.collection.ListCell;
-import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.node.InvalidSettingsException;
@@ -25,12 +17,9 @@
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.streamable.InputPortRole;
 import org.knime.core.node.streamable.OutputPortRole;
-import org.knime.ext.textprocessing.data.Document;
 import org.knime.ext.textprocessing.data.DocumentValue;
-import org.knime.ext.textprocessing.data.Paragraph;
-import org.knime.ext.textprocessing.data.Section;
-import org.knime.ext.textprocessing.data.Sentence;
-import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.SparseVectorCell;
+import org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing.DocumentHashingCellFactory.OutputFormat;
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
 import org.knime.ext.textprocessing.util.DocumentDataTableBuilder;
@@ -49,12 +38,33 @@ public abstract class AbstractDocumentHashingNodeModel extends NodeModel {
      */
     public static final boolean DEFAULT_ASCOLLECTION = false;
 
-    private static final DoubleCell DEFAULT_CELL = new DoubleCell(0.0);
+    /**
+     * The default value to the sparse vector flag.
+     *
+     * @since 3.8
+     */
+    public static final boolean DEFAULT_SPARSE = false;
+
+    /**
+     * The default value of the signed hashing flag.
+     *
+     * @since 3.8
+     */
+    public static final boolean DEFAULT_SIGNED = false;
+
+    /**
+     * The default number of indices each term is hashed to.
+     *
+     * @since 3.8
+     */
+    public static final int DEFAULT_NUMBER_OF_HASHES = 1;
 
     private final SettingsModelString m_docCol = DocumentHashingNodeDialog2.getDocumentColModel();
 
     private final SettingsModelBoolean m_asCol = DocumentHashingNodeDialog2.getAsCollectionModel();
 
+    private final SettingsModelBoolean m_sparse = DocumentHashingNodeDialog2.getSparseModel();
+
     private InputPortRole[] m_inPortRoles;
 
     private OutputPortRole[] m_outPortRoles;
@@ -69,6 +79,10 @@ public abstract class AbstractDocumentHashingNodeModel extends NodeModel {
 
     private String m_vectVal;
 
+    private boolean m_signed = DEFAULT_SIGNED;
+
+    private int m_numberOfHashes = DEFAULT_NUMBER_OF_HASHES;
+
     /**
      * Creates a new instance of the {@code AbstractDocumentHashingNodeModel} with given (streamable) input/output port
      * types. Also sets the roles for the ports.
@@ -104,7 +118,12 @@ protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) thro
 
         final ColumnRearranger rearranger = new ColumnRearranger(spec);
 
-        DataColumnSpec[] specs = m_asCol.getBooleanValue() ? createSpecAsCollection() : createSpecAsColumns();
+        final DataColumnSpec[] specs;
+        if (m_sparse.getBooleanValue()) {
+            specs = createSpecAsSparseVector();
+        } else {
+            specs = m_asCol.getBooleanValue() ? createSpecAsCollection() : createSpecAsColumns();
+        }
         for (DataColumnSpec newSpec : specs) {
             if (spec.containsName(newSpec.getName())) {
                 throw new InvalidSettingsException(
@@ -112,126 +131,15 @@ protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) thro
                         + newSpec.getName() + "'.");
             }
         }
-        rearranger.append(new AbstractCellFactory(specs) {
-
-            private final int m_idx = spec.findColumnIndex(m_docCol.getStringValue());
-
-            @Override
-            public DataCell[] getCells(final DataRow row) {
-                if (!row.getCell(m_idx).isMissing()) {
-                    final DocumentValue doc = (DocumentValue)row.getCell(m_idx);
-                    return createVector(m_dim, doc.getDocument());
-                } else {
-                    if (m_asCol.getBooleanValue()) {
-                        return new DataCell[]{DataType.getMissingCell()};
-                    } else {
-                        DataCell[] cells = new DataCell[m_dim];
-                        for (int i = 0, length = cells.length; i < length; i++) {
-                            cells[i] = DataType.getMissingCell();
-                        }
-                        return cells;
-                    }
-                }
-            }
-
-        });
+        final OutputFormat format = m_sparse.getBooleanValue() ? OutputFormat.SPARSE
+            : (m_asCol.getBooleanValue() ? OutputFormat.COLLECTION : OutputFormat.COLUMNS);
+        rearranger.append(new DocumentHashingCellFactory(specs, spec.findColumnIndex(m_docCol.getStringValue()), m_dim,
+            m_seed, HashingFunctionFactory.getInstance().getHashFunction(m_hashFunc), m_vectVal, format, m_signed,
+            m_numberOfHashes));
 
         return rearranger;
     }
 
-    private DataCell[] createVector(final int dim, final Document doc) {
-        Double totalTerms = 0.0;
-        final HashingFunction hashFunction = HashingFunctionFactory.getInstance().getHashFunction(m_hashFunc);
-
-        List<Integer> output = new ArrayList<Integer>(Collections.nCopies(dim, 0));
-        List<Integer> occupiedIndexes = new ArrayList<Integer>();
-
-        for (final Section s : doc.getSections()) {
-            for (final Paragraph p : s.getParagraphs()) {
-                final List<Sentence> sentences = p.getSentences();
-                for (final Sentence sentence : sentences) {
-                    final List<Term> terms = sentence.getTerms();
-                    for (final Term term : terms) {
-                        int idx = hashFunction.hash(term.getText(), m_seed) % dim;
-
-                        if (idx < 0) {
-                            idx += dim;
-                        }
-                        output.set(idx, output.get(idx) + 1);
-                        if (!occupiedIndexes.contains(idx)) {
-                            occupiedIndexes.add(idx);
-                        }
-                    }
-                }
-            }
-        }
-        for (int index : occupiedIndexes) {
-            totalTerms += output.get(index);
-        }
-        DataCell[] cells;
-        final DoubleCell zero = new DoubleCell(0);
-        final DoubleCell one = new DoubleCell(1);
-
-        if (m_asCol.getBooleanValue()) {
-            List<DoubleCell> featureVector = initFeatureVector(dim);
-            cells = new DataCell[1];
-
-            if (m_vectVal.equals("Binary")) {
-                for (int i = 0, length = featureVector.size(); i < length; i++) {
-                    featureVector.set(i, output.get(i) > 0 ? one : zero);
-                }
-            } else if (m_vectVal.equals("TF-Absolute")) {
-                for (int i = 0, length = featureVector.size(); i < length; i++) {
-                    if (occupiedIndexes.contains(i)) {
-                        featureVector.add(i, new DoubleCell(output.get(i)));
-                    }
-                }
-            } else if (m_vectVal.equals("TF-Relative")) {
-                for (int i = 0, length = featureVector.size(); i < length; i++) {
-                    if (occupiedIndexes.contains(i)) {
-                        featureVector.add(i, new DoubleCell(output.get(i) / totalTerms));
-                    }
-                }
-            }
-
-            cells[0] = CollectionCellFactory.createSparseListCell(featureVector, DEFAULT_CELL);
-
-        } else {
-            cells = new DataCell[dim];
-
-            if (m_vectVal.equals("Binary")) {
-                for (int i = 0, length = cells.length; i < length; i++) {
-                    cells[i] = output.get(i) > 0 ? one : zero;
-                }
-            } else if (m_vectVal.equals("TF-Absolute")) {
-                for (int i = 0, length = cells.length; i < length; i++) {
-                    if (occupiedIndexes.contains(i)) {
-                        cells[i] = new DoubleCell(output.get(i));
-                    } else {
-                        cells[i] = DEFAULT_CELL;
-                    }
-                }
-            } else if (m_vectVal.equals("TF-Relative")) {
-                for (int i = 0, length = cells.length; i < length; i++) {
-                    if (occupiedIndexes.contains(i)) {
-                        cells[i] = new DoubleCell(output.get(i) / totalTerms);
-                    } else {
-                        cells[i] = DEFAULT_CELL;
-                    }
-                }
-            }
-        }
-        return cells;
-    }
-
-    private List<DoubleCell> initFeatureVector(final int size) {
-        final List<DoubleCell> featureVector = new ArrayList<DoubleCell>(size);
-        for (int i = 0; i < size; i++) {
-            featureVector.add(i, DEFAULT_CELL);
-        }
-        return featureVector;
-    }
-
     private DataColumnSpec[] createSpecAsColumns() {
         DataColumnSpecCreator creator = new DataColumnSpecCreator("Col1", DoubleCell.TYPE);
         final int dim = m_dim;
@@ -245,6 +153,12 @@ private DataColumnSpec[] createSpecAsColumns() {
         return specs;
     }
 
+    private static DataColumnSpec[] createSpecAsSparseVector() {
+        // no element names, the indices of the vector are the dimensions
+        return new DataColumnSpec[]{new DataColumnSpecCreator(DocumentDataTableBuilder.DEF_DOCUMENT_VECTOR_COLNAME,
+            SparseVectorCell.TYPE).createSpec()};
+    }
+
     private DataColumnSpec[] createSpecAsCollection() {
         final int dim = m_dim;
         DataColumnSpec[] columnSpecs;
@@ -289,10 +203,28 @@ public OutputPortRole[] getOutputPortRoles() {
      * @param vectVal The type of the vector value (binary, tf, idf)
      */
     protected void setValues(final int dim, final int seed, final String hashFunc, final String vectVal) {
+        setValues(dim, seed, hashFunc, vectVal, DEFAULT_SIGNED, DEFAULT_NUMBER_OF_HASHES);
+    }
+
+    /**
+     * Sets the parameters used for vector creation.
+     *
+     * @param dim The dimension of the vector to be created.
+     * @param seed The seed.
+     * @param hashFunc The hash function.
+     * @param vectVal The type of the vector value (binary, tf, idf)
+     * @param signed {@code true} if a hash bit decides whether a term occurrence adds +1 or -1.
+     * @param numberOfHashes The number of indices each term is hashed to.
+     * @since 3.8
+     */
+    protected void setValues(final int dim, final int seed, final String hashFunc, final String vectVal,
+        final boolean signed, final int numberOfHashes) {
         m_seed = seed;
         m_dim = dim;
         m_hashFunc = hashFunc;
         m_vectVal = vectVal;
+        m_signed = signed;
+        m_numberOfHashes = numberOfHashes;
     }
 
     /**
@@ -302,6 +234,7 @@ protected void setValues(final int dim, final int seed, final String hashFunc, f
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_docCol.saveSettingsTo(settings);
         m_asCol.saveSettingsTo(settings);
+        m_sparse.saveSettingsTo(settings);
     }
 
     /**
@@ -311,6 +244,10 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
     protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
         m_docCol.validateSettings(settings);
         m_asCol.validateSettings(settings);
+        // added in 3.8
+        if (settings.containsKey(m_sparse.getConfigName())) {
+            m_sparse.validateSettings(settings);
+        }
     }
 
     /**
@@ -320,6 +257,9 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
     protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
         m_docCol.loadSettingsFrom(settings);
         m_asCol.loadSettingsFrom(settings);
+        if (settings.containsKey(m_sparse.getConfigName())) {
+            m_sparse.loadSettingsFrom(settings);
+        }
     }
 
 }
@@ -78,6 +78,25 @@ public int hash(final String term, final int seed) {
         return hashCode.asInt();
     }
 
+    private static final int MOD_ADLER = 65521;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hash(final CharSequence chars, final int seed) {
+        // Adler-32 over the UTF-8 bytes, as Hashing.adler32().hashString(term, UTF_8).asInt()
+        final Utf8Buffer buffer = Utf8Buffer.encode(chars);
+        final byte[] bytes = buffer.getBytes();
+        int a = 1;
+        int b = 0;
+        for (int i = 0, length = buffer.getLength(); i < length; i++) {
+            a = (a + (bytes[i] & 0xff)) % MOD_ADLER;
+            b = (b + a) % MOD_ADLER;
+        }
+        return (b << 16) | a;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,354 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.data.Paragraph;
+import org.knime.ext.textprocessing.data.Section;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.SparseVectorCell;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.Word;
+
+/**
+ * Cell factory creating the hashed document vectors. The terms of a document are hashed directly from their words'
+ * chars into a reusable primitive open addressing map counting the occurrences per vector index, so only the occupied
+ * indices are touched. Documents are processed in parallel, each thread uses its own buffers.
+ * <p>
+ * To reduce the bias of collisions at small dimensions, terms can be hashed signed, i.e. a second hash bit decides
+ * whether an occurrence adds +1 or -1, so colliding terms cancel out in expectation. Additionally each term can be
+ * hashed to several indices (count sketch). The additional indices and the signs are derived from the hash value of
+ * the hashing function by mixing, so they work for hashing functions ignoring the seed as well, and a single unsigned
+ * hash yields the same indices as before.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class DocumentHashingCellFactory extends AbstractCellFactory {
+
+    /** The vector value type "Binary". */
+    static final String BINARY = "Binary";
+
+    /** The vector value type "TF-Absolute". */
+    static final String TF_ABSOLUTE = "TF-Absolute";
+
+    /** The vector value type "TF-Relative". */
+    static final String TF_RELATIVE = "TF-Relative";
+
+    private static final DoubleCell DEFAULT_CELL = new DoubleCell(0.0);
+
+    private static final DoubleCell ONE = new DoubleCell(1.0);
+
+    /** The output format of the vectors. */
+    enum OutputFormat {
+        /** One double column per dimension. */
+        COLUMNS,
+        /** A list collection cell of doubles. */
+        COLLECTION,
+        /** A {@link SparseVectorCell} holding only the occupied indices. */
+        SPARSE
+    }
+
+    private final int m_docIdx;
+
+    private final int m_dim;
+
+    private final int m_seed;
+
+    private final HashingFunction m_hashFunction;
+
+    private final String m_vectVal;
+
+    private final OutputFormat m_format;
+
+    private final boolean m_signed;
+
+    private final int m_numberOfHashes;
+
+    private final ThreadLocal<TermCounts> m_counts = ThreadLocal.withInitial(TermCounts::new);
+
+    /**
+     * Creates a new instance of {@code DocumentHashingCellFactory}.
+     *
+     * @param colSpecs The specs of the created columns.
+     * @param docIdx The index of the document column.
+     * @param dim The dimension of the vectors.
+     * @param seed The seed of the hashing function.
+     * @param hashFunction The hashing function, which is used concurrently.
+     * @param vectVal The vector value type, one of {@link #BINARY}, {@link #TF_ABSOLUTE} and {@link #TF_RELATIVE}.
+     * @param format The output format.
+     * @param signed {@code true} if the sign of each occurrence is chosen by a hash bit.
+     * @param numberOfHashes The number of indices each term is hashed to.
+     */
+    DocumentHashingCellFactory(final DataColumnSpec[] colSpecs, final int docIdx, final int dim, final int seed,
+        final HashingFunction hashFunction, final String vectVal, final OutputFormat format, final boolean signed,
+        final int numberOfHashes) {
+        super(colSpecs);
+        m_docIdx = docIdx;
+        m_dim = dim;
+        m_seed = seed;
+        m_hashFunction = hashFunction;
+        m_vectVal = vectVal;
+        m_format = format;
+        m_signed = signed;
+        m_numberOfHashes = numberOfHashes;
+        setParallelProcessing(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataCell[] getCells(final DataRow row) {
+        final DataCell docCell = row.getCell(m_docIdx);
+        if (docCell.isMissing()) {
+            final DataCell[] cells = new DataCell[m_format == OutputFormat.COLUMNS ? m_dim : 1];
+            Arrays.fill(cells, DataType.getMissingCell());
+            return cells;
+        }
+
+        final TermCounts counts = m_counts.get();
+        counts.clear();
+        countTerms(((DocumentValue)docCell).getDocument(), counts);
+
+        final int[] indices = counts.sortedIndices();
+        final double[] values = new double[indices.length];
+        final int total = counts.getTotal();
+        // signed counts may cancel out, zero entries are dropped
+        int nonZeros = 0;
+        for (int i = 0; i < indices.length; i++) {
+            final int count = counts.get(indices[i]);
+            if (count == 0) {
+                continue;
+            }
+            indices[nonZeros] = indices[i];
+            if (TF_ABSOLUTE.equalsIgnoreCase(m_vectVal)) {
+                values[nonZeros] = count;
+            } else if (TF_RELATIVE.equalsIgnoreCase(m_vectVal)) {
+                values[nonZeros] = count / (double)total;
+            } else {
+                values[nonZeros] = Integer.signum(count);
+            }
+            nonZeros++;
+        }
+
+        if (m_format == OutputFormat.SPARSE) {
+            return new DataCell[]{new SparseVectorCell(m_dim, indices, values, nonZeros)};
+        }
+        final DataCell[] vector = new DataCell[m_dim];
+        Arrays.fill(vector, DEFAULT_CELL);
+        for (int i = 0; i < nonZeros; i++) {
+            vector[indices[i]] = values[i] == 1 ? ONE : new DoubleCell(values[i]);
+        }
+        if (m_format == OutputFormat.COLLECTION) {
+            return new DataCell[]{CollectionCellFactory.createSparseListCell(Arrays.asList(vector), DEFAULT_CELL)};
+        }
+        return vector;
+    }
+
+    private void countTerms(final Document doc, final TermCounts counts) {
+        final StringBuilder text = counts.m_text;
+        for (final Section s : doc.getSections()) {
+            for (final Paragraph p : s.getParagraphs()) {
+                for (final Sentence sentence : p.getSentences()) {
+                    for (final Term term : sentence.getTerms()) {
+                        // same chars as term.getText(), without creating the string
+                        text.setLength(0);
+                        final List<Word> words = term.getWords();
+                        final int lastWord = words.size() - 1;
+                        for (int i = 0; i <= lastWord; i++) {
+                            final Word w = words.get(i);
+                            text.append(w.getText());
+                            if (i < lastWord) {
+                                text.append(w.getWhitespaceSuffix());
+                            }
+                        }
+                        addTerm(m_hashFunction.hash(text, m_seed), counts);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addTerm(final int hash, final TermCounts counts) {
+        // the relative frequencies refer to the number of terms, not to the number of hashes of the terms
+        counts.countTerm();
+        counts.add(Math.floorMod(hash, m_dim), sign(hash, 0));
+        for (int i = 1; i < m_numberOfHashes; i++) {
+            counts.add(Math.floorMod(fmix(hash + i * 0x9e3779b9), m_dim), sign(hash, i));
+        }
+    }
+
+    private int sign(final int hash, final int hashIdx) {
+        if (!m_signed) {
+            return 1;
+        }
+        return (fmix(hash ^ (0x5bd1e995 + hashIdx)) & 1) == 0 ? 1 : -1;
+    }
+
+    /** The finalization mix of murmur3, used to derive independent bits from a hash value. */
+    private static int fmix(final int hash) {
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Open addressing map summing the (signed) occurrences per vector index, reused for all documents of a thread.
+     * Clearing only resets the occupied slots.
+     */
+    private static final class TermCounts {
+
+        private static final int EMPTY = -1;
+
+        private final StringBuilder m_text = new StringBuilder();
+
+        private int[] m_keys = newKeys(64);
+
+        private int[] m_values = new int[64];
+
+        /** The occupied slots in order of insertion. */
+        private int[] m_slots = new int[32];
+
+        private int m_size = 0;
+
+        private int m_total = 0;
+
+        private static int[] newKeys(final int capacity) {
+            final int[] keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        private int slot(final int key) {
+            final int mask = m_keys.length - 1;
+            final int h = key * 0x9e3779b9;
+            int slot = (h ^ (h >>> 16)) & mask;
+            while (m_keys[slot] != EMPTY && m_keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        void countTerm() {
+            m_total++;
+        }
+
+        void add(final int key, final int delta) {
+            final int slot = slot(key);
+            if (m_keys[slot] == key) {
+                m_values[slot] += delta;
+                return;
+            }
+            m_keys[slot] = key;
+            m_values[slot] = delta;
+            if (m_size == m_slots.length) {
+                m_slots = Arrays.copyOf(m_slots, m_size * 2);
+            }
+            m_slots[m_size++] = slot;
+            if (m_size * 2 > m_keys.length) {
+                rehash();
+            }
+        }
+
+        int get(final int key) {
+            final int slot = slot(key);
+            return m_keys[slot] == key ? m_values[slot] : 0;
+        }
+
+        int getTotal() {
+            return m_total;
+        }
+
+        int[] sortedIndices() {
+            final int[] indices = new int[m_size];
+            for (int i = 0; i < m_size; i++) {
+                indices[i] = m_keys[m_slots[i]];
+            }
+            Arrays.sort(indices);
+            return indices;
+        }
+
+        void clear() {
+            for (int i = 0; i < m_size; i++) {
+                m_keys[m_slots[i]] = EMPTY;
+            }
+            m_size = 0;
+            m_total = 0;
+        }
+
+        private void rehash() {
+            final int[] oldKeys = m_keys;
+            final int[] oldValues = m_values;
+            m_keys = newKeys(oldKeys.length * 2);
+            m_values = new int[oldKeys.length * 2];
+            for (int i = 0; i < m_size; i++) {
+                final int oldSlot = m_slots[i];
+                final int slot = slot(oldKeys[oldSlot]);
+                m_keys[slot] = oldKeys[oldSlot];
+                m_values[slot] = oldValues[oldSlot];
+                m_slots[i] = slot;
+            }
+        }
+    }
+}
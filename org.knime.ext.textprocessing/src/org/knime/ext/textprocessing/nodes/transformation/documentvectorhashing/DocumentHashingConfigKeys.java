@@ -88,4 +88,25 @@ private DocumentHashingConfigKeys() {
      */
     public static final String CFGKEY_ASCOLLECTION = "asCollectionCell";
 
+    /**
+     * The configuration key of the flag to specify whether to create sparse vector cells
+     *
+     * @since 3.8
+     */
+    public static final String CFGKEY_SPARSE = "asSparseVector";
+
+    /**
+     * The configuration key of the flag to specify whether to use signed hashing
+     *
+     * @since 3.8
+     */
+    public static final String CFGKEY_SIGNED = "signedHashing";
+
+    /**
+     * The configuration key of the number of indices each term is hashed to
+     *
+     * @since 3.8
+     */
+    public static final String CFGKEY_NUMBER_OF_HASHES = "numberOfHashes";
+
 }
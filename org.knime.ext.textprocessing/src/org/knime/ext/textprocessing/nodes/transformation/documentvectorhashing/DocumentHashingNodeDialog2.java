@@ -99,6 +99,24 @@ static SettingsModelString getHashingMethod() {
         return new SettingsModelString(DocumentHashingConfigKeys.CFGKEY_HASHING_FUNC, "murmur3_32bit");
     }
 
+    /**
+     * @return a flag to specify whether a hash bit decides the sign of each term occurrence
+     * @since 3.8
+     */
+    static SettingsModelBoolean getSignedModel() {
+        return new SettingsModelBoolean(DocumentHashingConfigKeys.CFGKEY_SIGNED,
+            AbstractDocumentHashingNodeModel.DEFAULT_SIGNED);
+    }
+
+    /**
+     * @return the number of indices each term is hashed to
+     * @since 3.8
+     */
+    static SettingsModelIntegerBounded getNumberOfHashesModel() {
+        return new SettingsModelIntegerBounded(DocumentHashingConfigKeys.CFGKEY_NUMBER_OF_HASHES,
+            AbstractDocumentHashingNodeModel.DEFAULT_NUMBER_OF_HASHES, 1, 16);
+    }
+
     /**
      * @return the vector value type
      */
@@ -114,6 +132,15 @@ public static final SettingsModelBoolean getAsCollectionModel() {
             AbstractDocumentHashingNodeModel.DEFAULT_ASCOLLECTION);
     }
 
+    /**
+     * @return a flag to specify whether the vector should be created as sparse vector cell
+     * @since 3.8
+     */
+    public static final SettingsModelBoolean getSparseModel() {
+        return new SettingsModelBoolean(DocumentHashingConfigKeys.CFGKEY_SPARSE,
+            AbstractDocumentHashingNodeModel.DEFAULT_SPARSE);
+    }
+
     /**
      * Creates a new instance of <code>DocumentHashingNodeDialog2</code>.
      */
@@ -135,10 +162,19 @@ public DocumentHashingNodeDialog2() {
 
         addDialogComponent(new DialogComponentStringSelection(getVectorValueModel(), "Vector type: ", "Binary",
             "TF-Relative", "TF-Absolute"));
+
+        addDialogComponent(new DialogComponentBoolean(getSignedModel(), "Signed hashing"));
+
+        addDialogComponent(new DialogComponentNumber(getNumberOfHashesModel(), "Hashes per term: ", 1));
         closeCurrentGroup();
 
         createNewGroup("Output column setting");
-        addDialogComponent(new DialogComponentBoolean(getAsCollectionModel(), "As collection cell"));
+        final SettingsModelBoolean asCollectionModel = getAsCollectionModel();
+        final SettingsModelBoolean sparseModel = getSparseModel();
+        sparseModel.addChangeListener(e -> asCollectionModel.setEnabled(!sparseModel.getBooleanValue()));
+        asCollectionModel.setEnabled(!sparseModel.getBooleanValue());
+        addDialogComponent(new DialogComponentBoolean(asCollectionModel, "As collection cell"));
+        addDialogComponent(new DialogComponentBoolean(sparseModel, "As sparse vector"));
         closeCurrentGroup();
     }
 
@@ -61,6 +61,7 @@
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
@@ -108,6 +109,11 @@ final class DocumentHashingNodeModel2 extends AbstractDocumentHashingNodeModel {
 
     private final SettingsModelString m_hashFuncModel = DocumentHashingNodeDialog2.getHashingMethod();
 
+    private final SettingsModelBoolean m_signedModel = DocumentHashingNodeDialog2.getSignedModel();
+
+    private final SettingsModelIntegerBounded m_numberOfHashesModel =
+        DocumentHashingNodeDialog2.getNumberOfHashesModel();
+
     /**
      * Creates a new instance of {@code}DocumentHashingNodeModel2} with one {@code BufferedDataTable} input port, one
      * {@code BufferedDataTable} output port and one {@code VectorHashingPortObject} output port. For each node, a new
@@ -128,8 +134,7 @@ protected PortObject[] execute(final PortObject[] inObjects, final ExecutionCont
         ColumnRearranger r = createColumnRearranger(in.getDataTableSpec());
         BufferedDataTable table = exec.createColumnRearrangeTable(in, r, exec);
         return new PortObject[]{table,
-            new VectorHashingPortObject(new VectorHashingPortObjectSpec(m_dimModel.getIntValue(),
-                m_seedModel.getIntValue(), m_hashFuncModel.getStringValue(), m_vectValModel.getStringValue()))};
+            new VectorHashingPortObject(createModelSpec())};
     }
 
     /**
@@ -140,11 +145,16 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
         DataTableSpec in = (DataTableSpec)inSpecs[0];
         // set parameter for vector creation
         setValues(m_dimModel.getIntValue(), m_seedModel.getIntValue(), m_hashFuncModel.getStringValue(),
-            m_vectValModel.getStringValue());
+            m_vectValModel.getStringValue(), m_signedModel.getBooleanValue(), m_numberOfHashesModel.getIntValue());
         ColumnRearranger r = createColumnRearranger(in);
         DataTableSpec out = r.createSpec();
-        return new PortObjectSpec[]{out, new VectorHashingPortObjectSpec(m_dimModel.getIntValue(),
-            m_seedModel.getIntValue(), m_hashFuncModel.getStringValue(), m_vectValModel.getStringValue())};
+        return new PortObjectSpec[]{out, createModelSpec()};
+    }
+
+    private VectorHashingPortObjectSpec createModelSpec() {
+        return new VectorHashingPortObjectSpec(m_dimModel.getIntValue(), m_seedModel.getIntValue(),
+            m_hashFuncModel.getStringValue(), m_vectValModel.getStringValue(), m_signedModel.getBooleanValue(),
+            m_numberOfHashesModel.getIntValue());
     }
 
     /**
@@ -177,9 +187,7 @@ public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final
     public void finishStreamableExecution(final StreamableOperatorInternals internals, final ExecutionContext exec,
         final PortOutput[] output) throws Exception {
         // set the model output to provide streaming functionality
-        ((PortObjectOutput)output[1])
-            .setPortObject(new VectorHashingPortObject(new VectorHashingPortObjectSpec(m_dimModel.getIntValue(),
-                m_seedModel.getIntValue(), m_hashFuncModel.getStringValue(), m_vectValModel.getStringValue())));
+        ((PortObjectOutput)output[1]).setPortObject(new VectorHashingPortObject(createModelSpec()));
     }
 
     /**
@@ -207,6 +215,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_seedModel.saveSettingsTo(settings);
         m_vectValModel.saveSettingsTo(settings);
         m_hashFuncModel.saveSettingsTo(settings);
+        m_signedModel.saveSettingsTo(settings);
+        m_numberOfHashesModel.saveSettingsTo(settings);
     }
 
     /**
@@ -219,6 +229,13 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         m_seedModel.validateSettings(settings);
         m_vectValModel.validateSettings(settings);
         m_hashFuncModel.validateSettings(settings);
+        // added in 3.8
+        if (settings.containsKey(m_signedModel.getConfigName())) {
+            m_signedModel.validateSettings(settings);
+        }
+        if (settings.containsKey(m_numberOfHashesModel.getConfigName())) {
+            m_numberOfHashesModel.validateSettings(settings);
+        }
 
     }
 
@@ -232,6 +249,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         m_seedModel.loadSettingsFrom(settings);
         m_vectValModel.loadSettingsFrom(settings);
         m_hashFuncModel.loadSettingsFrom(settings);
+        if (settings.containsKey(m_signedModel.getConfigName())) {
+            m_signedModel.loadSettingsFrom(settings);
+        }
+        if (settings.containsKey(m_numberOfHashesModel.getConfigName())) {
+            m_numberOfHashesModel.loadSettingsFrom(settings);
+        }
     }
 
     @Override
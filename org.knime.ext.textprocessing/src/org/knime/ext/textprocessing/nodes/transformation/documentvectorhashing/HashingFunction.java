@@ -65,6 +65,19 @@ public interface HashingFunction {
      */
     public int hash(String term, int seed);
 
+    /**
+     * Returns a hash value of the given chars, which equals the hash value of their string representation. The default
+     * implementation creates a string, implementations should override this method to hash the chars directly.
+     *
+     * @param chars the chars to be hashed
+     * @param seed the initial value for hashing
+     * @return the hash value
+     * @since 3.8
+     */
+    public default int hash(final CharSequence chars, final int seed) {
+        return hash(chars.toString(), seed);
+    }
+
     /**
      * @return the unique name of the function used for registration and selection
      */
@@ -71,6 +71,19 @@ public int hash(final String term, final int seed) {
         return term.hashCode();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hash(final CharSequence chars, final int seed) {
+        // same as String.hashCode()
+        int h = 0;
+        for (int i = 0, length = chars.length(); i < length; i++) {
+            h = 31 * h + chars.charAt(i);
+        }
+        return h;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -73,6 +73,14 @@ public int hash(final String term, final int seed) {
         return Hash.lookup3ycs(term.subSequence(0, term.length()), 0, term.length(), seed);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hash(final CharSequence chars, final int seed) {
+        return Hash.lookup3ycs(chars, 0, chars.length(), seed);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -78,6 +78,63 @@ public int hash(final String term, final int seed) {
         return hashCode.asInt();
     }
 
+    private static final long C1 = 0x87c37b91114253d5L;
+
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hash(final CharSequence chars, final int seed) {
+        // murmur3 x64 128 bit over the UTF-8 bytes, as Hashing.murmur3_128(seed).hashString(term, UTF_8).asInt()
+        final Utf8Buffer buffer = Utf8Buffer.encode(chars);
+        final int length = buffer.getLength();
+        long h1 = seed;
+        long h2 = seed;
+        int i = 0;
+        for (; i + 16 <= length; i += 16) {
+            h1 ^= mixK1(buffer.getLongLE(i));
+            h1 = (Long.rotateLeft(h1, 27) + h2) * 5 + 0x52dce729;
+            h2 ^= mixK2(buffer.getLongLE(i + 8));
+            h2 = (Long.rotateLeft(h2, 31) + h1) * 5 + 0x38495ab5;
+        }
+        final int remaining = length - i;
+        if (remaining > 8) {
+            h2 ^= mixK2(buffer.getTailLE(i + 8, remaining - 8));
+        }
+        if (remaining > 0) {
+            h1 ^= mixK1(buffer.getTailLE(i, Math.min(remaining, 8)));
+        }
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        // asInt() returns the lowest four bytes of h1
+        return (int)h1;
+    }
+
+    private static long mixK1(final long k) {
+        return Long.rotateLeft(k * C1, 31) * C2;
+    }
+
+    private static long mixK2(final long k) {
+        return Long.rotateLeft(k * C2, 33) * C1;
+    }
+
+    private static long fmix(final long hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -78,6 +78,60 @@ public int hash(final String term, final int seed) {
         return hashCode.asInt();
     }
 
+    private static final int C1 = 0xcc9e2d51;
+
+    private static final int C2 = 0x1b873593;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hash(final CharSequence chars, final int seed) {
+        // murmur3 x86 32 bit over the UTF-8 bytes, as Hashing.murmur3_32(seed).hashString(term, UTF_8)
+        final Utf8Buffer buffer = Utf8Buffer.encode(chars);
+        final byte[] bytes = buffer.getBytes();
+        final int length = buffer.getLength();
+        int h1 = seed;
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            h1 = mixH1(h1, mixK1(buffer.getIntLE(i)));
+        }
+        int k1 = 0;
+        switch (length - i) {
+            case 3:
+                k1 ^= (bytes[i + 2] & 0xff) << 16;
+                // fall through
+            case 2:
+                k1 ^= (bytes[i + 1] & 0xff) << 8;
+                // fall through
+            case 1:
+                k1 ^= bytes[i] & 0xff;
+                h1 ^= mixK1(k1);
+                break;
+            default:
+                break;
+        }
+        return fmix(h1 ^ length);
+    }
+
+    private static int mixK1(final int k) {
+        return Integer.rotateLeft(k * C1, 15) * C2;
+    }
+
+    private static int mixH1(final int h, final int k1) {
+        return Integer.rotateLeft(h ^ k1, 13) * 5 + 0xe6546b64;
+    }
+
+    private static int fmix(final int hash) {
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
     /**
      * {@inheritDoc}
      */
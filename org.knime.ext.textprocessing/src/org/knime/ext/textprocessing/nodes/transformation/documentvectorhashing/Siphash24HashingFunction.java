@@ -78,6 +78,57 @@ public int hash(final String term, final int seed) {
         return hashCode.asInt();
     }
 
+    /** The default key of {@code Hashing.sipHash24()}. */
+    private static final long K0 = 0x0706050403020100L;
+
+    private static final long K1 = 0x0f0e0d0c0b0a0908L;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hash(final CharSequence chars, final int seed) {
+        // SipHash-2-4 over the UTF-8 bytes, as Hashing.sipHash24().hashString(term, UTF_8).asInt()
+        final Utf8Buffer buffer = Utf8Buffer.encode(chars);
+        final int length = buffer.getLength();
+        final long[] v = {0x736f6d6570736575L ^ K0, 0x646f72616e646f6dL ^ K1, 0x6c7967656e657261L ^ K0,
+            0x7465646279746573L ^ K1};
+        int i = 0;
+        for (; i + 8 <= length; i += 8) {
+            compress(v, buffer.getLongLE(i), 2);
+        }
+        compress(v, ((long)length << 56) | buffer.getTailLE(i, length - i), 2);
+        v[2] ^= 0xffL;
+        sipRound(v, 4);
+        // asInt() returns the lowest four bytes of the 64 bit hash
+        return (int)(v[0] ^ v[1] ^ v[2] ^ v[3]);
+    }
+
+    private static void compress(final long[] v, final long m, final int rounds) {
+        v[3] ^= m;
+        sipRound(v, rounds);
+        v[0] ^= m;
+    }
+
+    private static void sipRound(final long[] v, final int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            v[0] += v[1];
+            v[2] += v[3];
+            v[1] = Long.rotateLeft(v[1], 13);
+            v[3] = Long.rotateLeft(v[3], 16);
+            v[1] ^= v[0];
+            v[3] ^= v[2];
+            v[0] = Long.rotateLeft(v[0], 32);
+            v[2] += v[1];
+            v[0] += v[3];
+            v[1] = Long.rotateLeft(v[1], 17);
+            v[3] = Long.rotateLeft(v[3], 21);
+            v[1] ^= v[2];
+            v[3] ^= v[0];
+            v[2] = Long.rotateLeft(v[2], 32);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,168 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.nodes.transformation.documentvectorhashing;
+
+/**
+ * A reusable, thread-local buffer holding the UTF-8 encoding of a char sequence. Used by the hashing functions to hash
+ * char sequences byte-wise without allocating a {@code String} and a byte array per term. The encoding equals the
+ * one of {@code String.getBytes(StandardCharsets.UTF_8)}, i.e. unpaired surrogates are replaced by {@code '?'}, so
+ * the hash values are the same as the ones of the {@code String} based hashing.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+final class Utf8Buffer {
+
+    private static final ThreadLocal<Utf8Buffer> BUFFERS = ThreadLocal.withInitial(Utf8Buffer::new);
+
+    private byte[] m_bytes = new byte[64];
+
+    private int m_length;
+
+    private Utf8Buffer() {
+        // use encode
+    }
+
+    /**
+     * Encodes the given chars into the buffer of the current thread. The returned buffer is only valid until the next
+     * call of this method on the same thread.
+     *
+     * @param chars The chars to encode.
+     * @return The buffer of the current thread holding the encoded chars.
+     */
+    static Utf8Buffer encode(final CharSequence chars) {
+        final Utf8Buffer buffer = BUFFERS.get();
+        buffer.set(chars);
+        return buffer;
+    }
+
+    /**
+     * @return The bytes of the buffer, only the first {@link #getLength()} bytes are valid.
+     */
+    byte[] getBytes() {
+        return m_bytes;
+    }
+
+    /**
+     * @return The number of encoded bytes.
+     */
+    int getLength() {
+        return m_length;
+    }
+
+    private void set(final CharSequence chars) {
+        final int length = chars.length();
+        // at most three bytes per char, surrogate pairs need four bytes for two chars
+        if (m_bytes.length < length * 3) {
+            m_bytes = new byte[Math.max(length * 3, m_bytes.length * 2)];
+        }
+        final byte[] bytes = m_bytes;
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if (c < 0x80) {
+                bytes[pos++] = (byte)c;
+            } else if (c < 0x800) {
+                bytes[pos++] = (byte)(0xc0 | (c >>> 6));
+                bytes[pos++] = (byte)(0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                    final int cp = Character.toCodePoint(c, chars.charAt(++i));
+                    bytes[pos++] = (byte)(0xf0 | (cp >>> 18));
+                    bytes[pos++] = (byte)(0x80 | ((cp >>> 12) & 0x3f));
+                    bytes[pos++] = (byte)(0x80 | ((cp >>> 6) & 0x3f));
+                    bytes[pos++] = (byte)(0x80 | (cp & 0x3f));
+                } else {
+                    // unpaired surrogate, replaced like the String encoder does
+                    bytes[pos++] = '?';
+                }
+            } else {
+                bytes[pos++] = (byte)(0xe0 | (c >>> 12));
+                bytes[pos++] = (byte)(0x80 | ((c >>> 6) & 0x3f));
+                bytes[pos++] = (byte)(0x80 | (c & 0x3f));
+            }
+        }
+        m_length = pos;
+    }
+
+    /**
+     * Reads a little endian int from the buffer.
+     *
+     * @param pos The position of the first byte.
+     * @return The int value.
+     */
+    int getIntLE(final int pos) {
+        final byte[] b = m_bytes;
+        return (b[pos] & 0xff) | (b[pos + 1] & 0xff) << 8 | (b[pos + 2] & 0xff) << 16 | (b[pos + 3] & 0xff) << 24;
+    }
+
+    /**
+     * Reads a little endian long from the buffer.
+     *
+     * @param pos The position of the first byte.
+     * @return The long value.
+     */
+    long getLongLE(final int pos) {
+        return (getIntLE(pos) & 0xffffffffL) | ((long)getIntLE(pos + 4) << 32);
+    }
+
+    /**
+     * Reads up to seven remaining bytes as a little endian long.
+     *
+     * @param pos The position of the first byte.
+     * @param count The number of bytes to read.
+     * @return The long value.
+     */
+    long getTailLE(final int pos, final int count) {
+        long value = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            value = (value << 8) | (m_bytes[pos + i] & 0xffL);
+        }
+        return value;
+    }
+}
@@ -80,6 +80,15 @@ public static final SettingsModelBoolean getAsCollectionModel() {
             AbstractDocumentHashingNodeModel.DEFAULT_ASCOLLECTION);
     }
 
+    /**
+     * @return a flag to specify whether the vector should be created as sparse vector cell
+     * @since 3.8
+     */
+    public static final SettingsModelBoolean getSparseModel() {
+        return new SettingsModelBoolean(DocumentHashingConfigKeys.CFGKEY_SPARSE,
+            AbstractDocumentHashingNodeModel.DEFAULT_SPARSE);
+    }
+
     /**
      *
      */
@@ -91,7 +100,12 @@ public DocumentHashingApplierNodeDialog() {
         closeCurrentGroup();
 
         createNewGroup("Output column setting");
-        addDialogComponent(new DialogComponentBoolean(getAsCollectionModel(), "As collection cell"));
+        final SettingsModelBoolean asCollectionModel = getAsCollectionModel();
+        final SettingsModelBoolean sparseModel = getSparseModel();
+        sparseModel.addChangeListener(e -> asCollectionModel.setEnabled(!sparseModel.getBooleanValue()));
+        asCollectionModel.setEnabled(!sparseModel.getBooleanValue());
+        addDialogComponent(new DialogComponentBoolean(asCollectionModel, "As collection cell"));
+        addDialogComponent(new DialogComponentBoolean(sparseModel, "As sparse vector"));
         closeCurrentGroup();
     }
 }
@@ -110,7 +110,8 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
         DataTableSpec in = (DataTableSpec)inSpecs[1];
         VectorHashingPortObjectSpec modelSpec = (VectorHashingPortObjectSpec)inSpecs[0];
         // set parameter for vector creation
-        setValues(modelSpec.getDimension(), modelSpec.getSeed(), modelSpec.getHashFunc(), modelSpec.getVectVal());
+        setValues(modelSpec.getDimension(), modelSpec.getSeed(), modelSpec.getHashFunc(), modelSpec.getVectVal(),
+            modelSpec.isSigned(), modelSpec.getNumberOfHashes());
         ColumnRearranger r = createColumnRearranger(in);
         DataTableSpec out = r.createSpec();
         return new PortObjectSpec[]{out};
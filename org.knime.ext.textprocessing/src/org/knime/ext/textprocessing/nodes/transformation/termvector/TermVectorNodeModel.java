@@ -53,7 +53,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.UUID;
 
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
@@ -89,6 +89,8 @@
 import org.knime.ext.textprocessing.util.ColumnSelectionVerifier;
 import org.knime.ext.textprocessing.util.CommonColumnNames;
 import org.knime.ext.textprocessing.util.DataTableSpecVerifier;
+import org.knime.ext.textprocessing.util.FeatureIndex;
+import org.knime.ext.textprocessing.util.FeatureIndex.FeatureExtractor;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactory;
 import org.knime.ext.textprocessing.util.TextContainerDataCellFactoryBuilder;
 
@@ -204,37 +206,23 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         sortAsc[0] = true;
         final SortedTable sortedTable = new SortedTable(inData[0], colList, sortAsc, exec);
 
-        // hash table holding an index for each feature
-        Map<Document, Integer> featureIndexTable = new HashMap<Document, Integer>();
-
-        // first go through data table to collect the features
-        int currIndex = 0;
-        RowIterator it = sortedTable.iterator();
-        while (it.hasNext()) {
-            exec.checkCanceled();
-            final DataRow row = it.next();
-            if (!row.getCell(m_documentColIndex).isMissing()) {
-                final Document d = ((DocumentValue)row.getCell(m_documentColIndex)).getDocument();
-                if (!featureIndexTable.containsKey(d)) {
-                    featureIndexTable.put(d, currIndex);
-                    currIndex++;
-                }
-            }
-        }
+        // first go through data table in parallel to collect the features, keyed by the document UUID
+        final FeatureIndex<Document> featureIndex =
+            FeatureIndex.build(sortedTable.getBufferedDataTable(), new DocumentExtractor(), exec);
 
         // second go through data table to create feature vectors
         BufferedDataContainer dc;
         if (m_asCollectionModel.getBooleanValue()) {
-            dc = exec.createDataContainer(createDataTableSpecAsCollection(featureIndexTable));
+            dc = exec.createDataContainer(createDataTableSpecAsCollection(featureIndex.getFeatures()));
         } else {
-            dc = exec.createDataContainer(createDataTableSpecAsColumns(featureIndexTable));
+            dc = exec.createDataContainer(createDataTableSpecAsColumns(featureIndex.getFeatures()));
         }
 
         Term lastTerm = null;
-        List<DoubleCell> featureVector = initFeatureVector(featureIndexTable.size());
+        List<DoubleCell> featureVector = initFeatureVector(featureIndex.size());
         int missingValueCount = 0;
 
-        it = sortedTable.iterator();
+        final RowIterator it = sortedTable.iterator();
         while (it.hasNext()) {
             exec.checkCanceled();
             final DataRow row = it.next();
@@ -261,11 +249,11 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                         }
                         dc.addRowToTable(newRow);
                         // create new feature vector
-                        featureVector = initFeatureVector(featureIndexTable.size());
+                        featureVector = initFeatureVector(featureIndex.size());
                     }
                 }
                 // add new document at certain index to feature vector
-                int index = featureIndexTable.get(currDoc);
+                int index = featureIndex.getId(fingerprint(currDoc));
                 featureVector.set(index, new DoubleCell(currValue));
 
                 lastTerm = currTerm;
@@ -292,7 +280,6 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         }
 
         dc.close();
-        featureIndexTable.clear();
 
         return new BufferedDataTable[]{dc.getTable()};
     }
@@ -321,7 +308,7 @@ private DataRow createDataRowAsColumns(final Term term, final List<DoubleCell> f
             return newRow;
     }
 
-    private DataTableSpec createDataTableSpecAsCollection(final Map<Document, Integer> featureIndexTable) {
+    private DataTableSpec createDataTableSpecAsCollection(final List<Document> features) {
         final Map<String, Integer> columnTitles = new HashMap<String, Integer>();
         final DataColumnSpec[] columnSpecs = new DataColumnSpec[2];
 
@@ -334,12 +321,11 @@ private DataTableSpec createDataTableSpecAsCollection(final Map<Document, Intege
         columnSpecCreator = new DataColumnSpecCreator(CommonColumnNames.DEF_TERM_VECTOR_COLNAME,
             ListCell.getCollectionType(DoubleCell.TYPE));
 
-        if (featureIndexTable != null) {
-            final String[] featureNames = new String[featureIndexTable.size()];
+        if (features != null) {
+            final String[] featureNames = new String[features.size()];
 
-            for (Entry<Document, Integer> entry : featureIndexTable.entrySet()) {
-                final Document d = entry.getKey();
-                final int index = entry.getValue();
+            for (int index = 0; index < featureNames.length; index++) {
+                final Document d = features.get(index);
 
                 // avoid duplicate titles by adding numbers if titles are equal.
                 final String origTitle = d.getTitle();
@@ -367,10 +353,10 @@ private DataTableSpec createDataTableSpecAsCollection(final Map<Document, Intege
         return new DataTableSpec(columnSpecs);
     }
 
-    private DataTableSpec createDataTableSpecAsColumns(final Map<Document, Integer> featureIndexTable) {
+    private DataTableSpec createDataTableSpecAsColumns(final List<Document> features) {
         final Map<String, Integer> columnTitles = new HashMap<String, Integer>();
 
-        final int featureCount = featureIndexTable.size();
+        final int featureCount = features.size();
         final DataColumnSpec[] columnSpecs = new DataColumnSpec[featureCount + 1];
 
         // add document column
@@ -378,9 +364,9 @@ private DataTableSpec createDataTableSpecAsColumns(final Map<Document, Integer>
         columnSpecs[0] = columnSpecCreator.createSpec();
 
         // add feature vector columns
-        for (final Entry<Document, Integer> entry : featureIndexTable.entrySet()) {
-            final Document d = entry.getKey();
-            int index = entry.getValue() + 1;
+        for (int i = 0; i < featureCount; i++) {
+            final Document d = features.get(i);
+            int index = i + 1;
 
             // avoid duplicate titles by adding numbers if titles are equal.
             final String origTitle = d.getTitle();
@@ -406,6 +392,33 @@ private DataTableSpec createDataTableSpecAsColumns(final Map<Document, Integer>
         return new DataTableSpec(columnSpecs);
     }
 
+    private static long fingerprint(final Document doc) {
+        final UUID uuid = doc.getUUID();
+        return uuid.getMostSignificantBits() * 31 + uuid.getLeastSignificantBits();
+    }
+
+    /**
+     * Extracts the documents of rows with a document and fingerprints them by their UUID.
+     */
+    private final class DocumentExtractor implements FeatureExtractor<Document> {
+
+        @Override
+        public Document getFeature(final DataRow row) {
+            final DataCell docCell = row.getCell(m_documentColIndex);
+            return docCell.isMissing() ? null : ((DocumentValue)docCell).getDocument();
+        }
+
+        @Override
+        public long getFingerprint(final Document feature) {
+            return fingerprint(feature);
+        }
+
+        @Override
+        public boolean isSameFeature(final Document feature, final Document other) {
+            return feature.getUUID().equals(other.getUUID());
+        }
+    }
+
     private List<DoubleCell> initFeatureVector(final int size) {
         final List<DoubleCell> featureVector = new ArrayList<DoubleCell>(size);
         for (int i = 0; i < size; i++) {
@@ -69,6 +69,43 @@ public class StoragePreferenceInitializer extends AbstractPreferenceInitializer
      */
     public static final String PREF_FILESTORE_CHUNKSIZE = "knime.textprocessing.filestore.chunksize";
 
+    /**
+     * The default size of the document cache in megabytes.
+     * @since 3.8
+     */
+    public static final int DEFAULT_DOCUMENT_CACHE_SIZE = 256;
+
+    /**
+     * Preference key for the size of the document cache in megabytes, specifying the estimated amount of memory
+     * occupied by deserialized documents of file store cells that are kept in memory.
+     * @since 3.8
+     */
+    public static final String PREF_DOCUMENT_CACHE_SIZE = "knime.textprocessing.filestore.documentcachesize";
+
+    /**
+     * Compression setting value, specifying that file store files are not compressed.
+     * @since 3.8
+     */
+    public static final String COMPRESSION_NONE = "None";
+
+    /**
+     * Compression setting value, specifying that file store files are compressed block wise with deflate.
+     * @since 3.8
+     */
+    public static final String COMPRESSION_DEFLATE = "Deflate";
+
+    /**
+     * The default compression of file store files.
+     * @since 3.8
+     */
+    public static final String DEFAULT_FILESTORE_COMPRESSION = COMPRESSION_NONE;
+
+    /**
+     * Preference key for the compression of buffered file store files.
+     * @since 3.8
+     */
+    public static final String PREF_FILESTORE_COMPRESSION = "knime.textprocessing.filestore.compression";
+
     /**
      * {@inheritDoc}
      */
@@ -78,6 +115,8 @@ public void initializeDefaultPreferences() {
 
         //set default values
         store.setDefault(PREF_FILESTORE_CHUNKSIZE, DEFAULT_FILESTORE_CHUNKSIZE);
+        store.setDefault(PREF_DOCUMENT_CACHE_SIZE, DEFAULT_DOCUMENT_CACHE_SIZE);
+        store.setDefault(PREF_FILESTORE_COMPRESSION, DEFAULT_FILESTORE_COMPRESSION);
     }
 
     /**
@@ -93,4 +132,28 @@ public static final int fileStoreChunkSize() {
         }
         return pStore.getInt(PREF_FILESTORE_CHUNKSIZE);
     }
+
+    /**
+     * @return The specified size of the document cache in megabytes. A size of 0 disables the cache.
+     * @since 3.8
+     */
+    public static final int documentCacheSize() {
+        final IPreferenceStore pStore = TextprocessingCorePlugin.getDefault().getPreferenceStore();
+        if (!pStore.contains(PREF_DOCUMENT_CACHE_SIZE)) {
+            return DEFAULT_DOCUMENT_CACHE_SIZE;
+        }
+        return Math.max(0, pStore.getInt(PREF_DOCUMENT_CACHE_SIZE));
+    }
+
+    /**
+     * @return The specified compression of buffered file store files.
+     * @since 3.8
+     */
+    public static final String fileStoreCompression() {
+        final IPreferenceStore pStore = TextprocessingCorePlugin.getDefault().getPreferenceStore();
+        if (!pStore.contains(PREF_FILESTORE_COMPRESSION)) {
+            return DEFAULT_FILESTORE_COMPRESSION;
+        }
+        return pStore.getString(PREF_FILESTORE_COMPRESSION);
+    }
 }
@@ -47,6 +47,7 @@
 
 package org.knime.ext.textprocessing.preferences;
 
+import org.eclipse.jface.preference.ComboFieldEditor;
 import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.jface.preference.PreferencePage;
 import org.eclipse.jface.util.IPropertyChangeListener;
@@ -62,6 +63,9 @@
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPreferencePage;
 import org.knime.ext.textprocessing.TextprocessingCorePlugin;
+import org.knime.ext.textprocessing.data.filestore.DocumentCache;
+
+import com.google.common.cache.CacheStats;
 
 /**
  * The preference page for the document cell storage settings.
@@ -79,6 +83,20 @@ public class StoragePreferencePage extends PreferencePage implements IWorkbenchP
 
     private Label m_lFileStoreSetings;
 
+    private Composite m_compressionComp;
+
+    private ComboFieldEditor m_fileStoreCompression;
+
+    private Label m_lCompressionSettings;
+
+    private Composite m_cacheSizeComp;
+
+    private IntegerFieldEditor m_documentCacheSize;
+
+    private Label m_lDocumentCacheSettings;
+
+    private Label m_lDocumentCacheStats;
+
     private static final String DESC_FILESTORE_CHUNKSIZE =
         "The file store chunk size defines the number of documents to store "
       + "in a single\nfile store file. The larger the number, the less files "
@@ -86,6 +104,18 @@ public class StoragePreferencePage extends PreferencePage implements IWorkbenchP
       + "speed. For the smallest possible number 1, a file will be created\n"
       + "for each document, which slows down processing speed.";
 
+    private static final String DESC_FILESTORE_COMPRESSION =
+        "The file store compression defines whether documents are compressed block wise before\n"
+      + "they are written into file store files. Compression reduces the disk space and I/O required\n"
+      + "to store documents at the cost of additional CPU time. The setting affects newly created\n"
+      + "documents only, existing documents can be read regardless of this setting.";
+
+    private static final String DESC_DOCUMENT_CACHE_SIZE =
+        "The document cache size defines the estimated amount of memory in MB used to keep\n"
+      + "deserialized documents in memory. The larger the cache, the less often documents need\n"
+      + "to be read from file store files, which increases processing speed but requires more heap\n"
+      + "space. A cache size of 0 disables the cache.";
+
     /**
      * Constructor for class {@link StoragePreferencePage}. Creates a new preference page for cell storage settings.
      */
@@ -129,11 +159,53 @@ protected Control createContents(final Composite parent) {
         m_lFileStoreSetings = new Label(storageGrp, SWT.LEFT | SWT.WRAP);
         m_lFileStoreSetings.setText(DESC_FILESTORE_CHUNKSIZE);
 
+        // file store compression settings
+        m_compressionComp = new Composite(storageGrp, SWT.LEFT);
+        m_compressionComp.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+        m_fileStoreCompression = new ComboFieldEditor(StoragePreferenceInitializer.PREF_FILESTORE_COMPRESSION,
+                "File store compression", new String[][]{
+                    {StoragePreferenceInitializer.COMPRESSION_NONE, StoragePreferenceInitializer.COMPRESSION_NONE},
+                    {StoragePreferenceInitializer.COMPRESSION_DEFLATE,
+                        StoragePreferenceInitializer.COMPRESSION_DEFLATE}},
+                m_compressionComp);
+        m_fileStoreCompression.setPage(this);
+        m_fileStoreCompression.setPreferenceStore(getPreferenceStore());
+        m_fileStoreCompression.load();
+
+        m_lCompressionSettings = new Label(storageGrp, SWT.LEFT | SWT.WRAP);
+        m_lCompressionSettings.setText(DESC_FILESTORE_COMPRESSION);
+
         storageGrp.setLayoutData(getGridData());
         storageGrp.setLayout(getLayout());
 
         m_fileStoreChunkSize.setEnabled(true, m_chunkSizeComp);
         m_lFileStoreSetings.setEnabled(true);
+        m_fileStoreCompression.setEnabled(true, m_compressionComp);
+        m_lCompressionSettings.setEnabled(true);
+
+        // document cache settings
+        final Group cacheGrp = new Group(m_mainComposite, SWT.SHADOW_ETCHED_IN);
+        cacheGrp.setText("Document Cache Settings:");
+
+        m_cacheSizeComp = new Composite(cacheGrp, SWT.LEFT);
+        m_cacheSizeComp.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+        m_documentCacheSize = new IntegerFieldEditor(StoragePreferenceInitializer.PREF_DOCUMENT_CACHE_SIZE,
+                "Document cache size (MB)", m_cacheSizeComp);
+        m_documentCacheSize.setPage(this);
+        m_documentCacheSize.setPreferenceStore(getPreferenceStore());
+        m_documentCacheSize.load();
+        m_documentCacheSize.setValidRange(0, Integer.MAX_VALUE);
+
+        m_lDocumentCacheSettings = new Label(cacheGrp, SWT.LEFT | SWT.WRAP);
+        m_lDocumentCacheSettings.setText(DESC_DOCUMENT_CACHE_SIZE);
+
+        final CacheStats stats = DocumentCache.getStats();
+        m_lDocumentCacheStats = new Label(cacheGrp, SWT.LEFT | SWT.WRAP);
+        m_lDocumentCacheStats.setText("Cache hits: " + stats.hitCount() + ", misses: " + stats.missCount()
+            + ", evictions: " + stats.evictionCount());
+
+        cacheGrp.setLayoutData(getGridData());
+        cacheGrp.setLayout(getLayout());
 
         return m_mainComposite;
     }
@@ -160,6 +232,8 @@ private static final Layout getLayout() {
     @Override
     protected void performDefaults() {
         m_fileStoreChunkSize.loadDefault();
+        m_fileStoreCompression.loadDefault();
+        m_documentCacheSize.loadDefault();
         super.performDefaults();
     }
 
@@ -169,6 +243,8 @@ protected void performDefaults() {
     @Override
     public boolean performOk() {
         m_fileStoreChunkSize.store();
+        m_fileStoreCompression.store();
+        m_documentCacheSize.store();
         return super.performOk();
     }
 
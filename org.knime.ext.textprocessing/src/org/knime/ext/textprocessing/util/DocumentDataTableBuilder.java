@@ -63,6 +63,7 @@
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.streamable.RowOutput;
 import org.knime.ext.textprocessing.data.Document;
 import org.knime.ext.textprocessing.data.DocumentBlobCell;
 
@@ -167,6 +168,8 @@ public BufferedDataTable createDataTable(final ExecutionContext exec, final List
 
     private long m_rowRey = 0;
 
+    private RowOutput m_output;
+
     /**
      * Creates new DataContainer to add rows to and create a
      * {@link org.knime.core.node.BufferedDataTable}, with one column containing
@@ -233,6 +236,61 @@ public synchronized void addDocument(final Document d)
         addDocument(d, rowKey);
     }
 
+    /**
+     * Opens the builder to push rows containing the added documents to the given row output, e.g. the output of a
+     * streamable operator, instead of adding them to a data container. Rows are pushed with
+     * {@link DocumentDataTableBuilder#pushDocument(Document)} and the output is closed with
+     * {@link DocumentDataTableBuilder#closeRowOutput()}.
+     *
+     * @param output The row output to push the document rows to.
+     * @param exec The <code>ExecutionContext</code> to create the file stores of the document cells with.
+     * @since 3.8
+     */
+    public void openRowOutput(final RowOutput output, final ExecutionContext exec) {
+        m_cache = new LRUDataCellCache(m_documentCellFac);
+        m_output = output;
+        m_rowRey = 0;
+        m_documentCellFac.prepare(FileStoreFactory.createWorkflowFileStoreFactory(exec));
+    }
+
+    /**
+     * Pushes a row with the given document to the row output opened with
+     * {@link DocumentDataTableBuilder#openRowOutput(RowOutput, ExecutionContext)}. As <code>RowKey</code> a number
+     * is used, incremented by 1 each time this method is called, starting at 0.
+     *
+     * @param d The document to push.
+     * @throws InterruptedException If the row output was interrupted while waiting for downstream nodes.
+     * @throws IllegalStateException If no row output has been opened before.
+     * @since 3.8
+     */
+    public synchronized void pushDocument(final Document d) throws InterruptedException, IllegalStateException {
+        if (m_output == null) {
+            throw new IllegalStateException("DocumentDataTableBuilder has "
+                    + "no opened row output! Open before push.");
+        }
+        final DataCell docCell = m_cache.getInstance(d);
+        m_output.push(new DefaultRow(RowKey.createRowKey(m_rowRey++), docCell));
+    }
+
+    /**
+     * Closes the row output opened with {@link DocumentDataTableBuilder#openRowOutput(RowOutput, ExecutionContext)}
+     * as well as the cache.
+     *
+     * @throws InterruptedException If the row output was interrupted while closing.
+     * @throws IllegalStateException If no row output has been opened before.
+     * @since 3.8
+     */
+    public void closeRowOutput() throws InterruptedException, IllegalStateException {
+        closeCache();
+        if (m_output == null) {
+            throw new IllegalStateException("DocumentDataTableBuilder has "
+                    + "no opened row output! Open before close.");
+        }
+        m_output.close();
+        m_output = null;
+        m_rowRey = 0;
+    }
+
     /**
      * Closes the data container and returns the data table. The method
      * {@link DocumentDataTableBuilder#openDataTable(ExecutionContext)} has to
@@ -0,0 +1,315 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiPredicate;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.MultiThreadWorker;
+
+import gnu.trove.TLongIntHashMap;
+
+/**
+ * An index assigning consecutive ids to features identified by a 64 bit fingerprint (e.g. a
+ * {@link TermFingerprint}). Ids are assigned in order of first occurrence. The index can be filled incrementally by
+ * {@link #add(long, Object)} or built from a data table in parallel by
+ * {@link #build(BufferedDataTable, FeatureExtractor, ExecutionMonitor)}.
+ *
+ * Features are identified by their fingerprint only, two distinct features with the same fingerprint thus become one
+ * feature. Such collisions are very unlikely, but they are detected by comparing the features if a fingerprint is
+ * added again and reported as warning.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @param <T> The type of the features.
+ * @since 3.8
+ */
+public final class FeatureIndex<T> {
+
+    /**
+     * Extracts the feature and its fingerprint from a data row. Implementations are called concurrently and must be
+     * thread-safe.
+     *
+     * @param <T> The type of the features.
+     */
+    public interface FeatureExtractor<T> {
+
+        /**
+         * @param row The row to extract the feature from.
+         * @return The feature of the row or {@code null} if the row has no feature, e.g. due to missing values.
+         */
+        T getFeature(DataRow row);
+
+        /**
+         * @param feature A feature returned by {@link #getFeature(DataRow)}.
+         * @return The fingerprint of the feature.
+         */
+        long getFingerprint(T feature);
+
+        /**
+         * Returns whether the given features with the same fingerprint are the same feature, used to detect
+         * fingerprint collisions. By default features are compared with {@link Object#equals(Object)}.
+         *
+         * @param feature A feature returned by {@link #getFeature(DataRow)}.
+         * @param other Another feature with the same fingerprint.
+         * @return {@code true} if both are the same feature, {@code false} if their fingerprints collide.
+         */
+        default boolean isSameFeature(final T feature, final T other) {
+            return Objects.equals(feature, other);
+        }
+    }
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(FeatureIndex.class);
+
+    /** The number of rows a worker collects into its own local map. */
+    private static final int CHUNK_SIZE = 1024;
+
+    /** Maps the fingerprints to their id + 1, since trove returns 0 for absent keys. */
+    private final TLongIntHashMap m_ids = new TLongIntHashMap();
+
+    private final List<T> m_features = new ArrayList<>();
+
+    private final BiPredicate<? super T, ? super T> m_sameFeature;
+
+    /** Set once a collision has been reported, further collisions are logged on debug level only. */
+    private boolean m_collisionReported = false;
+
+    /**
+     * Creates an empty index, which compares features with {@link Object#equals(Object)} to detect fingerprint
+     * collisions.
+     */
+    public FeatureIndex() {
+        this(Objects::equals);
+    }
+
+    /**
+     * Creates an empty index.
+     *
+     * @param sameFeature Returns whether two features with the same fingerprint are the same feature, used to detect
+     *            fingerprint collisions.
+     */
+    public FeatureIndex(final BiPredicate<? super T, ? super T> sameFeature) {
+        m_sameFeature = sameFeature;
+    }
+
+    /**
+     * Adds a feature to the index, if no feature with the same fingerprint has been added before. If a different
+     * feature with the same fingerprint has been added, a warning is logged and the id of that feature is returned.
+     *
+     * @param fingerprint The fingerprint of the feature.
+     * @param feature The feature.
+     * @return The id of the feature.
+     */
+    public int add(final long fingerprint, final T feature) {
+        final int id = m_ids.get(fingerprint) - 1;
+        if (id >= 0) {
+            final T existing = m_features.get(id);
+            if (existing != feature && !m_sameFeature.test(existing, feature)) {
+                final String msg = "The features \"" + existing + "\" and \"" + feature
+                    + "\" have the same fingerprint and are counted as one feature.";
+                if (m_collisionReported) {
+                    LOGGER.debug(msg);
+                } else {
+                    LOGGER.warn(msg);
+                    m_collisionReported = true;
+                }
+            }
+            return id;
+        }
+        final int newId = m_features.size();
+        m_ids.put(fingerprint, newId + 1);
+        m_features.add(feature);
+        return newId;
+    }
+
+    /**
+     * @param fingerprint The fingerprint of a feature.
+     * @return The id of the feature with the given fingerprint or -1 if it is not contained in the index.
+     */
+    public int getId(final long fingerprint) {
+        return m_ids.get(fingerprint) - 1;
+    }
+
+    /**
+     * @param id The id of a feature.
+     * @return The feature with the given id, i.e. the first added feature with its fingerprint.
+     */
+    public T getFeature(final int id) {
+        return m_features.get(id);
+    }
+
+    /**
+     * @return The features ordered by their ids.
+     */
+    public List<T> getFeatures() {
+        return Collections.unmodifiableList(m_features);
+    }
+
+    /**
+     * @return The number of features.
+     */
+    public int size() {
+        return m_features.size();
+    }
+
+    /**
+     * Builds the feature index of the given table in parallel. The rows are split into chunks and each worker collects
+     * the distinct features of a chunk into a local map. The local maps are merged in row order, so the ids are the
+     * same as if the table was indexed sequentially.
+     *
+     * @param <T> The type of the features.
+     * @param table The table to index.
+     * @param extractor The extractor of the features.
+     * @param exec The execution monitor to report progress and check for cancellation.
+     * @return The feature index of the table.
+     * @throws CanceledExecutionException If the execution has been canceled.
+     * @throws InterruptedException If the thread has been interrupted.
+     * @throws ExecutionException If the extraction of a feature failed.
+     */
+    public static <T> FeatureIndex<T> build(final BufferedDataTable table, final FeatureExtractor<T> extractor,
+        final ExecutionMonitor exec) throws CanceledExecutionException, InterruptedException, ExecutionException {
+        final FeatureIndex<T> index = new FeatureIndex<>(extractor::isSameFeature);
+        final int threads = KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads();
+        final Collector<T> collector = new Collector<>(index, extractor, table.size(), threads, exec);
+        try (final RowChunkIterator chunks = new RowChunkIterator(table.iterator(), CHUNK_SIZE)) {
+            collector.run(() -> chunks);
+        } catch (CancellationException e) {
+            exec.checkCanceled();
+            throw e;
+        }
+        return index;
+    }
+
+    /**
+     * The distinct features of a chunk of rows in order of first occurrence.
+     */
+    private static final class Chunk<T> {
+
+        private final long[] m_fingerprints;
+
+        private final List<T> m_chunkFeatures;
+
+        Chunk(final long[] fingerprints, final List<T> features) {
+            m_fingerprints = fingerprints;
+            m_chunkFeatures = features;
+        }
+    }
+
+    /**
+     * Collects the distinct features of the chunks in parallel and merges them in order into the index.
+     */
+    private static final class Collector<T> extends MultiThreadWorker<List<DataRow>, Chunk<T>> {
+
+        private final FeatureIndex<T> m_index;
+
+        private final FeatureExtractor<T> m_extractor;
+
+        private final long m_rowCount;
+
+        private final ExecutionMonitor m_exec;
+
+        private long m_processedRows = 0;
+
+        Collector(final FeatureIndex<T> index, final FeatureExtractor<T> extractor, final long rowCount,
+            final int threads, final ExecutionMonitor exec) {
+            super(threads * 2, threads);
+            m_index = index;
+            m_extractor = extractor;
+            m_rowCount = rowCount;
+            m_exec = exec;
+        }
+
+        @Override
+        protected Chunk<T> compute(final List<DataRow> in, final long index) throws Exception {
+            m_exec.checkCanceled();
+            // maps the fingerprints to their position in the chunk + 1
+            final TLongIntHashMap seen = new TLongIntHashMap();
+            final long[] fingerprints = new long[in.size()];
+            final List<T> features = new ArrayList<>();
+            for (final DataRow row : in) {
+                final T feature = m_extractor.getFeature(row);
+                if (feature != null) {
+                    final long fingerprint = m_extractor.getFingerprint(feature);
+                    final int pos = seen.get(fingerprint) - 1;
+                    // colliding features are kept, in order to report them when merged into the index
+                    if (pos < 0 || !m_extractor.isSameFeature(features.get(pos), feature)) {
+                        if (pos < 0) {
+                            seen.put(fingerprint, features.size() + 1);
+                        }
+                        fingerprints[features.size()] = fingerprint;
+                        features.add(feature);
+                    }
+                }
+            }
+            return new Chunk<>(fingerprints, features);
+        }
+
+        @Override
+        protected void processFinished(final MultiThreadWorker<List<DataRow>, Chunk<T>>.ComputationTask task)
+            throws ExecutionException, CancellationException, InterruptedException {
+            final Chunk<T> chunk = task.get();
+            for (int i = 0; i < chunk.m_chunkFeatures.size(); i++) {
+                m_index.add(chunk.m_fingerprints[i], chunk.m_chunkFeatures.get(i));
+            }
+            m_processedRows += task.getInput().size();
+            if (m_rowCount > 0) {
+                m_exec.setProgress(m_processedRows / (double)m_rowCount);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.knime.core.data.DataCell;
+import org.knime.ext.textprocessing.data.SparseVectorCell;
+
+import gnu.trove.TObjectIntHashMap;
+
+/**
+ * Aggregates (feature index, value) pairs of a bag of words per document in a single pass over an unsorted table. The
+ * documents are identified by their UUID in a hash map, so the input does not need to be sorted by document, and each
+ * document only keeps the entries of the features it actually contains. The aggregated entries are turned into
+ * {@link SparseVectorCell}s by {@link #createVector(int, int)}. It is used by the document vector nodes, which create
+ * the same sparse vectors from a bag of words.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class SparseDocumentVectorBuilder {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Maps the UUID of a document to its id + 1, since trove returns 0 for absent keys. */
+    private final TObjectIntHashMap<UUID> m_documentIds = new TObjectIntHashMap<>();
+
+    private final List<DataCell> m_documentCells = new ArrayList<>();
+
+    private int[][] m_indices = new int[INITIAL_CAPACITY][];
+
+    private double[][] m_values = new double[INITIAL_CAPACITY][];
+
+    private int[] m_sizes = new int[INITIAL_CAPACITY];
+
+    /**
+     * Returns the id of the document with the given UUID, registering the document if it has not been seen before.
+     * Ids are assigned in order of first occurrence.
+     *
+     * @param uuid The UUID of the document.
+     * @param documentCell The cell containing the document, kept for the output row.
+     * @return The id of the document.
+     */
+    public int getDocumentId(final UUID uuid, final DataCell documentCell) {
+        final int id = m_documentIds.get(uuid) - 1;
+        if (id >= 0) {
+            return id;
+        }
+        final int newId = m_documentCells.size();
+        m_documentIds.put(uuid, newId + 1);
+        m_documentCells.add(documentCell);
+        if (newId == m_sizes.length) {
+            final int capacity = newId * 2;
+            m_indices = Arrays.copyOf(m_indices, capacity);
+            m_values = Arrays.copyOf(m_values, capacity);
+            m_sizes = Arrays.copyOf(m_sizes, capacity);
+        }
+        m_indices[newId] = new int[INITIAL_CAPACITY];
+        m_values[newId] = new double[INITIAL_CAPACITY];
+        return newId;
+    }
+
+    /**
+     * Adds a feature value to the document with the given id. If a feature is added more than once to the same
+     * document, the last value wins, as in the dense vector creation.
+     *
+     * @param documentId The id of the document, as returned by {@link #getDocumentId(UUID, DataCell)}.
+     * @param featureIndex The index of the feature.
+     * @param value The value of the feature.
+     */
+    public void add(final int documentId, final int featureIndex, final double value) {
+        final int size = m_sizes[documentId];
+        if (size == m_indices[documentId].length) {
+            m_indices[documentId] = Arrays.copyOf(m_indices[documentId], size * 2);
+            m_values[documentId] = Arrays.copyOf(m_values[documentId], size * 2);
+        }
+        m_indices[documentId][size] = featureIndex;
+        m_values[documentId][size] = value;
+        m_sizes[documentId] = size + 1;
+    }
+
+    /**
+     * @return The number of documents seen so far.
+     */
+    public int getNumberOfDocuments() {
+        return m_documentCells.size();
+    }
+
+    /**
+     * @param documentId The id of the document.
+     * @return The cell containing the document with the given id.
+     */
+    public DataCell getDocumentCell(final int documentId) {
+        return m_documentCells.get(documentId);
+    }
+
+    /**
+     * Creates the sparse vector of the document with the given id and releases the entries collected for it. Entries
+     * are sorted by feature index, duplicates are resolved by keeping the last added value and zero values are
+     * dropped.
+     *
+     * @param documentId The id of the document.
+     * @param length The length of the vector, i.e. the number of features.
+     * @return The sparse vector of the document.
+     */
+    public SparseVectorCell createVector(final int documentId, final int length) {
+        final int size = m_sizes[documentId];
+        final int[] indices = m_indices[documentId];
+        final double[] values = m_values[documentId];
+        m_indices[documentId] = null;
+        m_values[documentId] = null;
+
+        // sort by feature index and position of insertion, so the last value of a duplicate ends up last
+        final long[] order = new long[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = ((long)indices[i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        final int[] sortedIndices = new int[size];
+        final double[] sortedValues = new double[size];
+        int nonZeros = 0;
+        for (int i = 0; i < size; i++) {
+            final int featureIndex = (int)(order[i] >>> 32);
+            if (i + 1 < size && (int)(order[i + 1] >>> 32) == featureIndex) {
+                continue;
+            }
+            final double value = values[(int)order[i]];
+            if (value != 0) {
+                sortedIndices[nonZeros] = featureIndex;
+                sortedValues[nonZeros] = value;
+                nonZeros++;
+            }
+        }
+        return new SparseVectorCell(length, sortedIndices, sortedValues, nonZeros);
+    }
+}
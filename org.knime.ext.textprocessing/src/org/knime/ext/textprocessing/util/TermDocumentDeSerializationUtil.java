@@ -50,22 +50,28 @@
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.lang.reflect.Field;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.eclipse.jface.preference.IPreferenceStore;
@@ -398,7 +404,8 @@ public static Document deserializeDocument(final InputStream in) throws IOExcept
 
     /**
      * Deserializes a document from given input and wraps it into a
-     * <code>DocumentBlobCell</code>.
+     * <code>DocumentBlobCell</code>. The document can be serialized as DML string (if DML deserialization is
+     * enabled), by Java serialization, or in fast binary form (see {@link #readDocument(DataInput)}).
      *
      * @param input Input to read serialized document from.
      * @return Deserialized document wrapped into <code>DocumentBlobCell</code>.
@@ -414,7 +421,7 @@ public static DocumentBlobCell deserializeDocumentBlobCell(
                 }
             }
         }
-        return new DocumentBlobCell(TermDocumentDeSerializationUtil.deserializeDocument(bis));
+        return new DocumentBlobCell(TermDocumentDeSerializationUtil.readDocument(new DataInputStream(bis)));
     }
 
     /**
@@ -442,13 +449,29 @@ public static DocumentCell deserializeDocumentCell(
         return new DocumentCell(TermDocumentDeSerializationUtil.deserializeDocument(bis));
     }
 
-    private static final short DOCUMENT_SERIALIZATION_VERSION = 2;
+    /**
+     * Version 3 serializes all word, whitespace suffix and tag strings of a document once in a string dictionary and
+     * terms refer to these strings by their dictionary ids. Version 1 and 2 serialize terms via
+     * {@link #fastSerializeTerm(Term, DataOutput)}.
+     */
+    private static final short DOCUMENT_SERIALIZATION_VERSION = 3;
+
+    /** The first document serialization version using a string dictionary. */
+    private static final short DICTIONARY_SERIALIZATION_VERSION = 3;
+
+    /* Flag of dictionary serialized terms, marking terms with more than one word or with tags. */
+    private static final int TERM_FLAG_COMPLEX = 1;
+
+    /* Flag of dictionary serialized terms, marking unmodifiable terms. */
+    private static final int TERM_FLAG_UNMODIFIABLE = 2;
 
     /**
      * Deserializes a document from given data input by deserializing all fields of the
      * document in a specific order, not using the Java standard object serialization.
-     * Terms of the document are deserialized by
-     * {@link TermDocumentDeSerializationUtil#fastDeserializeTerm(DataInput)}.
+     * Terms of documents serialized with version 1 or 2 are deserialized by
+     * {@link TermDocumentDeSerializationUtil#fastDeserializeTerm(DataInput)}. Terms of documents serialized with
+     * version 3 refer to the strings of the string dictionary of the document. Tag strings are interned, equal tags
+     * and strings of a document are deserialized into shared instances.
      *
      * @param in The stream to deserialize the document from
      * @return The deserialized document
@@ -456,8 +479,39 @@ public static DocumentCell deserializeDocumentCell(
      * @since 2.9
      */
     public static Document fastDeserializeDocument(final DataInput in) throws IOException {
+        return fastDeserializeDocument(in, in.readShort());
+    }
+
+    /**
+     * Deserializes a document, which has been serialized either by
+     * {@link TermDocumentDeSerializationUtil#fastSerializeDocument(Document, DataOutput)} or by Java serialization
+     * ({@link TermDocumentDeSerializationUtil#serializeDocument(Document, OutputStream)}). Both formats are
+     * distinguished by their leading short value, which is the serialization version for the fast format and the
+     * stream magic number for Java serialization. Java serialized documents can only be deserialized if the given input
+     * is an {@link InputStream}.
+     *
+     * @param in The input to deserialize the document from.
+     * @return The deserialized document.
+     * @throws IOException If document could not be read from input.
+     * @since 3.8
+     */
+    public static Document readDocument(final DataInput in) throws IOException {
+        final short header = in.readShort();
+        if (header != ObjectStreamConstants.STREAM_MAGIC) {
+            return fastDeserializeDocument(in, header);
+        }
+        if (!(in instanceof InputStream)) {
+            throw new IOException("Java serialized document can not be read from input: " + in.getClass().getName());
+        }
+        // push back the stream magic number, which is read by the object input stream again
+        final ByteArrayOutputStream headerBytes = new ByteArrayOutputStream(2);
+        new DataOutputStream(headerBytes).writeShort(header);
+        return deserializeDocument(
+            new SequenceInputStream(new ByteArrayInputStream(headerBytes.toByteArray()), (InputStream)in));
+    }
+
+    private static Document fastDeserializeDocument(final DataInput in, final short version) throws IOException {
         try {
-            in.readShort();
             final UUID uuid = UUID.fromString(in.readUTF());
             final int length = in.readInt();
             final String titleCache = in.readUTF();
@@ -465,6 +519,14 @@ public static Document fastDeserializeDocument(final DataInput in) throws IOExce
             final DocumentType type = DocumentType.stringToDocumentType(in.readUTF());
             final File file = new File(in.readUTF());
 
+            // string dictionary
+            final TermReader termReader;
+            if (version >= DICTIONARY_SERIALIZATION_VERSION) {
+                termReader = new TermReader(in);
+            } else {
+                termReader = null;
+            }
+
             // sections
             final int noSections = in.readInt();
             final List<Section> sections = new ArrayList<Section>(noSections);
@@ -482,7 +544,11 @@ public static Document fastDeserializeDocument(final DataInput in) throws IOExce
                         final int noTerms = in.readInt();
                         final List<Term> terms = new ArrayList<Term>(noTerms);
                         for (int t = 0; t < noTerms; t++) {
-                            terms.add(fastDeserializeTerm(in));
+                            if (termReader != null) {
+                                terms.add(termReader.readTerm(in));
+                            } else {
+                                terms.add(fastDeserializeTerm(in));
+                            }
                         }
                         sentences.add(new Sentence(terms));
                     }
@@ -563,9 +629,9 @@ public static Document fastDeserializeDocument(final DataInput in) throws IOExce
 
     /**
      * Serializes (binary) the given document to given data output by serializing all fields of
-     * the document in a specific order and not using standard Java serialization. Terms of the
-     * documents are serialized by
-     * {@link TermDocumentDeSerializationUtil#fastSerializeTerm(Term, DataOutput)}
+     * the document in a specific order and not using standard Java serialization. All word, whitespace suffix and tag
+     * strings of the document are serialized once in a string dictionary. Terms are serialized as variable length
+     * dictionary ids of their strings.
      *
      * @param doc The document to serialize
      * @param out The stream to serialize to.
@@ -581,6 +647,10 @@ public static void fastSerializeDocument(final Document doc, final DataOutput ou
             out.writeUTF(doc.getType().toString());
             out.writeUTF(doc.getDocFile().getAbsolutePath());
 
+            // string dictionary
+            final TermWriter termWriter = new TermWriter(doc);
+            termWriter.writeDictionary(out);
+
             // sections
             out.writeInt(doc.getSections().size());
             for (Section s : doc.getSections()) {
@@ -594,7 +664,7 @@ public static void fastSerializeDocument(final Document doc, final DataOutput ou
                         // terms
                         out.writeInt(sen.getTerms().size());
                         for (Term t : sen.getTerms()) {
-                            fastSerializeTerm(t, out);
+                            termWriter.writeTerm(t, out);
                         }
                     }
                 }
@@ -819,6 +889,186 @@ public static TermCell deserializeTermCell(final DataCellDataInput input)
         return new TermCell(TermDocumentDeSerializationUtil.deserializeTerm(bis));
     }
 
+    /**
+     * Writes the given non negative integer as variable length integer using 7 bits per byte.
+     *
+     * @param value The non negative integer to write.
+     * @param out The output to write to.
+     * @throws IOException If the value cannot be written.
+     * @since 3.8
+     */
+    public static void writeVarInt(final int value, final DataOutput out) throws IOException {
+        int v = value;
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    /**
+     * Reads a variable length integer written by {@link #writeVarInt(int, DataOutput)}.
+     *
+     * @param in The input to read from.
+     * @return The integer read.
+     * @throws IOException If the value cannot be read or is malformed.
+     * @since 3.8
+     */
+    public static int readVarInt(final DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer.");
+    }
+
+    /**
+     * Serializes terms of a document referring to the strings of the string dictionary of the document.
+     */
+    private static final class TermWriter {
+
+        private final Map<String, Integer> m_dictionary = new LinkedHashMap<String, Integer>();
+
+        /**
+         * Creates the string dictionary of all words, whitespace suffices and tags of the given document.
+         */
+        TermWriter(final Document doc) {
+            for (Section s : doc.getSections()) {
+                for (Paragraph p : s.getParagraphs()) {
+                    for (Sentence sen : p.getSentences()) {
+                        for (Term t : sen.getTerms()) {
+                            for (Word w : t.getWords()) {
+                                add(w.getWord());
+                                add(w.getWhitespaceSuffix());
+                            }
+                            for (Tag tag : t.getTags()) {
+                                add(tag.getTagValue());
+                                add(tag.getTagType());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private void add(final String str) {
+            if (!m_dictionary.containsKey(str)) {
+                m_dictionary.put(str, m_dictionary.size());
+            }
+        }
+
+        void writeDictionary(final DataOutput out) throws IOException {
+            writeVarInt(m_dictionary.size(), out);
+            for (String str : m_dictionary.keySet()) {
+                out.writeUTF(str);
+            }
+        }
+
+        void writeTerm(final Term term, final DataOutput out) throws IOException {
+            // term is complex if it consists of more than 1 words or if it has tags assigned
+            final boolean isComplex = term.getWords().size() != 1 || !term.getTags().isEmpty();
+            int flags = 0;
+            if (isComplex) {
+                flags |= TERM_FLAG_COMPLEX;
+            }
+            if (term.isUnmodifiable()) {
+                flags |= TERM_FLAG_UNMODIFIABLE;
+            }
+            out.writeByte(flags);
+            out.writeInt(term.hashCode());
+            if (isComplex) {
+                writeVarInt(term.getWords().size(), out);
+                for (Word w : term.getWords()) {
+                    writeVarInt(m_dictionary.get(w.getWord()), out);
+                    writeVarInt(m_dictionary.get(w.getWhitespaceSuffix()), out);
+                }
+                writeVarInt(term.getTags().size(), out);
+                for (Tag t : term.getTags()) {
+                    writeVarInt(m_dictionary.get(t.getTagValue()), out);
+                    writeVarInt(m_dictionary.get(t.getTagType()), out);
+                }
+            } else {
+                final Word theWord = term.getWords().get(0);
+                writeVarInt(m_dictionary.get(theWord.getWord()), out);
+                writeVarInt(m_dictionary.get(theWord.getWhitespaceSuffix()), out);
+            }
+        }
+    }
+
+    /**
+     * Deserializes terms of a document referring to the strings of the string dictionary of the document.
+     */
+    private static final class TermReader {
+
+        private final String[] m_dictionary;
+
+        /* Tags of the document, keyed by the dictionary ids of their value and type. */
+        private final Map<Long, Tag> m_tags = new HashMap<Long, Tag>();
+
+        private final Field m_hashField;
+
+        /**
+         * Reads the string dictionary of a document from the given input.
+         */
+        TermReader(final DataInput in) throws IOException, NoSuchFieldException {
+            final int size = readVarInt(in);
+            m_dictionary = new String[size];
+            for (int i = 0; i < size; i++) {
+                m_dictionary[i] = in.readUTF();
+            }
+            m_hashField = Term.class.getDeclaredField("m_hashCode");
+            m_hashField.setAccessible(true);
+        }
+
+        private String string(final int id) throws IOException {
+            if (id < 0 || id >= m_dictionary.length) {
+                throw new IOException("Invalid string dictionary id: " + id);
+            }
+            return m_dictionary[id];
+        }
+
+        private Tag tag(final int valueId, final int typeId) throws IOException {
+            final Long key = ((long)valueId << 32) | typeId;
+            Tag tag = m_tags.get(key);
+            if (tag == null) {
+                tag = new Tag(string(valueId).intern(), string(typeId).intern());
+                m_tags.put(key, tag);
+            }
+            return tag;
+        }
+
+        Term readTerm(final DataInput in) throws IOException, IllegalAccessException {
+            final int flags = in.readByte();
+            final int hashCode = in.readInt();
+            final List<Word> words;
+            final List<Tag> tags;
+            if ((flags & TERM_FLAG_COMPLEX) != 0) {
+                final int noWords = readVarInt(in);
+                words = new ArrayList<Word>(noWords);
+                for (int i = 0; i < noWords; i++) {
+                    words.add(new Word(string(readVarInt(in)), string(readVarInt(in))));
+                }
+                final int noTags = readVarInt(in);
+                tags = new ArrayList<Tag>(noTags);
+                for (int i = 0; i < noTags; i++) {
+                    tags.add(tag(readVarInt(in), readVarInt(in)));
+                }
+            } else {
+                words = new ArrayList<Word>(1);
+                words.add(new Word(string(readVarInt(in)), string(readVarInt(in))));
+                tags = new ArrayList<Tag>(0);
+            }
+
+            final Term t = new Term(words, tags, (flags & TERM_FLAG_UNMODIFIABLE) != 0);
+            m_hashField.setInt(t, hashCode);
+            return t;
+        }
+    }
+
     private class TextprocessingPropertyChangeListener implements IPropertyChangeListener {
         /**
          * {@inheritDoc}
@@ -0,0 +1,176 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.util;
+
+import java.util.List;
+
+import org.knime.ext.textprocessing.data.Tag;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.data.Word;
+
+/**
+ * Computes compact 64 bit fingerprints of terms, used instead of string keys to index terms in vocabularies. The
+ * fingerprint of a term is the fingerprint of its feature key, i.e. {@link Term#getText()} if tags are ignored and
+ * {@link Term#toString()} otherwise, but it is computed from the words and tags of the term without creating the key
+ * string. Hence terms and stored feature names (e.g. the feature space of a model) can be matched by fingerprint.
+ * Distinct keys may share a fingerprint only with a probability of about {@code n^2 / 2^65} for {@code n} keys.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class TermFingerprint {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long PRIME = 0x100000001b3L;
+
+    private TermFingerprint() {
+        // utility class
+    }
+
+    /**
+     * Computes the fingerprint of the given feature key.
+     *
+     * @param key The feature key, e.g. a feature name stored in a model.
+     * @return The fingerprint of the key.
+     */
+    public static long of(final CharSequence key) {
+        return finish(update(OFFSET_BASIS, key));
+    }
+
+    /**
+     * Computes the fingerprint of the given term, which equals the fingerprint of {@code term.getText()} if tags are
+     * ignored and of {@code term.toString()} otherwise.
+     *
+     * @param term The term.
+     * @param ignoreTags {@code true} if the tags of the term are not part of its key.
+     * @return The fingerprint of the term.
+     */
+    public static long of(final Term term, final boolean ignoreTags) {
+        final List<Word> words = term.getWords();
+        if (!ignoreTags && !isTrimmed(words)) {
+            // the string representation trims the text, rare enough to not replicate it here
+            return of(term.toString());
+        }
+
+        long hash = OFFSET_BASIS;
+        final int lastWord = words.size() - 1;
+        for (int i = 0; i <= lastWord; i++) {
+            final Word w = words.get(i);
+            hash = update(hash, w.getText());
+            if (i < lastWord) {
+                hash = update(hash, w.getWhitespaceSuffix());
+            }
+        }
+        if (ignoreTags) {
+            return finish(hash);
+        }
+
+        final List<Tag> tags = term.getTags();
+        hash = update(hash, '[');
+        for (int i = 0; i < tags.size(); i++) {
+            final Tag t = tags.get(i);
+            hash = update(hash, t.getTagValue());
+            hash = update(hash, '(');
+            hash = update(hash, t.getTagType());
+            hash = update(hash, ')');
+            if (i < tags.size() - 1) {
+                hash = update(hash, Term.WORD_SEPARATOR);
+            }
+        }
+        return finish(update(hash, ']'));
+    }
+
+    /**
+     * Returns whether the given terms have the same feature key, i.e. the same text if tags are ignored and the same
+     * string representation otherwise. Terms with the same fingerprint but different keys collide.
+     *
+     * @param term The term.
+     * @param other The other term.
+     * @param ignoreTags {@code true} if the tags of the terms are not part of their keys.
+     * @return {@code true} if the terms have the same feature key.
+     */
+    public static boolean sameKey(final Term term, final Term other, final boolean ignoreTags) {
+        if (term == other || term.equals(other)) {
+            return true;
+        }
+        return ignoreTags ? term.getText().equals(other.getText()) : term.toString().equals(other.toString());
+    }
+
+    private static boolean isTrimmed(final List<Word> words) {
+        if (words.isEmpty()) {
+            return true;
+        }
+        final String first = words.get(0).getText();
+        final String last = words.get(words.size() - 1).getText();
+        return !first.isEmpty() && first.charAt(0) > ' ' && !last.isEmpty() && last.charAt(last.length() - 1) > ' ';
+    }
+
+    private static long update(final long hash, final CharSequence s) {
+        long h = hash;
+        for (int i = 0; i < s.length(); i++) {
+            h = update(h, s.charAt(i));
+        }
+        return h;
+    }
+
+    private static long update(final long hash, final char c) {
+        return (hash ^ c) * PRIME;
+    }
+
+    /** Final avalanche step (from MurmurHash3) to spread the FNV-1a state over all bits. */
+    private static long finish(final long hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
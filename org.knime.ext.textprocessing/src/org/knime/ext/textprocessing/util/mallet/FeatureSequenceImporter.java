@@ -0,0 +1,412 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   17.10.2026 (KNIME AG): created
+ */
+package org.knime.ext.textprocessing.util.mallet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.util.MultiThreadWorker;
+import org.knime.ext.textprocessing.data.Document;
+import org.knime.ext.textprocessing.data.DocumentValue;
+import org.knime.ext.textprocessing.data.Sentence;
+import org.knime.ext.textprocessing.data.Term;
+import org.knime.ext.textprocessing.util.RowChunkIterator;
+
+import cc.mallet.types.Alphabet;
+import cc.mallet.types.FeatureSequence;
+import cc.mallet.types.Instance;
+import cc.mallet.types.InstanceList;
+
+import gnu.trove.TObjectIntHashMap;
+
+/**
+ * Imports the documents of a table as compact feature sequences, i.e. {@code int[]} arrays of word ids, as
+ * {@link Document2FeatureSequencePipe} does but in parallel and without keeping the documents. The rows are split into
+ * chunks which are converted by several threads against chunk local dictionaries, the dictionaries are merged in row
+ * order. Thus the word ids are the same as if the table was imported sequentially, which keeps seeded topic models
+ * reproducible.
+ * <p>
+ * The vocabulary can be pruned by the document frequencies of the words before the feature sequences are converted
+ * into an {@link InstanceList}. To determine the vocabulary of very large corpora the feature sequences can be
+ * discarded after they have been counted, see {@link #importVocabulary(BufferedDataTable, int, int, ExecutionMonitor)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class FeatureSequenceImporter {
+
+    /** The number of rows per chunk. */
+    private static final int CHUNK_SIZE = 256;
+
+    private final List<int[]> m_docs = new ArrayList<>();
+
+    private final List<String> m_words = new ArrayList<>();
+
+    /** Maps a word to its id + 1. */
+    private final TObjectIntHashMap<String> m_wordIds = new TObjectIntHashMap<>();
+
+    private int[] m_docFreqs = new int[1024];
+
+    private final boolean m_keepDocuments;
+
+    private int m_noOfDocs = 0;
+
+    private FeatureSequenceImporter(final boolean keepDocuments) {
+        m_keepDocuments = keepDocuments;
+    }
+
+    /**
+     * Imports the documents of the given column. Rows without a document are skipped, as
+     * {@link DocumentInstanceIterator} does.
+     *
+     * @param table The table containing the documents.
+     * @param docColIdx The index of the document column.
+     * @param noOfThreads The number of threads.
+     * @param exec The execution monitor to report progress and check for cancellation.
+     * @return The importer holding the feature sequences of the documents.
+     * @throws CanceledExecutionException If the execution has been canceled.
+     * @throws InterruptedException If the thread has been interrupted.
+     * @throws ExecutionException If the import of a document failed.
+     */
+    public static FeatureSequenceImporter importDocuments(final BufferedDataTable table, final int docColIdx,
+        final int noOfThreads, final ExecutionMonitor exec)
+        throws CanceledExecutionException, InterruptedException, ExecutionException {
+        return importDocuments(table, docColIdx, noOfThreads, exec, true);
+    }
+
+    /**
+     * Imports the vocabulary and the document frequencies of the documents of the given column without keeping the
+     * feature sequences, thus the memory does not depend on the number of documents.
+     * {@link #createInstanceList()} must not be called on the returned importer.
+     *
+     * @param table The table containing the documents.
+     * @param docColIdx The index of the document column.
+     * @param noOfThreads The number of threads.
+     * @param exec The execution monitor to report progress and check for cancellation.
+     * @return The importer holding the vocabulary of the documents.
+     * @throws CanceledExecutionException If the execution has been canceled.
+     * @throws InterruptedException If the thread has been interrupted.
+     * @throws ExecutionException If the import of a document failed.
+     */
+    public static FeatureSequenceImporter importVocabulary(final BufferedDataTable table, final int docColIdx,
+        final int noOfThreads, final ExecutionMonitor exec)
+        throws CanceledExecutionException, InterruptedException, ExecutionException {
+        return importDocuments(table, docColIdx, noOfThreads, exec, false);
+    }
+
+    private static FeatureSequenceImporter importDocuments(final BufferedDataTable table, final int docColIdx,
+        final int noOfThreads, final ExecutionMonitor exec, final boolean keepDocuments)
+        throws CanceledExecutionException, InterruptedException, ExecutionException {
+        final FeatureSequenceImporter importer = new FeatureSequenceImporter(keepDocuments);
+        final Importer worker = new Importer(importer, docColIdx, table.size(), noOfThreads, exec);
+        try (final RowChunkIterator chunks = new RowChunkIterator(table.iterator(), CHUNK_SIZE)) {
+            worker.run(() -> chunks);
+        } catch (CancellationException e) {
+            exec.checkCanceled();
+            throw e;
+        }
+        return importer;
+    }
+
+    /**
+     * @return The number of imported documents.
+     */
+    public int getNoOfDocuments() {
+        return m_noOfDocs;
+    }
+
+    /**
+     * @return The number of distinct words.
+     */
+    public int getVocabularySize() {
+        return m_words.size();
+    }
+
+    /**
+     * @return The distinct words in the order of their ids.
+     */
+    public String[] getVocabulary() {
+        return m_words.toArray(new String[m_words.size()]);
+    }
+
+    /**
+     * Removes the words from the vocabulary and the feature sequences which occur in less than the given minimum
+     * number of documents or in more than the given ratio of documents, and keeps only the given number of words with
+     * the highest document frequencies. The order of the remaining words is retained.
+     *
+     * @param minDocFreq The minimum number of documents a word has to occur in.
+     * @param maxDocFreqRatio The maximum ratio of documents a word may occur in.
+     * @param maxVocabularySize The maximum number of words to keep or 0 to keep all words.
+     * @return The number of removed words.
+     */
+    public int prune(final int minDocFreq, final double maxDocFreqRatio, final int maxVocabularySize) {
+        final int size = m_words.size();
+        final double maxDocFreq = maxDocFreqRatio * m_noOfDocs;
+        final boolean[] keep = new boolean[size];
+        int noOfKept = 0;
+        for (int w = 0; w < size; w++) {
+            keep[w] = m_docFreqs[w] >= minDocFreq && m_docFreqs[w] <= maxDocFreq;
+            if (keep[w]) {
+                noOfKept++;
+            }
+        }
+        if (maxVocabularySize > 0 && noOfKept > maxVocabularySize) {
+            // keep the most frequent words, ties are decided by the order of occurrence
+            final Integer[] byDocFreq = new Integer[noOfKept];
+            int i = 0;
+            for (int w = 0; w < size; w++) {
+                if (keep[w]) {
+                    byDocFreq[i++] = w;
+                }
+            }
+            Arrays.sort(byDocFreq, (a, b) -> m_docFreqs[a] != m_docFreqs[b]
+                ? Integer.compare(m_docFreqs[b], m_docFreqs[a]) : Integer.compare(a, b));
+            for (i = maxVocabularySize; i < noOfKept; i++) {
+                keep[byDocFreq[i]] = false;
+            }
+            noOfKept = maxVocabularySize;
+        }
+        if (noOfKept == size) {
+            return 0;
+        }
+        final int[] newIds = new int[size];
+        final List<String> words = new ArrayList<>(noOfKept);
+        final int[] docFreqs = new int[Math.max(1, noOfKept)];
+        m_wordIds.clear();
+        for (int w = 0; w < size; w++) {
+            if (keep[w]) {
+                newIds[w] = words.size();
+                docFreqs[words.size()] = m_docFreqs[w];
+                words.add(m_words.get(w));
+                m_wordIds.put(m_words.get(w), words.size());
+            } else {
+                newIds[w] = -1;
+            }
+        }
+        for (int d = 0; d < m_docs.size(); d++) {
+            final int[] doc = m_docs.get(d);
+            int length = 0;
+            for (final int w : doc) {
+                if (newIds[w] >= 0) {
+                    doc[length++] = newIds[w];
+                }
+            }
+            m_docs.set(d, length == doc.length ? doc : Arrays.copyOf(doc, length));
+        }
+        m_words.clear();
+        m_words.addAll(words);
+        m_docFreqs = docFreqs;
+        return size - noOfKept;
+    }
+
+    /**
+     * Converts the feature sequences into an {@link InstanceList} whose data alphabet holds the vocabulary in the
+     * order of the word ids. The feature sequences are released by this importer.
+     *
+     * @return The instances, one for each imported document in the order of the table.
+     */
+    public InstanceList createInstanceList() {
+        if (!m_keepDocuments) {
+            throw new IllegalStateException("The feature sequences have not been kept");
+        }
+        final Alphabet alphabet = new Alphabet(m_words.size());
+        for (final String word : m_words) {
+            alphabet.lookupIndex(word, true);
+        }
+        final InstanceList instances = new InstanceList(alphabet, null);
+        for (int d = 0; d < m_docs.size(); d++) {
+            instances.add(new Instance(new FeatureSequence(alphabet, m_docs.get(d)), null, null, null));
+            // release the sequence, the feature sequence holds its own copy
+            m_docs.set(d, null);
+        }
+        m_docs.clear();
+        return instances;
+    }
+
+    /**
+     * Adds the words and documents of a chunk, mapping the chunk local word ids to the global ones.
+     */
+    private void addChunk(final Chunk chunk) {
+        final int[] globalIds = new int[chunk.m_words.size()];
+        for (int i = 0; i < globalIds.length; i++) {
+            final String word = chunk.m_words.get(i);
+            int id = m_wordIds.get(word) - 1;
+            if (id < 0) {
+                id = m_words.size();
+                m_words.add(word);
+                m_wordIds.put(word, id + 1);
+                if (id == m_docFreqs.length) {
+                    m_docFreqs = Arrays.copyOf(m_docFreqs, id * 2);
+                }
+            }
+            m_docFreqs[id] += chunk.m_docFreqs[i];
+            globalIds[i] = id;
+        }
+        m_noOfDocs += chunk.m_docs.size();
+        if (!m_keepDocuments) {
+            return;
+        }
+        for (final int[] doc : chunk.m_docs) {
+            for (int i = 0; i < doc.length; i++) {
+                doc[i] = globalIds[doc[i]];
+            }
+            m_docs.add(doc);
+        }
+    }
+
+    /**
+     * The feature sequences of a chunk of rows with chunk local word ids.
+     */
+    private static final class Chunk {
+
+        private final List<String> m_words;
+
+        private final int[] m_docFreqs;
+
+        private final List<int[]> m_docs;
+
+        Chunk(final List<String> words, final int[] docFreqs, final List<int[]> docs) {
+            m_words = words;
+            m_docFreqs = docFreqs;
+            m_docs = docs;
+        }
+    }
+
+    /**
+     * Converts the chunks in parallel and adds them in order to the importer.
+     */
+    private static final class Importer extends MultiThreadWorker<List<DataRow>, Chunk> {
+
+        private final FeatureSequenceImporter m_importer;
+
+        private final int m_docColIdx;
+
+        private final long m_rowCount;
+
+        private final ExecutionMonitor m_exec;
+
+        private long m_processedRows = 0;
+
+        Importer(final FeatureSequenceImporter importer, final int docColIdx, final long rowCount,
+            final int threads, final ExecutionMonitor exec) {
+            super(threads * 2, threads);
+            m_importer = importer;
+            m_docColIdx = docColIdx;
+            m_rowCount = rowCount;
+            m_exec = exec;
+        }
+
+        @Override
+        protected Chunk compute(final List<DataRow> in, final long index) throws Exception {
+            m_exec.checkCanceled();
+            final TObjectIntHashMap<String> localIds = new TObjectIntHashMap<>();
+            final List<String> words = new ArrayList<>();
+            int[] docFreqs = new int[256];
+            // the number of the last document + 1 each word occurred in, to count each word once per document
+            int[] lastDocs = new int[256];
+            final List<int[]> docs = new ArrayList<>(in.size());
+            for (final DataRow row : in) {
+                final DataCell cell = row.getCell(m_docColIdx);
+                if (!(cell instanceof DocumentValue)) {
+                    continue;
+                }
+                final Document doc = ((DocumentValue)cell).getDocument();
+                final int docNo = docs.size() + 1;
+                int[] sequence = new int[Math.max(16, doc.getLength())];
+                int length = 0;
+                final Iterator<Sentence> sentences = doc.sentenceIterator();
+                while (sentences.hasNext()) {
+                    for (final Term term : sentences.next().getTerms()) {
+                        final String word = term.getText();
+                        int id = localIds.get(word) - 1;
+                        if (id < 0) {
+                            id = words.size();
+                            words.add(word);
+                            localIds.put(word, id + 1);
+                            if (id == docFreqs.length) {
+                                docFreqs = Arrays.copyOf(docFreqs, id * 2);
+                                lastDocs = Arrays.copyOf(lastDocs, id * 2);
+                            }
+                        }
+                        if (lastDocs[id] != docNo) {
+                            lastDocs[id] = docNo;
+                            docFreqs[id]++;
+                        }
+                        if (length == sequence.length) {
+                            sequence = Arrays.copyOf(sequence, length * 2);
+                        }
+                        sequence[length++] = id;
+                    }
+                }
+                docs.add(length == sequence.length ? sequence : Arrays.copyOf(sequence, length));
+            }
+            return new Chunk(words, Arrays.copyOf(docFreqs, words.size()), docs);
+        }
+
+        @Override
+        protected void processFinished(final MultiThreadWorker<List<DataRow>, Chunk>.ComputationTask task)
+            throws ExecutionException, CancellationException, InterruptedException {
+            m_importer.addChunk(task.get());
+            m_processedRows += task.getInput().size();
+            if (m_rowCount > 0) {
+                final long processed = m_processedRows;
+                m_exec.setProgress(processed / (double)m_rowCount,
+                    () -> "Importing row " + processed + " of " + m_rowCount);
+            }
+        }
+    }
+}
@@ -104,7 +104,7 @@ public double getValue(final T e1, final T e2) {
             // Normalize using arc tan. The loss of precision for larger values
             // is not dramatic, as it is rare that this will go over 8-10 and
             // this measure is typically used with a low threshold
-            double mi = Math.log(joint / (p1 * p2));
+            double mi = pmi(joint, p1, p2);
             double normalized = clamp(Math.atan(mi) / NORMALIZINGFACTOR, 0.0, 1.0);
 
             if (m_logger.isDebugEnabled()) {
@@ -115,6 +115,38 @@ public double getValue(final T e1, final T e2) {
         }
     }
 
+    /**
+     * Computes the unnormalized point-wise mutual information of two events.
+     *
+     * @param joint the joint probability of the events, greater than 0
+     * @param p1 the probability of the first event, greater than 0
+     * @param p2 the probability of the second event, greater than 0
+     * @return log( P(t1, t2) / P(t1)*P(t2))
+     * @since 3.8
+     */
+    public static double pmi(final double joint, final double p1, final double p2) {
+        return Math.log(joint / (p1 * p2));
+    }
+
+    /**
+     * Computes the point-wise mutual information of two events normalized by the self-information of their
+     * coincidence. The value ranges from -1 (the events never co-occur) over 0 (independence) to 1 (the events always
+     * co-occur).
+     *
+     * @param joint the joint probability of the events, greater than 0
+     * @param p1 the probability of the first event, greater than 0
+     * @param p2 the probability of the second event, greater than 0
+     * @return pmi(t1, t2) / -log(P(t1, t2))
+     * @since 3.8
+     */
+    public static double npmi(final double joint, final double p1, final double p2) {
+        if (joint >= 1.0) {
+            // both events always occur together
+            return 1.0;
+        }
+        return pmi(joint, p1, p2) / -Math.log(joint);
+    }
+
     /**
      * {@inheritDoc}
      */